@@ -110,6 +110,7 @@ public abstract class PageObject {
             ((ConfigurableTimeouts) driver).setImplicitTimeout(implicitTimeout);
         } else {
             driver.manage().timeouts().implicitlyWait(Duration.ofMillis(waitForElementTimeout.toMillis()));
+            TimeoutStack.recordTimeoutAppliedDirectlyTo(driver, waitForElementTimeout);
         }
     }
 
@@ -119,6 +120,7 @@ public abstract class PageObject {
         } else {
             waitForElementTimeout = getDefaultImplicitTimeout();
             driver.manage().timeouts().implicitlyWait(Duration.ofMillis(waitForElementTimeout.toMillis()));
+            TimeoutStack.recordTimeoutAppliedDirectlyTo(driver, waitForElementTimeout);
         }
     }
 
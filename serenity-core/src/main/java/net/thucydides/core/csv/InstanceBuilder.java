@@ -13,6 +13,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Helper class for finding and invoking constructors.
@@ -72,13 +75,11 @@ public final class InstanceBuilder {
 
     private boolean setProperty(String property, String value) {
         try {
-            Method setter = findSetter(property);
-            if (setter != null) {
-               return setViaSetter(setter, value);
-            }
-            Field field = findField(property);
-            if (field != null) {
-                return setViaField(field, value);
+            Optional<PropertyWriter> writer = PROPERTY_WRITERS.get(targetObject.getClass())
+                    .computeIfAbsent(property, this::findWriterFor);
+            if (writer.isPresent()) {
+                writer.get().write(targetObject, value);
+                return true;
             }
             return false;
         } catch (Exception e) {
@@ -86,18 +87,41 @@ public final class InstanceBuilder {
         }
     }
 
-    private boolean setViaField(Field field, String value) throws IllegalAccessException {
+    /**
+     * The setter or field used to assign each property, looked up once per class rather than once per value,
+     * as data-driven tests assign the same properties for every row of test data.
+     */
+    private static final ClassValue<Map<String, Optional<PropertyWriter>>> PROPERTY_WRITERS = new ClassValue<>() {
+        @Override
+        protected Map<String, Optional<PropertyWriter>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private interface PropertyWriter {
+        void write(Object target, String value) throws InvocationTargetException, IllegalAccessException;
+    }
+
+    private Optional<PropertyWriter> findWriterFor(String property) {
+        Method setter = findSetter(property);
+        if (setter != null) {
+            return Optional.of(viaSetter(setter));
+        }
+        Field field = findField(property);
+        if (field != null) {
+            return Optional.of(viaField(field));
+        }
+        return Optional.empty();
+    }
+
+    private PropertyWriter viaField(Field field) {
         TypeConverter converter = TypeConverters.getTypeConverterFor(field.getType());
-        Object valueToSet = converter.valueOf(value);
-        field.set(targetObject, valueToSet);
-        return true;
+        return (target, value) -> field.set(target, converter.valueOf(value));
     }
 
-    private boolean setViaSetter(Method setter, String value) throws InvocationTargetException, IllegalAccessException {
+    private PropertyWriter viaSetter(Method setter) {
         TypeConverter converter = TypeConverters.getTypeConverterFor(setter.getParameterTypes()[0]);
-        Object valueToSet = converter.valueOf(value);
-        setter.invoke(targetObject, valueToSet);
-        return true;
+        return (target, value) -> setter.invoke(target, converter.valueOf(value));
     }
 
     private Method findSetter(final String property) {
@@ -32,6 +32,7 @@ import net.thucydides.model.ThucydidesSystemProperty;
 import net.thucydides.model.domain.*;
 import net.thucydides.model.domain.failures.FailureAnalysis;
 import net.thucydides.model.domain.stacktrace.FailureCause;
+import net.thucydides.model.reports.json.gson.StepJournal;
 import net.thucydides.model.screenshots.ScreenshotAndHtmlSource;
 import net.thucydides.model.screenshots.ScreenshotException;
 import net.thucydides.model.steps.*;
@@ -121,6 +122,13 @@ public class BaseStepListener implements StepListener, StepPublisher {
 
     private final CloseBrowser closeBrowsers;
 
+    /**
+     * Where finished steps are written in the step journal recording mode, created in the report output directory
+     * when first needed.
+     */
+    private StepJournal stepJournal;
+    private boolean journalFinishedSteps;
+
     public void setEventBus(StepEventBus eventBus) {
         this.eventBus = eventBus;
     }
@@ -566,6 +574,8 @@ public class BaseStepListener implements StepListener, StepPublisher {
     }
 
     private void recordNewTestOutcome(String testMethod, TestOutcome newTestOutcome) {
+        closeStepJournal();
+        journalFinishedSteps = ThucydidesSystemProperty.SERENITY_STEP_JOURNAL.booleanFrom(configuration.getEnvironmentVariables(), false);
         newTestOutcome.setTestSource(getEventBus().getTestSource());
         synchronized (testOutcomes) {
             testOutcomes.add(newTestOutcome);
@@ -669,9 +679,52 @@ public class BaseStepListener implements StepListener, StepPublisher {
         while (!currentGroupStack.isEmpty()) {
             finishGroup();
         }
+        closeStepJournal();
         LifecycleRegister.clear();
     }
 
+    /**
+     * The journalled steps are still read from the journal file when the outcome is written, so it is only closed
+     * for writing here.
+     */
+    private void closeStepJournal() {
+        if (stepJournal != null) {
+            try {
+                stepJournal.close();
+            } catch (IOException e) {
+                LOGGER.warn("Could not close the step journal: {}", e.getMessage());
+            }
+            stepJournal = null;
+        }
+    }
+
+    private File stepJournalDirectory() {
+        return (outputDirectory != null) ? outputDirectory : configuration.getOutputDirectory();
+    }
+
+    /**
+     * Move the children of the finished step, and the finished steps next to it once there are enough of them,
+     * into the step journal.
+     */
+    private void journalFinishedStep(TestStep finishedStep) {
+        if (!journalFinishedSteps || currentTestOutcome == null) {
+            return;
+        }
+        try {
+            if (stepJournal == null) {
+                int sidecarThreshold = ThucydidesSystemProperty.SERENITY_REPORT_SIDECAR_THRESHOLD.integerFrom(configuration.getEnvironmentVariables(), 0);
+                stepJournal = StepJournal.in(stepJournalDirectory().toPath(), sidecarThreshold);
+            }
+            if (finishedStep.hasChildren()) {
+                currentTestOutcome.journalChildrenOf(finishedStep, stepJournal);
+            }
+            currentTestOutcome.journalFinishedStepsIn(stepJournal);
+        } catch (IOException e) {
+            LOGGER.warn("Could not write the steps of '{}' to the step journal, so they will be kept in memory: {}",
+                    finishedStep.getDescription(), e.getMessage());
+        }
+    }
+
     public void cleanupWebdriverInstance(boolean isInDataDrivenTest, TestOutcome testOutcome) {
         if (currentTestIsABrowserTest()) {
             testOutcome.setDriver(getDriverUsedInThisTest());
@@ -1084,7 +1137,7 @@ public class BaseStepListener implements StepListener, StepPublisher {
                     && (!currentTestOutcome.isTopLevelGroup())) {
                 currentTestOutcome.endGroup();
             }
-
+            journalFinishedStep(finishedStep);
         }
         updateExampleTableIfNecessary(result);
     }
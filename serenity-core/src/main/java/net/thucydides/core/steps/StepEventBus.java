@@ -6,7 +6,6 @@ import net.serenitybdd.core.Serenity;
 import net.serenitybdd.core.eventbus.Broadcaster;
 import net.serenitybdd.core.parallel.Agency;
 import net.serenitybdd.core.parallel.Agent;
-import net.serenitybdd.model.collect.NewList;
 import net.serenitybdd.model.environment.ConfiguredEnvironment;
 import net.thucydides.core.events.TestLifecycleEvents;
 import net.thucydides.core.steps.session.TestSession;
@@ -31,7 +30,7 @@ import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Arrays.stream;
 import static net.thucydides.model.ThucydidesSystemProperty.SERENITY_ENABLE_WEBDRIVER_IN_FIXTURE_METHODS;
@@ -125,28 +124,39 @@ public class StepEventBus {
         STICKY_EVENT_BUSES.remove(key);
     }
 
-    private List<StepListener> registeredListeners = new CopyOnWriteArrayList<>();
+    private final CopyOnWriteArrayList<StepListener> registeredListeners = new CopyOnWriteArrayList<>();
     /**
      * A reference to the base step listener, if registered.
      */
-    private BaseStepListener baseStepListener;
+    private volatile BaseStepListener baseStepListener;
+
+    /**
+     * Incremented whenever the registered listeners change, so that a stale listener snapshot is never reused.
+     */
+    private final AtomicInteger listenersVersion = new AtomicInteger();
+
+    /**
+     * The listeners notified of each event, rebuilt only when the registered listeners or the current base step
+     * listener change, so that dispatching an event does not copy the listener list.
+     */
+    private volatile ListenerSnapshot listenerSnapshot;
 
     private TestResultTally resultTally;
 
     private final Stack<String> stepStack = new Stack<>();
     private final Stack<Boolean> webdriverSuspensions = new Stack<>();
 
-    private Set<StepListener> customListeners;
+    private volatile Set<StepListener> customListeners;
 
-    private boolean stepFailed;
-    private boolean suspendedTest;
-    private boolean assumptionViolated;
-    private String assumptionViolatedMessage;
-    private boolean uniqueSession;
+    private volatile boolean stepFailed;
+    private volatile boolean suspendedTest;
+    private volatile boolean assumptionViolated;
+    private volatile String assumptionViolatedMessage;
+    private volatile boolean uniqueSession;
 
     private Class<?> classUnderTest;
     private Story storyUnderTest;
-    private Optional<Boolean> isDryRun = Optional.empty();
+    private volatile Optional<Boolean> isDryRun = Optional.empty();
 
     private final EnvironmentVariables environmentVariables;
     private final CleanupMethodLocator cleanupMethodLocator;
@@ -186,12 +196,12 @@ public class StepEventBus {
      * place the listener class on the classpath and it will be detected automatically.
      */
     public StepEventBus registerListener(final StepListener listener) {
-        if (!registeredListeners.contains(listener)) {
-            registeredListeners.add(listener);
+        if (registeredListeners.addIfAbsent(listener)) {
             if (BaseStepListener.class.isAssignableFrom(listener.getClass())) {
                 baseStepListener = (BaseStepListener) listener;
                 baseStepListener.setEventBus(this);
             }
+            listenersChanged();
         }
         return this;
     }
@@ -303,46 +313,86 @@ public class StepEventBus {
         }
     }
 
+    /**
+     * An immutable list of the listeners to notify, for a given base step listener and version of the registered
+     * listeners.
+     */
+    private static final class ListenerSnapshot {
+        private final int version;
+        private final BaseStepListener currentBaseStepListener;
+        private final List<StepListener> listeners;
+
+        private ListenerSnapshot(int version, BaseStepListener currentBaseStepListener, List<StepListener> listeners) {
+            this.version = version;
+            this.currentBaseStepListener = currentBaseStepListener;
+            this.listeners = listeners;
+        }
+
+        private boolean isFor(int version, BaseStepListener currentBaseStepListener) {
+            return this.version == version && this.currentBaseStepListener == currentBaseStepListener;
+        }
+    }
+
+    private void listenersChanged() {
+        listenersVersion.incrementAndGet();
+    }
+
     protected List<StepListener> getAllListeners() {
-        List<StepListener> allListeners = registeredListeners();
-        allListeners.addAll(getCustomListeners());
-        return NewList.copyOf(allListeners);
+        int version = listenersVersion.get();
+        BaseStepListener currentBaseStepListener = currentBaseStepListener();
+        ListenerSnapshot snapshot = listenerSnapshot;
+        if (snapshot == null || !snapshot.isFor(version, currentBaseStepListener)) {
+            snapshot = new ListenerSnapshot(version, currentBaseStepListener, allListenersWith(currentBaseStepListener));
+            listenerSnapshot = snapshot;
+        }
+        return snapshot.listeners;
     }
 
-    private List<StepListener> registeredListeners() {
+    private List<StepListener> allListenersWith(BaseStepListener currentBaseStepListener) {
         List<StepListener> listeners = new ArrayList<>(registeredListeners);
 
         if (baseStepListener != null) {
             listeners.remove(baseStepListener);
         }
 
-        if (currentBaseStepListener() != null) {
-            listeners.add(currentBaseStepListener());
+        if (currentBaseStepListener != null) {
+            listeners.add(currentBaseStepListener);
         }
-        return listeners;
+        listeners.addAll(getCustomListeners());
+        return Collections.unmodifiableList(listeners);
     }
 
     private Set<StepListener> getCustomListeners() {
-
-        if (customListeners == null) {
-            customListeners = Collections.synchronizedSet(new HashSet<>());
-
-            ServiceLoader<StepListener> stepListenerServiceLoader = ServiceLoader.load(StepListener.class);
-            Iterator<StepListener> listenerImplementations = stepListenerServiceLoader.iterator();
-            while (listenerImplementations.hasNext()) {
-                try {
-                    StepListener listener = listenerImplementations.next();
-                    if (!isACore(listener)) {
-                        LOGGER.debug("Registering custom listener " + listener);
-                        customListeners.add(listener);
-                    }
-                } catch (ServiceConfigurationError e) {
-                    LOGGER.error("Could not instantiate listener ", e);
+        Set<StepListener> listeners = customListeners;
+        if (listeners == null) {
+            synchronized (this) {
+                if (customListeners == null) {
+                    customListeners = loadCustomListeners();
                 }
+                listeners = customListeners;
+            }
+        }
+        return listeners;
+    }
+
+    private Set<StepListener> loadCustomListeners() {
+        Set<StepListener> listeners = new LinkedHashSet<>();
 
+        ServiceLoader<StepListener> stepListenerServiceLoader = ServiceLoader.load(StepListener.class);
+        Iterator<StepListener> listenerImplementations = stepListenerServiceLoader.iterator();
+        while (listenerImplementations.hasNext()) {
+            try {
+                StepListener listener = listenerImplementations.next();
+                if (!isACore(listener)) {
+                    LOGGER.debug("Registering custom listener " + listener);
+                    listeners.add(listener);
+                }
+            } catch (ServiceConfigurationError e) {
+                LOGGER.error("Could not instantiate listener ", e);
             }
+
         }
-        return customListeners;
+        return Collections.unmodifiableSet(listeners);
     }
 
     private boolean isACore(final StepListener listener) {
@@ -703,17 +753,20 @@ public class StepEventBus {
 
     public void dropListener(final StepListener stepListener) {
         registeredListeners.remove(stepListener);
+        listenersChanged();
     }
 
     private void dropClosableListeners() {
-        registeredListeners = registeredListeners.stream().filter(stepListener -> (!(stepListener instanceof Droppable))).collect(Collectors.toList());
+        registeredListeners.removeIf(stepListener -> stepListener instanceof Droppable);
+        listenersChanged();
     }
 
     public void dropAllListeners() {
         registeredListeners.clear();
+        listenersChanged();
     }
 
-    private boolean driverReenabled = false;
+    private volatile boolean driverReenabled = false;
 
     public void reenableWebDriver() {
         driverReenabled = true;
@@ -1002,15 +1055,16 @@ public class StepEventBus {
         return (getBaseStepListener() != null) ? getBaseStepListener().getForcedResult() : NO_FORCED_RESULT;
     }
 
-    public synchronized boolean isDryRun() {
-        if (this.isDryRun.isPresent()) {
-            return this.isDryRun.get();
+    public boolean isDryRun() {
+        Optional<Boolean> dryRun = this.isDryRun;
+        if (dryRun.isPresent()) {
+            return dryRun.get();
         } else {
             return ThucydidesSystemProperty.SERENITY_DRY_RUN.booleanFrom(environmentVariables);
         }
     }
 
-    public synchronized void enableDryRun() {
+    public void enableDryRun() {
         this.isDryRun = Optional.of(true);
     }
 
@@ -1043,7 +1097,7 @@ public class StepEventBus {
         stepEventBusThreadLocal.remove();
     }
 
-    private boolean softAssertsEnabled = false;
+    private volatile boolean softAssertsEnabled = false;
 
     public void disableSoftAsserts() {
         softAssertsEnabled = false;
@@ -0,0 +1,55 @@
+package net.thucydides.core.steps.stepdata;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The CSV test data files parsed in this JVM, shared by every data source that reads them, so that a file used by
+ * several data-driven test classes is only parsed once.
+ * <p>
+ * Files on the file system are keyed by their size and modification time as well as their path, so an edited file
+ * is parsed again. The parsed rows are softly referenced, so large files can be reclaimed if memory runs low and are
+ * simply parsed again the next time they are needed.
+ * </p>
+ */
+final class CSVDataFiles {
+
+    private static final Cache<String, List<String[]>> PARSED_FILES = Caffeine.newBuilder().softValues().build();
+
+    private CSVDataFiles() {
+    }
+
+    interface CSVFileParser {
+        List<String[]> parse(String path) throws IOException;
+    }
+
+    static List<String[]> rowsIn(String path, String format, CSVFileParser parser) throws IOException {
+        try {
+            return PARSED_FILES.get(keyFor(path, format), key -> parsedRowsIn(path, parser));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static List<String[]> parsedRowsIn(String path, CSVFileParser parser) {
+        try {
+            return Collections.unmodifiableList(parser.parse(path));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String keyFor(String path, String format) {
+        File file = new File(path);
+        if (file.exists()) {
+            return file.getAbsolutePath() + "|" + file.length() + "|" + file.lastModified() + "|" + format;
+        }
+        return path + "|" + format;
+    }
+}
@@ -18,6 +18,7 @@ import java.io.*;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -32,6 +33,7 @@ public class CSVTestDataSource implements TestDataSource {
     private final int skipLines;
     private final List<String> instantiatedPaths;
     private List<String[]> csvDataRows;
+    private final Map<String, String> propertyNames = new ConcurrentHashMap<>();
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CSVTestDataSource.class);
     FilePathParser testDataSourcePath = new FilePathParser(SystemEnvironmentVariables.currentEnvironmentVariables() );
@@ -56,8 +58,8 @@ public class CSVTestDataSource implements TestDataSource {
         if (csvDataRows == null) {
             csvDataRows = new ArrayList<>();
             for(String instantiatedPath : instantiatedPaths) {
-                try (Reader reader = getDataFileFor(instantiatedPath)) {
-                    csvDataRows.addAll(getCSVDataFrom(reader));
+                try {
+                    csvDataRows.addAll(parsedRowsIn(instantiatedPath));
                 } catch (IOException e) {
                     LOGGER.error("Could not read test data file from {}", instantiatedPath, e);
                 }
@@ -66,6 +68,24 @@ public class CSVTestDataSource implements TestDataSource {
         return csvDataRows;
     }
 
+    /**
+     * The rows of a data file are parsed once per JVM, and shared with any other data source reading the same file
+     * in the same format.
+     */
+    private List<String[]> parsedRowsIn(String instantiatedPath) throws IOException {
+        return CSVDataFiles.rowsIn(instantiatedPath, csvFormat(), this::parseRowsIn);
+    }
+
+    private List<String[]> parseRowsIn(String instantiatedPath) throws IOException {
+        try (Reader reader = getDataFileFor(instantiatedPath)) {
+            return getCSVDataFrom(reader);
+        }
+    }
+
+    private String csvFormat() {
+        return getClass().getName() + "|" + separator + "|" + quotechar + "|" + escape + "|" + skipLines;
+    }
+
     public CSVTestDataSource(final String path) throws IOException {
         this(NewList.of(path), CSVParser.DEFAULT_SEPARATOR, CSVParser.DEFAULT_QUOTE_CHARACTER, CSVParser.DEFAULT_ESCAPE_CHARACTER, CSVReader.DEFAULT_SKIP_LINES);
     }
@@ -113,45 +133,151 @@ public class CSVTestDataSource implements TestDataSource {
 
     protected List<String[]> getCSVDataFrom(final Reader testDataReader) throws IOException {
 
-        List<String[]> rows;
+        List<String[]> rows = new ArrayList<>();
         try (CSVReader reader = new CSVReader(testDataReader, separator, quotechar, escape, skipLines)) {
-            rows = reader.readAll();
+            String[] row;
+            while ((row = reader.readNext()) != null) {
+                rows.add(row);
+            }
         }
         return rows;
     }
 
     protected List<Map<String, String>> loadTestDataFrom(List<String[]> rows) throws IOException {
+        return new CSVDataRows(rows);
+    }
+
+    /**
+     * The data rows of one or more files, each row being converted to a map of column titles and values only when
+     * it is read, so that large data files do not need a map per row to be held in memory.
+     */
+    private static class CSVDataRows extends AbstractList<Map<String, String>> implements RandomAccess {
 
-        List<Map<String, String>> loadedData = new ArrayList<>();
-        String[] titleRow = rows.get(0);
+        private final List<String[]> titleRows = new ArrayList<>();
+        private final List<List<String[]>> dataRows = new ArrayList<>();
+        private int size;
 
-        for (int i = 1; i < rows.size(); i++) {
-            String[] dataRow = rows.get(i);
-            loadedData.add(dataEntryFrom(titleRow, dataRow));
+        CSVDataRows() {
         }
-        return loadedData;
-    }
 
+        CSVDataRows(List<String[]> rows) {
+            add(rows);
+        }
 
-    private Map<String, String> dataEntryFrom(final String[] titleRow, final String[] dataRow) {
-        Map<String, String> dataset = new HashMap();
+        void add(List<String[]> rows) {
+            if (rows.isEmpty()) {
+                return;
+            }
+            titleRows.add(Arrays.stream(rows.get(0)).map(String::trim).toArray(String[]::new));
+            dataRows.add(rows.subList(1, rows.size()));
+            size += rows.size() - 1;
+        }
 
-        for (int column = 0; column < titleRow.length; column++) {
-            if (column < dataRow.length) {
-                String title = titleRow[column].trim();
-                String value = dataRow[column].trim();
-                dataset.put(title, value);
+        @Override
+        public Map<String, String> get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            int file = 0;
+            while (index >= dataRows.get(file).size()) {
+                index -= dataRows.get(file).size();
+                file++;
             }
+            return dataEntryFrom(titleRows.get(file), dataRows.get(file).get(index));
         }
 
-        return dataset;
+        @Override
+        public int size() {
+            return size;
+        }
+
+        private Map<String, String> dataEntryFrom(final String[] titleRow, final String[] dataRow) {
+            Map<String, String> dataset = new HashMap<>();
+
+            for (int column = 0; column < titleRow.length; column++) {
+                if (column < dataRow.length) {
+                    dataset.put(titleRow[column], dataRow[column].trim());
+                }
+            }
+
+            return dataset;
+        }
     }
 
+    /**
+     * The test data, as a list of rows that callers are free to modify. Each call returns a new list, so changes
+     * are not seen by other callers or by the shared parsed rows. Each row is converted to a map the first time it
+     * is read, and the same map is returned for that row from then on.
+     */
     public List<Map<String, String>> getData() {
-        List<Map<String, String>> data = new ArrayList<>();
+        return new ModifiableDataRows(dataRows());
+    }
+
+    /**
+     * A modifiable list over the read-only data rows. The list only holds, for each entry, either the index of the
+     * data row it comes from or the map it has been converted to (or replaced with), so that rows which are never
+     * read are never converted.
+     */
+    private static class ModifiableDataRows extends AbstractList<Map<String, String>> implements RandomAccess {
+
+        private final List<Map<String, String>> source;
+        private final List<Object> entries;
+
+        ModifiableDataRows(List<Map<String, String>> source) {
+            this.source = source;
+            this.entries = new ArrayList<>(source.size());
+            for (int row = 0; row < source.size(); row++) {
+                entries.add(row);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map<String, String> get(int index) {
+            Object entry = entries.get(index);
+            if (entry instanceof Integer) {
+                Map<String, String> row = source.get((Integer) entry);
+                entries.set(index, row);
+                return row;
+            }
+            return (Map<String, String>) entry;
+        }
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
+
+        @Override
+        public Map<String, String> set(int index, Map<String, String> row) {
+            Map<String, String> previous = get(index);
+            entries.set(index, row);
+            return previous;
+        }
+
+        @Override
+        public void add(int index, Map<String, String> row) {
+            entries.add(index, row);
+            modCount++;
+        }
+
+        @Override
+        public Map<String, String> remove(int index) {
+            Map<String, String> removed = get(index);
+            entries.remove(index);
+            modCount++;
+            return removed;
+        }
+    }
+
+    /**
+     * A read-only view of the test data, building each row only as it is read.
+     */
+    private List<Map<String, String>> dataRows() {
+        CSVDataRows data = new CSVDataRows();
         for(String instantiatedPath : instantiatedPaths) {
-            try (Reader reader = getDataFileFor(instantiatedPath)) {
-                data.addAll(loadTestDataFrom(getCSVDataFrom(reader)));
+            try {
+                data.add(parsedRowsIn(instantiatedPath));
             } catch (IOException e) {
                 LOGGER.error("Could not read test data file from {}", instantiatedPath, e);
             }
@@ -171,12 +297,13 @@ public class CSVTestDataSource implements TestDataSource {
     }
 
     /**
-     * Returns the test data as a list of JavaBean instances.
+     * Returns the test data as a list of JavaBean instances. The instances are all created straight away, so that
+     * invalid test data is reported here, but only one row map at a time is built to do so.
      */
     public <T> List<T> getDataAsInstancesOf(final Class<T> clazz, final Object... constructorArgs) {
-        List<Map<String, String>> data = getData();
+        List<Map<String, String>> data = dataRows();
 
-        List<T> resultsList = new ArrayList<>();
+        List<T> resultsList = new ArrayList<>(data.size());
         for (Map<String, String> rowData : data) {
             resultsList.add(newInstanceFrom(clazz, rowData, constructorArgs));
         }
@@ -184,9 +311,9 @@ public class CSVTestDataSource implements TestDataSource {
     }
 
     public <T> List<T> getInstanciatedInstancesFrom(final Class<T> clazz, final StepFactory factory) {
-        List<Map<String, String>> data = getData();
+        List<Map<String, String>> data = dataRows();
 
-        List<T> resultsList = new ArrayList<>();
+        List<T> resultsList = new ArrayList<>(data.size());
         for (Map<String, String> rowData : data) {
             resultsList.add(newInstanceFrom(clazz, factory, rowData));
         }
@@ -220,12 +347,12 @@ public class CSVTestDataSource implements TestDataSource {
     private <T> void assignPropertiesFromTestData(final Class<T> clazz,
                                                   final Map<String, String> rowData,
                                                   final T newObject) {
-        Set<String> propertyNames = rowData.keySet();
+        Set<String> columnHeadings = rowData.keySet();
 
         boolean validPropertyFound = false;
-        for (String columnHeading : propertyNames) {
+        for (String columnHeading : columnHeadings) {
             String value = rowData.get(columnHeading);
-            String property = FieldName.from(columnHeading).inNormalizedForm();
+            String property = propertyNames.computeIfAbsent(columnHeading, heading -> FieldName.from(heading).inNormalizedForm());
 
             if (assignPropertyValue(newObject, property, value)) {
                 validPropertyFound = true;
@@ -1,5 +1,6 @@
 package net.thucydides.core.webdriver;
 
+import com.google.common.collect.MapMaker;
 import org.openqa.selenium.WebDriver;
 
 import java.time.Duration;
@@ -7,6 +8,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Stack;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Created by john on 12/03/15.
@@ -15,6 +17,13 @@ public class TimeoutStack {
 
     Map<WebDriver, Stack<Duration>> timeouts = new HashMap<>();
 
+    /**
+     * The implicit timeout last sent to each driver, so that calls that would not change it can be skipped.
+     * This is a property of the driver itself rather than of a given stack, so it is shared by every stack and by
+     * code that sets the implicit wait directly on the driver (see {@link #recordTimeoutAppliedDirectlyTo}).
+     */
+    private static final Map<WebDriver, AppliedTimeout> APPLIED_TIMEOUTS = new MapMaker().weakKeys().makeMap();
+
     public void pushTimeoutFor(WebDriver driver, Duration implicitTimeout) {
         if (!timeouts.containsKey(driver)) {
             timeouts.put(driver, new Stack<>());
@@ -43,7 +52,60 @@ public class TimeoutStack {
         }
     }
 
+    /**
+     * Returns true if the given timeout is already the effective implicit timeout of the driver.
+     * If the driver timeout has never been set through this stack, it is considered unknown.
+     */
+    public boolean isAlreadyAppliedTo(WebDriver driver, Duration implicitTimeout) {
+        AppliedTimeout appliedTimeout = APPLIED_TIMEOUTS.get(driver);
+        return appliedTimeout != null && implicitTimeout.equals(appliedTimeout.value);
+    }
+
+    public void recordAppliedTimeoutFor(WebDriver driver, Duration implicitTimeout) {
+        recordTimeoutAppliedDirectlyTo(driver, implicitTimeout);
+    }
+
+    /**
+     * Record an implicit timeout that was sent to the driver without going through a timeout stack,
+     * so that the stacks do not skip the next call on the strength of an out-of-date value.
+     */
+    public static void recordTimeoutAppliedDirectlyTo(WebDriver driver, Duration implicitTimeout) {
+        AppliedTimeout appliedTimeout = APPLIED_TIMEOUTS.computeIfAbsent(driver, key -> new AppliedTimeout());
+        appliedTimeout.value = implicitTimeout;
+        appliedTimeout.issuedCalls.incrementAndGet();
+    }
+
+    public void recordElidedTimeoutFor(WebDriver driver) {
+        APPLIED_TIMEOUTS.computeIfAbsent(driver, key -> new AppliedTimeout()).elidedCalls.incrementAndGet();
+    }
+
+    /**
+     * The number of implicit timeout commands actually sent to this driver.
+     */
+    public long getIssuedTimeoutCallsFor(WebDriver driver) {
+        AppliedTimeout appliedTimeout = APPLIED_TIMEOUTS.get(driver);
+        return (appliedTimeout == null) ? 0 : appliedTimeout.issuedCalls.get();
+    }
+
+    /**
+     * The number of implicit timeout commands for this driver that were skipped because the driver already had
+     * the requested value.
+     */
+    public long getElidedTimeoutCallsFor(WebDriver driver) {
+        AppliedTimeout appliedTimeout = APPLIED_TIMEOUTS.get(driver);
+        return (appliedTimeout == null) ? 0 : appliedTimeout.elidedCalls.get();
+    }
+
     public void releaseTimeoutFor(WebDriver driverInstance) {
         timeouts.remove(driverInstance);
+        if (driverInstance != null) {
+            APPLIED_TIMEOUTS.remove(driverInstance);
+        }
+    }
+
+    private static class AppliedTimeout {
+        private volatile Duration value;
+        private final AtomicLong issuedCalls = new AtomicLong();
+        private final AtomicLong elidedCalls = new AtomicLong();
     }
 }
@@ -20,7 +20,12 @@ public class TimeoutsFacade implements WebDriver.Timeouts {
     @Override
     public WebDriver.Timeouts implicitlyWait(Duration timeout) {
         webDriverFacade.implicitTimeout = timeout;
-        return (timeouts != null) ? timeouts.implicitlyWait(timeout) : timeouts;
+        if (timeouts == null) {
+            return null;
+        }
+        WebDriver.Timeouts updatedTimeouts = timeouts.implicitlyWait(timeout);
+        TimeoutStack.recordTimeoutAppliedDirectlyTo(webDriverFacade.getProxiedDriver(), timeout);
+        return updatedTimeouts;
     }
 
     @Override
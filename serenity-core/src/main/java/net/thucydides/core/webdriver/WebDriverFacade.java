@@ -5,6 +5,7 @@ import net.serenitybdd.core.SystemTimeouts;
 import net.serenitybdd.core.di.SerenityInfrastructure;
 import net.thucydides.core.steps.StepEventBus;
 import net.thucydides.core.webdriver.stubs.*;
+import net.thucydides.model.ThucydidesSystemProperty;
 import net.thucydides.model.environment.SystemEnvironmentVariables;
 import net.thucydides.model.util.EnvironmentVariables;
 import org.apache.commons.lang3.StringUtils;
@@ -248,9 +249,13 @@ public class WebDriverFacade implements WebDriver, JavascriptExecutor, HasCapabi
         if (!isEnabled() || !isInstantiated()) {
             return Collections.emptyList();
         }
+        Duration timeout = getCurrentImplicitTimeout();
+        if (shouldEmulateOnClientSide(timeout)) {
+            return findElementsPolling(by, timeout);
+        }
         List<WebElement> elements;
         try {
-            webDriverFactory.setTimeouts(getProxiedDriver(), getCurrentImplicitTimeout());
+            webDriverFactory.setTimeouts(getProxiedDriver(), timeout);
             elements = getProxiedDriver().findElements(by);
         } finally {
             webDriverFactory.resetTimeouts(getProxiedDriver());
@@ -263,11 +268,15 @@ public class WebDriverFacade implements WebDriver, JavascriptExecutor, HasCapabi
         if (!isEnabled() || !isInstantiated()) {
             return new WebElementFacadeStub();
         }
+        Duration timeout = getCurrentImplicitTimeout();
+        if (shouldEmulateOnClientSide(timeout)) {
+            return findElementPolling(by, timeout);
+        }
 
         WebElement element;
 
         try {
-            webDriverFactory.setTimeouts(getProxiedDriver(), getCurrentImplicitTimeout());
+            webDriverFactory.setTimeouts(getProxiedDriver(), timeout);
             element = getProxiedDriver().findElement(by);
         } finally {
             webDriverFactory.resetTimeouts(getProxiedDriver());
@@ -275,6 +284,60 @@ public class WebDriverFacade implements WebDriver, JavascriptExecutor, HasCapabi
         return element;
     }
 
+    private static final Duration CLIENT_SIDE_POLLING_INTERVAL = Duration.ofMillis(50);
+
+    private Duration clientSideTimeoutThreshold;
+
+    /**
+     * Short implicit waits can be emulated locally: the driver keeps a zero implicit wait (so consecutive lookups
+     * need no timeouts command) and we poll until the requested timeout expires.
+     */
+    private boolean shouldEmulateOnClientSide(Duration timeout) {
+        if (clientSideTimeoutThreshold == null) {
+            clientSideTimeoutThreshold = Duration.ofMillis(
+                    ThucydidesSystemProperty.WEBDRIVER_TIMEOUTS_CLIENT_SIDE_THRESHOLD.integerFrom(getEnvironmentVariables(), 0)
+            );
+        }
+        return !timeout.isZero() && timeout.compareTo(clientSideTimeoutThreshold) <= 0;
+    }
+
+    private List<WebElement> findElementsPolling(By by, Duration timeout) {
+        long deadline = System.currentTimeMillis() + timeout.toMillis();
+        webDriverFactory.clearImplicitTimeoutFor(getProxiedDriver());
+        List<WebElement> elements = getProxiedDriver().findElements(by);
+        while (elements.isEmpty() && System.currentTimeMillis() < deadline) {
+            pauseUntilNextPoll(deadline);
+            elements = getProxiedDriver().findElements(by);
+        }
+        return elements;
+    }
+
+    private WebElement findElementPolling(By by, Duration timeout) {
+        long deadline = System.currentTimeMillis() + timeout.toMillis();
+        webDriverFactory.clearImplicitTimeoutFor(getProxiedDriver());
+        while (true) {
+            try {
+                return getProxiedDriver().findElement(by);
+            } catch (org.openqa.selenium.NoSuchElementException elementNotFoundYet) {
+                if (System.currentTimeMillis() >= deadline) {
+                    throw elementNotFoundYet;
+                }
+                pauseUntilNextPoll(deadline);
+            }
+        }
+    }
+
+    private void pauseUntilNextPoll(long deadline) {
+        long pause = Math.min(CLIENT_SIDE_POLLING_INTERVAL.toMillis(), deadline - System.currentTimeMillis());
+        if (pause > 0) {
+            try {
+                Thread.sleep(pause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
     public String getPageSource() {
         if (!isEnabled() || !isInstantiated()) {
             return StringUtils.EMPTY;
@@ -213,6 +213,7 @@ public class WebDriverFactory {
         if (ThucydidesSystemProperty.WEBDRIVER_TIMEOUTS_IMPLICITLYWAIT.isDefinedIn(environmentVariables)) {
             int timeout = WEBDRIVER_TIMEOUTS_IMPLICITLYWAIT.integerFrom(environmentVariables, 0);
             driver.manage().timeouts().implicitlyWait(Duration.ofMillis(timeout));
+            timeoutStack.recordAppliedTimeoutFor(driver, Duration.ofMillis(timeout));
         }
     }
 
@@ -245,11 +246,8 @@ public class WebDriverFactory {
     }
 
     public void setTimeouts(WebDriver proxiedDriver, Duration implicitTimeout) {
-        Duration currentTimeout = currentTimeoutFor(proxiedDriver);
         timeoutStack.pushTimeoutFor(proxiedDriver, implicitTimeout);
-        if ((implicitTimeout != currentTimeout) && isNotAMocked(proxiedDriver)) {
-            proxiedDriver.manage().timeouts().implicitlyWait(implicitTimeout);
-        }
+        applyImplicitTimeout(proxiedDriver, implicitTimeout);
     }
 
     public Duration currentTimeoutFor(WebDriver proxiedDriver) {
@@ -264,13 +262,44 @@ public class WebDriverFactory {
         }
 
         timeoutStack.popTimeoutFor(proxiedDriver);
-        Duration previousTimeout = currentTimeoutFor(proxiedDriver);//timeoutStack.popTimeoutFor(proxiedDriver).or(getDefaultImplicitTimeout());
-        if ((currentTimeout != previousTimeout) && isNotAMocked(proxiedDriver)) {
-            proxiedDriver.manage().timeouts().implicitlyWait(previousTimeout);
-        }
+        Duration previousTimeout = currentTimeoutFor(proxiedDriver);
+        applyImplicitTimeout(proxiedDriver, previousTimeout);
         return previousTimeout;
     }
 
+    /**
+     * Only send a timeouts command to the driver if the requested value differs from the one the driver already has.
+     * Each command is a round trip to the browser, which adds up quickly on a remote grid.
+     */
+    private void applyImplicitTimeout(WebDriver proxiedDriver, Duration implicitTimeout) {
+        if (!isNotAMocked(proxiedDriver)) {
+            return;
+        }
+        if (timeoutStack.isAlreadyAppliedTo(proxiedDriver, implicitTimeout)) {
+            timeoutStack.recordElidedTimeoutFor(proxiedDriver);
+            return;
+        }
+        proxiedDriver.manage().timeouts().implicitlyWait(implicitTimeout);
+        timeoutStack.recordAppliedTimeoutFor(proxiedDriver, implicitTimeout);
+    }
+
+    /**
+     * Give the driver a zero implicit wait without pushing it onto the timeout stack, for lookups that poll on the
+     * client side. The driver is left at zero: the stacked value is only sent again when a later lookup asks for a
+     * different one, so consecutive polled lookups need no timeouts command at all.
+     */
+    public void clearImplicitTimeoutFor(WebDriver proxiedDriver) {
+        applyImplicitTimeout(proxiedDriver, Duration.ZERO);
+    }
+
+    public long getIssuedTimeoutCallsFor(WebDriver proxiedDriver) {
+        return timeoutStack.getIssuedTimeoutCallsFor(proxiedDriver);
+    }
+
+    public long getElidedTimeoutCallsFor(WebDriver proxiedDriver) {
+        return timeoutStack.getElidedTimeoutCallsFor(proxiedDriver);
+    }
+
     public Duration getDefaultImplicitTimeout() {
         long configuredWaitForTimeoutInMilliseconds = new SystemTimeouts(environmentVariables).getImplicitTimeout();
         return Duration.ofMillis(configuredWaitForTimeoutInMilliseconds);
@@ -296,6 +325,8 @@ public class WebDriverFactory {
     }
 
     public void releaseTimoutFor(WebDriver driverInstance) {
+        LOGGER.debug("Implicit timeout commands sent to {}: {}, skipped as redundant: {}", driverInstance,
+                timeoutStack.getIssuedTimeoutCallsFor(driverInstance), timeoutStack.getElidedTimeoutCallsFor(driverInstance));
         timeoutStack.releaseTimeoutFor(driverInstance);
     }
 }
@@ -2,9 +2,14 @@ package net.thucydides.core.requirements
 
 import net.thucydides.model.environment.MockEnvironmentVariables
 import net.thucydides.model.requirements.*
+import net.thucydides.model.requirements.model.Requirement
 import net.thucydides.model.util.EnvironmentVariables
 import spock.lang.Specification
 
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
 class WhenLoadingRequirementOutcomesFromTheFileSystem extends Specification {
 
     def setup() {
@@ -183,4 +188,27 @@ class WhenLoadingRequirementOutcomesFromTheFileSystem extends Specification {
         capabilities.get(0).getChildren().get(0).getType() == "b"
         capabilities.get(0).getChildren().get(0).getChildren().get(0).getType() == "feature"
     }
+
+    def "requirements should be loaded in the same order however many threads ask for them"() {
+        given: "a provider that several threads ask for the requirements at the same time"
+        def provider = new FileSystemRequirementsTagProvider("sample-story-directories/capabilities_and_features")
+        def executor = Executors.newFixedThreadPool(8)
+        when: "the requirements are loaded"
+        def results = (1..8).collect { executor.submit({ provider.getRequirements() } as Callable) }
+                            .collect { it.get(30, TimeUnit.SECONDS) }
+        and: "they are loaded again by new providers"
+        def reloaded = (1..3).collect {
+            namesIn(new FileSystemRequirementsTagProvider("sample-story-directories/capabilities_and_features").getRequirements())
+        }
+        then: "every thread should get the same requirements, in the same order"
+        results.every { it.is(results[0]) }
+        reloaded.every { it == namesIn(results[0]) }
+        results[0].collect { it.name } == ["grow_apples", "grow_potatoes", "grow_zuchinnis"]
+        cleanup:
+        executor.shutdownNow()
+    }
+
+    private static List<String> namesIn(List<Requirement> requirements) {
+        requirements.collect { [it.name] + namesIn(it.children) }.flatten() as List<String>
+    }
 }
@@ -12,6 +12,9 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -308,4 +311,78 @@ public class WhenLoadingTestDataFromACSVFile {
         Person person = loadedData.get(0);
         assertThat(person.getDateOfBirth(), is("10/10/1980"));
     }
+
+    @Test
+    public void should_read_rows_from_several_files_in_order() throws IOException {
+        File firstFile = useTestDataIn("first.csv",
+                "name, address",
+                "Bill, 10 main street",
+                "Joe, 12 main street");
+        File secondFile = useTestDataIn("second.csv",
+                "name, address",
+                "Jane, 20 high street");
+
+        TestDataSource testdata = new CSVTestDataSource(Arrays.asList(firstFile.getAbsolutePath(), secondFile.getAbsolutePath()), ',');
+
+        List<Map<String,String>> loadedData = testdata.getData();
+        assertThat(loadedData.size(), is(3));
+        assertThat(loadedData.get(0).get("name"), is("Bill"));
+        assertThat(loadedData.get(1).get("name"), is("Joe"));
+        assertThat(loadedData.get(2).get("name"), is("Jane"));
+    }
+
+    @Test
+    public void should_read_a_data_file_again_if_it_has_changed() throws IOException {
+        File testDataFile = useTestDataIn("testdata.csv",
+                "name, address",
+                "Bill, 10 main street");
+
+        assertThat(new CSVTestDataSource(testDataFile.getAbsolutePath()).getData().size(), is(1));
+
+        useTestDataIn("testdata.csv",
+                "name, address",
+                "Bill, 10 main street",
+                "Joe, 12 main street");
+        testDataFile.setLastModified(testDataFile.lastModified() + 1000);
+
+        assertThat(new CSVTestDataSource(testDataFile.getAbsolutePath()).getData().size(), is(2));
+    }
+
+    @Test
+    public void loaded_test_data_can_be_modified_by_the_caller() throws IOException {
+        File testDataFile = useTestDataIn("testdata.csv",
+                "name, address",
+                "Bill, 10 main street",
+                "Joe, 12 main street");
+        TestDataSource testdata = new CSVTestDataSource(testDataFile.getAbsolutePath());
+
+        List<Map<String,String>> loadedData = testdata.getData();
+        loadedData.get(0).put("name", "William");
+        loadedData.remove(1);
+        loadedData.add(new HashMap<>());
+
+        assertThat(loadedData.size(), is(2));
+        assertThat(loadedData.get(0).get("name"), is("William"));
+        assertThat(testdata.getData().get(0).get("name"), is("Bill"));
+        assertThat(testdata.getData().size(), is(2));
+    }
+
+    @Test
+    public void loaded_test_data_can_be_filtered_and_sorted_by_the_caller() throws IOException {
+        File testDataFile = useTestDataIn("testdata.csv",
+                "name, address",
+                "Joe, 12 main street",
+                "Bill, 10 main street",
+                "Sam, 14 main street");
+        TestDataSource testdata = new CSVTestDataSource(testDataFile.getAbsolutePath());
+
+        List<Map<String,String>> loadedData = testdata.getData();
+        loadedData.removeIf(row -> row.get("name").equals("Sam"));
+        loadedData.sort(Comparator.comparing(row -> row.get("name")));
+
+        assertThat(loadedData.size(), is(2));
+        assertThat(loadedData.get(0).get("name"), is("Bill"));
+        assertThat(loadedData.get(1).get("name"), is("Joe"));
+        assertThat(testdata.getData().get(0).get("name"), is("Joe"));
+    }
 }
@@ -0,0 +1,130 @@
+package net.thucydides.core.steps;
+
+import net.thucydides.core.util.ExtendedTemporaryFolder;
+import net.thucydides.model.configuration.SystemPropertiesConfiguration;
+import net.thucydides.model.domain.TestOutcome;
+import net.thucydides.model.domain.TestStep;
+import net.thucydides.model.environment.MockEnvironmentVariables;
+import net.thucydides.model.reports.json.gson.GsonJSONConverter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WhenJournallingTheStepsOfLongScenarios {
+
+    private static final int STEPS_PER_GROUP = 120;
+
+    @Rule
+    public ExtendedTemporaryFolder temporaryFolder = new ExtendedTemporaryFolder();
+
+    File outputDirectory;
+
+    MockEnvironmentVariables environmentVariables;
+
+    BaseStepListener stepListener;
+
+    class ALongTestCase {
+        public void a_long_scenario() {
+        }
+    }
+
+    @Before
+    public void createStepListener() throws IOException {
+        outputDirectory = temporaryFolder.newFolder("thucydides");
+
+        environmentVariables = new MockEnvironmentVariables();
+        environmentVariables.setProperty("serenity.step.journal", "true");
+
+        stepListener = new BaseStepListener(null, outputDirectory, new SystemPropertiesConfiguration(environmentVariables));
+
+        StepEventBus.getParallelEventBus().reset();
+        StepEventBus.getParallelEventBus().registerListener(stepListener);
+    }
+
+    @After
+    public void dropListener() {
+        StepEventBus.getParallelEventBus().dropListener(stepListener);
+    }
+
+    @Test
+    public void finished_steps_should_be_journalled_while_the_test_is_running() {
+        StepEventBus.getParallelEventBus().testStarted("a_long_scenario", ALongTestCase.class);
+
+        StepEventBus.getParallelEventBus().stepStarted(ExecutedStepDescription.withTitle("A long group"));
+        runSteps("group step", STEPS_PER_GROUP);
+
+        TestStep runningGroup = stepListener.getCurrentTestOutcome().getTestSteps().get(0);
+        assertThat(runningGroup.getChildren().size()).isLessThan(STEPS_PER_GROUP);
+        assertThat(journalFiles()).hasSize(1);
+
+        StepEventBus.getParallelEventBus().stepFinished();
+        runSteps("top-level step", STEPS_PER_GROUP);
+
+        assertThat(stepListener.getCurrentTestOutcome().getTestSteps().size()).isLessThan(STEPS_PER_GROUP);
+
+        StepEventBus.getParallelEventBus().testFinished();
+
+        TestOutcome reloadedOutcome = writtenAndReloaded(stepListener.getTestOutcomes().get(0));
+        assertThat(reloadedOutcome.getTestSteps()).hasSize(STEPS_PER_GROUP + 1);
+        assertThat(descriptionsOf(reloadedOutcome.getTestSteps().get(0).getChildren()))
+                .containsExactlyElementsOf(numbered("group step", STEPS_PER_GROUP));
+        assertThat(descriptionsOf(reloadedOutcome.getTestSteps().subList(1, STEPS_PER_GROUP + 1)))
+                .containsExactlyElementsOf(numbered("top-level step", STEPS_PER_GROUP));
+    }
+
+    @Test
+    public void steps_should_stay_in_memory_unless_the_step_journal_is_enabled() {
+        environmentVariables.setProperty("serenity.step.journal", "false");
+        StepEventBus.getParallelEventBus().testStarted("a_long_scenario", ALongTestCase.class);
+
+        runSteps("top-level step", STEPS_PER_GROUP);
+        StepEventBus.getParallelEventBus().testFinished();
+
+        assertThat(stepListener.getTestOutcomes().get(0).getTestSteps()).hasSize(STEPS_PER_GROUP);
+        assertThat(journalFiles()).isEmpty();
+    }
+
+    private void runSteps(String name, int count) {
+        for (String description : numbered(name, count)) {
+            StepEventBus.getParallelEventBus().stepStarted(ExecutedStepDescription.withTitle(description));
+            StepEventBus.getParallelEventBus().stepFinished();
+        }
+    }
+
+    private List<String> numbered(String name, int count) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(number -> name + " " + number)
+                .collect(Collectors.toList());
+    }
+
+    private List<String> descriptionsOf(List<TestStep> steps) {
+        return steps.stream().map(TestStep::getDescription).collect(Collectors.toList());
+    }
+
+    private String[] journalFiles() {
+        String[] journalFiles = new File(outputDirectory, "step-journals").list();
+        return (journalFiles == null) ? new String[]{} : journalFiles;
+    }
+
+    private TestOutcome writtenAndReloaded(TestOutcome testOutcome) {
+        try {
+            GsonJSONConverter converter = new GsonJSONConverter(environmentVariables);
+            ByteArrayOutputStream json = new ByteArrayOutputStream();
+            converter.toJson(testOutcome, json);
+            return converter.fromJson(new ByteArrayInputStream(json.toByteArray())).get();
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
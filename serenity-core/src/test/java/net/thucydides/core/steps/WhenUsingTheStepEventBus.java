@@ -24,6 +24,8 @@ import java.io.IOException;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 public class WhenUsingTheStepEventBus {
@@ -247,6 +249,28 @@ public class WhenUsingTheStepEventBus {
         verify(listener).stepStarted(any(ExecutedStepDescription.class), any());
     }
 
+    @Test
+    public void listeners_registered_during_a_test_are_notified_of_later_events() {
+        StepListener lateListener = mock(StepListener.class);
+
+        StepEventBus.getParallelEventBus().testStarted("some_test", SampleTestScenario.class);
+        StepEventBus.getParallelEventBus().stepStarted(ExecutedStepDescription.withTitle("a step"));
+        StepEventBus.getParallelEventBus().registerListener(lateListener);
+        StepEventBus.getParallelEventBus().stepStarted(ExecutedStepDescription.withTitle("another step"));
+
+        verify(lateListener, times(1)).stepStarted(any(ExecutedStepDescription.class), any());
+    }
+
+    @Test
+    public void dropped_listeners_are_not_notified_of_later_events() {
+        StepEventBus.getParallelEventBus().testStarted("some_test", SampleTestScenario.class);
+        StepEventBus.getParallelEventBus().stepStarted(ExecutedStepDescription.withTitle("a step"));
+        StepEventBus.getParallelEventBus().dropListener(listener);
+        StepEventBus.getParallelEventBus().stepStarted(ExecutedStepDescription.withTitle("another step"));
+
+        verify(listener, times(1)).stepStarted(any(ExecutedStepDescription.class), any());
+    }
+
     @Test
     public void should_notify_listeners_when_a_step_starts() {
         SimpleTestScenarioSteps steps = factory.getSharedStepLibraryFor(SimpleTestScenarioSteps.class);
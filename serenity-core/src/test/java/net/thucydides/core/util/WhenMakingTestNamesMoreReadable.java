@@ -1,11 +1,13 @@
 package net.thucydides.core.util;
 
+import net.thucydides.model.util.Inflector;
 import net.thucydides.model.util.NameConverter;
 import org.junit.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 
 public class WhenMakingTestNamesMoreReadable {
 
@@ -123,5 +125,37 @@ public class WhenMakingTestNamesMoreReadable {
     public void humanized_camelCase_methods_can_contains_XML() {
         assertThat(NameConverter.humanize("aTestMethodForXMLFormat"), is("A test method for XML format"));
     }
-}
 
+    @Test
+    public void filesystem_safe_names_should_replace_every_unsafe_character() {
+        assertThat(NameConverter.filesystemSafe(" A:B<C>[1](2)?#Tag "), is("a_b_lt_c_gt__obr_1_cbr__opr2_cpr__question__hash_tag"));
+    }
+
+    @Test
+    public void filesystem_safe_names_should_leave_safe_names_unchanged_apart_from_case() {
+        assertThat(NameConverter.filesystemSafe("A_Safe_Name"), is("a_safe_name"));
+    }
+
+    @Test
+    public void underscored_names_should_replace_special_characters() {
+        assertThat(NameConverter.underscore("A test<1,2>='x'"), is("a_test_lt_1_c_2underscore_gt__eq__sq_x_sq_"));
+    }
+
+    @Test
+    public void repeated_conversions_should_give_the_same_result() {
+        String humanized = NameConverter.humanize("shouldReadTheXMLReport");
+        assertThat(humanized, is("Should read the XML report"));
+        assertThat(NameConverter.humanize("shouldReadTheXMLReport"), is(sameInstance(humanized)));
+    }
+
+    @Test
+    public void words_should_be_inflected_consistently() {
+        Inflector inflector = Inflector.getInstance();
+        assertThat(inflector.pluralize("octopus"), is("octopi"));
+        assertThat(inflector.pluralize("octopus"), is("octopi"));
+        assertThat(inflector.singularize("queries"), is("query"));
+        assertThat(inflector.humanize("employee_salary"), is("Employee salary"));
+        assertThat(inflector.humanize("employee_salary"), is("Employee salary"));
+        assertThat(inflector.kebabCase("ActiveRecord"), is("active-record"));
+    }
+}
@@ -1,7 +1,6 @@
 package net.thucydides.core.webdriver;
 
 import org.junit.Test;
-import org.mockito.Mock;
 import org.openqa.selenium.WebDriver;
 
 import java.time.Duration;
@@ -11,8 +10,7 @@ import static org.mockito.Mockito.mock;
 
 public class WhenUsingTimeoutStack {
 
-    @Mock
-    private WebDriver webDriver;
+    private WebDriver webDriver = mock(WebDriver.class);
 
     private Duration duration = Duration.ZERO;
 
@@ -35,4 +33,53 @@ public class WhenUsingTimeoutStack {
 
         assertThat(timeoutStack.containsTimeoutFor(webDriver)).isTrue();
     }
+
+    @Test
+    public void tracks_the_timeout_last_applied_to_a_driver() {
+        assertThat(timeoutStack.isAlreadyAppliedTo(webDriver, duration)).isFalse();
+
+        timeoutStack.recordAppliedTimeoutFor(webDriver, Duration.ofMillis(0));
+
+        assertThat(timeoutStack.isAlreadyAppliedTo(webDriver, duration)).isTrue();
+        assertThat(timeoutStack.isAlreadyAppliedTo(webDriver, Duration.ofSeconds(1))).isFalse();
+    }
+
+    @Test
+    public void counts_issued_and_elided_timeout_calls() {
+        timeoutStack.recordAppliedTimeoutFor(webDriver, duration);
+        timeoutStack.recordElidedTimeoutFor(webDriver);
+        timeoutStack.recordElidedTimeoutFor(webDriver);
+
+        assertThat(timeoutStack.getIssuedTimeoutCallsFor(webDriver)).isEqualTo(1);
+        assertThat(timeoutStack.getElidedTimeoutCallsFor(webDriver)).isEqualTo(2);
+    }
+
+    @Test
+    public void counts_timeout_calls_separately_for_each_driver() {
+        WebDriver otherDriver = mock(WebDriver.class);
+        timeoutStack.recordAppliedTimeoutFor(webDriver, duration);
+        timeoutStack.recordElidedTimeoutFor(otherDriver);
+
+        assertThat(timeoutStack.getIssuedTimeoutCallsFor(otherDriver)).isZero();
+        assertThat(timeoutStack.getElidedTimeoutCallsFor(otherDriver)).isEqualTo(1);
+        assertThat(timeoutStack.getElidedTimeoutCallsFor(webDriver)).isZero();
+    }
+
+    @Test
+    public void sees_timeouts_set_directly_on_the_driver() {
+        timeoutStack.recordAppliedTimeoutFor(webDriver, duration);
+
+        TimeoutStack.recordTimeoutAppliedDirectlyTo(webDriver, Duration.ofSeconds(5));
+
+        assertThat(timeoutStack.isAlreadyAppliedTo(webDriver, duration)).isFalse();
+        assertThat(new TimeoutStack().isAlreadyAppliedTo(webDriver, Duration.ofSeconds(5))).isTrue();
+    }
+
+    @Test
+    public void forgets_the_applied_timeout_when_the_driver_is_released() {
+        timeoutStack.recordAppliedTimeoutFor(webDriver, duration);
+        timeoutStack.releaseTimeoutFor(webDriver);
+
+        assertThat(timeoutStack.isAlreadyAppliedTo(webDriver, duration)).isFalse();
+    }
 }
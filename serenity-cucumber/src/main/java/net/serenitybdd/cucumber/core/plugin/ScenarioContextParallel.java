@@ -23,6 +23,10 @@ import org.slf4j.LoggerFactory;
 
 import java.net.URI;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.stream.Collectors.toList;
@@ -32,31 +36,36 @@ public class ScenarioContextParallel {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ScenarioContextParallel.class);
 
-    private final Map<String, List<StepEventBusEvent>> highPriorityEventBusEvents = Collections.synchronizedMap(new HashMap<>());
-    private final Map<UUID, Queue<Step>> stepQueue = Collections.synchronizedMap(new HashMap<>());
-    private final Map<UUID, Queue<TestStep>> testStepQueue = Collections.synchronizedMap(new HashMap<>());
-    private final Map<String, Boolean> examplesRunningMap = Collections.synchronizedMap(new HashMap<>());
-    private final Map<String, Boolean> addingScenarioOutlineStepsMap = Collections.synchronizedMap(new HashMap<>());
-    private final Map<String, DataTable> tableMap = Collections.synchronizedMap(new HashMap<>());
+    /*
+     * Most of the state of a scenario is only written by the thread running that scenario, and is kept in concurrent maps
+     * keyed by scenario or test case id, so that scenarios of the same feature running in parallel do not contend for
+     * a shared lock.
+     */
+    private final Map<String, Queue<StepEventBusEvent>> highPriorityEventBusEvents = new ConcurrentHashMap<>();
+    private final Map<UUID, Queue<Step>> stepQueue = new ConcurrentHashMap<>();
+    private final Map<UUID, Queue<TestStep>> testStepQueue = new ConcurrentHashMap<>();
+    /*
+     * The examples of a scenario outline share the id of the outline, and may run on several threads at once,
+     * so everything they share is kept in one holder per outline, and updated under its lock.
+     */
+    private final Map<String, ScenarioOutlineExamples> scenarioOutlineExamples = new ConcurrentHashMap<>();
     //map1: keys are scenario ids
     //map2: keys are line numbers, entries are example rows (key=header, value=rowValue )
-    private final Map<String, Map<Long, Map<String, String>>> exampleRowsMap = Collections.synchronizedMap(new HashMap<>());
+    private final Map<String, Map<Long, Map<String, String>>> exampleRowsMap = new ConcurrentHashMap<>();
     //keys are line numbers
-    private Map<Long, List<Tag>> exampleTags;
-
-    private final Map<String, AtomicInteger> exampleCountMap = Collections.synchronizedMap(new HashMap<>());
+    private volatile Map<Long, List<Tag>> exampleTags;
 
     //key- ScenarioId
-    private final Map<String, Boolean> waitingToProcessBackgroundSteps = Collections.synchronizedMap(new HashMap<>());
+    private final Map<String, Boolean> waitingToProcessBackgroundSteps = new ConcurrentHashMap<>();
 
-    private final List<String> currentScenarioIdList = Collections.synchronizedList(new ArrayList<>());
+    private final Set<String> currentScenarioIds = ConcurrentHashMap.newKeySet();
 
     //key - scenarioId
-    private final Map<String, Scenario> currentScenarioDefinitionMap = Collections.synchronizedMap(new HashMap<>());
+    private final Map<String, Scenario> currentScenarioDefinitionMap = new ConcurrentHashMap<>();
 
-    private final Map<String, String> currentScenarioMap = Collections.synchronizedMap(new HashMap<>());
+    private final Map<String, String> currentScenarioMap = new ConcurrentHashMap<>();
 
-    private List<Tag> featureTags = new ArrayList<>();
+    private volatile List<Tag> featureTags = new ArrayList<>();
 
     private final FeaturePathFormatter featurePathFormatter = new FeaturePathFormatter();
 
@@ -64,214 +73,281 @@ public class ScenarioContextParallel {
 
 
     // key-line in feature file; value - list with StepBusEvents corresponding to this line.
-    private final Map<Integer, List<StepEventBusEvent>> allTestEventsByLine = Collections.synchronizedMap(new TreeMap<>());
+    private final Map<Integer, List<StepEventBusEvent>> allTestEventsByLine = new ConcurrentSkipListMap<>();
 
     private final URI scenarioContextURI;
 
-    private StepEventBus stepEventBus;
+    private volatile StepEventBus stepEventBus;
 
     // key - scenarioId
-    private final Map<String, List<Tag>> scenarioTags = Collections.synchronizedMap(new HashMap<>());
+    private final Map<String, List<Tag>> scenarioTags = new ConcurrentHashMap<>();
 
     public URI getScenarioContextURI() {
         return scenarioContextURI;
     }
 
     public ScenarioContextParallel(URI scenarioContextURI) {
-        this.baseStepListeners = Collections.synchronizedList(new ArrayList<>());
+        this.baseStepListeners = new CopyOnWriteArrayList<>();
         this.scenarioContextURI = scenarioContextURI;
         this.stepEventBus = stepEventBus(scenarioContextURI);
     }
 
-    public synchronized Scenario currentScenarioOutline(String scenarioId) {
+    public Scenario currentScenarioOutline(String scenarioId) {
         return currentScenarioDefinitionMap.get(scenarioId);
     }
 
-    public synchronized Queue<Step> getStepQueue(TestCase testCase) {
-        stepQueue.computeIfAbsent(testCase.getId(), k -> new LinkedList<>());
-        return stepQueue.get(testCase.getId());
+    /**
+     * The steps of a test case are only queued and read by the thread running that test case.
+     */
+    public Queue<Step> getStepQueue(TestCase testCase) {
+        return stepQueue.computeIfAbsent(testCase.getId(), k -> new ArrayDeque<>());
+    }
+
+    public Queue<TestStep> getTestStepQueue(TestCase testCase/*String scenarioId*/) {
+        return testStepQueue.computeIfAbsent(testCase.getId(), k -> new ArrayDeque<>());
     }
 
-    public synchronized Queue<TestStep> getTestStepQueue(TestCase testCase/*String scenarioId*/) {
-        testStepQueue.computeIfAbsent(testCase.getId(), k -> new LinkedList<>());
-        return testStepQueue.get(testCase.getId());
+    public boolean examplesAreRunning(String scenarioId) {
+        ScenarioOutlineExamples examples = scenarioOutlineExamples.get(scenarioId);
+        return examples != null && examples.examplesRunning;
     }
 
-    public synchronized boolean examplesAreRunning(String scenarioId) {
-        if (!examplesRunningMap.containsKey(scenarioId)) {
-            return false;
-        }
-        return examplesRunningMap.get(scenarioId);
+    private ScenarioOutlineExamples examplesOf(String scenarioId) {
+        return scenarioOutlineExamples.computeIfAbsent(scenarioId, id -> new ScenarioOutlineExamples());
     }
 
-    public synchronized Map<Long, Map<String, String>> getExampleRows(String scenarioId) {
+    public Map<Long, Map<String, String>> getExampleRows(String scenarioId) {
         return exampleRowsMap.get(scenarioId);
     }
 
-    public synchronized void setExampleRows(String scenarioId, Map<Long, Map<String, String>> exampleRows) {
+    public Map<Long, Map<String, String>> getOrCreateExampleRows(String scenarioId) {
+        return exampleRowsMap.computeIfAbsent(scenarioId, id -> new ConcurrentHashMap<>());
+    }
+
+    public void setExampleRows(String scenarioId, Map<Long, Map<String, String>> exampleRows) {
         this.exampleRowsMap.put(scenarioId, exampleRows);
     }
 
-    public synchronized Map<Long, List<Tag>> getExampleTags() {
+    public Map<Long, List<Tag>> getExampleTags() {
         return exampleTags;
     }
 
     //TODO - use a map with scenarioId as key
-    public synchronized void setExampleTags(Map<Long, List<Tag>> exampleTags) {
+    public void setExampleTags(Map<Long, List<Tag>> exampleTags) {
         this.exampleTags = exampleTags;
     }
 
-    public synchronized int getExampleCount(String scenarioId) {
-        if (exampleCountMap.containsKey(scenarioId)) {
-            return exampleCountMap.get(scenarioId).get();
+    public Map<Long, List<Tag>> getOrCreateExampleTags() {
+        Map<Long, List<Tag>> tags = exampleTags;
+        if (tags == null) {
+            synchronized (this) {
+                if (exampleTags == null) {
+                    exampleTags = new ConcurrentHashMap<>();
+                }
+                tags = exampleTags;
+            }
+        }
+        return tags;
+    }
+
+    public int getExampleCount(String scenarioId) {
+        ScenarioOutlineExamples examples = scenarioOutlineExamples.get(scenarioId);
+        if (examples == null) {
+            return 0;
+        }
+        synchronized (examples) {
+            return examples.remainingExamples;
         }
-        return 0;
     }
 
-    public synchronized int decrementExampleCount(String scenarioId) {
-        if (exampleCountMap.get(scenarioId) != null) {
-            return exampleCountMap.get(scenarioId).decrementAndGet();
+    /**
+     * Record that one more example of the outline has finished, and return the number of examples still to run.
+     */
+    public int decrementExampleCount(String scenarioId) {
+        ScenarioOutlineExamples examples = scenarioOutlineExamples.get(scenarioId);
+        if (examples == null) {
+            //single example
+            return 0;
+        }
+        synchronized (examples) {
+            if (examples.table == null) {
+                return 0;
+            }
+            return --examples.remainingExamples;
         }
-        //single example
-        return 0;
     }
 
-    public synchronized DataTable getTable(String scenarioId) {
-        return tableMap.get(scenarioId);
+    /**
+     * The table is only handed out once any rows being added to it have all been appended.
+     */
+    public DataTable getTable(String scenarioId) {
+        ScenarioOutlineExamples examples = scenarioOutlineExamples.get(scenarioId);
+        if (examples == null) {
+            return null;
+        }
+        synchronized (examples) {
+            return examples.table;
+        }
     }
 
-    public synchronized boolean isWaitingToProcessBackgroundSteps(String scenarioId) {
+    public boolean isWaitingToProcessBackgroundSteps(String scenarioId) {
         return waitingToProcessBackgroundSteps.getOrDefault(scenarioId, false);
     }
 
-    public synchronized void addCurrentScenarioId(String scenarioId) {
+    public void addCurrentScenarioId(String scenarioId) {
         if (scenarioId != null) {
-            currentScenarioIdList.add(scenarioId);
+            currentScenarioIds.add(scenarioId);
         } else {
-            currentScenarioIdList.clear();
+            currentScenarioIds.clear();
         }
     }
 
-    public synchronized Scenario getCurrentScenarioDefinition(String scenarioId) {
+    public Scenario getCurrentScenarioDefinition(String scenarioId) {
         return currentScenarioDefinitionMap.get(scenarioId);
     }
 
-    public synchronized String getCurrentScenario(String scenarioId) {
+    public String getCurrentScenario(String scenarioId) {
         return currentScenarioMap.get(scenarioId);
     }
 
-    public synchronized void setCurrentScenario(String scenarioId, String currentScenario) {
-        this.currentScenarioMap.put(scenarioId, currentScenario);
+    public void setCurrentScenario(String scenarioId, String currentScenario) {
+        putOrRemove(currentScenarioMap, scenarioId, currentScenario);
+    }
+
+    private static <K, V> void putOrRemove(Map<K, V> map, K key, V value) {
+        if (value == null) {
+            map.remove(key);
+        } else {
+            map.put(key, value);
+        }
     }
 
-    public synchronized List<Tag> getFeatureTags() {
+    public List<Tag> getFeatureTags() {
         return featureTags;
     }
 
-    public synchronized boolean isAddingScenarioOutlineSteps(String scenarioId) {
-        return addingScenarioOutlineStepsMap.get(scenarioId) != null ? addingScenarioOutlineStepsMap.get(scenarioId) : false;
+    public boolean isAddingScenarioOutlineSteps(String scenarioId) {
+        ScenarioOutlineExamples examples = scenarioOutlineExamples.get(scenarioId);
+        return examples != null && examples.addingScenarioOutlineSteps;
     }
 
-    public synchronized void doneAddingScenarioOutlineSteps(String scenarioId) {
-        this.addingScenarioOutlineStepsMap.put(scenarioId, false);
+    public void doneAddingScenarioOutlineSteps(String scenarioId) {
+        examplesOf(scenarioId).addingScenarioOutlineSteps = false;
     }
 
-    public synchronized void setFeatureTags(List<Tag> tags) {
+    public void setFeatureTags(List<Tag> tags) {
         this.featureTags = new ArrayList<>(tags);
     }
 
-    public synchronized void setCurrentScenarioDefinitionFrom(String scenarioId, TestSourcesModel.AstNode astNode) {
-        this.currentScenarioDefinitionMap.put(scenarioId, TestSourcesModel.getScenarioDefinition(astNode));
+    public void setCurrentScenarioDefinitionFrom(String scenarioId, TestSourcesModel.AstNode astNode) {
+        putOrRemove(currentScenarioDefinitionMap, scenarioId, TestSourcesModel.getScenarioDefinition(astNode));
     }
 
-    public synchronized boolean isAScenarioOutline(String scenarioId) {
-        return currentScenarioDefinitionMap.get(scenarioId) != null &&
-            currentScenarioDefinitionMap.get(scenarioId).getExamples().size() > 0;
+    public boolean isAScenarioOutline(String scenarioId) {
+        Scenario scenarioDefinition = currentScenarioDefinitionMap.get(scenarioId);
+        return scenarioDefinition != null && scenarioDefinition.getExamples().size() > 0;
     }
 
-    public synchronized void startNewExample(String scenarioId) {
-        examplesRunningMap.put(scenarioId, true);
-        addingScenarioOutlineStepsMap.put(scenarioId, true);
+    public void startNewExample(String scenarioId) {
+        ScenarioOutlineExamples examples = examplesOf(scenarioId);
+        synchronized (examples) {
+            examples.examplesRunning = true;
+            examples.addingScenarioOutlineSteps = true;
+        }
     }
 
-    public synchronized void setExamplesRunning(String scenarioId, boolean examplesRunning) {
-        examplesRunningMap.put(scenarioId, examplesRunning);
+    public void setExamplesRunning(String scenarioId, boolean examplesRunning) {
+        examplesOf(scenarioId).examplesRunning = examplesRunning;
     }
 
     /*public synchronized List<Tag> getScenarioTags() {
         return currentScenarioDefinition.getTags();
     }
 
-    public synchronized String getScenarioName() {
+    public String getScenarioName() {
         return currentScenarioDefinition.getName();
     }
 
-    public synchronized List<Examples> getScenarioExamples() {
+    public List<Examples> getScenarioExamples() {
         return currentScenarioDefinition.getExamples();
     }*/
 
-    public synchronized void clearStepQueue(TestCase testCase/*String scenarioId*/) {
-        getStepQueue(testCase).clear();
+    /**
+     * The queue of a finished test case is dropped rather than emptied, so that the queues of a long run do not
+     * accumulate. {@link #getStepQueue(TestCase)} hands out a new empty queue if the test case asks for it again.
+     */
+    public void clearStepQueue(TestCase testCase/*String scenarioId*/) {
+        stepQueue.remove(testCase.getId());
     }
 
-    public synchronized void clearStepQueue() {
+    public void clearStepQueue() {
         //TODO check
         stepQueue.clear();
         //simpleStepQueue.clear();
     }
 
-    public synchronized void clearTestStepQueue() {
+    public void clearTestStepQueue() {
         testStepQueue.clear();
         //simpleStepTestQueue.clear();
     }
 
-    public synchronized void queueStep(TestCase testCase/*String scenarioId,*/, Step step) {
+    public void queueStep(TestCase testCase/*String scenarioId,*/, Step step) {
         getStepQueue(testCase).add(step);
     }
 
-    public synchronized void queueTestStep(/*String scenarioId*/TestCase testCase, TestStep testStep) {
+    public void queueTestStep(/*String scenarioId*/TestCase testCase, TestStep testStep) {
         getTestStepQueue(testCase).add(testStep);
     }
 
-    public synchronized Step getCurrentStep(TestCase testCase/*String scenarioId*/) {
+    public Step getCurrentStep(TestCase testCase/*String scenarioId*/) {
         return getStepQueue(testCase/*scenarioId*/).peek();
     }
 
-    public synchronized Step nextStep(TestCase testCase/*String scenarioId*/) {
+    public Step nextStep(TestCase testCase/*String scenarioId*/) {
         return getStepQueue(testCase/*scenarioId*/).poll();
     }
 
-    public synchronized TestStep nextTestStep(TestCase testCase/*String scenarioId*/) {
+    public TestStep nextTestStep(TestCase testCase/*String scenarioId*/) {
         return getTestStepQueue(testCase/*scenarioId*/).poll();
     }
 
-    public synchronized boolean noStepsAreQueued(/*String scenarioId*/TestCase testCase) {
+    public boolean noStepsAreQueued(/*String scenarioId*/TestCase testCase) {
         return getStepQueue(testCase/*scenarioId*/).isEmpty();
     }
 
-    public synchronized boolean hasScenarioId(String scenarioId) {
-        return (currentScenarioIdList.contains(scenarioId));
+    public boolean hasScenarioId(String scenarioId) {
+        return (currentScenarioIds.contains(scenarioId));
     }
 
-    public synchronized void setTable(String scenarioId, DataTable table) {
-        this.tableMap.put(scenarioId, table);
-        exampleCountMap.put(scenarioId, new AtomicInteger(table.getSize()));
+    public void setTable(String scenarioId, DataTable table) {
+        ScenarioOutlineExamples examples = examplesOf(scenarioId);
+        synchronized (examples) {
+            examples.table = table;
+            examples.remainingExamples = table.getSize();
+        }
     }
 
-    public synchronized void addTableRows(String scenarioId, List<String> headers,
-                                          List<Map<String, String>> rows,
-                                          String name,
-                                          String description,
-                                          Map<Integer, Long> lineNumbersOfEachRow) {
-        DataTable table = tableMap.get(scenarioId);
-        table.startNewDataSet(name, description);
+    /**
+     * Add rows to the table of the outline. The examples that have already finished stay counted as finished.
+     */
 
-        AtomicInteger rowNumber = new AtomicInteger();
-        rows.forEach(
-            row -> table.appendRow(newRow(headers, lineNumbersOfEachRow, rowNumber.getAndIncrement(), row))
-        );
-        table.updateLineNumbers(lineNumbersOfEachRow);
-        exampleCountMap.put(scenarioId, new AtomicInteger(table.getSize()));
+    public void addTableRows(String scenarioId, List<String> headers,
+                             List<Map<String, String>> rows,
+                             String name,
+                             String description,
+                             Map<Integer, Long> lineNumbersOfEachRow) {
+        ScenarioOutlineExamples examples = examplesOf(scenarioId);
+        synchronized (examples) {
+            DataTable table = examples.table;
+            table.startNewDataSet(name, description);
+
+            AtomicInteger rowNumber = new AtomicInteger();
+            rows.forEach(
+                row -> table.appendRow(newRow(headers, lineNumbersOfEachRow, rowNumber.getAndIncrement(), row))
+            );
+            table.updateLineNumbers(lineNumbersOfEachRow);
+            examples.remainingExamples += rows.size();
+        }
     }
 
     @NotNull
@@ -288,21 +364,23 @@ public class ScenarioContextParallel {
         return headers.stream().map(row::get).collect(toList());
     }
 
-    public synchronized void addTableTags(String scenarioId, List<TestTag> tags) {
-        DataTable table = tableMap.get(scenarioId);
-        table.addTagsToLatestDataSet(tags);
+    public void addTableTags(String scenarioId, List<TestTag> tags) {
+        ScenarioOutlineExamples examples = examplesOf(scenarioId);
+        synchronized (examples) {
+            examples.table.addTagsToLatestDataSet(tags);
+        }
     }
 
-    public synchronized void clearTable() {
-        tableMap.clear();
+    public void clearTable() {
+        scenarioOutlineExamples.values().forEach(ScenarioOutlineExamples::clearTable);
     }
 
-    private synchronized StepEventBus stepEventBus(URI featurePath) {
+    private StepEventBus stepEventBus(URI featurePath) {
         URI prefixedPath = featurePathFormatter.featurePathWithPrefixIfNecessary(featurePath);
         return StepEventBus.eventBusFor(prefixedPath);
     }
 
-    public synchronized StepEventBus stepEventBus() {
+    public StepEventBus stepEventBus() {
         return this.stepEventBus;
     }
 
@@ -316,7 +394,7 @@ public class ScenarioContextParallel {
     }
 
 
-    public synchronized void collectAllBaseStepListeners(List<BaseStepListener> allBaseStepListeners) {
+    public void collectAllBaseStepListeners(List<BaseStepListener> allBaseStepListeners) {
         allBaseStepListeners.addAll(baseStepListeners);
     }
 
@@ -333,7 +411,7 @@ public class ScenarioContextParallel {
      */
     public void addHighPriorityStepEventBusEvent(String scenarioId, StepEventBusEvent event) {
         LOGGER.debug("SRP:addHighPriorityStepEventBusEvent " + event + " " + Thread.currentThread() + " " + scenarioId);
-        List<StepEventBusEvent> eventList = highPriorityEventBusEvents.computeIfAbsent(scenarioId, k -> Collections.synchronizedList(new LinkedList<>()));
+        Queue<StepEventBusEvent> eventList = highPriorityEventBusEvents.computeIfAbsent(scenarioId, k -> new ConcurrentLinkedQueue<>());
         eventList.add(event);
         event.setStepEventBus(stepEventBus);
     }
@@ -406,7 +484,7 @@ public class ScenarioContextParallel {
         Optional<StepEventBusEvent> eventWithScenarioId = stepEventBusEvents.stream().filter(event -> !event.getScenarioId().isEmpty()).findFirst();
         LOGGER.debug("SRP:EventWithscenarioId   " + eventWithScenarioId);
         if (eventWithScenarioId.isPresent() && highPriorityEventBusEvents.get(eventWithScenarioId.get().getScenarioId()) != null) {
-            List<StepEventBusEvent> highPriorityEvents = highPriorityEventBusEvents.get(eventWithScenarioId.get().getScenarioId());
+            Queue<StepEventBusEvent> highPriorityEvents = highPriorityEventBusEvents.get(eventWithScenarioId.get().getScenarioId());
             for (StepEventBusEvent currentStepBusEvent : highPriorityEvents) {
                 LOGGER.trace("SRP:PLAY session high priority event  " + currentStepBusEvent);
                 currentStepBusEvent.play();
@@ -424,7 +502,19 @@ public class ScenarioContextParallel {
     }
 
     public void setScenarioTags(String scenarioId, List<Tag> scenarioTags) {
-        this.scenarioTags.put(scenarioId, scenarioTags);
+        putOrRemove(this.scenarioTags, scenarioId, scenarioTags);
+    }
+
+    private static class ScenarioOutlineExamples {
+        private DataTable table;
+        private int remainingExamples;
+        private volatile boolean examplesRunning;
+        private volatile boolean addingScenarioOutlineSteps;
+
+        synchronized void clearTable() {
+            table = null;
+            remainingExamples = 0;
+        }
     }
 }
 
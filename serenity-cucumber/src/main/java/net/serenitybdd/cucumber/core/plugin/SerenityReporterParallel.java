@@ -91,12 +91,14 @@ public class SerenityReporterParallel implements Plugin, ConcurrentEventListener
     /**
      * key = feature URI; value = ScenarioContextParallel
      */
-    private final Map<URI, ScenarioContextParallel> localContexts = Collections.synchronizedMap(new HashMap<>());
+    private final Map<URI, ScenarioContextParallel> localContexts = new ConcurrentHashMap<>();
 
     protected ScenarioContextParallel getContext(URI featureURI) {
-        synchronized (localContexts) {
-            return localContexts.computeIfAbsent(featureURI, uri -> new ScenarioContextParallel(featureURI));
+        ScenarioContextParallel context = localContexts.get(featureURI);
+        if (context != null) {
+            return context;
         }
+        return localContexts.computeIfAbsent(featureURI, ScenarioContextParallel::new);
     }
 
     /**
@@ -292,7 +294,7 @@ public class SerenityReporterParallel implements Plugin, ConcurrentEventListener
         }
     }
 
-    private final static Map<UUID, TestResult> MANUAL_TEST_RESULTS_CACHE = new HashMap<>();
+    private final static Map<UUID, TestResult> MANUAL_TEST_RESULTS_CACHE = new ConcurrentHashMap<>();
 
     private io.cucumber.messages.types.Rule getRuleForTestCase(TestSourcesModel.AstNode astNode) {
         Feature feature = getFeatureForTestCase(astNode);
@@ -389,8 +391,9 @@ public class SerenityReporterParallel implements Plugin, ConcurrentEventListener
     }
 
     private Status eventStatusFor(TestCaseFinished event) {
-        if (MANUAL_TEST_RESULTS_CACHE.containsKey(event.getTestCase().getId())) {
-            switch (MANUAL_TEST_RESULTS_CACHE.get(event.getTestCase().getId())) {
+        TestResult manualTestResult = MANUAL_TEST_RESULTS_CACHE.get(event.getTestCase().getId());
+        if (manualTestResult != null) {
+            switch (manualTestResult) {
                 case SUCCESS:
                     return Status.PASSED;
                 case ABORTED:
@@ -690,17 +693,11 @@ public class SerenityReporterParallel implements Plugin, ConcurrentEventListener
     }
 
     private Map<Long, Map<String, String>> exampleRows(String scenarioId, URI featurePath) {
-        if (getContext(featurePath).getExampleRows(scenarioId) == null) {
-            getContext(featurePath).setExampleRows(scenarioId, Collections.synchronizedMap(new HashMap<>()));
-        }
-        return getContext(featurePath).getExampleRows(scenarioId);
+        return getContext(featurePath).getOrCreateExampleRows(scenarioId);
     }
 
     private Map<Long, List<Tag>> exampleTags(URI featurePath) {
-        if (getContext(featurePath).getExampleTags() == null) {
-            getContext(featurePath).setExampleTags(Collections.synchronizedMap(new HashMap<>()));
-        }
-        return getContext(featurePath).getExampleTags();
+        return getContext(featurePath).getOrCreateExampleTags();
     }
 
     private DataTable dataTableFrom(String scenarioOutline,
@@ -931,8 +928,7 @@ public class SerenityReporterParallel implements Plugin, ConcurrentEventListener
 
     private void finishProcessingExampleLine(String scenarioId, URI featurePath, TestCase testCase) {
         getContext(featurePath).addStepEventBusEvent(new ExampleFinishedEvent());
-        getContext(featurePath).decrementExampleCount(scenarioId);
-        if (getContext(featurePath).getExampleCount(scenarioId) == 0) {
+        if (getContext(featurePath).decrementExampleCount(scenarioId) == 0) {
             getContext(featurePath).setExamplesRunning(scenarioId, false);
             setTableScenarioOutline(scenarioId, featurePath);
         } else {
@@ -0,0 +1,98 @@
+package net.serenitybdd.cucumber.core.plugin;
+
+import net.thucydides.model.domain.DataTable;
+import org.junit.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WhenRunningScenarioOutlineExamplesInParallel {
+
+    private static final String SCENARIO_ID = "a-feature;an-outline";
+    private static final List<String> HEADERS = Collections.singletonList("value");
+
+    private final ScenarioContextParallel context = new ScenarioContextParallel(URI.create("classpath:features/an_outline.feature"));
+
+    @Test
+    public void examples_finishing_on_several_threads_should_each_be_counted_once() throws Exception {
+        int examples = 200;
+        context.startNewExample(SCENARIO_ID);
+        context.setTable(SCENARIO_ID, tableWith(examples));
+
+        Set<Integer> remainingCounts = ConcurrentHashMap.newKeySet();
+        runOnSeveralThreads(examples, () -> remainingCounts.add(context.decrementExampleCount(SCENARIO_ID)));
+
+        assertThat(remainingCounts).hasSize(examples).contains(0);
+        assertThat(context.getExampleCount(SCENARIO_ID)).isZero();
+    }
+
+    @Test
+    public void rows_added_while_examples_are_finishing_should_not_reset_the_count() throws Exception {
+        int examples = 100;
+        int addedRows = 50;
+        context.startNewExample(SCENARIO_ID);
+        context.setTable(SCENARIO_ID, tableWith(examples));
+
+        runOnSeveralThreads(examples + 1, new Runnable() {
+            private final AtomicBoolean rowsAdded = new AtomicBoolean();
+
+            @Override
+            public void run() {
+                if (rowsAdded.compareAndSet(false, true)) {
+                    context.addTableRows(SCENARIO_ID, HEADERS, rows(addedRows), "More examples", "", new HashMap<>());
+                } else {
+                    context.decrementExampleCount(SCENARIO_ID);
+                }
+            }
+        });
+
+        assertThat(context.getTable(SCENARIO_ID).getSize()).isEqualTo(examples + addedRows);
+        assertThat(context.getExampleCount(SCENARIO_ID)).isEqualTo(addedRows);
+    }
+
+    private void runOnSeveralThreads(int tasks, Runnable task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < tasks; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private DataTable tableWith(int rows) {
+        return DataTable.withHeaders(HEADERS).andMappedRows(rows(rows)).build();
+    }
+
+    private List<Map<String, String>> rows(int count) {
+        List<Map<String, String>> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(Collections.singletonMap("value", String.valueOf(i)));
+        }
+        return rows;
+    }
+}
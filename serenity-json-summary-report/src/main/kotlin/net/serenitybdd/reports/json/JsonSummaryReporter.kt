@@ -5,11 +5,15 @@ import net.serenitybdd.reports.io.testOutcomesIn
 import net.serenitybdd.reports.model.*
 import net.thucydides.core.reports.ExtendedReport
 import net.thucydides.core.reports.html.Merger
+import net.thucydides.model.domain.TestOutcome
+import net.thucydides.model.reports.SharedTestOutcomes
 import net.thucydides.model.reports.TestOutcomes
+import net.thucydides.model.reports.export.OutcomeSink
 import net.thucydides.model.util.EnvironmentVariables
 import java.io.File
 import java.nio.file.Path
 import java.time.ZonedDateTime
+import java.util.Optional
 
 /**
  * Generate a json summary report from a set of Serenity test outcomes in a given directory.
@@ -32,10 +36,34 @@ class JsonSummaryReporter(val environmentVariables: EnvironmentVariables,
             ModelInfrastructure.getEnvironmentVariables()
         )
 
-        override fun generateReport(): Path {
+        override fun generateReport(): Path = generateReportFor(testOutcomesIn(sourceDirectory))
 
-            // Fetch the test outcomes
-            val testOutcomes = testOutcomesIn(sourceDirectory).filteredByEnvironmentTags()
+        override fun generateReportFrom(testOutcomes: SharedTestOutcomes): Path = generateReportFor(testOutcomes.testOutcomes)
+
+        /**
+         * A sink that collects the exported outcomes and writes the JSON summary once they have all been received,
+         * so that the summary can be produced in the same pass as the other exports.
+         */
+        override fun outcomeSink(): Optional<OutcomeSink> = Optional.of(object : OutcomeSink {
+            private val outcomes = mutableListOf<TestOutcome>()
+
+            override fun accept(outcome: TestOutcome) {
+                outcomes.add(outcome)
+            }
+
+            override fun finish() {
+                generateReportFor(TestOutcomes.of(outcomes))
+            }
+
+            override fun abort() {
+                outcomes.clear()
+            }
+        })
+
+        private fun generateReportFor(loadedOutcomes: TestOutcomes): Path {
+
+            // Filter the test outcomes
+            val testOutcomes = loadedOutcomes.filteredByEnvironmentTags()
 
             // Prepare the parameters
             val fields = templateFields(environmentVariables, testOutcomes)
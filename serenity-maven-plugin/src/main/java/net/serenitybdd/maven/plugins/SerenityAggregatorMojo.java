@@ -9,6 +9,7 @@ import net.thucydides.model.ThucydidesSystemProperty;
 import net.thucydides.model.domain.TestResult;
 import net.thucydides.model.environment.SystemEnvironmentVariables;
 import net.thucydides.model.reports.ResultChecker;
+import net.thucydides.model.reports.SharedTestOutcomes;
 import net.thucydides.model.reports.UserStoryTestReporter;
 import net.thucydides.model.util.EnvironmentVariables;
 import net.thucydides.model.webdriver.Configuration;
@@ -214,14 +215,15 @@ public class SerenityAggregatorMojo extends AbstractMojo {
     public void execute() throws MojoExecutionException, MojoFailureException {
         prepareExecution();
 
-        try {
+        // The outcomes are loaded once, the first time a report needs them, and shared by every report and the result check
+        try (SharedTestOutcomes testOutcomes = SharedTestOutcomes.loadedFrom(sourceOfTestResult())) {
             if (generateFullReport == null || generateFullReport) {
-                generateHtmlStoryReports();
+                generateHtmlStoryReports(testOutcomes);
             }
-            generateExtraReports();
-            generateCustomReports();
+            generateExtraReports(testOutcomes);
+            generateCustomReports(testOutcomes);
             if (!ignoreFailedTests) {
-                TestResult testResult = calculateTestResult();
+                TestResult testResult = calculateTestResult(testOutcomes);
                 switch (testResult) {
                     case ERROR:
                         throw new MojoFailureException("An error occurred in the Serenity tests");
@@ -236,15 +238,15 @@ public class SerenityAggregatorMojo extends AbstractMojo {
         }
     }
 
-    private TestResult calculateTestResult() throws IOException {
-        return new ResultChecker(outputDirectory).checkTestResults();
+    private TestResult calculateTestResult(SharedTestOutcomes testOutcomes) throws IOException {
+        return new ResultChecker(outputDirectory).checkTestResults(testOutcomes);
     }
 
-    private void generateCustomReports() throws IOException {
+    private void generateCustomReports(SharedTestOutcomes testOutcomes) throws IOException {
         Collection<UserStoryTestReporter> customReporters = getCustomReportsFor(environmentVariables);
 
         for (UserStoryTestReporter reporter : customReporters) {
-            reporter.generateReportsForTestResultsFrom(sourceOfTestResult());
+            reporter.generateReportsFor(testOutcomes);
         }
     }
 
@@ -276,7 +278,7 @@ public class SerenityAggregatorMojo extends AbstractMojo {
 
     }
 
-    private void generateHtmlStoryReports() throws IOException {
+    private void generateHtmlStoryReports(SharedTestOutcomes testOutcomes) throws IOException {
         getReporter().setProjectDirectory(projectDirectory.toFile().getPath());
         getReporter().setSourceDirectory(sourceDirectory);
         getReporter().setOutputDirectory(outputDirectory);
@@ -287,14 +289,14 @@ public class SerenityAggregatorMojo extends AbstractMojo {
         getReporter().setJiraPassword(jiraPassword);
         getReporter().setTags(tags);
         getReporter().setGenerateTestOutcomeReports();
-        getReporter().generateReportsForTestResultsFrom(sourceDirectory);
+        getReporter().generateReportsFor(testOutcomes);
 
         LOGGER.info("");
         Path index = outputDirectory.toPath().resolve("index.html");
         LOGGER.info("📊 Interactive Report: {}", index.toUri());
     }
 
-    private void generateExtraReports() {
+    private void generateExtraReports(SharedTestOutcomes testOutcomes) {
 
         if (StringUtils.isEmpty(reports)) {
             return;
@@ -305,7 +307,7 @@ public class SerenityAggregatorMojo extends AbstractMojo {
                     report.setProjectDirectory(projectDirectory.toFile().getPath());
                     report.setSourceDirectory(sourceDirectory.toPath());
                     report.setOutputDirectory(outputDirectory.toPath());
-                    Path generatedReport = report.generateReport();
+                    Path generatedReport = report.generateReportFrom(testOutcomes);
                     LOGGER.info("📄 {}: {}", report.getDescription(), generatedReport.toUri());
                 }
         );
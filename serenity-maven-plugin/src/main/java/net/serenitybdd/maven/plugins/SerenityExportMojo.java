@@ -0,0 +1,117 @@
+package net.serenitybdd.maven.plugins;
+
+import com.google.common.base.Splitter;
+import net.thucydides.core.reports.ExtendedReport;
+import net.thucydides.core.reports.ExtendedReports;
+import net.thucydides.model.environment.SystemEnvironmentVariables;
+import net.thucydides.model.reports.csv.CSVReporter;
+import net.thucydides.model.reports.export.OutcomeExporter;
+import net.thucydides.model.reports.export.OutcomeSink;
+import net.thucydides.model.reports.junit.JUnitXMLOutcomeReporter;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Export the Serenity test results to CSV, JUnit XML and any extended reports that support it (such as the JSON summary),
+ * without generating the HTML report.
+ * The test outcomes are read once, one file at a time, and passed to every export format in the same pass.
+ */
+@Mojo(name = "export", requiresProject = false, requiresDependencyResolution = ResolutionScope.COMPILE_PLUS_RUNTIME)
+public class SerenityExportMojo extends AbstractMojo {
+
+    /**
+     * Exported reports are generated here
+     */
+    @Parameter(property = "serenity.outputDirectory", defaultValue = "${basedir}/target/site/serenity")
+    public File outputDirectory;
+
+    /**
+     * Serenity test reports are read from here
+     */
+    @Parameter(property = "serenity.sourceDirectory", defaultValue = "${basedir}/target/site/serenity")
+    public File sourceDirectory;
+
+    /**
+     * The name of the CSV file containing one row per test outcome
+     */
+    @Parameter(property = "serenity.export.csv", defaultValue = "results.csv")
+    public String csvReportName;
+
+    /**
+     * Extended reports to produce in the same pass, e.g. 'json-summary'
+     */
+    @Parameter(property = "serenity.reports")
+    public String reports;
+
+    @Parameter(defaultValue = "${session}")
+    protected MavenSession session;
+
+    @Parameter(defaultValue = "${project}")
+    public MavenProject project;
+
+    public void execute() throws MojoExecutionException {
+        MavenProjectHelper.propagateBuildDir(session);
+        resolveDirectories();
+        if (!outputDirectory.exists()) {
+            outputDirectory.mkdirs();
+        }
+        UpdatedClassLoader.withProjectClassesFrom(project);
+
+        try {
+            OutcomeExporter.to(sinks()).exportFrom(sourceDirectory);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to export the Serenity test results from " + sourceDirectory, e);
+        }
+        getLog().info("Exported Serenity test results to " + outputDirectory);
+    }
+
+    private void resolveDirectories() {
+        final Path projectDir = session.getCurrentProject().getBasedir().toPath();
+
+        if (!outputDirectory.isAbsolute()) {
+            outputDirectory = projectDir.resolve(outputDirectory.toPath()).toFile();
+        }
+        if (!sourceDirectory.isAbsolute()) {
+            sourceDirectory = projectDir.resolve(sourceDirectory.toPath()).toFile();
+        }
+    }
+
+    private List<OutcomeSink> sinks() {
+        List<OutcomeSink> sinks = new ArrayList<>();
+        sinks.add(new CSVReporter(outputDirectory, SystemEnvironmentVariables.currentEnvironmentVariables()).sinkFor(csvReportName));
+        sinks.add(new JUnitXMLOutcomeReporter(outputDirectory).sink());
+        sinks.addAll(extendedReportSinks());
+        return sinks;
+    }
+
+    private List<OutcomeSink> extendedReportSinks() {
+        List<OutcomeSink> sinks = new ArrayList<>();
+        if (StringUtils.isEmpty(reports)) {
+            return sinks;
+        }
+        for (ExtendedReport report : ExtendedReports.named(Splitter.on(",").trimResults().splitToList(reports))) {
+            report.setSourceDirectory(sourceDirectory.toPath());
+            report.setOutputDirectory(outputDirectory.toPath());
+            Optional<OutcomeSink> sink = report.outcomeSink();
+            if (sink.isPresent()) {
+                sinks.add(sink.get());
+            } else {
+                getLog().warn("The " + report.getName() + " report cannot be exported in the same pass; use the 'reports' goal instead");
+            }
+        }
+        return sinks;
+    }
+}
@@ -0,0 +1,73 @@
+package net.serenitybdd.maven.plugins;
+
+import net.serenitybdd.model.index.ClasspathIndexGenerator;
+import net.thucydides.model.environment.SystemEnvironmentVariables;
+import net.thucydides.model.util.EnvironmentVariables;
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static net.thucydides.model.ThucydidesSystemProperty.SERENITY_TEST_ROOT;
+
+/**
+ * This plugin indexes the requirements and tag provider strategies of the test classes, so that the tests do not
+ * need to scan the classpath for them in each forked JVM. It runs after the test classes are compiled.
+ */
+@Mojo(name = "index", defaultPhase = LifecyclePhase.PROCESS_TEST_CLASSES, requiresDependencyResolution = ResolutionScope.TEST)
+public class SerenityIndexMojo extends AbstractMojo {
+
+    /**
+     * The root package of the requirements, if they are defined by the test package structure
+     */
+    @Parameter(property = "serenity.test.root")
+    public String testRoot;
+
+    @Parameter(defaultValue = "${project}")
+    public MavenProject project;
+
+    public void execute() throws MojoExecutionException {
+        getLog().info("Indexing Serenity requirements and tag providers");
+
+        EnvironmentVariables environmentVariables = SystemEnvironmentVariables.currentEnvironmentVariables();
+        String rootPackage = (testRoot != null) ? testRoot : SERENITY_TEST_ROOT.from(environmentVariables);
+
+        ClassLoader originalClassLoader = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader testClassLoader = new URLClassLoader(testClasspath(), getClass().getClassLoader())) {
+            Thread.currentThread().setContextClassLoader(testClassLoader);
+            Path testOutputDirectory = Paths.get(project.getBuild().getTestOutputDirectory());
+            Path indexFile = new ClasspathIndexGenerator(testClassLoader).generate(rootPackage, testOutputDirectory);
+            getLog().debug("Serenity classpath index written to " + indexFile);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Could not write the Serenity classpath index", e);
+        } finally {
+            Thread.currentThread().setContextClassLoader(originalClassLoader);
+        }
+    }
+
+    private URL[] testClasspath() throws MojoExecutionException {
+        List<URL> urls = new ArrayList<>();
+        try {
+            for (String classpathElement : project.getTestClasspathElements()) {
+                urls.add(new File(classpathElement).toURI().toURL());
+            }
+        } catch (DependencyResolutionRequiredException | MalformedURLException e) {
+            throw new MojoExecutionException("Could not resolve the test classpath", e);
+        }
+        return urls.toArray(new URL[0]);
+    }
+}
@@ -0,0 +1,67 @@
+package net.serenitybdd.maven.plugins;
+
+import net.thucydides.model.domain.Story;
+import net.thucydides.model.domain.TestOutcome;
+import net.thucydides.model.reports.json.JSONTestOutcomeReporter;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.project.MavenProject;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WhenExportingTestResults {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    SerenityExportMojo plugin;
+
+    File sourceDirectory;
+    File outputDirectory;
+
+    @Before
+    public void setupPlugin() throws IOException {
+        sourceDirectory = temporaryFolder.newFolder("results");
+        outputDirectory = temporaryFolder.newFolder("exports");
+
+        JSONTestOutcomeReporter reporter = new JSONTestOutcomeReporter();
+        reporter.setOutputDirectory(sourceDirectory);
+        reporter.generateReportFor(TestOutcome.forTestInStory("first test", Story.called("a story")));
+        reporter.generateReportFor(TestOutcome.forTestInStory("second test", Story.called("a story")));
+
+        plugin = new SerenityExportMojo();
+        plugin.sourceDirectory = sourceDirectory;
+        plugin.outputDirectory = outputDirectory;
+        plugin.csvReportName = "results.csv";
+        plugin.project = Mockito.mock(MavenProject.class);
+        plugin.session = Mockito.mock(MavenSession.class);
+        Mockito.when(plugin.project.getBasedir()).thenReturn(temporaryFolder.getRoot());
+        Mockito.when(plugin.session.getCurrentProject()).thenReturn(plugin.project);
+    }
+
+    @Test
+    public void the_csv_and_junit_exports_are_written_in_a_single_pass() throws Exception {
+        plugin.execute();
+
+        File csvReport = new File(outputDirectory, "results.csv");
+        assertThat(csvReport).exists();
+        assertThat(Files.readAllLines(csvReport.toPath(), StandardCharsets.UTF_8)).hasSize(3);
+        assertThat(outputDirectory.list((dir, name) -> name.startsWith("SERENITY-JUNIT-"))).isNotEmpty();
+    }
+
+    @Test
+    public void the_html_report_is_not_generated() throws Exception {
+        plugin.execute();
+
+        assertThat(new File(outputDirectory, "index.html")).doesNotExist();
+    }
+}
@@ -1,6 +1,7 @@
 package net.serenitybdd.maven.plugins;
 
 import net.thucydides.core.reports.html.HtmlAggregateStoryReporter;
+import net.thucydides.model.reports.SharedTestOutcomes;
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.project.MavenProject;
@@ -16,6 +17,7 @@ import java.io.IOException;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 
@@ -66,7 +68,7 @@ public class WhenGeneratingAnAggregateReport {
     public void the_aggregate_report_should_be_generated_using_the_specified_source_directory() throws Exception {
         plugin.execute();
 
-        verify(reporter).generateReportsForTestResultsFrom(outputDirectory);
+        verify(reporter).generateReportsFor(argThat(testOutcomes -> testOutcomes.getSourceDirectory().equals(sourceDirectory)));
     }
 
     @Ignore
@@ -87,7 +89,7 @@ public class WhenGeneratingAnAggregateReport {
 
     @Test(expected = MojoExecutionException.class)
     public void if_the_report_cant_be_written_the_plugin_execution_should_fail() throws Exception {
-        doThrow(new IOException("IO error")).when(reporter).generateReportsForTestResultsFrom(any(File.class));
+        doThrow(new IOException("IO error")).when(reporter).generateReportsFor(any(SharedTestOutcomes.class));
         plugin.execute();
     }
 }
@@ -0,0 +1,89 @@
+package net.serenitybdd.maven.plugins;
+
+import net.serenitybdd.model.index.ClasspathIndex;
+import org.apache.maven.model.Build;
+import org.apache.maven.project.MavenProject;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WhenIndexingTestClasses {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void each_module_in_a_reactor_build_is_indexed_from_its_own_test_classes() throws Exception {
+        MavenProject firstModule = moduleWithTestClass("first", "AddingItemsTest");
+        MavenProject secondModule = moduleWithTestClass("second", "RemovingItemsTest");
+
+        indexTestClassesOf(firstModule);
+        indexTestClassesOf(secondModule);
+
+        assertThat(indexOf(firstModule).getProperty("requirement.paths.samples"))
+                .contains("samples.first.AddingItemsTest")
+                .doesNotContain("RemovingItemsTest");
+        assertThat(indexOf(secondModule).getProperty("requirement.paths.samples"))
+                .contains("samples.second.RemovingItemsTest")
+                .doesNotContain("AddingItemsTest");
+    }
+
+    private void indexTestClassesOf(MavenProject module) throws Exception {
+        SerenityIndexMojo plugin = new SerenityIndexMojo();
+        plugin.project = module;
+        plugin.testRoot = "samples";
+        plugin.execute();
+    }
+
+    private MavenProject moduleWithTestClass(String moduleName, String className) throws Exception {
+        Path sourceDirectory = temporaryFolder.newFolder(moduleName, "src").toPath();
+        Path testClassesDirectory = temporaryFolder.newFolder(moduleName, "test-classes").toPath();
+
+        Path sourceFile = sourceDirectory.resolve(className + ".java");
+        Files.write(sourceFile, ("package samples." + moduleName + ";\n"
+                + "public class " + className + " {\n"
+                + "    @org.junit.Test public void should_do_something() {}\n"
+                + "}\n").getBytes(StandardCharsets.UTF_8));
+        compile(sourceFile, testClassesDirectory);
+
+        MavenProject module = Mockito.mock(MavenProject.class);
+        Build build = Mockito.mock(Build.class);
+        Mockito.when(module.getBuild()).thenReturn(build);
+        Mockito.when(build.getTestOutputDirectory()).thenReturn(testClassesDirectory.toString());
+        Mockito.when(module.getTestClasspathElements()).thenReturn(Collections.singletonList(testClassesDirectory.toString()));
+        return module;
+    }
+
+    private void compile(Path sourceFile, Path outputDirectory) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        int result = compiler.run(null, null, null,
+                "-classpath", System.getProperty("java.class.path"),
+                "-d", outputDirectory.toString(),
+                sourceFile.toString());
+        assertThat(result).isZero();
+    }
+
+    private Properties indexOf(MavenProject module) throws IOException {
+        File indexFile = new File(module.getBuild().getTestOutputDirectory(), ClasspathIndex.INDEX_RESOURCE);
+        assertThat(indexFile).exists();
+        Properties index = new Properties();
+        try (InputStream in = Files.newInputStream(indexFile.toPath())) {
+            index.load(in);
+        }
+        return index;
+    }
+}
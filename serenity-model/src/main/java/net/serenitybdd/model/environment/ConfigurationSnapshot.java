@@ -0,0 +1,74 @@
+package net.serenitybdd.model.environment;
+
+import net.thucydides.model.ThucydidesSystemProperty;
+import net.thucydides.model.util.EnvironmentVariables;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A compiled view of the Serenity configuration defined in a set of environment variables.
+ * <p>
+ * The environment strategy (which environments are active, and whether the default or 'all' environments apply)
+ * is worked out once per set of environment variables, and the value of each {@link ThucydidesSystemProperty},
+ * with environment prefixes and #{...} expressions resolved, is stored the first time it is read in a flat table
+ * indexed by the property's ordinal. Later lookups, such as the ones made for every step or screenshot, are
+ * simple array reads.
+ * </p>
+ * <p>
+ * Each set of environment variables holds its own snapshot (see {@link EnvironmentVariables#configurationSnapshot()}),
+ * so a snapshot lives exactly as long as the environment variables it was compiled from. Snapshots are shared
+ * between callers, so they must be invalidated whenever the underlying properties change.
+ * The {@link EnvironmentVariables} implementations do this in {@code setProperty}, {@code setProperties},
+ * {@code clearProperty} and {@code setConfig}; code that modifies the property map directly should call
+ * {@link #invalidate(EnvironmentVariables)} itself.
+ * </p>
+ */
+public class ConfigurationSnapshot {
+
+    private static final int PROPERTY_COUNT = ThucydidesSystemProperty.values().length;
+
+    private final EnvironmentSpecificConfiguration configuration;
+    private final AtomicReferenceArray<Optional<String>> resolvedValues = new AtomicReferenceArray<>(PROPERTY_COUNT);
+
+    private ConfigurationSnapshot(EnvironmentVariables environmentVariables) {
+        this.configuration = new EnvironmentSpecificConfiguration(environmentVariables);
+    }
+
+    public static ConfigurationSnapshot of(EnvironmentVariables environmentVariables) {
+        return environmentVariables.configurationSnapshot();
+    }
+
+    /**
+     * Compile a new snapshot. Use {@link #of(EnvironmentVariables)} to get the snapshot shared by other callers.
+     */
+    public static ConfigurationSnapshot compiledFrom(EnvironmentVariables environmentVariables) {
+        return new ConfigurationSnapshot(environmentVariables);
+    }
+
+    /**
+     * Discard the snapshot compiled for these environment variables, so that it is rebuilt on the next lookup.
+     */
+    public static void invalidate(EnvironmentVariables environmentVariables) {
+        if (environmentVariables != null) {
+            environmentVariables.invalidateConfigurationSnapshot();
+        }
+    }
+
+    public EnvironmentSpecificConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * The value of a property for the active environment, with any #{...} expressions substituted.
+     * Legacy 'thucydides.*' names are not considered here.
+     */
+    public Optional<String> valueOf(ThucydidesSystemProperty property) {
+        Optional<String> value = resolvedValues.get(property.ordinal());
+        if (value == null) {
+            value = configuration.getOptionalProperty(property.preferredName());
+            resolvedValues.set(property.ordinal(), value);
+        }
+        return value;
+    }
+}
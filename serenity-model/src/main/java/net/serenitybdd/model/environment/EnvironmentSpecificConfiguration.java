@@ -7,8 +7,10 @@ import net.thucydides.model.util.EnvironmentVariables;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -81,14 +83,19 @@ public class EnvironmentSpecificConfiguration {
     }
 
     private static final String ENVIRONMENT_PREFIX = "environments\\.([^.]*)\\.";
-    private final Pattern ENV_PREFIX_REGEX = Pattern.compile(ENVIRONMENT_PREFIX);
+    private static final Pattern ENV_PREFIX_REGEX = Pattern.compile(ENVIRONMENT_PREFIX);
+
+    /**
+     * Property prefixes come from a small, fixed set of call sites, so the patterns are compiled once per prefix.
+     */
+    private static final Map<String, Pattern> ENVIRONMENT_SPECIFIC_PREFIX_PATTERNS = new ConcurrentHashMap<>();
 
     private boolean isEnvironmentSpecific(String key) {
         return ENV_PREFIX_REGEX.matcher(key).find();
     }
 
     private String stripEnvironmentPrefixFrom(String key) {
-        return key.replaceFirst(ENVIRONMENT_PREFIX, "");
+        return ENV_PREFIX_REGEX.matcher(key).replaceFirst("");
     }
 
     private String stripPrefixFrom(String key, String prefix) {
@@ -96,9 +103,12 @@ public class EnvironmentSpecificConfiguration {
     }
 
     private boolean propertyHasPrefix(String key, String prefix) {
-        String regexPrefix = prefix.replaceAll("\\.", "\\\\.");
-        Pattern propertyWithPrefix = Pattern.compile("environments\\.([^.]*)\\." + regexPrefix + "(.*)");
-        return key.startsWith(prefix) || propertyWithPrefix.matcher(key).matches();
+        if (key.startsWith(prefix)) {
+            return true;
+        }
+        Pattern propertyWithPrefix = ENVIRONMENT_SPECIFIC_PREFIX_PATTERNS.computeIfAbsent(prefix,
+                unqualifiedPrefix -> Pattern.compile("environments\\.([^.]*)\\." + unqualifiedPrefix.replaceAll("\\.", "\\\\.") + "(.*)"));
+        return propertyWithPrefix.matcher(key).matches();
     }
 
     public Config getConfig(String prefix) {
@@ -295,11 +305,11 @@ public class EnvironmentSpecificConfiguration {
         return !this.getPropertiesWithPrefix(propertyGroupName).isEmpty();
     }
 
-    private final Pattern VARIABLE_EXPRESSION_PATTERN = Pattern.compile("#\\{([^}]*)}");
+    private static final Pattern VARIABLE_EXPRESSION_PATTERN = Pattern.compile("#\\{([^}]*)}");
 
     private String substituteProperties(String propertyValue) {
-        if (propertyValue == null) {
-            return null;
+        if (propertyValue == null || !propertyValue.contains("#{")) {
+            return propertyValue;
         }
 
         Matcher matcher = VARIABLE_EXPRESSION_PATTERN.matcher(propertyValue);
@@ -336,8 +346,13 @@ public class EnvironmentSpecificConfiguration {
     }
 
 
+    /**
+     * The shared configuration for these environment variables, compiled once and reused until the properties change.
+     *
+     * @see ConfigurationSnapshot
+     */
     public static EnvironmentSpecificConfiguration from(EnvironmentVariables environmentVariables) {
-        return new EnvironmentSpecificConfiguration(environmentVariables);
+        return ConfigurationSnapshot.of(environmentVariables).getConfiguration();
     }
 
     private EnvironmentStrategy environmentStrategyDefinedIn(EnvironmentVariables environmentVariables) {
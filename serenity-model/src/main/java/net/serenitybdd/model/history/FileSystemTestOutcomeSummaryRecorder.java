@@ -2,9 +2,6 @@ package net.serenitybdd.model.history;
 
 
 import net.serenitybdd.model.collect.NewMap;
-import net.thucydides.model.domain.ReportNamer;
-import net.thucydides.model.domain.ReportType;
-import net.thucydides.model.domain.TestOutcome;
 import net.thucydides.model.environment.SystemEnvironmentVariables;
 import net.thucydides.model.reports.AcceptanceTestLoader;
 import net.thucydides.model.reports.json.JSONTestOutcomeReporter;
@@ -21,6 +18,7 @@ import java.nio.file.Paths;
 import java.util.*;
 
 import static net.thucydides.model.ThucydidesSystemProperty.SERENITY_HISTORY_DIRECTORY;
+import static net.thucydides.model.ThucydidesSystemProperty.SERENITY_HISTORY_MAX_RUNS;
 
 public class FileSystemTestOutcomeSummaryRecorder implements TestOutcomeSummaryRecorder {
 
@@ -28,8 +26,13 @@ public class FileSystemTestOutcomeSummaryRecorder implements TestOutcomeSummaryR
     private final Boolean deletePreviousHistory;
     private final AcceptanceTestLoader testOutcomeReporter = new JSONTestOutcomeReporter();
     private final GsonPreviousOutcomeConverter previousOutcomeConverter;
+    private final TestOutcomeHistoryStore historyStore;
+    private final int maxRuns;
     private static final Logger LOGGER = LoggerFactory.getLogger(FileSystemTestOutcomeSummaryRecorder.class);
 
+    private static final int DEFAULT_MAX_RUNS = 30;
+    private static final String LEGACY_SUMMARY_FILES = "summary-*.json";
+
     private static final Map<Boolean, PrepareHistoryDirectory> DELETE_STRATEGY =
             NewMap.of(
                     false, new LeaveDirectoryContents(),
@@ -48,7 +51,10 @@ public class FileSystemTestOutcomeSummaryRecorder implements TestOutcomeSummaryR
     public FileSystemTestOutcomeSummaryRecorder(Path historyDirectory, Boolean deletePreviousHistory) {
         this.historyDirectory = historyDirectory;
         this.deletePreviousHistory = Optional.ofNullable(deletePreviousHistory).orElse(false);
-        previousOutcomeConverter = new GsonPreviousOutcomeConverter(SystemEnvironmentVariables.currentEnvironmentVariables());
+        this.historyStore = new TestOutcomeHistoryStore(historyDirectory);
+        EnvironmentVariables environmentVariables = SystemEnvironmentVariables.currentEnvironmentVariables();
+        this.previousOutcomeConverter = new GsonPreviousOutcomeConverter(environmentVariables);
+        this.maxRuns = SERENITY_HISTORY_MAX_RUNS.integerFrom(environmentVariables, DEFAULT_MAX_RUNS);
     }
 
     @Override
@@ -58,45 +64,82 @@ public class FileSystemTestOutcomeSummaryRecorder implements TestOutcomeSummaryR
 
             usingDeleteStrategyFor(deletePreviousHistory).prepareHistoryDirectory(historyDirectory);
 
+            migrateLegacySummaries();
+
+            List<PreviousTestOutcome> summaries = new ArrayList<>();
             for (Path path : directoryStream) {
-                storeOutcomesFrom(testOutcomeReporter.loadReportFrom(path).map(Collections::singleton).orElse(Collections.emptySet()));
+                testOutcomeReporter.loadReportFrom(path).map(PreviousTestOutcome::from).ifPresent(summaries::add);
             }
+            historyStore.appendRun(summaries);
+            historyStore.compact(maxRuns);
         } catch (IOException ex) {
             LOGGER.warn("Unable to store test outcome for posterity", ex);
         }
     }
 
-    private void storeOutcomesFrom(Set<TestOutcome> testOutcomes) throws IOException {
-        for (TestOutcome testOutcome : testOutcomes) {
-            PreviousTestOutcome summary = PreviousTestOutcome.from(testOutcome);
-            File summaryFile = summaryFileFor(testOutcome);
-
-            Files.createDirectories(summaryFile.toPath().getParent());
+    @Override
+    public List<PreviousTestOutcome> loadSummaries() {
+        Map<String, PreviousTestOutcome> previousTestOutcomes = new HashMap<>();
 
-            try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(summaryFile))) {
-                previousOutcomeConverter.toJson(summary, outputStream);
-                outputStream.flush();
+        if (Files.exists(historyDirectory)) {
+            try {
+                legacySummaries().forEach(outcome -> previousTestOutcomes.put(outcome.getId(), outcome));
+                previousTestOutcomes.putAll(historyStore.latestOutcomes());
+            } catch (IOException ex) {
+                LOGGER.warn("Unable to load previous test outcomes", ex);
             }
         }
+
+        return new ArrayList<>(previousTestOutcomes.values());
     }
 
     @Override
-    public List<PreviousTestOutcome> loadSummaries() {
-        List<PreviousTestOutcome> previousTestOutcomes = new ArrayList<>();
-
+    public Map<String, List<PreviousTestOutcome>> loadHistory() {
+        if (!Files.exists(historyDirectory)) {
+            return new HashMap<>();
+        }
+        try {
+            Map<String, List<PreviousTestOutcome>> history = new HashMap<>();
+            legacySummaries().forEach(outcome -> history.computeIfAbsent(outcome.getId(), id -> new ArrayList<>()).add(outcome));
+            historyStore.outcomeHistory().forEach(
+                    (id, outcomes) -> history.computeIfAbsent(id, key -> new ArrayList<>()).addAll(outcomes)
+            );
+            return history;
+        } catch (IOException ex) {
+            LOGGER.warn("Unable to load previous test outcomes", ex);
+            return new HashMap<>();
+        }
+    }
 
-        if (Files.exists(historyDirectory)) {
-            try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(historyDirectory)) {
-                for (Path path : directoryStream) {
-                    previousTestOutcomesFrom(path).ifPresent(
-                            outcome -> previousTestOutcomes.add(outcome)
-                    );
-                }
-            } catch (IOException ex) {
-                LOGGER.warn("Unable to store test outcome for posterity", ex);
+    /**
+     * Move summaries recorded by earlier versions into the history store, as the oldest recorded run.
+     */
+    private void migrateLegacySummaries() throws IOException {
+        if (!Files.exists(historyDirectory)) {
+            return;
+        }
+        List<PreviousTestOutcome> legacySummaries = legacySummaries();
+        if (legacySummaries.isEmpty()) {
+            return;
+        }
+        historyStore.appendRun(legacySummaries);
+        try (DirectoryStream<Path> legacyFiles = Files.newDirectoryStream(historyDirectory, LEGACY_SUMMARY_FILES)) {
+            for (Path legacyFile : legacyFiles) {
+                Files.deleteIfExists(legacyFile);
             }
         }
+    }
 
+    /**
+     * Summaries recorded by earlier versions, as one JSON file per test outcome.
+     */
+    private List<PreviousTestOutcome> legacySummaries() throws IOException {
+        List<PreviousTestOutcome> previousTestOutcomes = new ArrayList<>();
+        try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(historyDirectory, LEGACY_SUMMARY_FILES)) {
+            for (Path path : directoryStream) {
+                previousTestOutcomesFrom(path).ifPresent(previousTestOutcomes::add);
+            }
+        }
         return previousTestOutcomes;
     }
 
@@ -112,9 +155,4 @@ public class FileSystemTestOutcomeSummaryRecorder implements TestOutcomeSummaryR
         return DELETE_STRATEGY.get(deletePreviousHistory);
     }
 
-    private File summaryFileFor(TestOutcome testOutcome) {
-        String summaryFilename = ReportNamer.forReportType(ReportType.JSON).withPrefix("summary-").getNormalizedReportNameFor(testOutcome);
-        return historyDirectory.resolve(summaryFilename).toFile();
-    }
-
 }
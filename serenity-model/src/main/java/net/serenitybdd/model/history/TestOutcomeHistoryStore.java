@@ -0,0 +1,215 @@
+package net.serenitybdd.model.history;
+
+import net.thucydides.model.domain.TestResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An append-only store of test outcome summaries, with one compact segment file per recorded run.
+ * <p>
+ * Each call to {@link #appendRun(Collection)} writes a single new segment rather than one file per test, and
+ * segments are never modified once written. Segments are memory-mapped when they are read, and indexed by test id,
+ * so the latest known outcome of a test, or its outcomes over every retained run, can be looked up directly.
+ * When more than the configured number of runs have been recorded, {@link #compact(int)} folds the oldest segments
+ * into a single baseline segment that keeps the latest outcome of each test they contain.
+ * </p>
+ */
+public class TestOutcomeHistoryStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TestOutcomeHistoryStore.class);
+
+    static final String SEGMENT_SUFFIX = ".history";
+    private static final String RUN_PREFIX = "run-";
+    private static final String BASELINE_SEGMENT = RUN_PREFIX + "000000000000000-baseline" + SEGMENT_SUFFIX;
+
+    private static final int MAGIC = 0x53484953;
+    private static final short FORMAT_VERSION = 1;
+    private static final int NO_VALUE = -1;
+
+    private static final AtomicInteger RUN_COUNTER = new AtomicInteger();
+
+    private final Path historyDirectory;
+
+    public TestOutcomeHistoryStore(Path historyDirectory) {
+        this.historyDirectory = historyDirectory;
+    }
+
+    /**
+     * Record the outcomes of a run as a new segment.
+     */
+    public void appendRun(Collection<PreviousTestOutcome> outcomes) throws IOException {
+        if (outcomes.isEmpty()) {
+            return;
+        }
+        String segmentName = String.format("%s%015d-%04d-%s%s",
+                RUN_PREFIX,
+                System.currentTimeMillis(),
+                RUN_COUNTER.incrementAndGet() % 10000,
+                Long.toHexString(System.nanoTime()),
+                SEGMENT_SUFFIX);
+        writeSegment(historyDirectory.resolve(segmentName), outcomes);
+    }
+
+    /**
+     * The segment files, oldest first: segment names start with the time at which they were recorded.
+     */
+    List<Path> segments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+        if (!Files.isDirectory(historyDirectory)) {
+            return segments;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(historyDirectory, RUN_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            files.forEach(segments::add);
+        }
+        segments.sort(Comparator.comparing(segment -> segment.getFileName().toString()));
+        return segments;
+    }
+
+    public int getRunCount() throws IOException {
+        return segments().size();
+    }
+
+    /**
+     * The most recent recorded outcome of each test, indexed by test id.
+     */
+    public Map<String, PreviousTestOutcome> latestOutcomes() throws IOException {
+        Map<String, PreviousTestOutcome> latestOutcomes = new HashMap<>();
+        for (Path segment : segments()) {
+            for (PreviousTestOutcome outcome : mappedSegment(segment)) {
+                latestOutcomes.put(outcome.getId(), outcome);
+            }
+        }
+        return latestOutcomes;
+    }
+
+    /**
+     * The recorded outcomes of every test over the retained runs, oldest first, indexed by test id.
+     */
+    public Map<String, List<PreviousTestOutcome>> outcomeHistory() throws IOException {
+        Map<String, List<PreviousTestOutcome>> history = new HashMap<>();
+        for (Path segment : segments()) {
+            for (PreviousTestOutcome outcome : mappedSegment(segment)) {
+                history.computeIfAbsent(outcome.getId(), id -> new ArrayList<>()).add(outcome);
+            }
+        }
+        return history;
+    }
+
+    /**
+     * Fold the oldest segments into the baseline segment, so that no more than {@code maxRuns} runs are kept
+     * (the baseline counts as one of them). The latest outcome of each test is never lost.
+     */
+    public void compact(int maxRuns) throws IOException {
+        List<Path> segments = segments();
+        if (maxRuns < 1 || segments.size() <= maxRuns) {
+            return;
+        }
+        List<Path> foldedSegments = segments.subList(0, segments.size() - maxRuns + 1);
+        Map<String, PreviousTestOutcome> baseline = new LinkedHashMap<>();
+        for (Path segment : foldedSegments) {
+            // Segments that are about to be deleted are not memory-mapped: some platforms cannot delete mapped files
+            for (PreviousTestOutcome outcome : readSegment(ByteBuffer.wrap(Files.readAllBytes(segment)), segment)) {
+                baseline.put(outcome.getId(), outcome);
+            }
+        }
+        writeSegment(historyDirectory.resolve(BASELINE_SEGMENT), baseline.values());
+        for (Path segment : foldedSegments) {
+            if (!segment.getFileName().toString().equals(BASELINE_SEGMENT)) {
+                Files.deleteIfExists(segment);
+            }
+        }
+        LOGGER.debug("Compacted {} history segments into {}", foldedSegments.size(), BASELINE_SEGMENT);
+    }
+
+    private void writeSegment(Path segment, Collection<PreviousTestOutcome> outcomes) throws IOException {
+        Files.createDirectories(historyDirectory);
+        Path temporaryFile = Files.createTempFile(historyDirectory, "segment", ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                out.writeInt(MAGIC);
+                out.writeShort(FORMAT_VERSION);
+                out.writeInt(outcomes.size());
+                for (PreviousTestOutcome outcome : outcomes) {
+                    writeString(out, outcome.getId());
+                    writeString(out, outcome.getName());
+                    writeString(out, outcome.getResult() == null ? null : outcome.getResult().name());
+                    writeString(out, outcome.getTestFailureSummary());
+                }
+            }
+            Files.move(temporaryFile, segment, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NO_VALUE);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private List<PreviousTestOutcome> mappedSegment(Path segment) {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return readSegment(buffer, segment);
+        } catch (IOException e) {
+            LOGGER.warn("Could not read history segment {}: {}", segment, e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    private List<PreviousTestOutcome> readSegment(ByteBuffer buffer, Path segment) {
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getShort() != FORMAT_VERSION) {
+                LOGGER.warn("Ignoring history segment {} with an unknown format", segment);
+                return Collections.emptyList();
+            }
+            int count = buffer.getInt();
+            List<PreviousTestOutcome> outcomes = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String id = readString(buffer);
+                String name = readString(buffer);
+                String result = readString(buffer);
+                String testFailureSummary = readString(buffer);
+                outcomes.add(new PreviousTestOutcome(id, name, resultFrom(result), testFailureSummary));
+            }
+            return outcomes;
+        } catch (RuntimeException e) {
+            LOGGER.warn("Ignoring truncated or corrupted history segment {}", segment);
+            return Collections.emptyList();
+        }
+    }
+
+    private String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NO_VALUE) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private TestResult resultFrom(String result) {
+        return (result == null) ? null : TestResult.valueOf(result);
+    }
+}
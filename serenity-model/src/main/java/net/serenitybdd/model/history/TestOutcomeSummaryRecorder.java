@@ -1,10 +1,24 @@
 package net.serenitybdd.model.history;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public interface TestOutcomeSummaryRecorder {
     void recordOutcomeSummariesFrom(Path sourceDirectory);
 
     List<PreviousTestOutcome> loadSummaries();
+
+    /**
+     * The recorded outcomes of each test over the retained runs, oldest first, indexed by test id.
+     */
+    default Map<String, List<PreviousTestOutcome>> loadHistory() {
+        Map<String, List<PreviousTestOutcome>> history = new LinkedHashMap<>();
+        for (PreviousTestOutcome outcome : loadSummaries()) {
+            history.computeIfAbsent(outcome.getId(), id -> new ArrayList<>()).add(outcome);
+        }
+        return history;
+    }
 }
@@ -0,0 +1,99 @@
+package net.serenitybdd.model.index;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * A hash of the names, sizes and modification times of the class files under a package.
+ * <p>
+ * It is recorded in the {@link ClasspathIndex} when the index is generated, and compared at runtime, so that an index
+ * left over from an earlier build is not used once test classes have been added, removed or recompiled. Listing the
+ * class files is much cheaper than the full classpath scan the index replaces, as no class file is read.
+ * </p>
+ */
+class ClassFileFingerprint {
+
+    private static final String CLASS_SUFFIX = ".class";
+
+    private ClassFileFingerprint() {
+    }
+
+    static String of(ClassLoader classLoader, String rootPackage) throws IOException {
+        String packagePath = rootPackage.replace('.', '/');
+        List<String> classFiles = new ArrayList<>();
+        Enumeration<URL> packageLocations = classLoader.getResources(packagePath);
+        while (packageLocations.hasMoreElements()) {
+            URL packageLocation = packageLocations.nextElement();
+            if ("file".equals(packageLocation.getProtocol())) {
+                addClassFilesInDirectory(toPath(packageLocation), packagePath, classFiles);
+            } else if ("jar".equals(packageLocation.getProtocol())) {
+                addClassFilesInJar(packageLocation, packagePath, classFiles);
+            }
+        }
+        Collections.sort(classFiles);
+
+        MessageDigest digest = DigestUtils.getSha256Digest();
+        for (String classFile : classFiles) {
+            digest.update(classFile.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+        }
+        return Hex.encodeHexString(digest.digest());
+    }
+
+    private static Path toPath(URL packageLocation) throws IOException {
+        try {
+            return Paths.get(packageLocation.toURI());
+        } catch (URISyntaxException e) {
+            throw new IOException("Invalid class path location " + packageLocation, e);
+        }
+    }
+
+    private static void addClassFilesInDirectory(Path packageDirectory, String packagePath, List<String> classFiles) throws IOException {
+        try (Stream<Path> files = Files.walk(packageDirectory)) {
+            for (Path file : (Iterable<Path>) files.filter(path -> path.toString().endsWith(CLASS_SUFFIX))::iterator) {
+                String name = packagePath + "/" + packageDirectory.relativize(file).toString().replace('\\', '/');
+                classFiles.add(entryFor(name, Files.size(file), Files.getLastModifiedTime(file).toMillis()));
+            }
+        }
+    }
+
+    private static void addClassFilesInJar(URL packageLocation, String packagePath, List<String> classFiles) throws IOException {
+        URLConnection connection = packageLocation.openConnection();
+        if (!(connection instanceof JarURLConnection)) {
+            return;
+        }
+        JarURLConnection jarConnection = (JarURLConnection) connection;
+        jarConnection.setUseCaches(false);
+        try (JarFile jar = jarConnection.getJarFile()) {
+            Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                if (entry.getName().startsWith(packagePath + "/") && entry.getName().endsWith(CLASS_SUFFIX)) {
+                    classFiles.add(entryFor(entry.getName(), entry.getSize(), entry.getTime()));
+                }
+            }
+        }
+    }
+
+    private static String entryFor(String name, long size, long lastModified) {
+        return name + "|" + size + "|" + lastModified;
+    }
+}
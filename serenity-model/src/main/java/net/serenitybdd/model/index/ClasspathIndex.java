@@ -0,0 +1,118 @@
+package net.serenitybdd.model.index;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.MapMaker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An index of the requirements and tag provider strategies of a test project, generated at build time by the
+ * {@code serenity:index} Maven goal (see {@link ClasspathIndexGenerator}).
+ * <p>
+ * When the index is present on the classpath, the requirement paths and tag provider strategies are read from it
+ * rather than by scanning the classpath, which otherwise has to be done again in every forked test JVM.
+ * If the index is missing, does not cover the requested root package, or was generated before the classes under that
+ * package last changed, callers fall back to scanning.
+ * </p>
+ */
+public class ClasspathIndex {
+
+    public static final String INDEX_RESOURCE = "META-INF/serenity/classpath-index.properties";
+
+    static final String REQUIREMENT_PATHS = "requirement.paths.";
+    static final String REQUIREMENT_FINGERPRINT = "requirement.fingerprint.";
+    static final String TAG_PROVIDER_STRATEGIES = "tag.provider.strategies";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClasspathIndex.class);
+
+    private static final Splitter ENTRY_SPLITTER = Splitter.on(",").trimResults().omitEmptyStrings();
+
+    private static final Map<ClassLoader, Optional<ClasspathIndex>> INDEXES = new MapMaker().weakKeys().makeMap();
+
+    private final Properties entries;
+    private final WeakReference<ClassLoader> classLoader;
+    private final Map<String, Boolean> upToDatePackages = new ConcurrentHashMap<>();
+
+    ClasspathIndex(Properties entries, ClassLoader classLoader) {
+        this.entries = entries;
+        this.classLoader = new WeakReference<>(classLoader);
+    }
+
+    /**
+     * The index visible to the current thread's context class loader, if one has been generated.
+     */
+    public static Optional<ClasspathIndex> onTheClasspath() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = ClasspathIndex.class.getClassLoader();
+        }
+        return INDEXES.computeIfAbsent(classLoader, ClasspathIndex::loadFrom);
+    }
+
+    static Optional<ClasspathIndex> loadFrom(ClassLoader classLoader) {
+        URL indexResource = classLoader.getResource(INDEX_RESOURCE);
+        if (indexResource == null) {
+            return Optional.empty();
+        }
+        try (InputStream in = indexResource.openStream()) {
+            Properties entries = new Properties();
+            entries.load(in);
+            LOGGER.debug("Using Serenity classpath index at {}", indexResource);
+            return Optional.of(new ClasspathIndex(entries, classLoader));
+        } catch (IOException e) {
+            LOGGER.warn("Could not read the Serenity classpath index at {}: {}", indexResource, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * The classes and packages representing requirements under a root package, if the index was built for that package
+     * and the class files under it have not changed since.
+     */
+    public Optional<List<String>> requirementPathsFor(String rootPackage) {
+        if (!upToDatePackages.computeIfAbsent(rootPackage, this::isUpToDateFor)) {
+            return Optional.empty();
+        }
+        return entryList(REQUIREMENT_PATHS + rootPackage);
+    }
+
+    private boolean isUpToDateFor(String rootPackage) {
+        String indexedFingerprint = entries.getProperty(REQUIREMENT_FINGERPRINT + rootPackage);
+        ClassLoader indexedClassLoader = classLoader.get();
+        if (indexedFingerprint == null || indexedClassLoader == null) {
+            return false;
+        }
+        try {
+            if (indexedFingerprint.equals(ClassFileFingerprint.of(indexedClassLoader, rootPackage))) {
+                return true;
+            }
+            LOGGER.debug("The Serenity classpath index is out of date for {}: scanning the classpath instead", rootPackage);
+        } catch (IOException e) {
+            LOGGER.debug("Could not check the Serenity classpath index for {}: {}", rootPackage, e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * The class names of the registered {@link net.thucydides.model.statistics.service.TagProviderStrategy}
+     * implementations, in service loader order.
+     */
+    public Optional<List<String>> tagProviderStrategies() {
+        return entryList(TAG_PROVIDER_STRATEGIES);
+    }
+
+    private Optional<List<String>> entryList(String key) {
+        String value = entries.getProperty(key);
+        return (value == null) ? Optional.empty() : Optional.of(ENTRY_SPLITTER.splitToList(value));
+    }
+}
@@ -0,0 +1,60 @@
+package net.serenitybdd.model.index;
+
+import net.thucydides.model.requirements.classpath.RequirementPathScanner;
+import net.thucydides.model.statistics.service.TagProviderStrategy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.ServiceLoader;
+import java.util.stream.Collectors;
+
+import static org.apache.commons.lang3.StringUtils.isNotEmpty;
+
+/**
+ * Writes a {@link ClasspathIndex} for a test project, by scanning its classes once at build time.
+ */
+public class ClasspathIndexGenerator {
+
+    private final ClassLoader classLoader;
+
+    public ClasspathIndexGenerator(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Write the index under the given output directory, typically the project's test output directory.
+     *
+     * @param rootPackage the root package of the requirements, as defined by serenity.test.root (may be empty)
+     * @return the path of the index file
+     */
+    public Path generate(String rootPackage, Path outputDirectory) throws IOException {
+        Properties index = new Properties();
+        if (isNotEmpty(rootPackage)) {
+            List<String> requirementPaths = RequirementPathScanner.using(classLoader).requirementPathsIn(rootPackage);
+            index.setProperty(ClasspathIndex.REQUIREMENT_PATHS + rootPackage, String.join(",", requirementPaths));
+            index.setProperty(ClasspathIndex.REQUIREMENT_FINGERPRINT + rootPackage, ClassFileFingerprint.of(classLoader, rootPackage));
+        }
+        index.setProperty(ClasspathIndex.TAG_PROVIDER_STRATEGIES, String.join(",", tagProviderStrategyNames()));
+
+        Path indexFile = outputDirectory.resolve(ClasspathIndex.INDEX_RESOURCE);
+        Files.createDirectories(indexFile.getParent());
+        try (OutputStream out = Files.newOutputStream(indexFile)) {
+            index.store(out, "Serenity classpath index");
+        }
+        return indexFile;
+    }
+
+    /**
+     * Only the provider classes are recorded: the strategies themselves are not instantiated at build time.
+     */
+    private List<String> tagProviderStrategyNames() {
+        return ServiceLoader.load(TagProviderStrategy.class, classLoader).stream()
+                .map(provider -> provider.type().getName())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+}
@@ -1,5 +1,8 @@
 package net.serenitybdd.model.rest;
 
+import net.thucydides.model.reports.json.SidecarContentStore;
+
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -20,9 +23,18 @@ public class RestQuery {
     private final String responseBody;
     private final Integer statusCode;
 
+    /**
+     * References to bodies stored in a {@link SidecarContentStore} rather than inline
+     */
+    private final String contentReference;
+    private final String responseBodyReference;
+
+    private transient SidecarContentStore sidecarStore;
+
     private RestQuery(RestMethod method, String path, List<Object> parameters, Map<String, ?> parameterMap,
                       String content, String contentType, String responseBody, Integer statusCode,
-                      String requestHeaders, String requestCookies, String responseHeaders, String responseCookies) {
+                      String requestHeaders, String requestCookies, String responseHeaders, String responseCookies,
+                      String contentReference, String responseBodyReference) {
         this.method = method;
         this.path = path;
         this.parameters = Optional.ofNullable(parameters);
@@ -35,61 +47,62 @@ public class RestQuery {
         this.requestCookies = requestCookies;
         this.responseHeaders = responseHeaders;
         this.responseCookies = responseCookies;
-
+        this.contentReference = contentReference;
+        this.responseBodyReference = responseBodyReference;
     }
 
     public RestQuery(RestMethod method, String path) {
-        this(method, path, null, null, null, null, null, null, null, null, null, null);
+        this(method, path, null, null, null, null, null, null, null, null, null, null, null, null);
     }
 
 
     public RestQuery withParameters(List<Object> parameters) {
         return new RestQuery(method, path, parameters, null, content, contentType, responseBody, statusCode,
-                requestHeaders, requestCookies, responseHeaders, responseCookies);
+                requestHeaders, requestCookies, responseHeaders, responseCookies, contentReference, responseBodyReference);
     }
 
     public RestQuery withParameters( Map<String, ?> parameterMap) {
         return new RestQuery(method, path, null, parameterMap, content, contentType, responseBody, statusCode,
-                requestHeaders, requestCookies, responseHeaders, responseCookies);
+                requestHeaders, requestCookies, responseHeaders, responseCookies, contentReference, responseBodyReference);
     }
 
     public RestQuery withResponse(String responseBody) {
         return new RestQuery(method, path, parameters.orElse(null), parameterMap.orElse(null), content, contentType,
-                responseBody, statusCode, requestHeaders, requestCookies, responseHeaders, responseCookies);
+                responseBody, statusCode, requestHeaders, requestCookies, responseHeaders, responseCookies, contentReference, responseBodyReference);
     }
 
     public RestQuery withStatusCode(Integer statusCode) {
         return new RestQuery(method, path, parameters.orElse(null), parameterMap.orElse(null), content, contentType,
-                responseBody, statusCode, requestHeaders, requestCookies, responseHeaders, responseCookies);
+                responseBody, statusCode, requestHeaders, requestCookies, responseHeaders, responseCookies, contentReference, responseBodyReference);
     }
 
     public RestQuery withContent(String content) {
         return new RestQuery(method, path, parameters.orElse(null), parameterMap.orElse(null), content, contentType,
-                responseBody, statusCode, requestHeaders, requestCookies, responseHeaders, responseCookies);
+                responseBody, statusCode, requestHeaders, requestCookies, responseHeaders, responseCookies, contentReference, responseBodyReference);
     }
 
     public RestQuery withContentType(String contentType) {
         return new RestQuery(method, path, parameters.orElse(null), parameterMap.orElse(null), content, contentType,
-                responseBody, statusCode, requestHeaders, requestCookies, responseHeaders, responseCookies);
+                responseBody, statusCode, requestHeaders, requestCookies, responseHeaders, responseCookies, contentReference, responseBodyReference);
     }
 
     public RestQuery withResponseCookies(String responseCookies) {
         return new RestQuery(method, path, parameters.orElse(null), parameterMap.orElse(null), content, contentType,
-                responseBody, statusCode, requestHeaders, requestCookies, responseHeaders, responseCookies);
+                responseBody, statusCode, requestHeaders, requestCookies, responseHeaders, responseCookies, contentReference, responseBodyReference);
     }
 
     public RestQuery withResponseHeaders(String responseHeaders) {
         return new RestQuery(method, path, parameters.orElse(null), parameterMap.orElse(null), content, contentType,
-                responseBody, statusCode, requestHeaders, requestCookies, responseHeaders, responseCookies);
+                responseBody, statusCode, requestHeaders, requestCookies, responseHeaders, responseCookies, contentReference, responseBodyReference);
     }
     public RestQuery withRequestCookies(String requestCookies) {
         return new RestQuery(method, path, parameters.orElse(null), parameterMap.orElse(null), content, contentType,
-                responseBody, statusCode, requestHeaders, requestCookies, responseHeaders, responseCookies);
+                responseBody, statusCode, requestHeaders, requestCookies, responseHeaders, responseCookies, contentReference, responseBodyReference);
     }
 
     public RestQuery withRequestHeaders(String requestHeaders) {
         return new RestQuery(method, path, parameters.orElse(null), parameterMap.orElse(null), content, contentType,
-                responseBody, statusCode, requestHeaders, requestCookies, responseHeaders, responseCookies);
+                responseBody, statusCode, requestHeaders, requestCookies, responseHeaders, responseCookies, contentReference, responseBodyReference);
     }
 
     public RestMethod getMethod() {
@@ -109,13 +122,50 @@ public class RestQuery {
     }
 
     public String getResponseBody() {
+        if (responseBody == null && responseBodyReference != null && sidecarStore != null) {
+            return sidecarStore.read(responseBodyReference);
+        }
         return responseBody;
     }
 
     public String getContent() {
+        if (content == null && contentReference != null && sidecarStore != null) {
+            return sidecarStore.read(contentReference);
+        }
         return content;
     }
 
+    /**
+     * Move request and response bodies longer than the given threshold to the sidecar store,
+     * keeping only a reference to them in this query.
+     */
+    public RestQuery withBodiesStoredIn(SidecarContentStore store, int threshold) throws IOException {
+        boolean externalContent = content != null && content.length() > threshold;
+        boolean externalResponseBody = responseBody != null && responseBody.length() > threshold;
+        if (!externalContent && !externalResponseBody) {
+            return this;
+        }
+        RestQuery storedQuery = new RestQuery(method, path, parameters.orElse(null), parameterMap.orElse(null),
+                externalContent ? null : content, contentType,
+                externalResponseBody ? null : responseBody, statusCode,
+                requestHeaders, requestCookies, responseHeaders, responseCookies,
+                externalContent ? store.store(content) : contentReference,
+                externalResponseBody ? store.store(responseBody) : responseBodyReference);
+        storedQuery.sidecarStore = store;
+        return storedQuery;
+    }
+
+    /**
+     * Read any externally stored bodies from the given sidecar store, when they are first needed.
+     */
+    public void resolveBodiesFrom(SidecarContentStore store) {
+        this.sidecarStore = store;
+    }
+
+    public boolean hasExternalBodies() {
+        return contentReference != null || responseBodyReference != null;
+    }
+
     public String getContentType() {
         return contentType;
     }
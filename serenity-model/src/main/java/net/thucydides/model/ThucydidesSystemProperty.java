@@ -1,6 +1,6 @@
 package net.thucydides.model;
 
-import net.serenitybdd.model.environment.EnvironmentSpecificConfiguration;
+import net.serenitybdd.model.environment.ConfigurationSnapshot;
 import net.thucydides.model.util.EnvironmentVariables;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -738,6 +738,13 @@ public enum ThucydidesSystemProperty {
      */
     WEBDRIVER_WAIT_FOR_TIMEOUT,
 
+    /**
+     * Implicit waits shorter than or equal to this value (in milliseconds) are emulated on the client side,
+     * by leaving the driver implicit wait at zero and polling locally, rather than by sending a new timeout
+     * to the (possibly remote) driver. Set to 0 (the default) to disable client-side emulation.
+     */
+    WEBDRIVER_TIMEOUTS_CLIENT_SIDE_THRESHOLD,
+
     @Deprecated
     THUCYDIDES_EXT_PACKAGES,
 
@@ -1143,6 +1150,12 @@ public enum ThucydidesSystemProperty {
      */
     SERENITY_HISTORY_DIRECTORY("serenity.historyDirectory"),
 
+    /**
+     * The number of runs kept in the history directory. Older runs are folded into a single baseline that keeps
+     * the latest outcome of each test. Defaults to 30.
+     */
+    SERENITY_HISTORY_MAX_RUNS,
+
     /**
      * Delete the history directory before a new set of results is recorded
      */
@@ -1179,6 +1192,25 @@ public enum ThucydidesSystemProperty {
      */
     SERENITY_CONSOLE_COLORS,
 
+    /**
+     * Set to true to write the console logs from a background thread rather than from the test threads (default false).
+     * The lines logged for each test are written together when the test finishes, so that the logs of tests running
+     * in parallel are not interleaved.
+     */
+    SERENITY_CONSOLE_ASYNC,
+
+    /**
+     * The number of pending log entries that can be queued for the background console logger (default 8192).
+     * Test threads wait for space when the queue is full.
+     */
+    SERENITY_CONSOLE_BUFFER_SIZE,
+
+    /**
+     * The format of the console logs: "text" (default) or "json", to write each log line as a compact JSON object
+     * with the timestamp, level, thread, test name and message, for log collectors and other tools.
+     */
+    SERENITY_CONSOLE_FORMAT,
+
     /**
      * Set to true to write the chronological number of each test as it is executed to the console
      */
@@ -1684,6 +1716,71 @@ public enum ThucydidesSystemProperty {
      */
     SERENITY_REQUIREMENTS_CACHE_HEAP_SIZE,
 
+    /**
+     * Parsed feature file definitions (narrative, scenarios and tags) are stored in a cache directory, keyed by the
+     * content of each feature file, so that they are not parsed again in every test JVM or report run.
+     * Set to false to always parse the feature files. True by default.
+     */
+    SERENITY_FEATURE_CACHE,
+
+    /**
+     * Where the parsed feature file definitions are cached. Defaults to serenity-feature-cache in the build directory
+     * (project.build.directory, or target).
+     */
+    SERENITY_FEATURE_CACHE_DIRECTORY,
+
+    /**
+     * Cached feature file definitions that have not been used for this number of days are deleted. 7 by default.
+     */
+    SERENITY_FEATURE_CACHE_MAX_AGE,
+
+    /**
+     * REST request and response bodies, and step evidence, longer than this number of characters are stored in
+     * compressed, content-addressed files in the "sidecar" directory next to the JSON test outcomes, instead of
+     * inline in each outcome. They are only read back when a report page displays them.
+     * Set to 0 (the default) to keep all content inline.
+     */
+    SERENITY_REPORT_SIDECAR_THRESHOLD,
+
+    /**
+     * Set to true to keep the memory used by very long scenarios bounded (default false). The child steps of each
+     * finished step, and finished steps in batches, are written to a journal file in the step-journals directory of
+     * the output directory rather than kept in memory. They are stitched back into the JSON test outcome when it is
+     * written, and the journal is then deleted.
+     */
+    SERENITY_STEP_JOURNAL,
+
+    /**
+     * When the report output directory is not the directory the test results were written to, screenshots are
+     * hard-linked into the output directory rather than copied, where the file system allows it. Other result
+     * files are always copied, as they may be rewritten in place. Set to false to always write independent copies.
+     */
+    SERENITY_REPORT_LINK_FILES,
+
+    /**
+     * Report resources (stylesheets, scripts, fonts and images) are extracted from the classpath once per Serenity
+     * release into a shared cache directory, and copied from there into each report. Set to false to extract them
+     * from the classpath every time. Snapshot and local builds are never cached.
+     */
+    SERENITY_REPORT_CACHE_RESOURCES,
+
+    /**
+     * Where the extracted report resources are cached. Defaults to .serenity/report-resources in the user's home directory.
+     */
+    SERENITY_REPORT_RESOURCE_CACHE_DIRECTORY,
+
+    /**
+     * Generate small thumbnails of each screenshot for the step lists in the test reports, rather than having the
+     * browser load every full-size screenshot. True by default.
+     */
+    SERENITY_REPORT_THUMBNAILS,
+
+    /**
+     * The amount of memory, in megabytes, that may be used at any one time for decoded screenshots while the
+     * report thumbnails are generated. Defaults to 256.
+     */
+    SERENITY_REPORT_IMAGE_MEMORY_BUDGET,
+
     /**
      * If set to true, automatically add a contextual tag to each test with the name of the operating system the test was run on.
      * False by default.
@@ -1829,7 +1926,7 @@ public enum ThucydidesSystemProperty {
     }
 
     private Optional<String> optionalPropertyValueDefinedIn(EnvironmentVariables environmentVariables) {
-        return EnvironmentSpecificConfiguration.from(environmentVariables).getOptionalProperty(withSerenityPrefix(getPropertyName()));
+        return ConfigurationSnapshot.of(environmentVariables).valueOf(this);
     }
 
     public boolean isDefinedIn(EnvironmentVariables environmentVariables) {
@@ -14,10 +14,23 @@ public class TestFramework {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TestFramework.class);
 
-    private static TestStrategyAdapter selectedTestStrategyAdapter;
+    private static final TestStrategyAdapter selectedTestStrategyAdapter = adapterFor(ClassFinder.loadClasses());
 
-    static {
-        List<Class<?>> testStrategies = ClassFinder.loadClasses()
+    public static TestStrategyAdapter support() {
+        return selectedTestStrategyAdapter;
+    }
+
+    /**
+     * The adapters that can be loaded from a given class loader, such as the test classpath of a module indexed
+     * at build time. Unlike {@link #support()}, which is worked out once per JVM, these are looked up on each call,
+     * so several modules built in the same JVM each get the adapters from their own classpath.
+     */
+    public static TestStrategyAdapter supportIn(ClassLoader classLoader) {
+        return adapterFor(ClassFinder.loadClasses(classLoader));
+    }
+
+    private static TestStrategyAdapter adapterFor(ClassFinder classFinder) {
+        List<Class<?>> testStrategies = classFinder
                 .thatImplement(TestStrategyAdapter.class)
                 .fromPackage("net.thucydides.model.adapters");
 
@@ -27,18 +40,14 @@ public class TestFramework {
         }
         availableStrategies.sort((o1, o2) -> o2.priority().compareTo(o1.priority()));
         if (availableStrategies.size() > 1) {
-            selectedTestStrategyAdapter =  new MultiStrategyAdapter(availableStrategies);
+            return new MultiStrategyAdapter(availableStrategies);
         } else if (availableStrategies.size() == 1) {
-            selectedTestStrategyAdapter = availableStrategies.get(0);
+            return availableStrategies.get(0);
         } else {
             throw new IllegalStateException("No Test Strategy Adapter found: To run JUnit tests in Serenity make sure that either the Serenity JUnit 4 (serenity-junit) or JUnit 5 (serenity-junit5) dependency is available.");
         }
     }
 
-    public static TestStrategyAdapter support() {
-        return selectedTestStrategyAdapter;
-    }
-
     private static Optional<TestStrategyAdapter> newInstanceOf(Class<?> adaptorClass) {
         try {
             TestStrategyAdapter adapter = (TestStrategyAdapter) adaptorClass.getDeclaredConstructor().newInstance();
@@ -1,5 +1,7 @@
 package net.thucydides.model.domain;
 
+import net.thucydides.model.reports.json.SidecarContentStore;
+
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
@@ -13,6 +15,12 @@ public class ReportData {
     private Boolean isEvidence;
     private String id;
 
+    /**
+     * Reference to contents stored in a {@link SidecarContentStore} rather than inline
+     */
+    private String contentsReference;
+    private transient SidecarContentStore sidecarStore;
+
     public ReportData(String title, String contents, String path) {
 
         this(title, contents, path, false);
@@ -36,9 +44,33 @@ public class ReportData {
     }
 
     public String getContents() {
+        if (contents == null && contentsReference != null && sidecarStore != null) {
+            return sidecarStore.read(contentsReference);
+        }
         return contents;
     }
 
+    /**
+     * Move contents longer than the given threshold to the sidecar store, keeping only a reference to them.
+     */
+    public ReportData withContentsStoredIn(SidecarContentStore store, int threshold) throws IOException {
+        if (contents == null || contents.length() <= threshold) {
+            return this;
+        }
+        ReportData storedReportData = new ReportData(title, null, path, isEvidence);
+        storedReportData.id = id;
+        storedReportData.contentsReference = store.store(contents);
+        storedReportData.sidecarStore = store;
+        return storedReportData;
+    }
+
+    /**
+     * Read externally stored contents from the given sidecar store, when they are first needed.
+     */
+    public void resolveContentsFrom(SidecarContentStore store) {
+        this.sidecarStore = store;
+    }
+
     public String getPath() { return path; }
 
     public String getId() { return id; }
@@ -88,6 +120,7 @@ public class ReportData {
         ReportData that = (ReportData) o;
 
         if (title != null ? !title.equals(that.title) : that.title != null) return false;
+        if (contentsReference != null ? !contentsReference.equals(that.contentsReference) : that.contentsReference != null) return false;
         return contents != null ? contents.equals(that.contents) : that.contents == null;
     }
 
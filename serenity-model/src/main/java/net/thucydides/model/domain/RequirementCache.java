@@ -39,7 +39,7 @@ public class RequirementCache {
         return requirements;
     }
 
-    public void indexRequirements(Map<PathElements, Requirement> requirementsByPath) {
+    public synchronized void indexRequirements(Map<PathElements, Requirement> requirementsByPath) {
         requirementsByPath.forEach(
                 (path, requirement) -> requirementsPathIndex.put(requirement.getPath(), requirement)
         );
@@ -12,6 +12,7 @@ import net.serenitybdd.model.strings.Joiner;
 import net.serenitybdd.model.time.SystemClock;
 import net.thucydides.model.ThucydidesSystemProperty;
 import net.thucydides.model.domain.failures.FailureAnalysis;
+import net.thucydides.model.domain.failures.FailureAnalysisConfiguration;
 import net.thucydides.model.domain.features.ApplicationFeature;
 import net.thucydides.model.domain.flags.Flag;
 import net.thucydides.model.domain.flags.FlagProvider;
@@ -25,6 +26,7 @@ import net.thucydides.model.environment.SystemEnvironmentVariables;
 import net.thucydides.model.issues.IssueKeyFormat;
 import net.thucydides.model.issues.IssueTracking;
 import net.thucydides.model.reports.json.JSONConverter;
+import net.thucydides.model.reports.json.gson.StepJournal;
 import net.thucydides.model.reports.remoteTesting.LinkGenerator;
 import net.thucydides.model.screenshots.ScreenshotAndHtmlSource;
 import net.thucydides.model.statistics.service.TagProvider;
@@ -109,6 +111,17 @@ public class TestOutcome {
      */
     private List<TestStep> testSteps = Collections.synchronizedList(new ArrayList<>());
 
+    /**
+     * Where the earlier top-level steps were written, in order, if they were moved out of memory into a step journal.
+     * They come before the steps in testSteps.
+     */
+    private List<StepJournal.Entry> journalledSteps;
+
+    /**
+     * The journal holding the journalled steps of this test, deleted once the outcome has been written.
+     */
+    private transient StepJournal stepJournal;
+
     /**
      * A test can be linked to the user story it tests using the Story annotation.
      */
@@ -274,6 +287,17 @@ public class TestOutcome {
     private transient List<TestStep> flattenedSteps = null;
     private transient List<TestStep> leafSteps = null;
 
+    /**
+     * Values precomputed by {@link #freeze()} for outcomes that will only be read from now on.
+     */
+    private transient volatile FrozenValues frozenValues = null;
+
+    /**
+     * The result associated with each failure class name, so that each class only needs to be looked up once for a
+     * given configuration of failure, error, pending, compromised and skipped exception types.
+     */
+    private static final Map<String, TestResult> RESULTS_BY_FAILURE_CLASSNAME = new java.util.concurrent.ConcurrentHashMap<>();
+
     /**
      * Scenario outline text.
      */
@@ -387,6 +411,61 @@ public class TestOutcome {
         return new PackageBasedLeafRequirements(getEnvironmentVariables());
     }
 
+    /**
+     * Compute the derived values used by the reports (result, title, duration, steps, screenshots and tags) once,
+     * rather than each time a report template asks for them.
+     * This is intended for outcomes that have been loaded for reporting and that will not be recorded into again;
+     * methods that change the steps, result, timings or failure of the outcome discard the precomputed values.
+     *
+     * @return this outcome, so that it can be used in a stream
+     */
+    public TestOutcome freeze() {
+        getTitle();
+        getTags();
+        List<TestStep> steps = getFlattenedTestSteps();
+        getLeafTestSteps();
+        TestResult overallResult = getResult();
+        Long overallDuration = getDuration();
+        List<ScreenshotAndHtmlSource> screenshotAndHtmlSources = Collections.unmodifiableList(screenshotAndHtmlSourcesIn(steps));
+        List<Screenshot> screenshots = Collections.unmodifiableList(screenshotsIn(steps));
+        this.frozenValues = new FrozenValues(overallResult, overallDuration, screenshotAndHtmlSources, screenshots);
+        return this;
+    }
+
+    public boolean isFrozen() {
+        return frozenValues != null;
+    }
+
+    private void thaw() {
+        this.frozenValues = null;
+    }
+
+    /**
+     * The steps, or the results of the steps, have changed, so nothing derived from them can be reused.
+     */
+    private void stepsChanged() {
+        this.flattenedSteps = null;
+        this.leafSteps = null;
+        thaw();
+    }
+
+    private static final class FrozenValues {
+        private final TestResult result;
+        private final Long duration;
+        private final List<ScreenshotAndHtmlSource> screenshotAndHtmlSources;
+        private final List<Screenshot> screenshots;
+
+        private FrozenValues(TestResult result,
+                             Long duration,
+                             List<ScreenshotAndHtmlSource> screenshotAndHtmlSources,
+                             List<Screenshot> screenshots) {
+            this.result = result;
+            this.duration = duration;
+            this.screenshotAndHtmlSources = screenshotAndHtmlSources;
+            this.screenshots = screenshots;
+        }
+    }
+
     /**
      * Fix the values of synthetic fields for serialization purposes
      */
@@ -540,7 +619,7 @@ public class TestOutcome {
                 this.externalLink,
                 this.context,
                 this.testSource,
-                this.testOutlineName);
+                this.testOutlineName).withJournalledStepsOf(this);
     }
 
     protected TestOutcome(final ZonedDateTime startTime,
@@ -689,7 +768,7 @@ public class TestOutcome {
                     this.externalLink,
                     this.context,
                     this.testSource,
-                    this.testOutlineName);
+                    this.testOutlineName).withJournalledStepsOf(this);
         } else {
             return this;
         }
@@ -729,7 +808,7 @@ public class TestOutcome {
                 this.externalLink,
                 this.context,
                 this.testSource,
-                this.testOutlineName);
+                this.testOutlineName).withJournalledStepsOf(this);
     }
 
     public TestOutcome withTags(Set<TestTag> tags) {
@@ -766,7 +845,7 @@ public class TestOutcome {
                 this.externalLink,
                 this.context,
                 this.testSource,
-                this.testOutlineName);
+                this.testOutlineName).withJournalledStepsOf(this);
     }
 
     public TestOutcome withStartTime(ZonedDateTime startTime) {
@@ -803,7 +882,7 @@ public class TestOutcome {
                 this.externalLink,
                 this.context,
                 this.testSource,
-                this.testOutlineName);
+                this.testOutlineName).withJournalledStepsOf(this);
     }
 
     /**
@@ -858,9 +937,11 @@ public class TestOutcome {
         for (TestStep step : testSteps) {
             step.setResult(result);
         }
+        stepsChanged();
     }
 
     public void addDataFrom(DataTable newDataTable) {
+        thaw();
         if (dataTable == null) {
             dataTable = DataTable.withHeaders(newDataTable.getHeaders()).build();
         }
@@ -869,6 +950,7 @@ public class TestOutcome {
 
     public void clearForcedResult() {
         annotatedResult = null;
+        thaw();
     }
 
     public void setDriver(String driver) {
@@ -887,6 +969,7 @@ public class TestOutcome {
         for (TestStep step : testSteps) {
             resetFailingStepsIn(step).causedBy(expected);
         }
+        stepsChanged();
         clearTestFailure();
     }
 
@@ -895,6 +978,7 @@ public class TestOutcome {
         testFailureClassname = null;
         testFailureMessage = null;
         annotatedResult = null;
+        thaw();
     }
 
     private StepResetBuilder resetFailingStepsIn(TestStep step) {
@@ -919,6 +1003,7 @@ public class TestOutcome {
 
     public void updateOverallResults() {
         updateOverallResultsFor(testSteps);
+        stepsChanged();
     }
 
     private void updateOverallResultsFor(List<TestStep> testSteps) {
@@ -1106,6 +1191,7 @@ public class TestOutcome {
     }
 
     public void updateDataTableResult(int row, TestResult result) {
+        thaw();
         if (dataTable != null && dataTable.getSize() > row) {
             dataTable.updateRowResult(row, result);
         }
@@ -1394,8 +1480,14 @@ public class TestOutcome {
     }
 
     public List<ScreenshotAndHtmlSource> getScreenshotAndHtmlSources() {
-        List<TestStep> testStepsWithScreenshots = getFlattenedTestSteps();
+        FrozenValues frozen = frozenValues;
+        if (frozen != null) {
+            return frozen.screenshotAndHtmlSources;
+        }
+        return screenshotAndHtmlSourcesIn(getFlattenedTestSteps());
+    }
 
+    private List<ScreenshotAndHtmlSource> screenshotAndHtmlSourcesIn(List<TestStep> testStepsWithScreenshots) {
         return testStepsWithScreenshots.stream()
                 .flatMap(testStep -> testStep.getScreenshots().stream())
                 .collect(Collectors.toList());
@@ -1403,10 +1495,16 @@ public class TestOutcome {
 
 
     public List<Screenshot> getScreenshots() {
+        FrozenValues frozen = frozenValues;
+        if (frozen != null) {
+            return frozen.screenshots;
+        }
+        return screenshotsIn(getFlattenedTestSteps());
+    }
 
-        List<Screenshot> screenshots = new ArrayList<>();
+    private List<Screenshot> screenshotsIn(List<TestStep> testStepsWithScreenshots) {
 
-        List<TestStep> testStepsWithScreenshots = getFlattenedTestSteps();
+        List<Screenshot> screenshots = new ArrayList<>();
 
         for (TestStep currentStep : testStepsWithScreenshots) {
             screenshots.addAll(currentStep.getRenderedScreenshots());
@@ -1443,6 +1541,77 @@ public class TestOutcome {
         return (!stepsContainFailure && (getResult() == TestResult.ERROR || getResult() == TestResult.FAILURE || getResult() == TestResult.COMPROMISED));
     }
 
+    /**
+     * Move the children of a finished step of this test into the step journal, to keep them out of memory.
+     */
+    public void journalChildrenOf(TestStep step, StepJournal journal) throws IOException {
+        this.stepJournal = journal;
+        step.journalChildrenIn(journal);
+        stepsChanged();
+    }
+
+    /**
+     * Move the finished steps at the current level of this test into the step journal once there are enough of them
+     * to make a batch, so that neither the steps of a long-running group nor the top-level steps pile up in memory.
+     * The top-level steps of a data-driven test are its example rows, and stay in memory.
+     */
+    public synchronized void journalFinishedStepsIn(StepJournal journal) throws IOException {
+        this.stepJournal = journal;
+        if (inGroup()) {
+            getCurrentStepGroup().journalFinishedChildrenIn(journal);
+        } else if (!isDataDriven()
+                && testSteps.size() >= StepJournal.BATCH_SIZE + StepJournal.RECENT_STEPS_KEPT_IN_MEMORY) {
+            int finishedSteps = testSteps.size() - StepJournal.RECENT_STEPS_KEPT_IN_MEMORY;
+            List<TestStep> batch = new ArrayList<>(testSteps.subList(0, finishedSteps));
+            StepJournal.Entry entry = journal.append(batch, TestStep.countOfStepsIn(batch));
+            if (journalledSteps == null) {
+                journalledSteps = new ArrayList<>();
+            }
+            journalledSteps.add(entry);
+            setTestSteps(Collections.synchronizedList(new ArrayList<>(testSteps.subList(finishedSteps, testSteps.size()))));
+        }
+        stepsChanged();
+    }
+
+    /**
+     * Whether some of the steps of this test were moved into a step journal, and need to be read back from it when
+     * the outcome is written.
+     */
+    public boolean hasJournalledSteps() {
+        return (journalledSteps != null && !journalledSteps.isEmpty())
+                || getFlattenedTestSteps().stream().anyMatch(TestStep::hasJournalledChildren);
+    }
+
+    /**
+     * The journal entries holding the earliest top-level steps of this test, in order.
+     */
+    public List<StepJournal.Entry> getJournalledSteps() {
+        return (journalledSteps == null) ? Collections.emptyList() : Collections.unmodifiableList(journalledSteps);
+    }
+
+    /**
+     * Delete the step journal of this test, once every report that reads its steps has been generated.
+     */
+    public void deleteStepJournal() {
+        if (stepJournal != null) {
+            try {
+                stepJournal.delete();
+            } catch (IOException e) {
+                LOGGER.warn("Could not delete the step journal of {}: {}", getTitle(), e.getMessage());
+            }
+        }
+    }
+
+    private TestOutcome withJournalledStepsOf(TestOutcome original) {
+        this.journalledSteps = original.journalledSteps;
+        this.stepJournal = original.stepJournal;
+        return this;
+    }
+
+    private int countOfJournalledSteps() {
+        return (journalledSteps == null) ? 0 : journalledSteps.stream().mapToInt(StepJournal.Entry::getStepCount).sum();
+    }
+
     public List<TestStep> getFlattenedTestSteps() {
         if (flattenedSteps == null) {
             this.flattenedSteps = getLatestFlattenedTestSteps();
@@ -1488,6 +1657,11 @@ public class TestOutcome {
             return result;
         }
 
+        FrozenValues frozen = frozenValues;
+        if (frozen != null) {
+            return frozen.result;
+        }
+
         if (isManual() && (annotatedResult != null)) {
             return annotatedResult;
         }
@@ -1507,15 +1681,21 @@ public class TestOutcome {
 
     private TestResult testResultFromFailureClassname() {
         if (StringUtils.isNotEmpty(testFailureClassname)) {
-            try {
-                return new FailureAnalysis().resultFor(Class.forName(testFailureClassname));
-            } catch (ReflectiveOperationException e) {
-                return HeuristicTestResult.from(testFailureClassname);
-            }
+            EnvironmentVariables environment = ConfiguredEnvironment.getEnvironmentVariables();
+            String key = testFailureClassname + "|" + FailureAnalysisConfiguration.configuredTypesIn(environment);
+            return RESULTS_BY_FAILURE_CLASSNAME.computeIfAbsent(key, ignored -> resultForFailureClassname(testFailureClassname, environment));
         }
         return TestResult.UNDEFINED;
     }
 
+    private static TestResult resultForFailureClassname(String failureClassname, EnvironmentVariables environment) {
+        try {
+            return new FailureAnalysis(environment).resultFor(Class.forName(failureClassname));
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return HeuristicTestResult.from(failureClassname);
+        }
+    }
+
     public TestOutcome recordSteps(final List<TestStep> steps) {
         for (TestStep step : steps) {
             recordStep(step);
@@ -1526,6 +1706,7 @@ public class TestOutcome {
     public TestOutcome recordChildSteps(final List<TestStep> steps) {
         if (currentStep().isPresent()) {
             steps.forEach(step -> currentStep().get().addChildStep(step));
+            stepsChanged();
         } else {
             steps.forEach(step -> recordStep(step));
         }
@@ -1540,9 +1721,11 @@ public class TestOutcome {
      */
     public TestOutcome recordStep(final TestStep step) {
         Preconditions.checkNotNull(step.getDescription(), "The test step description was not defined.");
+        thaw();
         if (inGroup()) {
             getCurrentStepGroup().addChildStep(step);
             renumberTestSteps();
+            stepsChanged();
         } else {
             addStep(step);
         }
@@ -1559,18 +1742,19 @@ public class TestOutcome {
     private void setTestSteps(List<TestStep> steps) {
         this.testSteps = steps;
         this.flattenedSteps = null;
+        thaw();
         // renumberTestSteps(testSteps);
     }
 
     private void renumberTestSteps(List<TestStep> testSteps) {
-        int count = 1;
+        int count = 1 + countOfJournalledSteps();
         for (TestStep step : testSteps) {
             count = step.renumberFrom(count);
         }
     }
 
     private void renumberTestSteps() {
-        int count = 1;
+        int count = 1 + countOfJournalledSteps();
         for (TestStep step : testSteps) {
             count = step.renumberFrom(count);
         }
@@ -1612,9 +1796,13 @@ public class TestOutcome {
     }
 
     private synchronized List<TestResult> getCurrentTestResults() {
-        return testSteps.stream()
-                .map(TestStep::getResult)
+        List<TestResult> results = getJournalledSteps().stream()
+                .map(StepJournal.Entry::getResult)
                 .collect(Collectors.toList());
+        testSteps.stream()
+                .map(TestStep::getResult)
+                .forEach(results::add);
+        return results;
     }
 
     /**
@@ -1694,6 +1882,7 @@ public class TestOutcome {
     }
 
     public void determineTestFailureCause(Throwable cause) {
+        thaw();
         // Find any previous failing steps (which can happen for soft assertions)
         List<FailureCause> stepFailureCauses = getLatestFlattenedTestSteps().stream()
                 .map(TestStep::getException)
@@ -1758,6 +1947,7 @@ public class TestOutcome {
     }
 
     private void noTestFailureIsDefined() {
+        thaw();
         this.testFailureCause = null;
         this.testFailureClassname = "";
         this.testFailureMessage = "";
@@ -1765,6 +1955,7 @@ public class TestOutcome {
     }
 
     public void appendTestFailure(TestFailureCause failureCause) {
+        thaw();
         if (!failureCause.isDefined()) {
             noTestFailureIsDefined();
             return;
@@ -1914,6 +2105,7 @@ public class TestOutcome {
     }
 
     public void setTestFailureMessage(String testFailureMessage) {
+        thaw();
         this.testFailureMessage = testFailureMessage;
     }
 
@@ -1926,6 +2118,7 @@ public class TestOutcome {
     }
 
     public void setAnnotatedResult(final TestResult annotatedResult) {
+        thaw();
         if (this.annotatedResult != TestResult.PENDING) {
             this.annotatedResult = (this.annotatedResult == null) ?
                     annotatedResult : TestResultComparison.overallResultFor(this.annotatedResult, annotatedResult);
@@ -1933,15 +2126,18 @@ public class TestOutcome {
     }
 
     public void overrideAnnotatedResult(final TestResult annotatedResult) {
+        thaw();
         this.annotatedResult = annotatedResult;
         this.result = annotatedResult;
     }
 
     public void setResult(final TestResult annotatedResult) {
+        thaw();
         this.annotatedResult = annotatedResult;
     }
 
     public void overrideResult(final TestResult result) {
+        thaw();
         this.result = result;
         this.annotatedResult = result;
     }
@@ -2136,6 +2332,7 @@ public class TestOutcome {
         if (!leafSteps.isEmpty()) {
             TestStep lastTestStep = leafSteps.get(leafSteps.size() - 1);
             lastTestStep.failedWith(new StepFailureException(testFailureCause.getMessage(), testFailureCause));
+            stepsChanged();
         }
     }
 
@@ -2291,11 +2488,13 @@ public class TestOutcome {
     }
 
     public void useExamplesFrom(DataTable table) {
+        thaw();
         this.dataTable = table;
     }
 
 
     public void addNewExamplesFrom(DataTable table) {
+        thaw();
         List<DataTableRow> updatedRows = table.getRows();
         if (table.getSize() > dataTable.getSize()) {
             for (int rowNumber = dataTable.getSize(); rowNumber < updatedRows.size(); rowNumber++) {
@@ -2311,6 +2510,7 @@ public class TestOutcome {
     }
 
     public void updateCurrentRowResult(TestResult result) {
+        thaw();
         dataTable.currentRow().hasResult(result);
     }
 
@@ -2319,10 +2519,12 @@ public class TestOutcome {
     }
 
     public void addRow(Map<String, ?> data) {
+        thaw();
         dataTable.addRow(data);
     }
 
     public void addRow(DataTableRow dataTableRow) {
+        thaw();
         dataTable.addRow(dataTableRow);
     }
 
@@ -2449,10 +2651,12 @@ public class TestOutcome {
 
     public void setStartTime(ZonedDateTime startTime) {
         this.startTime = startTime;
+        thaw();
     }
 
     public void clearStartTime() {
         this.startTime = null;
+        thaw();
     }
 
     public boolean isManual() {
@@ -2606,6 +2810,7 @@ public class TestOutcome {
     }
 
     public void recordDuration(ZonedDateTime finishTime) {
+        thaw();
         this.endTime = finishTime;
         if (duration == 0) {
             long duration = ChronoUnit.MILLIS.between(startTime, finishTime);
@@ -2615,9 +2820,14 @@ public class TestOutcome {
 
     public void setDuration(final long duration) {
         this.duration = duration;
+        thaw();
     }
 
     public Long getDuration() {
+        FrozenValues frozen = frozenValues;
+        if (frozen != null) {
+            return frozen.duration;
+        }
         // For data-driven tests, each top-level step is a separate test
         if (isDataDriven()) {
             return getDataDrivenDuration();
@@ -3199,6 +3409,7 @@ public class TestOutcome {
         this.testSteps = updatedSteps;
         this.flattenedSteps = null;
         this.leafSteps = null;
+        thaw();
     }
 
     private boolean someStepsDoNotMatch(Predicate<TestStep> condition) {
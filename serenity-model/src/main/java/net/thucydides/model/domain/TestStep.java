@@ -11,6 +11,8 @@ import net.thucydides.model.domain.screenshots.Screenshot;
 import net.thucydides.model.domain.stacktrace.FailureCause;
 import net.thucydides.model.domain.stacktrace.RootCauseAnalyzer;
 import net.thucydides.model.images.ResizableImage;
+import net.thucydides.model.reports.json.SidecarContentStore;
+import net.thucydides.model.reports.json.gson.StepJournal;
 import net.thucydides.model.requirements.reports.CompoundDuration;
 import net.thucydides.model.screenshots.ScreenshotAndHtmlSource;
 import org.jsoup.Jsoup;
@@ -63,6 +65,12 @@ public class TestStep implements Cloneable {
 
     private List<TestStep> children = new ArrayList<>();
 
+    /**
+     * Where the earlier children of this step were written, in order, if they were moved out of memory into a step
+     * journal. They come before the children still held in memory.
+     */
+    private List<StepJournal.Entry> journalledChildren;
+
     public TestStep() {
         startTime = ModelInfrastructure.getClock().getCurrentTime();
     }
@@ -93,6 +101,8 @@ public class TestStep implements Cloneable {
 
     public int renumberFrom(int count) {
         this.number = count++;
+        // Journalled steps were numbered before they were written, and keep their numbers
+        count += countOfJournalledSteps();
         if (!children.isEmpty()) {
             count = renumberChildrenFrom(count);
         }
@@ -111,7 +121,7 @@ public class TestStep implements Cloneable {
     }
 
     public void updateOverallResult() {
-        if (result != null) {
+        if (result != null && !hasJournalledChildren()) {
             if (getResultFromChildren().overrides(result)) {
                 result = null;
             }
@@ -223,6 +233,7 @@ public class TestStep implements Cloneable {
         newTestStep.result = result;
         newTestStep.number = number;
         newTestStep.children = NewList.copyOf(children);
+        newTestStep.journalledChildren = (journalledChildren == null) ? null : NewList.copyOf(journalledChildren);
         newTestStep.precondition = precondition;
         newTestStep.level = level;
         return newTestStep;
@@ -501,6 +512,9 @@ public class TestStep implements Cloneable {
 
     private List<TestResult> getChildResults() {
         List<TestResult> childResults = new ArrayList<>();
+        if (journalledChildren != null) {
+            journalledChildren.forEach(entry -> childResults.add(entry.getResult()));
+        }
         for (TestStep step : getChildren()) {
             if (step != null) {
                 TestResult stepResult = step.getResult();
@@ -739,6 +753,82 @@ public class TestStep implements Cloneable {
         return this.withReportData(reportData);
     }
 
+    /**
+     * Move REST bodies and report data longer than the threshold out of this step and into the sidecar store.
+     */
+    public void storeLargeContentIn(SidecarContentStore store, int threshold) throws IOException {
+        if (restQuery != null) {
+            restQuery = restQuery.withBodiesStoredIn(store, threshold);
+        }
+        if (reportData != null) {
+            List<ReportData> storedReportData = new ArrayList<>();
+            for (ReportData data : reportData) {
+                storedReportData.add(data.withContentsStoredIn(store, threshold));
+            }
+            reportData = storedReportData;
+        }
+    }
+
+    /**
+     * Move the children of this finished step out of memory and into the step journal. The result of this step is
+     * fixed first, as it can no longer be worked out from its children.
+     */
+    public void journalChildrenIn(StepJournal journal) throws IOException {
+        if (children.isEmpty()) {
+            return;
+        }
+        result = getResult();
+        journalFirstChildrenIn(journal, children.size());
+    }
+
+    /**
+     * Move the finished children of this running step into the step journal once there are enough of them to make a
+     * batch. The most recent children stay in memory.
+     */
+    public void journalFinishedChildrenIn(StepJournal journal) throws IOException {
+        if (children.size() >= StepJournal.BATCH_SIZE + StepJournal.RECENT_STEPS_KEPT_IN_MEMORY) {
+            journalFirstChildrenIn(journal, children.size() - StepJournal.RECENT_STEPS_KEPT_IN_MEMORY);
+        }
+    }
+
+    private void journalFirstChildrenIn(StepJournal journal, int count) throws IOException {
+        List<TestStep> batch = new ArrayList<>(children.subList(0, count));
+        StepJournal.Entry entry = journal.append(batch, countOfStepsIn(batch));
+        if (journalledChildren == null) {
+            journalledChildren = new ArrayList<>();
+        }
+        journalledChildren.add(entry);
+        children = new ArrayList<>(children.subList(count, children.size()));
+    }
+
+    static int countOfStepsIn(List<TestStep> steps) {
+        int count = 0;
+        for (TestStep step : steps) {
+            count += 1 + step.countOfJournalledSteps() + countOfStepsIn(step.children);
+        }
+        return count;
+    }
+
+    private int countOfJournalledSteps() {
+        return (journalledChildren == null) ? 0 : journalledChildren.stream().mapToInt(StepJournal.Entry::getStepCount).sum();
+    }
+
+    public boolean hasJournalledChildren() {
+        return journalledChildren != null && !journalledChildren.isEmpty();
+    }
+
+    /**
+     * Make any content held in the sidecar store available again, when it is first needed.
+     */
+    public void resolveLargeContentFrom(SidecarContentStore store) {
+        if (restQuery != null) {
+            restQuery.resolveBodiesFrom(store);
+        }
+        if (reportData != null) {
+            reportData.forEach(data -> data.resolveContentsFrom(store));
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -1,9 +1,11 @@
 package net.thucydides.model.domain.failures;
 
 import com.google.common.base.Splitter;
+import com.google.common.collect.MapMaker;
 import io.cucumber.java.PendingException;
 import net.serenitybdd.model.PendingStepException;
 import net.serenitybdd.model.SkipStepException;
+import net.serenitybdd.model.environment.ConfigurationSnapshot;
 import net.serenitybdd.model.exceptions.CausesAssertionFailure;
 import net.serenitybdd.model.exceptions.CausesCompromisedTestFailure;
 import net.thucydides.model.ThucydidesSystemProperty;
@@ -14,6 +16,8 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 public class FailureAnalysisConfiguration {
 
@@ -46,6 +50,28 @@ public class FailureAnalysisConfiguration {
         DEFAULT_ERROR_TYPES.addAll(Arrays.asList(Error.class));
     }
 
+    /**
+     * The configured exception types, as a single string, so that results worked out for a given configuration can be
+     * told apart from those worked out for another one.
+     * The string is built once per configuration snapshot, which is replaced whenever the environment variables change.
+     */
+    public static String configuredTypesIn(EnvironmentVariables environmentVariables) {
+        return CONFIGURED_TYPES_BY_SNAPSHOT.computeIfAbsent(ConfigurationSnapshot.of(environmentVariables),
+                snapshot -> SERENITY_CONFIGURED_TYPE_PROPERTIES.stream()
+                        .map(property -> property.from(environmentVariables, ""))
+                        .collect(Collectors.joining("|")));
+    }
+
+    private static final Map<ConfigurationSnapshot, String> CONFIGURED_TYPES_BY_SNAPSHOT = new MapMaker().weakKeys().makeMap();
+
+    private static final List<ThucydidesSystemProperty> SERENITY_CONFIGURED_TYPE_PROPERTIES = Arrays.asList(
+            ThucydidesSystemProperty.SERENITY_FAIL_ON,
+            ThucydidesSystemProperty.SERENITY_ERROR_ON,
+            ThucydidesSystemProperty.SERENITY_PENDING_ON,
+            ThucydidesSystemProperty.SERENITY_COMPROMISED_ON,
+            ThucydidesSystemProperty.SERENITY_SKIPPED_ON
+    );
+
     public FailureAnalysisConfiguration(EnvironmentVariables environmentVariables) {
         this.environmentVariables = environmentVariables;
     }
@@ -1,6 +1,7 @@
 package net.thucydides.model.environment;
 
 import com.typesafe.config.Config;
+import net.serenitybdd.model.environment.ConfigurationSnapshot;
 import net.serenitybdd.model.environment.ConfiguredEnvironment;
 import net.thucydides.model.util.EnvironmentVariables;
 import org.apache.commons.lang3.StringUtils;
@@ -12,6 +13,7 @@ public class MockEnvironmentVariables implements EnvironmentVariables {
 
     private Map<String, String> properties = new HashMap<>();
     private Map<String, String> values = new HashMap<>();
+    private volatile ConfigurationSnapshot configurationSnapshot;
 
     public MockEnvironmentVariables() {
         this.properties.put("user.home", System.getProperty("user.home"));
@@ -118,15 +120,33 @@ public class MockEnvironmentVariables implements EnvironmentVariables {
 
     public void setProperty(String name, String value) {
         properties.put(name, value);
+        invalidateConfigurationSnapshot();
     }
 
     public void setProperties(Map<String, String> newProperties) {
         properties.putAll(newProperties);
+        invalidateConfigurationSnapshot();
     }
 
 
     public void clearProperty(String name) {
         properties.remove(name);
+        invalidateConfigurationSnapshot();
+    }
+
+    @Override
+    public ConfigurationSnapshot configurationSnapshot() {
+        ConfigurationSnapshot snapshot = configurationSnapshot;
+        if (snapshot == null) {
+            snapshot = ConfigurationSnapshot.compiledFrom(this);
+            configurationSnapshot = snapshot;
+        }
+        return snapshot;
+    }
+
+    @Override
+    public void invalidateConfigurationSnapshot() {
+        configurationSnapshot = null;
     }
 
     public EnvironmentVariables copy() {
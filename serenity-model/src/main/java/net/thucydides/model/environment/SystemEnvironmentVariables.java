@@ -2,6 +2,7 @@ package net.thucydides.model.environment;
 
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
+import net.serenitybdd.model.environment.ConfigurationSnapshot;
 import net.thucydides.model.util.EnvironmentVariables;
 import net.thucydides.model.util.LocalPreferences;
 import net.thucydides.model.util.PropertiesLocalPreferences;
@@ -24,6 +25,7 @@ public class SystemEnvironmentVariables implements EnvironmentVariables {
     private final Map<String, String> systemValues = new ConcurrentHashMap<>();
     private volatile Config config;
     private volatile boolean configLoaded = false;
+    private volatile ConfigurationSnapshot configurationSnapshot;
 
     private static EnvironmentVariables CACHED_ENVIRONMENT_VARIABLES;
 
@@ -81,6 +83,7 @@ public class SystemEnvironmentVariables implements EnvironmentVariables {
 
     public void setConfig(Config typesafeConfig) {
         this.config = typesafeConfig.resolve();
+        invalidateConfigurationSnapshot();
     }
 
     public SystemEnvironmentVariables(Map<String, String> propertyValues, Map<String, String> systemValues) {
@@ -232,12 +235,14 @@ public class SystemEnvironmentVariables implements EnvironmentVariables {
         propertySetLock.lock();
         properties.put(name, value);
         propertySetLock.unlock();
+        invalidateConfigurationSnapshot();
     }
 
     public void setProperties(Map<String, String> properties) {
         propertySetLock.lock();
         this.properties.putAll(properties);
         propertySetLock.unlock();
+        invalidateConfigurationSnapshot();
     }
 
 
@@ -245,6 +250,22 @@ public class SystemEnvironmentVariables implements EnvironmentVariables {
         propertySetLock.lock();
         properties.remove(name);
         propertySetLock.unlock();
+        invalidateConfigurationSnapshot();
+    }
+
+    @Override
+    public ConfigurationSnapshot configurationSnapshot() {
+        ConfigurationSnapshot snapshot = configurationSnapshot;
+        if (snapshot == null) {
+            snapshot = ConfigurationSnapshot.compiledFrom(this);
+            configurationSnapshot = snapshot;
+        }
+        return snapshot;
+    }
+
+    @Override
+    public void invalidateConfigurationSnapshot() {
+        configurationSnapshot = null;
     }
 
     @Override
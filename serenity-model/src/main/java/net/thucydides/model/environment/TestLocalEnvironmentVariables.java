@@ -4,6 +4,7 @@ import net.thucydides.model.util.EnvironmentVariables;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -40,4 +41,29 @@ public class TestLocalEnvironmentVariables {
     public static EnvironmentVariables getUpdatedEnvironmentVariables() {
         return CURRENT_ENVIRONMENT_VARIABLES.get();
     }
+
+    /**
+     * Wrap a task that will run in another thread, so that it sees the environment variables set for the current
+     * test in this thread. The other thread's own values are restored once the task is done.
+     */
+    public static <T> Callable<T> propagatedTo(Callable<T> task) {
+        Map<String, String> callerProperties = getProperties();
+        if (callerProperties.isEmpty()) {
+            return task;
+        }
+        return () -> {
+            Map<String, String> workerProperties = getProperties();
+            useProperties(callerProperties);
+            try {
+                return task.call();
+            } finally {
+                useProperties(workerProperties);
+            }
+        };
+    }
+
+    private static void useProperties(Map<String, String> properties) {
+        clear();
+        properties.forEach(TestLocalEnvironmentVariables::setProperty);
+    }
 }
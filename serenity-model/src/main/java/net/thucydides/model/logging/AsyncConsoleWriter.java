@@ -0,0 +1,108 @@
+package net.thucydides.model.logging;
+
+import net.thucydides.model.ThucydidesSystemProperty;
+import net.thucydides.model.util.EnvironmentVariables;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes console log lines from a single background thread, so that test threads only hand their lines over.
+ * <p>
+ * Lines are handed over in groups (typically all the lines logged for one test), through a lock-free ring buffer,
+ * and each group is written in one go so that the groups of different threads are never interleaved. There is one
+ * writer per JVM; any lines still queued when the JVM shuts down are written before it exits.
+ * </p>
+ */
+class AsyncConsoleWriter {
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+    private static final long IDLE_WAIT = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final Duration SHUTDOWN_FLUSH_TIMEOUT = Duration.ofSeconds(5);
+
+    private static volatile AsyncConsoleWriter instance;
+
+    private final ConsoleRingBuffer<LineGroup> buffer;
+    private final AtomicLong written = new AtomicLong();
+    private final Thread writerThread;
+
+    private static class LineGroup {
+        private final List<ConsoleLine> lines;
+        private final ConsoleLogFormat format;
+
+        LineGroup(List<ConsoleLine> lines, ConsoleLogFormat format) {
+            this.lines = lines;
+            this.format = format;
+        }
+    }
+
+    static AsyncConsoleWriter forEnvironment(EnvironmentVariables environmentVariables) {
+        if (instance == null) {
+            synchronized (AsyncConsoleWriter.class) {
+                if (instance == null) {
+                    int bufferSize = ThucydidesSystemProperty.SERENITY_CONSOLE_BUFFER_SIZE.integerFrom(environmentVariables, DEFAULT_BUFFER_SIZE);
+                    instance = new AsyncConsoleWriter(bufferSize);
+                }
+            }
+        }
+        return instance;
+    }
+
+    private AsyncConsoleWriter(int bufferSize) {
+        this.buffer = new ConsoleRingBuffer<>(bufferSize);
+        this.writerThread = new Thread(this::writeQueuedLines, "Serenity console writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(SHUTDOWN_FLUSH_TIMEOUT), "Serenity console writer shutdown"));
+    }
+
+    /**
+     * Queue a group of lines to be written together. If the buffer is full, the calling thread waits until the
+     * writer has made room, rather than losing any lines.
+     */
+    void write(List<ConsoleLine> lines, ConsoleLogFormat format) {
+        if (lines.isEmpty()) {
+            return;
+        }
+        LineGroup group = new LineGroup(lines, format);
+        while (!buffer.offer(group)) {
+            LockSupport.unpark(writerThread);
+            Thread.onSpinWait();
+            LockSupport.parkNanos(IDLE_WAIT / 10);
+        }
+        LockSupport.unpark(writerThread);
+    }
+
+    /**
+     * Wait until every group queued so far has been written, or the timeout has expired.
+     */
+    void flush(Duration timeout) {
+        long queued = buffer.claimed();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (written.get() < queued && System.nanoTime() < deadline) {
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(IDLE_WAIT / 10);
+        }
+    }
+
+    private void writeQueuedLines() {
+        while (true) {
+            LineGroup group = buffer.poll();
+            if (group == null) {
+                LockSupport.parkNanos(this, IDLE_WAIT);
+                continue;
+            }
+            for (ConsoleLine line : group.lines) {
+                try {
+                    line.writeAs(group.format);
+                } catch (RuntimeException ignored) {
+                    // A failing logger should not stop the other lines from being written
+                }
+            }
+            written.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package net.thucydides.model.logging;
+
+import com.google.gson.JsonObject;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.MessageFormatter;
+
+import java.time.Instant;
+import java.util.regex.Pattern;
+
+/**
+ * A line logged by the {@link ConsoleLoggingListener}, recorded on the test thread so that it can be written later.
+ */
+class ConsoleLine {
+
+    private static final Pattern ANSI_COLOR_CODES = Pattern.compile("\u001B\\[[;\\d]*m");
+
+    private final Logger logger;
+    private final Level level;
+    private final String message;
+    private final Object[] arguments;
+    private final String thread;
+    private final String test;
+    private final Instant timestamp;
+
+    ConsoleLine(Logger logger, Level level, String test, String message, Object... arguments) {
+        this.logger = logger;
+        this.level = level;
+        this.message = message;
+        this.arguments = arguments;
+        this.thread = Thread.currentThread().getName();
+        this.test = test;
+        this.timestamp = Instant.now();
+    }
+
+    void writeAs(ConsoleLogFormat format) {
+        if (format == ConsoleLogFormat.JSON) {
+            writeAsJson();
+        } else {
+            writeAsText();
+        }
+    }
+
+    /**
+     * The arguments are passed on to the logger as they were given, so the logger formats the message itself.
+     */
+    private void writeAsText() {
+        log(message, arguments);
+    }
+
+    private void writeAsJson() {
+        if (!logger.isEnabledForLevel(level)) {
+            return;
+        }
+        JsonObject line = new JsonObject();
+        line.addProperty("timestamp", timestamp.toString());
+        line.addProperty("level", level.name());
+        line.addProperty("thread", thread);
+        if (test != null) {
+            line.addProperty("test", test);
+        }
+        line.addProperty("message", ANSI_COLOR_CODES.matcher(formattedMessage()).replaceAll("").trim());
+
+        log(line.toString());
+    }
+
+    private void log(String text, Object... values) {
+        switch (level) {
+            case ERROR:
+                if (values.length == 0) {
+                    logger.error(text);
+                } else {
+                    logger.error(text, values);
+                }
+                break;
+            case DEBUG:
+                if (values.length == 0) {
+                    logger.debug(text);
+                } else {
+                    logger.debug(text, values);
+                }
+                break;
+            default:
+                if (values.length == 0) {
+                    logger.info(text);
+                } else {
+                    logger.info(text, values);
+                }
+        }
+    }
+
+    private String formattedMessage() {
+        return (arguments.length == 0) ? message : MessageFormatter.arrayFormat(message, arguments).getMessage();
+    }
+}
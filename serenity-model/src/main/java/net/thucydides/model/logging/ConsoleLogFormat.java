@@ -0,0 +1,38 @@
+package net.thucydides.model.logging;
+
+import net.thucydides.model.util.EnvironmentVariables;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+
+import static net.thucydides.model.ThucydidesSystemProperty.SERENITY_CONSOLE_FORMAT;
+
+/**
+ * How each console log line is written
+ */
+public enum ConsoleLogFormat {
+    /**
+     * Human-readable text, with the headings and colors configured for the console.
+     */
+    TEXT,
+    /**
+     * One compact JSON object per line, without color codes.
+     */
+    JSON;
+
+    /**
+     * An unknown format is reported and replaced by {@link #TEXT}, rather than stopping the test run.
+     */
+    public static ConsoleLogFormat definedIn(EnvironmentVariables environmentVariables) {
+        String configuredFormat = SERENITY_CONSOLE_FORMAT.from(environmentVariables, TEXT.name()).trim();
+        return Arrays.stream(values())
+                .filter(format -> format.name().equalsIgnoreCase(configuredFormat))
+                .findFirst()
+                .orElseGet(() -> {
+                    LoggerFactory.getLogger(ConsoleLogFormat.class)
+                            .warn("Unknown console format '{}' in serenity.console.format: expected one of {}. Using TEXT instead.",
+                                    configuredFormat, Arrays.toString(values()));
+                    return TEXT;
+                });
+    }
+}
@@ -16,12 +16,15 @@ import net.thucydides.model.util.NameConverter;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
 
 import java.text.SimpleDateFormat;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.*;
-import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
+import static net.thucydides.model.ThucydidesSystemProperty.SERENITY_CONSOLE_ASYNC;
 import static net.thucydides.model.logging.ConsoleEvent.*;
 
 public class ConsoleLoggingListener extends StepListenerAdapter {
@@ -68,6 +71,20 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
     private final FailureAnalysis analysis;
     private final ConsoleHeading consoleHeading;
     private final ConsoleColors colored;
+    private final ConsoleLogFormat format;
+
+    /**
+     * Only used when the console logs are written asynchronously (serenity.console.async)
+     */
+    private final AsyncConsoleWriter asyncWriter;
+
+    /**
+     * The most lines of a test that are held back before they are handed over to the asynchronous writer
+     */
+    private static final int MAX_GROUPED_LINES = 256;
+
+    private final ThreadLocal<String> currentTest = new ThreadLocal<>();
+    private final ThreadLocal<List<ConsoleLine>> currentTestLines = new ThreadLocal<>();
 
     private ExecutedStepDescription currentStep;
     private final Set<ExecutedStepDescription> flaggedSteps = new HashSet<>();
@@ -82,6 +99,9 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
         this.consoleHeading = new ConsoleHeading(environmentVariables);
         this.bannerStyle = ConsoleHeadingStyle.bannerStyleDefinedIn(environmentVariables);
         this.colored = new ConsoleColors(environmentVariables);
+        this.format = ConsoleLogFormat.definedIn(environmentVariables);
+        this.asyncWriter = SERENITY_CONSOLE_ASYNC.booleanFrom(environmentVariables, false)
+                ? AsyncConsoleWriter.forEnvironment(environmentVariables) : null;
         logBanner();
     }
 
@@ -93,9 +113,58 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
         return logger;
     }
 
+    private void info(String message, Object... arguments) {
+        log(Level.INFO, message, arguments);
+    }
+
+    private void error(String message, Object... arguments) {
+        log(Level.ERROR, message, arguments);
+    }
+
+    private void debug(String message, Object... arguments) {
+        log(Level.DEBUG, message, arguments);
+    }
+
+    /**
+     * When logging asynchronously, the lines logged during a test are kept together and handed over to the writer
+     * when the test finishes, or in chunks of {@link #MAX_GROUPED_LINES} for very chatty tests, so that a long test
+     * does not hold its whole log in memory; other lines are handed over straight away.
+     */
+    private void log(Level level, String message, Object... arguments) {
+        ConsoleLine line = new ConsoleLine(getLogger(), level, currentTest.get(), message, arguments);
+        List<ConsoleLine> groupedLines = currentTestLines.get();
+        if (asyncWriter == null) {
+            line.writeAs(format);
+        } else if (groupedLines != null) {
+            groupedLines.add(line);
+            if (groupedLines.size() >= MAX_GROUPED_LINES) {
+                currentTestLines.set(new ArrayList<>());
+                asyncWriter.write(groupedLines, format);
+            }
+        } else {
+            asyncWriter.write(Collections.singletonList(line), format);
+        }
+    }
+
+    private void startGroupingLinesFor(String test) {
+        currentTest.set(test);
+        if (asyncWriter != null && currentTestLines.get() == null) {
+            currentTestLines.set(new ArrayList<>());
+        }
+    }
+
+    private void writeGroupedLines() {
+        currentTest.remove();
+        List<ConsoleLine> lines = currentTestLines.get();
+        if (lines != null) {
+            currentTestLines.remove();
+            asyncWriter.write(lines, format);
+        }
+    }
+
     private void logBanner() {
         if (loggingLevelIsAtLeast(LoggingLevel.QUIET)) {
-            getLogger().info(bannerHeading());
+            info(bannerHeading());
         }
     }
 
@@ -109,20 +178,20 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
 
     public void testSuiteStarted(Class<?> storyClass) {
         if (loggingLevelIsAtLeast(LoggingLevel.NORMAL)) {
-            getLogger().info("Test Suite Started: " + NameConverter.humanize(storyClass.getSimpleName()));
+            info("Test Suite Started: " + NameConverter.humanize(storyClass.getSimpleName()));
         }
     }
 
     public void testSuiteStarted(Class<?> storyClass, String testCaseName) {
         if (loggingLevelIsAtLeast(LoggingLevel.NORMAL)) {
-            getLogger().info("Test Suite Started: " + testCaseName);
+            info("Test Suite Started: " + testCaseName);
         }
     }
 
 
     public void testSuiteStarted(Story story) {
         if (loggingLevelIsAtLeast(LoggingLevel.NORMAL)) {
-            getLogger().info("Test Suite Started: " + NameConverter.humanize(story.getName()));
+            info("Test Suite Started: " + NameConverter.humanize(story.getName()));
         }
     }
 
@@ -130,15 +199,17 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
         flaggedSteps.clear();
         reportedOutcomes.clear();
         nestedSteps.clear();
+        startGroupingLinesFor(description);
         if (loggingLevelIsAtLeast(LoggingLevel.NORMAL)) {
-            getLogger().info(consoleHeading.bannerFor(TEST_STARTED, description));
+            info(consoleHeading.bannerFor(TEST_STARTED, description));
         }
     }
 
     @Override
     public void testStarted(String description, String id) {
+        startGroupingLinesFor(description);
         if (loggingLevelIsAtLeast(LoggingLevel.NORMAL)) {
-            getLogger().info(consoleHeading.bannerFor(TEST_STARTED, description + "(" + id + ")"));
+            info(consoleHeading.bannerFor(TEST_STARTED, description + "(" + id + ")"));
         }
     }
 
@@ -152,6 +223,14 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
     }
 
     public void testFinished(TestOutcome result) {
+        try {
+            logOutcome(result);
+        } finally {
+            writeGroupedLines();
+        }
+    }
+
+    private void logOutcome(TestOutcome result) {
         if (reportedOutcomes.contains(result)) {
             return;
         } else {
@@ -195,16 +274,16 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
 
 
 
-    private Map<TestResult, BiConsumer<Logger, String>> coloredLogs() {
-        Map<TestResult, BiConsumer<Logger, String>> coloredLogs = new HashMap<>();
-        coloredLogs.put(TestResult.SUCCESS, (log, msg) -> log.info(colored.green(msg)));
-        coloredLogs.put(TestResult.FAILURE, (log, msg) -> log.error(colored.red(msg)));
-        coloredLogs.put(TestResult.ERROR, (log, msg) -> log.error(colored.red(msg)));
-        coloredLogs.put(TestResult.PENDING, (log, msg) -> log.info(colored.cyan(msg)));
-        coloredLogs.put(TestResult.SKIPPED, (log, msg) -> log.info(colored.yellow(msg)));
-        coloredLogs.put(TestResult.IGNORED, (log, msg) -> log.info(colored.yellow(msg)));
-        coloredLogs.put(TestResult.COMPROMISED, (log, msg) -> log.error(colored.purple(msg)));
-        coloredLogs.put(TestResult.UNDEFINED, Logger::info);
+    private Map<TestResult, Consumer<String>> coloredLogs() {
+        Map<TestResult, Consumer<String>> coloredLogs = new HashMap<>();
+        coloredLogs.put(TestResult.SUCCESS, msg -> info(colored.green(msg)));
+        coloredLogs.put(TestResult.FAILURE, msg -> error(colored.red(msg)));
+        coloredLogs.put(TestResult.ERROR, msg -> error(colored.red(msg)));
+        coloredLogs.put(TestResult.PENDING, msg -> info(colored.cyan(msg)));
+        coloredLogs.put(TestResult.SKIPPED, msg -> info(colored.yellow(msg)));
+        coloredLogs.put(TestResult.IGNORED, msg -> info(colored.yellow(msg)));
+        coloredLogs.put(TestResult.COMPROMISED, msg -> error(colored.purple(msg)));
+        coloredLogs.put(TestResult.UNDEFINED, msg -> info(msg));
 
         return coloredLogs;
     }
@@ -215,7 +294,7 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
             String message = consoleHeading.bannerFor(ConsoleEvent.forTestResult(result.getResult()),
                     result.getTitle() + " (manual test)");
 
-            coloredLogs().get(result.getResult()).accept(getLogger(), message);
+            coloredLogs().get(result.getResult()).accept(message);
 
             logRelatedIssues(result);
         }
@@ -223,7 +302,7 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
 
     private void logFailure(TestOutcome result) {
         if (loggingLevelIsAtLeast(LoggingLevel.QUIET)) {
-            getLogger().error(colored.red(consoleHeading.bannerFor(TEST_FAILED, result.getTitle())));
+            error(colored.red(consoleHeading.bannerFor(TEST_FAILED, result.getTitle())));
             logRelatedIssues(result);
             logFailureCause(result);
         }
@@ -231,7 +310,7 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
 
     private void logError(TestOutcome result) {
         if (loggingLevelIsAtLeast(LoggingLevel.QUIET)) {
-            getLogger().error(colored.red(consoleHeading.bannerFor(TEST_ERROR, result.getTitle())));
+            error(colored.red(consoleHeading.bannerFor(TEST_ERROR, result.getTitle())));
             logRelatedIssues(result);
             logFailureCause(result);
 
@@ -240,7 +319,7 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
 
     private void logCompromised(TestOutcome result) {
         if (loggingLevelIsAtLeast(LoggingLevel.QUIET)) {
-            getLogger().error(colored.red(consoleHeading.bannerFor(TEST_COMPROMISED, result.getTitle())));
+            error(colored.red(consoleHeading.bannerFor(TEST_COMPROMISED, result.getTitle())));
             logRelatedIssues(result);
             logFailureCause(result);
         }
@@ -248,7 +327,7 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
 
     private void logRelatedIssues(TestOutcome result) {
         Joiner joiner = Joiner.on(",");
-        getLogger().debug("RELATED ISSUES: {}", joiner.join(result.getIssueKeys()));
+        debug("RELATED ISSUES: {}", joiner.join(result.getIssueKeys()));
 
     }
 
@@ -256,27 +335,27 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
         if (result.getNestedTestFailureCause() != null) {
             if (result.getFailingStep().isPresent()) {
                 String failingStep = result.getFailingStep().get().unrendered().getDescription();
-                getLogger().error(colored.red("    Test failed at step: " + failingStep));
+                error(colored.red("    Test failed at step: " + failingStep));
             }
-            getLogger().error(colored.red("    " + result.getNestedTestFailureCause().getShortenedMessage()));
+            error(colored.red("    " + result.getNestedTestFailureCause().getShortenedMessage()));
         }
     }
 
     private void logPending(TestOutcome result) {
         if (loggingLevelIsAtLeast(LoggingLevel.SUMMARY)) {
-            getLogger().info(colored.cyan(consoleHeading.bannerFor(TEST_PENDING, result.getTitle())));
+            info(colored.cyan(consoleHeading.bannerFor(TEST_PENDING, result.getTitle())));
         }
     }
 
     private void logSkipped(TestOutcome result) {
         if (loggingLevelIsAtLeast(LoggingLevel.SUMMARY)) {
-            getLogger().info(colored.yellow(consoleHeading.bannerFor(TEST_SKIPPED, result.getTitle())));
+            info(colored.yellow(consoleHeading.bannerFor(TEST_SKIPPED, result.getTitle())));
         }
     }
 
     private void logSuccess(TestOutcome result) {
         if (loggingLevelIsAtLeast(LoggingLevel.SUMMARY)) {
-            getLogger().info(colored.green(consoleHeading.bannerFor(TEST_PASSED, result.getTitle())));
+            info(colored.green(consoleHeading.bannerFor(TEST_PASSED, result.getTitle())));
         }
     }
 
@@ -286,7 +365,7 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
         if (loggingLevelIsAtLeast(LoggingLevel.VERBOSE)) {
             String indent = indentation(nestedSteps.size());// StringUtils.repeat("  ", nestedSteps.size());
          //   System.out.println(withTimestamp(colored.green(indent + description.getTitle())));
-            getLogger().info(colored.green(indent + description.getTitle()));
+            info(colored.green(indent + description.getTitle()));
         }
     }
 
@@ -329,7 +408,7 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
         if (loggingLevelIsAtLeast(LoggingLevel.VERBOSE)) {
             String errorMessage = (failure.getException() != null) ? failure.getException().toString() : failure.getMessage();
             String failureType = analysis.resultFor(failure.getException()).name();
-            getLogger().info(colored.red("STEP {}: {}"), failureType, errorMessage);
+            info(colored.red("STEP {}: {}"), failureType, errorMessage);
         }
     }
 
@@ -352,7 +431,7 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
     public void stepIgnored() {
         stepOut();
         if (loggingLevelIsAtLeast(LoggingLevel.VERBOSE) && (!flaggedSteps.contains(currentStep))) {
-            getLogger().info(colored.yellow("      -> STEP IGNORED"));
+            info(colored.yellow("      -> STEP IGNORED"));
             flaggedSteps.add(currentStep);
         }
     }
@@ -360,7 +439,7 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
     public void stepPending() {
         stepOut();
         if (loggingLevelIsAtLeast(LoggingLevel.VERBOSE) && (!flaggedSteps.contains(currentStep))) {
-            getLogger().info(colored.cyan("      -> STEP IS PENDING"));
+            info(colored.cyan("      -> STEP IS PENDING"));
             flaggedSteps.add(currentStep);
         }
     }
@@ -369,7 +448,7 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
     public void stepPending(String message) {
         stepOut();
         if (loggingLevelIsAtLeast(LoggingLevel.VERBOSE) && (!flaggedSteps.contains(currentStep))) {
-            getLogger().info(colored.cyan("      -> PENDING STEP ({})"), message);
+            info(colored.cyan("      -> PENDING STEP ({})"), message);
             flaggedSteps.add(currentStep);
         }
     }
@@ -377,7 +456,7 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
 
     public void testIgnored() {
         if (loggingLevelIsAtLeast(LoggingLevel.NORMAL)) {
-            getLogger().info(colored.yellow("      -> TEST IGNORED"));
+            info(colored.yellow("      -> TEST IGNORED"));
         }
     }
 
@@ -395,28 +474,32 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
     @Override
     public void testSkipped() {
         if (loggingLevelIsAtLeast(LoggingLevel.NORMAL)) {
-            getLogger().info(colored.yellow("      -> TEST SKIPPED"));
+            info(colored.yellow("      -> TEST SKIPPED"));
         }
     }
 
     @Override
     public void testAborted() {
         if (loggingLevelIsAtLeast(LoggingLevel.NORMAL)) {
-            getLogger().info(colored.yellow("      -> TEST ABORTED"));
+            info(colored.yellow("      -> TEST ABORTED"));
         }
     }
 
     @Override
     public void assumptionViolated(String message) {
         if (loggingLevelIsAtLeast(LoggingLevel.QUIET)) {
-            getLogger().error(colored.red("      -> ASSUMPTION VIOLATED: " + message));
+            error(colored.red("      -> ASSUMPTION VIOLATED: " + message));
         }
     }
 
     @Override
     public void testRunFinished() {
         if (loggingLevelIsAtLeast(LoggingLevel.VERBOSE)) {
-            getLogger().info("FINISHING TEST RUN");
+            info("FINISHING TEST RUN");
+        }
+        if (asyncWriter != null) {
+            writeGroupedLines();
+            asyncWriter.flush(Duration.ofSeconds(30));
         }
     }
 }
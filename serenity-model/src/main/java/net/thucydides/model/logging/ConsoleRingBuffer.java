@@ -0,0 +1,75 @@
+package net.thucydides.model.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free queue for many producing threads and a single consuming thread.
+ * <p>
+ * Producers claim a slot by advancing the tail with a compare-and-set, then publish their entry in it. The consumer
+ * reads the slot at the head once it has been published, clears it and advances the head, which makes the slot
+ * available to producers again.
+ * </p>
+ */
+class ConsoleRingBuffer<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    ConsoleRingBuffer(int requestedCapacity) {
+        this.capacity = powerOfTwoAtLeast(Math.max(2, requestedCapacity));
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    private static int powerOfTwoAtLeast(int value) {
+        int highestBit = Integer.highestOneBit(value);
+        return (highestBit == value) ? value : highestBit << 1;
+    }
+
+    /**
+     * @return false if the buffer is full
+     */
+    boolean offer(T entry) {
+        long claimed;
+        do {
+            claimed = tail.get();
+            if (claimed - head.get() >= capacity) {
+                return false;
+            }
+        } while (!tail.compareAndSet(claimed, claimed + 1));
+        slots.lazySet(slotFor(claimed), entry);
+        return true;
+    }
+
+    /**
+     * Only called from the consuming thread.
+     *
+     * @return the next entry, or null if there is none, or if the next entry has not been published yet
+     */
+    T poll() {
+        long next = head.get();
+        int slot = slotFor(next);
+        T entry = slots.get(slot);
+        if (entry == null) {
+            return null;
+        }
+        slots.lazySet(slot, null);
+        head.lazySet(next + 1);
+        return entry;
+    }
+
+    /**
+     * The number of entries claimed so far, including those not yet consumed.
+     */
+    long claimed() {
+        return tail.get();
+    }
+
+    private int slotFor(long sequence) {
+        return (int) (sequence & mask);
+    }
+}
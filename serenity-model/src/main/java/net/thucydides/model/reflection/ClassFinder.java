@@ -36,18 +36,25 @@ public class ClassFinder {
         return new ClassFinder(getDefaultClassLoader());
     }
 
+    /**
+     * Load classes from the given class loader rather than the context class loader.
+     */
+    public static ClassFinder loadClasses(ClassLoader classLoader) {
+        return new ClassFinder(classLoader);
+    }
+
     public ClassFinder annotatedWith(Class annotation) {
         return new ClassFinder(this.classLoader, annotation);
     }
 
     /**
-     * Scans all classes accessible from the context class loader which belong to the given package and subpackages.
+     * Scans all classes accessible from the class loader of this finder which belong to the given package and subpackages.
      *
      * @param packageName The base package
      * @return The classes
      */
     public List<Class<?>> fromPackage(String packageName) {
-        return filtered(getClasses(packageName));
+        return filtered(getClasses(packageName, classLoader));
     }
 
     private List<Class<?>> filtered(Collection<Class<?>> classes) {
@@ -89,11 +96,14 @@ public class ClassFinder {
      * @return The classes
      */
     public static List<Class<?>> getClasses(String packageName) {
+        return getClasses(packageName, Thread.currentThread().getContextClassLoader());
+    }
+
+    private static List<Class<?>> getClasses(String packageName, ClassLoader classLoader) {
         if (packageName.isEmpty()) {
             return new ArrayList<>();
         }
         try {
-            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
             assert classLoader != null;
             String path = packageName.replace('.', '/');
             Enumeration resources = classLoader.getResources(path);
@@ -110,7 +120,7 @@ public class ClassFinder {
             for (String className : classes) {
                 try {
                     if (className.startsWith(packageName) && isNotAnInnerClass(className) && !(className.startsWith("."))) {
-                        classList.add(Class.forName(className));
+                        classList.add(Class.forName(className, true, classLoader));
                     }
                 } catch (Throwable e) {
                     LOGGER.debug("Could not load class {}", className);
@@ -132,14 +132,27 @@ public class ReportService {
             return;
         }
         final TestOutcomes allTestOutcomes = TestOutcomes.of(testOutcomeResults);
-        for (final AcceptanceTestReporter reporter : getSubscribedReporters()) {
-            generateReportsFor(reporter, allTestOutcomes);
-        }
-        for (final AcceptanceTestFullReporter reporter : getSubscribedFullReporters()) {
-            generateFullReportFor(allTestOutcomes, reporter);
+        try {
+            for (final AcceptanceTestReporter reporter : getSubscribedReporters()) {
+                generateReportsFor(reporter, allTestOutcomes);
+            }
+            for (final AcceptanceTestFullReporter reporter : getSubscribedFullReporters()) {
+                generateFullReportFor(allTestOutcomes, reporter);
+            }
+            generateJUnitTestResults(allTestOutcomes);
+        } finally {
+            deleteStepJournalsOf(testOutcomeResults);
         }
-        generateJUnitTestResults(allTestOutcomes);
+    }
 
+    /**
+     * Journalled steps are read back by each reporter in turn, so the journals are only deleted once every report
+     * has been generated.
+     */
+    private void deleteStepJournalsOf(List<TestOutcome> testOutcomeResults) {
+        for (TestOutcome testOutcome : testOutcomeResults) {
+            testOutcome.deleteStepJournal();
+        }
     }
 
     /**
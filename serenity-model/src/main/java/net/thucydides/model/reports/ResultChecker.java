@@ -65,6 +65,14 @@ public class ResultChecker {
 
         return TestResult.UNDEFINED;
     }
+
+    /**
+     * Check the results of outcomes that have already been loaded for reporting, rather than loading them again.
+     */
+    public TestResult checkTestResults(SharedTestOutcomes sharedOutcomes) throws IOException {
+        return checkTestResults(filtered(sharedOutcomes.getTestOutcomes()));
+    }
+
     private static final int COLUMN_WIDTH = 30;
     private void logOutcomesFrom(TestOutcomes testOutcomes) {
 
@@ -168,19 +176,20 @@ public class ResultChecker {
     private Optional<TestOutcomes> loadOutcomes() {
         TestOutcomes outcomes = null;
         try {
-            outcomes = TestOutcomeLoader.loadTestOutcomes()
+            outcomes = filtered(TestOutcomeLoader.loadTestOutcomes()
                                         .inFormat(OutcomeFormat.JSON)
-                                        .from(outputDirectory)
-                                        .filteredByEnvironmentTags();
-            if (thereAreTagsIn(tags)) {
-                outcomes = outcomes.withTags(tags);
-            }
+                                        .from(outputDirectory));
         } catch (IOException e) {
             e.printStackTrace();
         }
         return Optional.ofNullable(outcomes);
     }
 
+    private TestOutcomes filtered(TestOutcomes loadedOutcomes) {
+        TestOutcomes outcomes = loadedOutcomes.filteredByEnvironmentTags();
+        return thereAreTagsIn(tags) ? outcomes.withTags(tags) : outcomes;
+    }
+
     private boolean thereAreTagsIn(List<TestTag> tags) {
         return !(tags.isEmpty() || isBlank(tags.get(0).getName()));
     }
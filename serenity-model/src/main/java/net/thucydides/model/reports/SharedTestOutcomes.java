@@ -0,0 +1,87 @@
+package net.thucydides.model.reports;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * The test outcomes in a given directory, loaded at most once and shared by every report generator
+ * (and the final result check) that runs during an aggregate reporting task.
+ * <p>
+ * The outcomes are loaded the first time they are requested. The holder is reference-counted: whoever creates it
+ * owns the first reference, anyone who needs the outcomes to outlive that owner calls {@link #retain()}, and every
+ * reference is released with {@link #close()}. When the last reference is released the outcomes are dropped, so
+ * that they can be garbage-collected even if the holder itself is still reachable.
+ * </p>
+ * <p>
+ * Report generators receive the raw loaded outcomes and apply their own filtering (environment tags, requested
+ * tags), exactly as they would after loading the directory themselves.
+ * </p>
+ */
+public class SharedTestOutcomes implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedTestOutcomes.class);
+
+    private final File sourceDirectory;
+    private final OutcomeFormat format;
+
+    private int references = 1;
+    private TestOutcomes testOutcomes;
+
+    private SharedTestOutcomes(File sourceDirectory, OutcomeFormat format) {
+        this.sourceDirectory = sourceDirectory;
+        this.format = format;
+    }
+
+    public static SharedTestOutcomes loadedFrom(File sourceDirectory) {
+        return loadedFrom(sourceDirectory, OutcomeFormat.JSON);
+    }
+
+    public static SharedTestOutcomes loadedFrom(File sourceDirectory, OutcomeFormat format) {
+        return new SharedTestOutcomes(sourceDirectory, format);
+    }
+
+    public File getSourceDirectory() {
+        return sourceDirectory;
+    }
+
+    /**
+     * The outcomes in the source directory, loaded on the first call.
+     *
+     * @throws IllegalStateException if every reference to these outcomes has already been released
+     */
+    public synchronized TestOutcomes getTestOutcomes() throws IOException {
+        if (references == 0) {
+            throw new IllegalStateException("The test outcomes loaded from " + sourceDirectory + " have already been released");
+        }
+        if (testOutcomes == null) {
+            LOGGER.debug("Loading test outcomes from {}", sourceDirectory);
+            testOutcomes = TestOutcomeLoader.loadTestOutcomes().inFormat(format).from(sourceDirectory);
+        }
+        return testOutcomes;
+    }
+
+    public synchronized boolean isLoaded() {
+        return testOutcomes != null;
+    }
+
+    /**
+     * Take an additional reference to these outcomes, to be released with {@link #close()}.
+     */
+    public synchronized SharedTestOutcomes retain() {
+        if (references == 0) {
+            throw new IllegalStateException("The test outcomes loaded from " + sourceDirectory + " have already been released");
+        }
+        references++;
+        return this;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (references > 0 && --references == 0) {
+            testOutcomes = null;
+        }
+    }
+}
@@ -85,6 +85,20 @@ public class TestOutcomeLoader {
 
     }
 
+    /**
+     * Read the test outcomes in a given directory one at a time, as the stream is consumed, rather than loading
+     * them all up front. The outcomes are returned in the order in which their files are listed, not sorted.
+     * The stream must be closed once it has been read.
+     */
+    public Stream<TestOutcome> streamFrom(final File reportDirectory) throws IOException {
+        final AcceptanceTestLoader testOutcomeReporter = getOutcomeReporter();
+        return allOutcomeFilesFrom(reportDirectory)
+                .map(sourceFile -> testOutcomeReporter.loadReportFrom(sourceFile))
+                .flatMap(loadedOutcome -> loadedOutcome.map(Stream::of).orElseGet(Stream::empty))
+                .map(TestOutcomeLoader::augmented)
+                .map(TestOutcome::freeze);
+    }
+
     private final static List<? extends OutcomeAugmenter> AUGMENTERS = NewList.of(
             new FlagsAugmenter()
     );
@@ -105,17 +119,18 @@ public class TestOutcomeLoader {
 
             return loadedTestOutcome.map(Collections::singleton).orElse(Collections.emptySet())
                     .stream()
-                    .map(this::augmented)
+                    .map(TestOutcomeLoader::augmented)
+                    .map(TestOutcome::freeze)
                     .collect(Collectors.toList());
         }
+    }
 
-        private TestOutcome augmented(final TestOutcome testOutcome) {
+    private static TestOutcome augmented(final TestOutcome testOutcome) {
 
-            AUGMENTERS.forEach(
-                    augmenter -> augmenter.augment(testOutcome)
-            );
-            return testOutcome;
-        }
+        AUGMENTERS.forEach(
+                augmenter -> augmenter.augment(testOutcome)
+        );
+        return testOutcome;
     }
 
 
@@ -20,7 +20,15 @@ public interface UserStoryTestReporter {
      * Generates a set of user story reports from a given directory.
      */
     TestOutcomes generateReportsForTestResultsFrom(final File sourceDirectory) throws IOException;
-    
+
+    /**
+     * Generates a set of user story reports from outcomes that have already been loaded, and that are shared
+     * with other reporters. Reporters that do not override this method load the outcomes again themselves.
+     */
+    default TestOutcomes generateReportsFor(final SharedTestOutcomes testOutcomes) throws IOException {
+        return generateReportsForTestResultsFrom(testOutcomes.getSourceDirectory());
+    }
+
     File getOutputDirectory();
 
     void setOutputDirectory(final File outputDirectory);
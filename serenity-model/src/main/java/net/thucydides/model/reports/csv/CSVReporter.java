@@ -8,6 +8,8 @@ import net.thucydides.model.domain.TestOutcome;
 import net.thucydides.model.environment.SystemEnvironmentVariables;
 import net.thucydides.model.reports.TestOutcomes;
 import net.thucydides.model.reports.ThucydidesReporter;
+import net.thucydides.model.reports.export.OutcomeExporter;
+import net.thucydides.model.reports.export.OutcomeSink;
 import net.thucydides.model.util.EnvironmentVariables;
 import net.thucydides.model.util.Inflector;
 
@@ -45,13 +47,52 @@ public class CSVReporter extends ThucydidesReporter {
     }
 
     public File generateReportFor(TestOutcomes testOutcomes, String reportName) throws IOException {
-        try (CSVWriter writer = new CSVWriter(
-                new java.io.OutputStreamWriter(
-                        new java.io.FileOutputStream(getOutputFile(reportName)), encoding))) {
+        OutcomeExporter.to(sinkFor(reportName)).export(testOutcomes.getTests());
+        return getOutputFile(reportName);
+    }
+
+    /**
+     * A sink that writes each exported outcome as a row of the named CSV report.
+     */
+    public OutcomeSink sinkFor(String reportName) {
+        return new CSVOutcomeSink(getOutputFile(reportName));
+    }
+
+    private class CSVOutcomeSink implements OutcomeSink {
+        private final File outputFile;
+        private CSVWriter writer;
+
+        CSVOutcomeSink(File outputFile) {
+            this.outputFile = outputFile;
+        }
+
+        @Override
+        public void start() throws IOException {
+            writer = new CSVWriter(new java.io.OutputStreamWriter(new java.io.FileOutputStream(outputFile), encoding));
             writeTitleRow(writer);
-            writeEachRow(testOutcomes, writer);
         }
-        return getOutputFile(reportName);
+
+        @Override
+        public void accept(TestOutcome outcome) {
+            writer.writeNext(withRowDataFrom(outcome));
+        }
+
+        @Override
+        public void finish() throws IOException {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+
+        @Override
+        public void abort() {
+            try {
+                finish();
+            } catch (IOException ignored) {
+                // The partial report is discarded anyway
+            }
+            outputFile.delete();
+        }
     }
 
     private void writeTitleRow(CSVWriter writer) {
@@ -64,12 +105,6 @@ public class CSVReporter extends ThucydidesReporter {
         writer.writeNext(titles.toArray(OF_STRINGS));
     }
 
-    private void writeEachRow(TestOutcomes testOutcomes, CSVWriter writer) {
-        for (TestOutcome outcome : testOutcomes.getTests()) {
-            writer.writeNext(withRowDataFrom(outcome));
-        }
-    }
-
     private Double passRateFor(TestOutcome outcome) {
         return 0.0;//outcome.getStatistics().getPassRate().overTheLast(5).testRuns();
     }
@@ -0,0 +1,125 @@
+package net.thucydides.model.reports.export;
+
+import net.thucydides.model.domain.TestOutcome;
+import net.thucydides.model.reports.OutcomeFormat;
+import net.thucydides.model.reports.TestOutcomeLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Exports test outcomes to several formats in a single pass.
+ * <p>
+ * Each outcome is read once and handed to every {@link OutcomeSink} in turn, so exporting to CSV, JUnit XML and
+ * a JSON summary costs one traversal of the outcomes rather than one per format. When exporting straight from
+ * a directory of test results, outcomes are read one file at a time as they are exported, so the exports can run
+ * without loading the full set of outcomes or generating the HTML report.
+ * </p>
+ * <pre>
+ *     OutcomeExporter.to(csvReporter.sinkFor("results.csv"), junitReporter.sink())
+ *                    .exportFrom(sourceDirectory);
+ * </pre>
+ * <p>
+ * If any sink fails, the others are aborted rather than finished, so a failed export does not leave a mix of
+ * complete and partial reports behind.
+ * </p>
+ */
+public class OutcomeExporter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutcomeExporter.class);
+
+    private final List<OutcomeSink> sinks;
+
+    private OutcomeExporter(List<OutcomeSink> sinks) {
+        this.sinks = sinks;
+    }
+
+    public static OutcomeExporter to(OutcomeSink... sinks) {
+        return new OutcomeExporter(Arrays.asList(sinks));
+    }
+
+    public static OutcomeExporter to(List<OutcomeSink> sinks) {
+        return new OutcomeExporter(new ArrayList<>(sinks));
+    }
+
+    public void export(Iterable<? extends TestOutcome> outcomes) throws IOException {
+        try {
+            startAll();
+            for (TestOutcome outcome : outcomes) {
+                fanOut(outcome);
+            }
+        } catch (IOException | RuntimeException e) {
+            abortAll(sinks);
+            throw e;
+        }
+        finishAll();
+    }
+
+    /**
+     * Export the test outcomes stored in JSON form in a directory, reading them one at a time.
+     */
+    public void exportFrom(File sourceDirectory) throws IOException {
+        TestOutcomeLoader loader = new TestOutcomeLoader().forFormat(OutcomeFormat.JSON);
+        try (Stream<TestOutcome> outcomes = loader.streamFrom(sourceDirectory)) {
+            startAll();
+            outcomes.forEach(outcome -> {
+                try {
+                    fanOut(outcome);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            abortAll(sinks);
+            throw e.getCause();
+        } catch (IOException | RuntimeException e) {
+            abortAll(sinks);
+            throw e;
+        }
+        finishAll();
+    }
+
+    private void startAll() throws IOException {
+        for (OutcomeSink sink : sinks) {
+            sink.start();
+        }
+    }
+
+    private void fanOut(TestOutcome outcome) throws IOException {
+        for (OutcomeSink sink : sinks) {
+            sink.accept(outcome);
+        }
+    }
+
+    /**
+     * Sinks are finished in order. If one of them fails, the export is incomplete, so the sinks that have not been
+     * finished yet are aborted rather than left to write partial reports.
+     */
+    private void finishAll() throws IOException {
+        for (int i = 0; i < sinks.size(); i++) {
+            try {
+                sinks.get(i).finish();
+            } catch (IOException | RuntimeException e) {
+                abortAll(sinks.subList(i + 1, sinks.size()));
+                throw e;
+            }
+        }
+    }
+
+    private void abortAll(List<OutcomeSink> sinksToAbort) {
+        for (OutcomeSink sink : sinksToAbort) {
+            try {
+                sink.abort();
+            } catch (RuntimeException e) {
+                LOGGER.warn("Could not abort the export to {}", sink, e);
+            }
+        }
+    }
+}
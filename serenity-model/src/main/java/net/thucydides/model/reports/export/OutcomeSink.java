@@ -0,0 +1,30 @@
+package net.thucydides.model.reports.export;
+
+import net.thucydides.model.domain.TestOutcome;
+
+import java.io.IOException;
+
+/**
+ * Receives test outcomes one at a time from an {@link OutcomeExporter}, and writes them to some export format.
+ * Sinks are called from a single thread, in the order in which the outcomes are read.
+ */
+public interface OutcomeSink {
+
+    /**
+     * Called once, before the first outcome.
+     */
+    default void start() throws IOException {}
+
+    void accept(TestOutcome outcome) throws IOException;
+
+    /**
+     * Called once, after the last outcome, to complete and close the export.
+     */
+    default void finish() throws IOException {}
+
+    /**
+     * Called instead of {@link #finish()} when the export fails, to release any resources and discard the partial
+     * output. It may be called even if {@link #start()} never was.
+     */
+    default void abort() {}
+}
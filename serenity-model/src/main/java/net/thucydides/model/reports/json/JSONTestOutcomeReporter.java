@@ -6,6 +6,7 @@ import net.serenitybdd.model.environment.ConfiguredEnvironment;
 import net.thucydides.model.ThucydidesSystemProperty;
 import net.thucydides.model.domain.ReportType;
 import net.thucydides.model.domain.TestOutcome;
+import net.thucydides.model.domain.TestStep;
 import net.thucydides.model.reports.AcceptanceTestLoader;
 import net.thucydides.model.reports.AcceptanceTestReporter;
 import net.thucydides.model.reports.OutcomeFormat;
@@ -54,6 +55,8 @@ public class JSONTestOutcomeReporter implements AcceptanceTestReporter, Acceptan
 
         LOGGER.debug("Generating JSON report for {} to file {})", testOutcome.getTitle(), report.getAbsolutePath());
 
+        storeLargeContentInSidecarFiles(storedTestOutcome);
+
         try(OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(report))){
             jsonConverter.toJson(storedTestOutcome, outputStream);
             outputStream.flush();
@@ -70,6 +73,17 @@ public class JSONTestOutcomeReporter implements AcceptanceTestReporter, Acceptan
         return report;
     }
 
+    private void storeLargeContentInSidecarFiles(TestOutcome testOutcome) throws IOException {
+        int threshold = ThucydidesSystemProperty.SERENITY_REPORT_SIDECAR_THRESHOLD.integerFrom(environmentVariables, 0);
+        if (threshold <= 0) {
+            return;
+        }
+        SidecarContentStore sidecarStore = SidecarContentStore.forReportDirectory(getOutputDirectory().toPath());
+        for (TestStep step : testOutcome.getFlattenedTestSteps()) {
+            step.storeLargeContentIn(sidecarStore, threshold);
+        }
+    }
+
     public File getOutputDirectory() {
         return outputDirectory;
     }
@@ -103,7 +117,9 @@ public class JSONTestOutcomeReporter implements AcceptanceTestReporter, Acceptan
             return Optional.empty();
         }
         try (BufferedReader in = new BufferedReader(new InputStreamReader(Files.newInputStream(reportFile.toPath()), encoding))) {
-            return jsonConverter.fromJson(in);
+            Optional<TestOutcome> testOutcome = jsonConverter.fromJson(in);
+            testOutcome.ifPresent(outcome -> resolveSidecarContentFor(outcome, reportFile));
+            return testOutcome;
         } catch (Throwable e) {
             LOGGER.debug("This file was not a valid JSON Serenity test report: " + reportFile.getName()
                     + System.lineSeparator() + e.getMessage());
@@ -111,6 +127,16 @@ public class JSONTestOutcomeReporter implements AcceptanceTestReporter, Acceptan
         }
     }
 
+    /**
+     * Sidecar content is not read here: steps are only told where to find it if a report needs it.
+     */
+    private void resolveSidecarContentFor(TestOutcome testOutcome, File reportFile) {
+        SidecarContentStore sidecarStore = SidecarContentStore.forReportDirectory(reportFile.getAbsoluteFile().getParentFile().toPath());
+        for (TestStep step : testOutcome.getFlattenedTestSteps()) {
+            step.resolveLargeContentFrom(sidecarStore);
+        }
+    }
+
     @Override
     public List<TestOutcome> loadReportsFrom(final Path outputDirectory) {
         return loadReportsFrom(outputDirectory.toFile());
@@ -0,0 +1,106 @@
+package net.thucydides.model.reports.json;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Stores large text content (REST request and response bodies, step evidence) in compressed sidecar files
+ * next to the JSON test outcomes, rather than inline in each outcome.
+ * <p>
+ * Files are content-addressed: each one is named after the SHA-256 hash of its contents, so identical bodies
+ * recorded by different tests are only stored once, and concurrent writers of the same content are harmless.
+ * Outcomes only hold the hash, so loading them for the aggregate reports never reads the bodies; they are read
+ * when something (typically the test detail page) actually asks for them.
+ * </p>
+ */
+public class SidecarContentStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SidecarContentStore.class);
+
+    public static final String SIDECAR_DIRECTORY = "sidecar";
+    private static final String SIDECAR_SUFFIX = ".txt.gz";
+
+    /**
+     * Shown in place of content whose sidecar file has been deleted or cannot be read.
+     */
+    public static final String UNAVAILABLE_CONTENT = "[This content is no longer available]";
+
+    private final Path directory;
+
+    private SidecarContentStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * The sidecar store used by the JSON outcomes in the given report directory.
+     */
+    public static SidecarContentStore forReportDirectory(Path reportDirectory) {
+        return new SidecarContentStore(reportDirectory.resolve(SIDECAR_DIRECTORY));
+    }
+
+    /**
+     * Store the content, if it is not already there, and return the reference to use to read it back.
+     */
+    public String store(String content) throws IOException {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        String reference = sha256Of(bytes);
+        Path target = directory.resolve(reference + SIDECAR_SUFFIX);
+        if (Files.exists(target)) {
+            return reference;
+        }
+        Files.createDirectories(directory);
+        Path temporaryFile = Files.createTempFile(directory, reference, ".tmp");
+        try {
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temporaryFile))) {
+                out.write(bytes);
+            }
+            Files.move(temporaryFile, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException writtenByAnotherThread) {
+            // Same name means same content
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+        return reference;
+    }
+
+    /**
+     * Read back content previously stored with {@link #store(String)}. If the sidecar file is missing or unreadable,
+     * for example because the sidecar directory was not copied with the reports, a warning is logged and
+     * {@link #UNAVAILABLE_CONTENT} is returned, so that the rest of the report can still be displayed.
+     */
+    public String read(String reference) {
+        Path source = directory.resolve(reference + SIDECAR_SUFFIX);
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(source))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LOGGER.warn("Could not read sidecar content {}: {}", source, e.getMessage());
+            return UNAVAILABLE_CONTENT;
+        }
+    }
+
+    private static String sha256Of(byte[] bytes) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder hex = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
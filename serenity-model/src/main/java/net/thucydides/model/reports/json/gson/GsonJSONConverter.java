@@ -1,23 +1,60 @@
 package net.thucydides.model.reports.json.gson;
 
+import com.google.gson.ExclusionStrategy;
+import com.google.gson.FieldAttributes;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import net.thucydides.model.ThucydidesSystemProperty;
 import net.thucydides.model.domain.TestOutcome;
+import net.thucydides.model.domain.TestStep;
 import net.thucydides.model.domain.flags.Flag;
 import net.thucydides.model.reports.json.AScenarioHasNoNameException;
 import net.thucydides.model.reports.json.JSONConverter;
 import net.thucydides.model.util.EnvironmentVariables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.time.ZonedDateTime;
 import java.util.Collection;
+import java.util.Map;
 
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
 public class GsonJSONConverter implements JSONConverter {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(GsonJSONConverter.class);
+
+    private static final String JOURNALLED_CHILDREN = "journalledChildren";
+    private static final String CHILDREN = "children";
+    private static final String TEST_STEPS = "testSteps";
+    private static final String JOURNALLED_STEPS = "journalledSteps";
+
+    /**
+     * Writes the fields of a test outcome other than its steps, which are written separately when some of them
+     * are journalled.
+     */
+    private static final Gson OUTCOME_WITHOUT_STEPS = configuredGsonBuilder()
+            .addSerializationExclusionStrategy(new ExclusionStrategy() {
+                @Override
+                public boolean shouldSkipField(FieldAttributes field) {
+                    return field.getDeclaringClass() == TestOutcome.class
+                            && (TEST_STEPS.equals(field.getName()) || JOURNALLED_STEPS.equals(field.getName()));
+                }
+
+                @Override
+                public boolean shouldSkipClass(Class<?> type) {
+                    return false;
+                }
+            })
+            .create();
+
     private final EnvironmentVariables environmentVariables;
 
     private final Gson gson;
@@ -32,7 +69,12 @@ public class GsonJSONConverter implements JSONConverter {
     public GsonJSONConverter(EnvironmentVariables environmentVariables) {
         this.environmentVariables = environmentVariables;
         encoding = ThucydidesSystemProperty.SERENITY_REPORT_ENCODING.from(environmentVariables, StandardCharsets.UTF_8.name());
-        GsonBuilder gsonBuilder = new GsonBuilder()
+        GsonBuilder gsonBuilder = configuredGsonBuilder();
+        this.gson = (usePrettyPrinting()) ? gsonBuilder.setPrettyPrinting().create() : gsonBuilder.create();
+    }
+
+    static GsonBuilder configuredGsonBuilder() {
+        return new GsonBuilder()
                 .registerTypeAdapterFactory(OptionalTypeAdapter.FACTORY)
                 .registerTypeHierarchyAdapter(Collection.class, new CollectionAdapter())
                 .registerTypeAdapter(Flag.class, new InterfaceAdapter<Flag>())
@@ -42,7 +84,6 @@ public class GsonJSONConverter implements JSONConverter {
                 .registerTypeAdapter(File.class, new FileSerializer())
                 .registerTypeAdapter(File.class, new FileDeserializer())
                 .registerTypeAdapter(Class.class, new ClassTypeAdapter());
-        this.gson = (usePrettyPrinting()) ? gsonBuilder.setPrettyPrinting().create() : gsonBuilder.create();
     }
 
     @Override
@@ -75,7 +116,94 @@ public class GsonJSONConverter implements JSONConverter {
     public void toJson(TestOutcome testOutcome, OutputStream outputStream) throws IOException {
         testOutcome.calculateDynamicFieldValues();
         try (Writer out = new OutputStreamWriter(outputStream, encoding)) {
-            gson.toJson(testOutcome, out);
+            if (testOutcome.hasJournalledSteps()) {
+                writeWithJournalledSteps(testOutcome, out);
+            } else {
+                gson.toJson(testOutcome, out);
+            }
+        }
+    }
+
+    /**
+     * Journalled steps are only referred to by the outcome and the steps above them, so the outcome is written
+     * without its steps first, and the steps are then written one at a time, reading each batch of journalled steps
+     * back from the {@link StepJournal} as it is reached.
+     */
+    private void writeWithJournalledSteps(TestOutcome testOutcome, Writer out) throws IOException {
+        JsonWriter jsonWriter = gson.newJsonWriter(out);
+        jsonWriter.beginObject();
+        for (Map.Entry<String, JsonElement> field : OUTCOME_WITHOUT_STEPS.toJsonTree(testOutcome).getAsJsonObject().entrySet()) {
+            jsonWriter.name(field.getKey());
+            gson.toJson(field.getValue(), jsonWriter);
+        }
+        jsonWriter.name(TEST_STEPS);
+        jsonWriter.beginArray();
+        for (StepJournal.Entry entry : testOutcome.getJournalledSteps()) {
+            writeJournalledSteps(entry, jsonWriter);
+        }
+        for (TestStep step : testOutcome.getTestSteps()) {
+            writeStitched(gson.toJsonTree(step), jsonWriter);
+        }
+        jsonWriter.endArray();
+        jsonWriter.endObject();
+        jsonWriter.flush();
+    }
+
+    private void writeStitched(JsonElement element, JsonWriter out) throws IOException {
+        if (element.isJsonObject()) {
+            JsonObject object = element.getAsJsonObject();
+            out.beginObject();
+            for (Map.Entry<String, JsonElement> field : object.entrySet()) {
+                if (!JOURNALLED_CHILDREN.equals(field.getKey()) && !CHILDREN.equals(field.getKey())) {
+                    out.name(field.getKey());
+                    writeStitched(field.getValue(), out);
+                }
+            }
+            if (object.has(JOURNALLED_CHILDREN) || object.has(CHILDREN)) {
+                out.name(CHILDREN);
+                out.beginArray();
+                if (object.has(JOURNALLED_CHILDREN)) {
+                    for (JsonElement entry : object.getAsJsonArray(JOURNALLED_CHILDREN)) {
+                        writeJournalledSteps(gson.fromJson(entry, StepJournal.Entry.class), out);
+                    }
+                }
+                if (object.has(CHILDREN)) {
+                    for (JsonElement child : object.getAsJsonArray(CHILDREN)) {
+                        writeStitched(child, out);
+                    }
+                }
+                out.endArray();
+            }
+            out.endObject();
+        } else if (element.isJsonArray()) {
+            out.beginArray();
+            for (JsonElement item : element.getAsJsonArray()) {
+                writeStitched(item, out);
+            }
+            out.endArray();
+        } else {
+            gson.toJson(element, out);
+        }
+    }
+
+    /**
+     * Write the steps of a batch read back from the journal, one step at a time.
+     */
+    private void writeJournalledSteps(StepJournal.Entry entry, JsonWriter out) throws IOException {
+        String journalledSteps;
+        try {
+            journalledSteps = StepJournal.read(entry);
+        } catch (UncheckedIOException e) {
+            LOGGER.warn("Could not read {} journalled steps back from the step journal, so they will be left out of the report: {}",
+                    entry.getStepCount(), e.getCause().getMessage());
+            return;
+        }
+        try (JsonReader steps = new JsonReader(new StringReader(journalledSteps))) {
+            steps.beginArray();
+            while (steps.hasNext()) {
+                writeStitched(JsonParser.parseReader(steps), out);
+            }
+            steps.endArray();
         }
     }
 
@@ -0,0 +1,197 @@
+package net.thucydides.model.reports.json.gson;
+
+import com.google.gson.Gson;
+import net.thucydides.model.domain.TestResult;
+import net.thucydides.model.domain.TestResultList;
+import net.thucydides.model.domain.TestStep;
+import net.thucydides.model.reports.json.SidecarContentStore;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * An append-only file holding the finished steps of a test, so that very long scenarios do not have to keep their
+ * whole step tree in memory.
+ * <p>
+ * Each entry is the JSON array of a batch of finished sibling steps, on a line of its own. The parent step (or the
+ * test outcome, for top-level steps) only keeps an {@link Entry} pointing to the batch, which the
+ * {@link GsonJSONConverter} reads back one entry at a time when it writes the JSON test outcome. Steps that had
+ * journalled children of their own refer to entries of their own, so no more than one batch needs to be read at a time.
+ * </p>
+ * <p>
+ * The journal is kept in the report output directory, and deleted once every report has been generated for the test.
+ * Large REST bodies and evidence are moved to sidecar files before the steps are journalled, as they would be for
+ * steps kept in memory, since the JSON reporter only sees journalled steps when it streams them back.
+ * </p>
+ */
+public class StepJournal {
+
+    /**
+     * Finished steps are moved to the journal in batches of at least this many steps.
+     */
+    public static final int BATCH_SIZE = 50;
+
+    /**
+     * The most recent steps at each level stay in memory, as the step listener may still refer to them.
+     */
+    public static final int RECENT_STEPS_KEPT_IN_MEMORY = 2;
+
+    static final String JOURNAL_DIRECTORY = "step-journals";
+
+    private static final Gson GSON = GsonJSONConverter.configuredGsonBuilder().create();
+    private static final byte[] NEW_LINE = "\n".getBytes(StandardCharsets.UTF_8);
+
+    private final Path journalFile;
+    private final SidecarContentStore sidecarStore;
+    private final int sidecarThreshold;
+    private FileChannel channel;
+
+    private StepJournal(Path journalFile, SidecarContentStore sidecarStore, int sidecarThreshold) throws IOException {
+        this.journalFile = journalFile;
+        this.sidecarStore = sidecarStore;
+        this.sidecarThreshold = sidecarThreshold;
+        this.channel = FileChannel.open(journalFile, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * A new, empty journal in the step-journals directory of the report output directory. It is deleted when the
+     * JVM exits if it has not been deleted before.
+     */
+    public static StepJournal in(Path outputDirectory) throws IOException {
+        return in(outputDirectory, 0);
+    }
+
+    /**
+     * A new, empty journal that moves step content larger than the threshold to the sidecar files of the report
+     * output directory as the steps are journalled. A threshold of zero or less leaves the content inline.
+     */
+    public static StepJournal in(Path outputDirectory, int sidecarThreshold) throws IOException {
+        Path journalDirectory = Files.createDirectories(outputDirectory.resolve(JOURNAL_DIRECTORY));
+        Path journalFile = Files.createTempFile(journalDirectory, "steps-", ".jsonl");
+        journalFile.toFile().deleteOnExit();
+        return new StepJournal(journalFile, SidecarContentStore.forReportDirectory(outputDirectory), sidecarThreshold);
+    }
+
+    /**
+     * Write the steps to the journal, and return the entry to use to read them back.
+     *
+     * @param stepCount the number of steps in the subtrees of these steps, including the steps themselves
+     */
+    public synchronized Entry append(List<TestStep> steps, int stepCount) throws IOException {
+        if (channel == null) {
+            throw new IOException("The step journal " + journalFile + " is closed");
+        }
+        storeLargeContentOf(steps);
+        byte[] json = GSON.toJson(steps).getBytes(StandardCharsets.UTF_8);
+        long offset = channel.size();
+        write(json);
+        write(NEW_LINE);
+        TestResult result = TestResultList.overallResultFrom(
+                steps.stream().map(TestStep::getResult).collect(Collectors.toList())
+        );
+        return new Entry(journalFile.toString(), offset, json.length, stepCount, result);
+    }
+
+    /**
+     * Children that were journalled earlier have already been through here, so only the steps still in memory
+     * are visited.
+     */
+    private void storeLargeContentOf(List<TestStep> steps) throws IOException {
+        if (sidecarThreshold <= 0) {
+            return;
+        }
+        for (TestStep step : steps) {
+            step.storeLargeContentIn(sidecarStore, sidecarThreshold);
+            for (TestStep child : step.getFlattenedSteps()) {
+                child.storeLargeContentIn(sidecarStore, sidecarThreshold);
+            }
+        }
+    }
+
+    private void write(byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Stop writing to the journal. The journalled steps can still be read until the journal is deleted.
+     */
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    /**
+     * Close and delete the journal, once every report that reads the steps it holds has been generated.
+     */
+    public synchronized void delete() throws IOException {
+        close();
+        Files.deleteIfExists(journalFile);
+    }
+
+    /**
+     * Read back the JSON array of steps written for this entry.
+     */
+    public static String read(Entry entry) {
+        try (FileChannel in = FileChannel.open(Paths.get(entry.journal), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(entry.length);
+            long position = entry.offset;
+            while (buffer.hasRemaining()) {
+                int read = in.read(buffer, position);
+                if (read < 0) {
+                    throw new IOException("The step journal " + entry.journal + " ends before entry " + entry.offset);
+                }
+                position += read;
+            }
+            return new String(buffer.array(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Where a batch of journalled steps can be found.
+     */
+    public static class Entry {
+        private final String journal;
+        private final long offset;
+        private final int length;
+        private final int stepCount;
+        private final TestResult result;
+
+        Entry(String journal, long offset, int length, int stepCount, TestResult result) {
+            this.journal = journal;
+            this.offset = offset;
+            this.length = length;
+            this.stepCount = stepCount;
+            this.result = result;
+        }
+
+        /**
+         * The number of journalled steps, including their own children.
+         */
+        public int getStepCount() {
+            return stepCount;
+        }
+
+        /**
+         * The overall result of the journalled steps.
+         */
+        public TestResult getResult() {
+            return result;
+        }
+    }
+}
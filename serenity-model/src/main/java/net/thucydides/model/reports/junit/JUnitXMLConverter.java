@@ -3,79 +3,85 @@ package net.thucydides.model.reports.junit;
 import net.thucydides.model.domain.*;
 import net.thucydides.model.domain.stacktrace.FailureCause;
 import net.thucydides.model.reports.TestOutcomes;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 import java.io.OutputStream;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Set;
 
+/**
+ * Writes a JUnit XML test suite for a group of test outcomes.
+ * <p>
+ * The XML is streamed directly to the output as each test case is visited, rather than built as a DOM tree
+ * and serialized afterwards, so memory use does not grow with the size of the suite.
+ * Attributes are written in alphabetical order, as the DOM serializer used to.
+ * </p>
+ */
 public class JUnitXMLConverter {
 
     private final static DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd hh:mm:ss");
 
-    public void write(String testCaseName, List<TestOutcome> outcomes, OutputStream outputStream) throws ParserConfigurationException, TransformerException {
-        DocumentBuilderFactory docFactory = DocumentBuilderFactory.newInstance();
-        DocumentBuilder docBuilder = docFactory.newDocumentBuilder();
-
-        TestOutcomes testCaseOutcomes = TestOutcomes.of(outcomes);
+    /**
+     * XMLOutputFactory instances are not guaranteed to be thread-safe, and suites are written in parallel.
+     */
+    private static final ThreadLocal<XMLOutputFactory> OUTPUT_FACTORY = ThreadLocal.withInitial(XMLOutputFactory::newInstance);
 
-        // root elements
-        Document doc = docBuilder.newDocument();
+    public void write(String testCaseName, List<TestOutcome> outcomes, OutputStream outputStream) throws XMLStreamException {
+        XMLStreamWriter writer = OUTPUT_FACTORY.get().createXMLStreamWriter(outputStream, "UTF-8");
+        try {
+            writer.writeStartDocument("UTF-8", "1.0");
 
-        Element testSuiteElement = buildTestSuiteElement(doc, testCaseName, testCaseOutcomes);
+            writeTestSuiteElement(writer, testCaseName, TestOutcomes.of(outcomes));
+            for (TestOutcome outcome : outcomes) {
+                writeTestCaseElement(writer, outcome);
+            }
+            writer.writeEndElement();
 
-        for(TestOutcome outcome : outcomes) {
-            Element testCaseElement = buildTestCaseElement(doc, outcome);
-            testSuiteElement.appendChild(testCaseElement);
+            writer.writeEndDocument();
+            writer.flush();
+        } finally {
+            writer.close();
         }
-        doc.appendChild(testSuiteElement);
-
-        // write the content into xml file
-        TransformerFactory transformerFactory = TransformerFactory.newInstance();
-        Transformer transformer = transformerFactory.newTransformer();
-        DOMSource source = new DOMSource(doc);
-        StreamResult result = new StreamResult(outputStream);
-
-        transformer.transform(source, result);
     }
 
-    private Element buildTestCaseElement(Document doc, TestOutcome outcome) {
-        Element testCaseElement = doc.createElement("testcase");
+    private void writeTestCaseElement(XMLStreamWriter writer, TestOutcome outcome) throws XMLStreamException {
+        String flakyTestDescription = null;
+        boolean hasContent = true;
+        if (!outcome.isFailure() && !outcome.isError() && !outcome.isCompromised() && !outcome.isSkipped() && !outcome.isPending()) {
+            flakyTestDescription = getFlakyTestDescription(outcome);
+            hasContent = (flakyTestDescription != null);
+        }
 
+        if (hasContent) {
+            writer.writeStartElement("testcase");
+        } else {
+            writer.writeEmptyElement("testcase");
+        }
         if (outcome.getTestCase() != null) {
-            testCaseElement.setAttribute("classname", outcome.getTestCase().getName());
+            writer.writeAttribute("classname", outcome.getTestCase().getName());
         }
         if (outcome.getTitle() != null) {
-            testCaseElement.setAttribute("name", outcome.getTitle());
+            writer.writeAttribute("name", outcome.getTitle());
+        }
+        if (!hasContent) {
+            return;
         }
 
         if (outcome.isFailure()) {
-            addFailureElement(doc, outcome, testCaseElement);
+            writeFailureElement(writer, "failure", outcome);
         } else if (outcome.isError()) {
-            addErrorElement(doc, outcome, testCaseElement);
+            writeFailureElement(writer, "error", outcome);
         } else if (outcome.isCompromised()) {
-            addCompromisedElement(doc, outcome, testCaseElement);
-        } else  if (outcome.isSkipped() || outcome.isPending()) {
-            testCaseElement.appendChild(doc.createElement("skipped"));
+            writeFailureElement(writer, "compromised", outcome);
+        } else if (outcome.isSkipped() || outcome.isPending()) {
+            writer.writeEmptyElement("skipped");
         } else {
-            String flakyTestDescription = getFlakyTestDescription(outcome);
-            if (flakyTestDescription != null) {
-                addFlakyFailureElement(doc, outcome, testCaseElement, flakyTestDescription);
-            }
+            writeFlakyFailureElement(writer, outcome, flakyTestDescription);
         }
-        return testCaseElement;
-
+        writer.writeEndElement();
     }
 
     private String getFlakyTestDescription(TestOutcome outcome) {
@@ -93,37 +99,56 @@ public class JUnitXMLConverter {
         return null;
     }
 
-    private void addErrorElement(Document doc, TestOutcome outcome, Element testCaseElement) {
-        testCaseElement.appendChild(errorElement(doc, outcome));
-        if (outcome.getNestedTestFailureCause() != null) {
-            testCaseElement.appendChild(syserrorElement(doc, outcome.getNestedTestFailureCause()));
+    private void writeFailureElement(XMLStreamWriter writer, String elementName, TestOutcome outcome) throws XMLStreamException {
+        FailureCause failureCause = outcome.getNestedTestFailureCause();
+        String message = (failureCause != null) ? failureCause.getMessage() : null;
+        writeFailureCauseElement(writer, elementName, failureCause, message);
+        if (failureCause != null) {
+            writeSystemErrorElement(writer, failureCause);
         }
     }
 
-    private void addCompromisedElement(Document doc, TestOutcome outcome, Element testCaseElement) {
-        testCaseElement.appendChild(compromisedElement(doc, outcome));
-        if (outcome.getNestedTestFailureCause() != null) {
-            testCaseElement.appendChild(syserrorElement(doc, outcome.getNestedTestFailureCause()));
-        }
-    }
+    private void writeFlakyFailureElement(XMLStreamWriter writer, TestOutcome outcome, String flakyTestDescription) throws XMLStreamException {
+        FailureCause failureCause = (outcome.getFlakyTestFailureCause() != null) ? outcome.getFlakyTestFailureCause().getRootCause() : null;
+        boolean hasMessage = (failureCause != null) && (failureCause.getMessage() != null);
 
-    private void addFailureElement(Document doc, TestOutcome outcome, Element testCaseElement) {
-        testCaseElement.appendChild(failureElement(doc, outcome));
-        if (outcome.getNestedTestFailureCause() != null) {
-            testCaseElement.appendChild(syserrorElement(doc, outcome.getNestedTestFailureCause()));
+        writer.writeStartElement("flakyFailure");
+        if (hasMessage) {
+            writer.writeAttribute("message", failureCause.getMessage());
+        }
+        if ((failureCause != null) && (failureCause.getErrorType() != null)) {
+            writer.writeAttribute("type", failureCause.getErrorType());
+        }
+        if (hasMessage) {
+            writer.writeCharacters(flakyTestDescription);
+        }
+        if (failureCause != null) {
+            writeSystemErrorElement(writer, failureCause);
         }
+        writer.writeEndElement();
     }
 
-    private void addFlakyFailureElement(Document doc, TestOutcome outcome, Element testCaseElement,String flakyTestDescription) {
-        Node flakyFailureElement = testCaseElement.appendChild(flakyFailureElement(doc, outcome, flakyTestDescription));
-        if (outcome.getFlakyTestFailureCause() != null) {
-            flakyFailureElement.appendChild(syserrorElement(doc, outcome.getFlakyTestFailureCause().getRootCause()));
+    private void writeFailureCauseElement(XMLStreamWriter writer,
+                                          String elementName,
+                                          FailureCause failureCause,
+                                          String text) throws XMLStreamException {
+        boolean hasMessage = (failureCause != null) && (failureCause.getMessage() != null);
+        if (hasMessage) {
+            writer.writeStartElement(elementName);
+            writer.writeAttribute("message", failureCause.getMessage());
+        } else {
+            writer.writeEmptyElement(elementName);
+        }
+        if ((failureCause != null) && (failureCause.getErrorType() != null)) {
+            writer.writeAttribute("type", failureCause.getErrorType());
+        }
+        if (hasMessage) {
+            writer.writeCharacters(text);
+            writer.writeEndElement();
         }
     }
 
-    private Element syserrorElement(Document doc, FailureCause nestedTestFailureCause) {
-        Element testCaseElement = doc.createElement("system-err");
-
+    private void writeSystemErrorElement(XMLStreamWriter writer, FailureCause nestedTestFailureCause) throws XMLStreamException {
         StringBuilder printedStackTrace = new StringBuilder();
         printedStackTrace.append(nestedTestFailureCause.getMessage());
         printedStackTrace.append(System.lineSeparator());
@@ -131,72 +156,26 @@ public class JUnitXMLConverter {
             printedStackTrace.append(element.toString());
             printedStackTrace.append(System.lineSeparator());
         }
-        testCaseElement.appendChild(doc.createTextNode(printedStackTrace.toString()));
-        return testCaseElement;
+        writer.writeStartElement("system-err");
+        writer.writeCharacters(printedStackTrace.toString());
+        writer.writeEndElement();
     }
 
-    private Element failureElement(Document doc, TestOutcome outcome) {
-        Element testCaseElement = doc.createElement("failure");
-        addFailureCause(doc, testCaseElement, outcome.getNestedTestFailureCause());
-        return testCaseElement;
-    }
-
-    private Element flakyFailureElement(Document doc, TestOutcome outcome,String flakyTestDescription) {
-        Element testCaseElement = doc.createElement("flakyFailure");
-        addFlakyFailureCause(doc, testCaseElement, outcome.getFlakyTestFailureCause().getRootCause(),flakyTestDescription);
-        return testCaseElement;
-    }
-
-    private void addFailureCause(Document doc, Element testCaseElement, FailureCause failureCause) {
-        if ((failureCause != null) && (failureCause.getMessage() != null)) {
-            testCaseElement.setAttribute("message", failureCause.getMessage());
-            testCaseElement.appendChild(doc.createTextNode(failureCause.getMessage()));
-        }
-        if ((failureCause != null) && (failureCause.getErrorType() != null)) {
-            testCaseElement.setAttribute("type", failureCause.getErrorType());
-        }
-    }
-
-    private void addFlakyFailureCause(Document doc, Element testCaseElement, FailureCause failureCause,String failureCauseDescription) {
-        if ((failureCause != null) && (failureCause.getMessage() != null)) {
-            testCaseElement.setAttribute("message", failureCause.getMessage());
-            testCaseElement.appendChild(doc.createTextNode(failureCauseDescription));
-        }
-        if ((failureCause != null) && (failureCause.getErrorType() != null)) {
-            testCaseElement.setAttribute("type", failureCause.getErrorType());
-        }
-    }
-
-    private Element errorElement(Document doc, TestOutcome outcome) {
-        Element testCaseElement = doc.createElement("error");
-        addFailureCause(doc, testCaseElement, outcome.getNestedTestFailureCause());
-        return testCaseElement;
-    }
-
-    private Element compromisedElement(Document doc, TestOutcome outcome) {
-        Element testCaseElement = doc.createElement("compromised");
-        addFailureCause(doc, testCaseElement, outcome.getNestedTestFailureCause());
-        return testCaseElement;
-    }
-
-    private Element buildTestSuiteElement(Document doc, String testCaseName, TestOutcomes testCaseOutcomes) {
+    private void writeTestSuiteElement(XMLStreamWriter writer, String testCaseName, TestOutcomes testCaseOutcomes) throws XMLStreamException {
         int errors = testCaseOutcomes.count(TestType.ANY).withResult(TestResult.ERROR);
         int failures = testCaseOutcomes.count(TestType.ANY).withResult(TestResult.FAILURE);
         int success = testCaseOutcomes.count(TestType.ANY).withResult(TestResult.SUCCESS);
         int skipped = testCaseOutcomes.getTotal() - errors - failures - success;
 
-        Element testSuiteElement = doc.createElement("testsuite");
-        testSuiteElement.setAttribute("name", testCaseName);
-        testSuiteElement.setAttribute("time", Double.toString(testCaseOutcomes.getDurationInSeconds()));
-        testSuiteElement.setAttribute("tests", Long.toString(testCaseOutcomes.getTestCount()));
-        testSuiteElement.setAttribute("errors", Integer.toString(errors));
-        testSuiteElement.setAttribute("skipped", Integer.toString(skipped));
-        testSuiteElement.setAttribute("failures", Integer.toString(failures));
-
-        testCaseOutcomes.getStartTime().ifPresent(
-                startTime -> testSuiteElement.setAttribute("timestamp", TIMESTAMP_FORMAT.format(startTime))
-        );
-
-        return testSuiteElement;
+        writer.writeStartElement("testsuite");
+        writer.writeAttribute("errors", Integer.toString(errors));
+        writer.writeAttribute("failures", Integer.toString(failures));
+        writer.writeAttribute("name", testCaseName);
+        writer.writeAttribute("skipped", Integer.toString(skipped));
+        writer.writeAttribute("tests", Long.toString(testCaseOutcomes.getTestCount()));
+        writer.writeAttribute("time", Double.toString(testCaseOutcomes.getDurationInSeconds()));
+        if (testCaseOutcomes.getStartTime().isPresent()) {
+            writer.writeAttribute("timestamp", TIMESTAMP_FORMAT.format(testCaseOutcomes.getStartTime().get()));
+        }
     }
 }
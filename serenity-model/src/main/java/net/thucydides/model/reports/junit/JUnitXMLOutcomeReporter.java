@@ -4,12 +4,13 @@ import net.thucydides.model.domain.ReportNamer;
 import net.thucydides.model.domain.ReportType;
 import net.thucydides.model.domain.TestOutcome;
 import net.thucydides.model.reports.TestOutcomes;
+import net.thucydides.model.reports.export.OutcomeExporter;
+import net.thucydides.model.reports.export.OutcomeSink;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.TransformerException;
+import javax.xml.stream.XMLStreamException;
 import java.io.*;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -31,19 +32,54 @@ public class JUnitXMLOutcomeReporter {
         junitXMLConverter = new JUnitXMLConverter();
     }
 
+    /**
+     * Write one JUnit XML report per test class (or story, or feature).
+     */
     public void generateReportsFor(TestOutcomes testOutcomes) {
+        try {
+            OutcomeExporter.to(sink()).export(testOutcomes.getOutcomes());
+        } catch (IOException e) {
+            LOGGER.warn("Failed to generate JUnit XML reports", e);
+        }
+    }
+
+    /**
+     * A sink that groups the exported outcomes by test case, and writes the JUnit XML reports once every outcome
+     * has been received. Each report is streamed to disk independently of the others, so the reports are written
+     * in parallel.
+     */
+    public OutcomeSink sink() {
+        return new OutcomeSink() {
+            private final Map<String, List<TestOutcome>> outcomesByTestCase = new HashMap<>();
+
+            @Override
+            public void accept(TestOutcome outcome) {
+                outcomesByTestCase.computeIfAbsent(testCaseNameOf(outcome), name -> new ArrayList<>()).add(outcome);
+            }
 
-        groupByTestCase(testOutcomes).forEach((testCase, testCaseOutcomes) -> {
+            @Override
+            public void finish() {
+                outcomesByTestCase.entrySet().parallelStream().forEach(
+                        testCase -> writeReportFor(testCase.getKey(), testCase.getValue())
+                );
+            }
 
-            String reportFilename = reportFilenameFor(testCaseOutcomes.get(0));
-            File report = new File(getOutputDirectory(), reportFilename);
-            try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(report))) {
-                junitXMLConverter.write(testCase, testCaseOutcomes, outputStream);
-                outputStream.flush();
-            } catch (ParserConfigurationException | TransformerException | IOException e) {
-                LOGGER.warn("Failed to generate JUnit XML report", e);
+            @Override
+            public void abort() {
+                outcomesByTestCase.clear();
             }
-        });
+        };
+    }
+
+    private void writeReportFor(String testCase, List<TestOutcome> testCaseOutcomes) {
+        String reportFilename = reportFilenameFor(testCaseOutcomes.get(0));
+        File report = new File(getOutputDirectory(), reportFilename);
+        try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(report))) {
+            junitXMLConverter.write(testCase, testCaseOutcomes, outputStream);
+            outputStream.flush();
+        } catch (XMLStreamException | IOException e) {
+            LOGGER.warn("Failed to generate JUnit XML report", e);
+        }
     }
 
     private String reportFilenameFor(TestOutcome testOutcome) {
@@ -51,15 +87,8 @@ public class JUnitXMLOutcomeReporter {
         return FILE_PREFIX + reportNamer.getNormalizedReportNameFor(testOutcome);
     }
 
-    private Map<String, List<TestOutcome>> groupByTestCase(TestOutcomes testOutcomes) {
-        Map<String, List<TestOutcome>> groupedTestOutcomes = new HashMap<>();
-        for (TestOutcome outcome : testOutcomes.getOutcomes()) {
-            String testCaseName = StringUtils.isNotEmpty(outcome.getTestCaseName()) ? outcome.getTestCaseName() : outcome.getStoryTitle();
-            List<TestOutcome> currentOutcomes = new ArrayList<>(groupedTestOutcomes.getOrDefault(testCaseName, new ArrayList<>()));
-            currentOutcomes.add(outcome);
-            groupedTestOutcomes.put(testCaseName, currentOutcomes);
-        }
-        return groupedTestOutcomes;
+    private String testCaseNameOf(TestOutcome outcome) {
+        return StringUtils.isNotEmpty(outcome.getTestCaseName()) ? outcome.getTestCaseName() : outcome.getStoryTitle();
     }
 
     public File getOutputDirectory() {
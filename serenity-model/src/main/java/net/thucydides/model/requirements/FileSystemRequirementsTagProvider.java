@@ -14,7 +14,9 @@ import net.thucydides.model.domain.RequirementCache;
 import net.thucydides.model.domain.TestOutcome;
 import net.thucydides.model.domain.TestTag;
 import net.thucydides.model.environment.SystemEnvironmentVariables;
+import net.thucydides.model.environment.TestLocalEnvironmentVariables;
 import net.thucydides.model.files.TheDirectoryStructure;
+import net.thucydides.model.reports.NumberOfThreads;
 import net.thucydides.model.requirements.model.*;
 import net.thucydides.model.requirements.model.cucumber.CucumberParser;
 import net.thucydides.model.requirements.model.cucumber.InvalidFeatureFileException;
@@ -34,6 +36,11 @@ import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -67,6 +74,7 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
 
     private final RequirementsConfiguration requirementsConfiguration;
     private volatile List<Requirement> requirements;
+    private CompletableFuture<List<Requirement>> loadingRequirements;
 
     public FileSystemRequirementsTagProvider(EnvironmentVariables environmentVariables) {
         this(environmentVariables,
@@ -151,26 +159,45 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
     public List<Requirement> getRequirements() {
         // todo consider refactoring to use RequirementsCache
         if (requirements == null) {
+            CompletableFuture<List<Requirement>> loading;
+            boolean loadInThisThread = false;
             synchronized (this) {
-                if (requirements == null) { // double-checked locking
-                    List<Requirement> loadedRequirements = getRootDirectoryPaths()
-                            .stream()
-                            .flatMap(this::capabilitiesAndStoriesIn)
-                            .sorted()
-                            .collect(Collectors.toList());
-                    if (addParents) {
-                        RequirementAncestry.addParentsTo(loadedRequirements);
-                    }
-                    this.requirements = loadedRequirements;
-//                    if (SERENITY_USE_REQUIREMENTS_CACHE.booleanFrom(environmentVariables)) {
-                        RequirementCache.getInstance().indexRequirements(indexByPath(requirements));
-//                    }
+                if (loadingRequirements == null) {
+                    loadingRequirements = new CompletableFuture<>();
+                    loadInThisThread = true;
                 }
+                loading = loadingRequirements;
+            }
+            // The requirements are loaded, and waited for, outside the lock, so that threads of the loading pool
+            // never wait for a lock held by a thread that is waiting for them
+            if (loadInThisThread) {
+                loadRequirementsInto(loading);
             }
+            return loading.join();
         }
         return requirements;
     }
 
+    private void loadRequirementsInto(CompletableFuture<List<Requirement>> loading) {
+        try {
+            List<Requirement> loadedRequirements = inRequirementsLoadingPool(this::loadCapabilitiesAndStories);
+            if (addParents) {
+                RequirementAncestry.addParentsTo(loadedRequirements);
+            }
+            this.requirements = loadedRequirements;
+//            if (SERENITY_USE_REQUIREMENTS_CACHE.booleanFrom(environmentVariables)) {
+                RequirementCache.getInstance().indexRequirements(indexByPath(requirements));
+//            }
+            loading.complete(loadedRequirements);
+        } catch (RuntimeException | Error loadingFailed) {
+            synchronized (this) {
+                loadingRequirements = null;
+            }
+            loading.completeExceptionally(loadingFailed);
+            throw loadingFailed;
+        }
+    }
+
     private Map<PathElements, Requirement> indexByPath(List<Requirement> requirements) {
         Map<PathElements, Requirement> index = new HashMap<>();
         requirements.forEach(
@@ -179,17 +206,62 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
         return index;
     }
 
-    private Stream<Requirement> capabilitiesAndStoriesIn(String path) {
-        File rootDirectory = new File(path);
+    /**
+     * Requirement directories and feature or story files are read in parallel, in a shared fork-join pool: nested
+     * requirement directories are read by child providers running in the same pool, so the whole tree is walked
+     * concurrently. The requirements are sorted afterwards, so the order does not depend on the order in which they
+     * were read.
+     */
+    private List<Requirement> loadCapabilitiesAndStories() {
+        List<File> rootDirectories = getRootDirectoryPaths().stream()
+                .map(File::new)
+                .filter(File::exists)
+                .collect(Collectors.toList());
+
+        List<File> requirementDirectories = rootDirectories.stream()
+                .flatMap(rootDirectory -> Arrays.stream(rootDirectory.listFiles()))
+                .collect(Collectors.toList())
+                .parallelStream()
+                .filter(thatAreFeatureDirectories()::accept)
+                .collect(Collectors.toList());
+
+        List<File> storyFiles = rootDirectories.stream()
+                .flatMap(rootDirectory -> Arrays.stream(rootDirectory.listFiles(thatAreStories())))
+                .collect(Collectors.toList());
+
+        return Stream.concat(
+                loadCapabilitiesFrom(requirementDirectories),
+                loadStoriesFrom(storyFiles)
+        ).sorted().collect(Collectors.toList());
+    }
+
+    private static ForkJoinPool requirementsLoadingPool;
 
-        if (! rootDirectory.exists()) {
-            return NO_REQUIREMENTS.stream();
+    private static synchronized ForkJoinPool requirementsLoadingPool() {
+        if (requirementsLoadingPool == null) {
+            requirementsLoadingPool = new ForkJoinPool(NumberOfThreads.forIOOperations());
         }
+        return requirementsLoadingPool;
+    }
 
-        return Stream.concat(
-            loadCapabilitiesFrom(rootDirectory.listFiles(thatAreFeatureDirectories())),
-            loadStoriesFrom(rootDirectory.listFiles(thatAreStories()))
-        );
+    /**
+     * Parallel streams run in the pool of the task that starts them, so child providers called from within the pool
+     * simply join in rather than submitting a new task and blocking a worker thread.
+     * <p>
+     * The providers read their configuration from the environment variables they were created with, which child
+     * providers are given explicitly. The test-local environment variables of the calling thread are also set in the
+     * worker thread that runs the loader, for any code that still looks them up.
+     * </p>
+     */
+    private static <T> T inRequirementsLoadingPool(Callable<T> loader) {
+        if (ForkJoinTask.getPool() == requirementsLoadingPool()) {
+            try {
+                return loader.call();
+            } catch (Exception e) {
+                throw new SerenityManagedException(e);
+            }
+        }
+        return requirementsLoadingPool().submit(TestLocalEnvironmentVariables.propagatedTo(loader)).join();
     }
 
     private int maxDirectoryDepthIn(Set<String> directoryPaths) {
@@ -544,13 +616,13 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
         return Optional.empty();
     }
 
-    private Stream<Requirement> loadCapabilitiesFrom(File[] requirementDirectories) {
-        return Arrays.stream(requirementDirectories).map(this::readRequirementFrom);
+    private Stream<Requirement> loadCapabilitiesFrom(List<File> requirementDirectories) {
+        return requirementDirectories.parallelStream().map(this::readRequirementFrom);
     }
 
 
-    private Stream<Requirement> loadStoriesFrom(File[] storyFiles) {
-        return Arrays.stream(storyFiles)
+    private Stream<Requirement> loadStoriesFrom(List<File> storyFiles) {
+        return storyFiles.parallelStream()
                 .map(this::readRequirementsFromStoryOrFeatureFile)
                 .filter(Optional::isPresent)
                 .map(Optional::get);
@@ -596,7 +668,7 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
         );
     }
 
-    private final Set<File> invalidFeatureFiles = new HashSet<>();
+    private final Set<File> invalidFeatureFiles = ConcurrentHashMap.newKeySet();
 
     public Optional<Requirement> readRequirementsFromStoryOrFeatureFile(File storyFile) {
         storyFile = normalised(storyFile);
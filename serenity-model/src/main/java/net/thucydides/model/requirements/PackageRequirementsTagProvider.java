@@ -1,16 +1,13 @@
 package net.thucydides.model.requirements;
 
 import com.google.common.base.Splitter;
-import io.github.classgraph.ClassGraph;
-import io.github.classgraph.PackageInfo;
-import io.github.classgraph.ScanResult;
-import net.serenitybdd.annotations.Narrative;
 import net.serenitybdd.model.environment.ConfiguredEnvironment;
+import net.serenitybdd.model.index.ClasspathIndex;
 import net.thucydides.model.domain.TestOutcome;
 import net.thucydides.model.domain.TestTag;
-import net.thucydides.model.requirements.annotations.ClassInfoAnnotations;
 import net.thucydides.model.requirements.classpath.LeafRequirementAdder;
 import net.thucydides.model.requirements.classpath.NonLeafRequirementsAdder;
+import net.thucydides.model.requirements.classpath.RequirementPathScanner;
 import net.thucydides.model.requirements.model.Requirement;
 import net.thucydides.model.util.EnvironmentVariables;
 import org.slf4j.Logger;
@@ -19,9 +16,6 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.stream.Collectors;
 
 import static java.lang.Math.max;
 import static java.lang.Math.min;
@@ -175,68 +169,17 @@ public class PackageRequirementsTagProvider extends AbstractRequirementsTagProvi
         return requirementPaths;
     }
 
+    /**
+     * Requirement paths are read from the classpath index generated at build time when there is one that is still up
+     * to date with the classes under the root package, and found by scanning the classpath otherwise.
+     */
     private List<String> requirementPathsFromClassesInPackage(String rootPackage) {
-        Set<Class> allClassesRecursive = findAllClassesUsingReflectionsLibrary(rootPackage);
-        List<String> classRequirementNames = allClassesRecursive.stream()
-                .filter(this::classRepresentsARequirementIn)
-                .map(Class::getName)
-                .map(className -> className.replaceAll("\\$","."))
-                .collect(Collectors.toList());
-
-        classRequirementNames.addAll(findPackagesWithNarrativeAnnotationIn(rootPackage));
-        classRequirementNames.addAll(findClassesWithNarrativeAnnotationIn(rootPackage));
-        return classRequirementNames;
-    }
-
-    private static final ConcurrentMap<String, ScanResult> SCAN_RESULT_CACHE = new ConcurrentHashMap<>();
-
-    private Set<Class> findAllClassesUsingReflectionsLibrary(String packageName) {
-        if (!SCAN_RESULT_CACHE.containsKey(packageName)) {
-            SCAN_RESULT_CACHE.putIfAbsent(packageName, new ClassGraph().enableAllInfo().acceptPackages(packageName).scan());
-        }
-        ScanResult scanResult = SCAN_RESULT_CACHE.get(packageName);
-        return scanResult.getAllClasses().stream()
-                .map(classInfo -> classInfo.loadClass(true))
-                .collect(Collectors.toSet());
-    }
-
-    private Set<String> findPackagesWithNarrativeAnnotationIn(String packageName) {
-        if (!SCAN_RESULT_CACHE.containsKey(packageName)) {
-            SCAN_RESULT_CACHE.putIfAbsent(packageName, new ClassGraph().enableAllInfo().acceptPackages(packageName).scan());
-        }
-        ScanResult scanResult = SCAN_RESULT_CACHE.get(packageName);
-        return narrativePackagesIn(scanResult.getPackageInfo(packageName));
-    }
-
-    private Set<String> narrativePackagesIn(PackageInfo parentPackage) {
-        Set<String> narrativePackages = new HashSet<>();
-        if (parentPackage == null) {
-            return new HashSet<>();
-        }
-        if  (parentPackage.hasAnnotation(Narrative.class)) {
-            narrativePackages.add(parentPackage.getName());
-        }
-        for(PackageInfo childPackage : parentPackage.getChildren()) {
-            narrativePackages.addAll(narrativePackagesIn(childPackage));
-        }
-        return narrativePackages;
-
-    }
-
-    private Set<String> findClassesWithNarrativeAnnotationIn(String packageName) {
-        if (!SCAN_RESULT_CACHE.containsKey(packageName)) {
-            SCAN_RESULT_CACHE.putIfAbsent(packageName, new ClassGraph().enableAllInfo().acceptPackages(packageName).scan());
+        Optional<List<String>> indexedPaths = ClasspathIndex.onTheClasspath()
+                .flatMap(index -> index.requirementPathsFor(rootPackage));
+        if (indexedPaths.isPresent()) {
+            return new ArrayList<>(indexedPaths.get());
         }
-        ScanResult scanResult = SCAN_RESULT_CACHE.get(packageName);
-        return  scanResult.getPackageInfo().stream().filter(packageInfo -> packageInfo.hasAnnotation(Narrative.class)).map(PackageInfo::getName).collect(Collectors.toSet());
-    }
-
-    private boolean classRepresentsARequirementIn(Class classInfo) {
-        return (ClassInfoAnnotations.theClassDefinedIn(classInfo)
-                .hasAnAnnotation(Narrative.class))
-//                || (ClassInfoAnnotations.theClassDefinedIn(classInfo)
-//                .hasAPackageAnnotation(net.serenitybdd.annotations.Narrative.class))
-                || (ClassInfoAnnotations.theClassDefinedIn(classInfo).containsTests());
+        return RequirementPathScanner.onTheClasspath().requirementPathsIn(rootPackage);
     }
 
     private Set<Requirement> removeChildrenFromTopLevelRequirementsIn(Set<Requirement> allRequirements) {
@@ -1,6 +1,7 @@
 package net.thucydides.model.requirements.annotations;
 
 import net.thucydides.model.adapters.TestFramework;
+import net.thucydides.model.adapters.TestStrategyAdapter;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
@@ -39,7 +40,11 @@ public class ClassInfoAnnotations {
     }
 
     public boolean containsTests() {
-        return allMethods().stream().anyMatch(method -> TestFramework.support().isTestMethod(method));
+        return containsTestsRecognisedBy(TestFramework.support());
+    }
+
+    public boolean containsTestsRecognisedBy(TestStrategyAdapter testFramework) {
+        return allMethods().stream().anyMatch(testFramework::isTestMethod);
     }
 
     private Set<Method> allMethods() {
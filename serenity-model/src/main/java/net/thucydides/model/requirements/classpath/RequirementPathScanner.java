@@ -0,0 +1,104 @@
+package net.thucydides.model.requirements.classpath;
+
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.PackageInfo;
+import io.github.classgraph.ScanResult;
+import net.serenitybdd.annotations.Narrative;
+import net.thucydides.model.adapters.TestFramework;
+import net.thucydides.model.adapters.TestStrategyAdapter;
+import net.thucydides.model.requirements.annotations.ClassInfoAnnotations;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * Finds the classes and packages under a root package that represent requirements: test classes, and classes or
+ * packages with a {@link Narrative} annotation.
+ * <p>
+ * At runtime, the scan results are cached for the life of the JVM. At build time, the scan can be run against
+ * the project's test classes to generate a {@link net.serenitybdd.model.index.ClasspathIndex}: in that case only
+ * the given class loader is scanned, and test classes are recognised by the test framework adapters it provides,
+ * as several modules may be indexed one after the other in the same JVM.
+ * </p>
+ */
+public class RequirementPathScanner {
+
+    private static final ConcurrentMap<String, ScanResult> SCAN_RESULT_CACHE = new ConcurrentHashMap<>();
+
+    private final ClassLoader classLoader;
+    private TestStrategyAdapter testFramework;
+
+    private RequirementPathScanner(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    public static RequirementPathScanner onTheClasspath() {
+        return new RequirementPathScanner(null);
+    }
+
+    public static RequirementPathScanner using(ClassLoader classLoader) {
+        return new RequirementPathScanner(classLoader);
+    }
+
+    public List<String> requirementPathsIn(String rootPackage) {
+        if (classLoader == null) {
+            ScanResult scanResult = SCAN_RESULT_CACHE.computeIfAbsent(rootPackage,
+                    packageName -> new ClassGraph().enableAllInfo().acceptPackages(packageName).scan());
+            return requirementPathsIn(rootPackage, scanResult);
+        }
+        try (ScanResult scanResult = new ClassGraph().enableAllInfo().overrideClassLoaders(classLoader).acceptPackages(rootPackage).scan()) {
+            return requirementPathsIn(rootPackage, scanResult);
+        }
+    }
+
+    private List<String> requirementPathsIn(String rootPackage, ScanResult scanResult) {
+        Set<Class<?>> allClassesRecursive = scanResult.getAllClasses().stream()
+                .map(classInfo -> classInfo.loadClass(true))
+                .collect(Collectors.toSet());
+
+        List<String> classRequirementNames = allClassesRecursive.stream()
+                .filter(this::classRepresentsARequirement)
+                .map(Class::getName)
+                .map(className -> className.replaceAll("\\$", "."))
+                .collect(Collectors.toList());
+
+        classRequirementNames.addAll(narrativePackagesIn(scanResult.getPackageInfo(rootPackage)));
+        classRequirementNames.addAll(
+                scanResult.getPackageInfo().stream()
+                        .filter(packageInfo -> packageInfo.hasAnnotation(Narrative.class))
+                        .map(PackageInfo::getName)
+                        .collect(Collectors.toSet())
+        );
+        return classRequirementNames;
+    }
+
+    private Set<String> narrativePackagesIn(PackageInfo parentPackage) {
+        Set<String> narrativePackages = new HashSet<>();
+        if (parentPackage == null) {
+            return narrativePackages;
+        }
+        if (parentPackage.hasAnnotation(Narrative.class)) {
+            narrativePackages.add(parentPackage.getName());
+        }
+        for (PackageInfo childPackage : parentPackage.getChildren()) {
+            narrativePackages.addAll(narrativePackagesIn(childPackage));
+        }
+        return narrativePackages;
+    }
+
+    private boolean classRepresentsARequirement(Class<?> classInfo) {
+        return ClassInfoAnnotations.theClassDefinedIn(classInfo).hasAnAnnotation(Narrative.class)
+                || ClassInfoAnnotations.theClassDefinedIn(classInfo).containsTestsRecognisedBy(testFramework());
+    }
+
+    private TestStrategyAdapter testFramework() {
+        if (testFramework == null) {
+            testFramework = (classLoader == null) ? TestFramework.support() : TestFramework.supportIn(classLoader);
+        }
+        return testFramework;
+    }
+}
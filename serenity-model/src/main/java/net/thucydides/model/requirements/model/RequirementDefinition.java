@@ -137,6 +137,10 @@ public class RequirementDefinition {
         return Optional.ofNullable(background);
     }
 
+    public Map<String, FeatureBackgroundNarrative> getRuleBackgrounds() {
+        return ruleBackgrounds;
+    }
+
     public Optional<FeatureBackgroundNarrative> ruleBackgroundForRule(String ruleName) {
         return Optional.ofNullable(ruleBackgrounds.get(ruleName));
     }
@@ -1,5 +1,7 @@
 package net.thucydides.model.requirements.model.cucumber;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.base.Splitter;
 import com.google.common.base.Supplier;
 import io.cucumber.core.gherkin.FeatureParserException;
@@ -43,6 +45,24 @@ public class CucumberParser {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CucumberParser.class);
 
+    private final FeatureDefinitionStore featureDefinitionStore;
+
+    /**
+     * Features parsed in this JVM, shared by every parser instance, so that the requirements, narrative, report and
+     * checker code do not each parse the same feature file again. Entries are keyed by the file's path, size and
+     * modification time, and by the language and encoding it is parsed with, so an edited feature file is parsed afresh.
+     */
+    private static class ParsedFeatures {
+        static final Cache<String, AnnotatedFeature> CACHE = Caffeine.newBuilder()
+                .maximumSize(ThucydidesSystemProperty.SERENITY_REQUIREMENTS_CACHE_HEAP_SIZE.integerFrom(ConfiguredEnvironment.getEnvironmentVariables(), 1024))
+                .build();
+
+        static String keyFor(File featureFile, String locale, String encoding) {
+            return featureFile.getAbsolutePath() + "|" + featureFile.length() + "|" + featureFile.lastModified()
+                    + "|" + locale + "|" + encoding;
+        }
+    }
+
     public CucumberParser() {
         this(ConfiguredEnvironment.getEnvironmentVariables());
     }
@@ -55,6 +75,7 @@ public class CucumberParser {
     public CucumberParser(String locale, EnvironmentVariables environmentVariables) {
         this.locale = locale;
         this.encoding = ThucydidesSystemProperty.FEATURE_FILE_ENCODING.from(environmentVariables, Charset.defaultCharset().name());
+        this.featureDefinitionStore = new FeatureDefinitionStore(environmentVariables, locale, encoding);
     }
 
     public Optional<AnnotatedFeature> loadFeature(File featureFile) {
@@ -63,6 +84,17 @@ public class CucumberParser {
             return Optional.empty();
         }
 
+        String parsedFeatureKey = ParsedFeatures.keyFor(featureFile, locale, encoding);
+        AnnotatedFeature parsedFeature = ParsedFeatures.CACHE.getIfPresent(parsedFeatureKey);
+        if (parsedFeature != null) {
+            return Optional.of(parsedFeature);
+        }
+        Optional<AnnotatedFeature> loadedFeature = parseFeature(featureFile);
+        loadedFeature.ifPresent(feature -> ParsedFeatures.CACHE.put(parsedFeatureKey, feature));
+        return loadedFeature;
+    }
+
+    private Optional<AnnotatedFeature> parseFeature(File featureFile) {
         Optional<GherkinDocument> possibleGherkinDocument = loadCucumberFeature(featureFile.toPath());
         try {
             if (possibleGherkinDocument.isPresent() && possibleGherkinDocument.get().getFeature().isPresent()) {
@@ -213,15 +245,31 @@ public class CucumberParser {
         }
     }
 
+    /**
+     * Feature definitions are read from the shared {@link FeatureDefinitionStore} when the same feature file content
+     * has already been parsed, in this JVM or another one. Only feature files that pass the Gherkin quality checks
+     * are stored, so invalid feature files are always reported.
+     */
     public Optional<RequirementDefinition> loadFeatureDefinition(File featureFile) {
 
+        Optional<String> storeKey = (featureFile != null && featureFile.isFile()) ? featureDefinitionStore.keyFor(featureFile) : Optional.empty();
+        if (storeKey.isPresent()) {
+            Optional<RequirementDefinition> storedDefinition = featureDefinitionStore.read(storeKey.get());
+            if (storedDefinition.isPresent()) {
+                return storedDefinition;
+            }
+        }
+
         Optional<AnnotatedFeature> loadedFeature = loadFeature(featureFile);
 
         if (!loadedFeature.isPresent()) {
             return Optional.empty();
-        } else {
-            return getRequirementsDefinitionFrom(loadedFeature);
         }
+        Optional<RequirementDefinition> definition = getRequirementsDefinitionFrom(loadedFeature);
+        if (storeKey.isPresent() && definition.isPresent()) {
+            featureDefinitionStore.write(storeKey.get(), definition.get());
+        }
+        return definition;
     }
 
     @NotNull
@@ -0,0 +1,345 @@
+package net.thucydides.model.requirements.model.cucumber;
+
+import io.cucumber.core.gherkin.messages.GherkinMessagesFeatureParser;
+import net.thucydides.model.ThucydidesSystemProperty;
+import net.thucydides.model.configuration.SystemPropertiesConfiguration;
+import net.thucydides.model.domain.TestTag;
+import net.thucydides.model.requirements.model.FeatureBackgroundNarrative;
+import net.thucydides.model.requirements.model.RequirementDefinition;
+import net.thucydides.model.util.EnvironmentVariables;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An on-disk cache of the requirement definitions read from feature files, keyed by the SHA-256 hash of each
+ * feature file's content and of the settings it was parsed with.
+ * <p>
+ * Definitions are stored in a compact binary format, one small file per distinct feature file content, so they can be
+ * shared by every JVM of a build that reads the same feature files: forked test JVMs, the report generation and the
+ * feature file checks. Editing a feature file, or changing its language, its encoding or the Serenity or Gherkin
+ * version, changes the key, so a stale definition is never read. Entries are written to a temporary file and moved
+ * into place, so concurrent JVMs never see a partially written entry. Entries that have not been used for
+ * {@code serenity.feature.cache.max.age} days are deleted.
+ * </p>
+ */
+public class FeatureDefinitionStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FeatureDefinitionStore.class);
+
+    private static final int MAGIC = 0x53464443;
+    private static final short FORMAT_VERSION = 1;
+    private static final int NO_VALUE = -1;
+    private static final String ENTRY_SUFFIX = ".definition";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final int DEFAULT_MAX_AGE_IN_DAYS = 7;
+
+    /**
+     * The cache directories already swept for old entries by this JVM.
+     */
+    private static final Set<Path> EVICTED_DIRECTORIES = ConcurrentHashMap.newKeySet();
+
+    private final Path cacheDirectory;
+    private final boolean enabled;
+    private final String parsingSettings;
+    private final Duration maxAge;
+
+    public FeatureDefinitionStore(EnvironmentVariables environmentVariables, String locale, String encoding) {
+        this(cacheDirectoryDefinedIn(environmentVariables),
+             ThucydidesSystemProperty.SERENITY_FEATURE_CACHE.booleanFrom(environmentVariables, true),
+             locale,
+             encoding,
+             Duration.ofDays(ThucydidesSystemProperty.SERENITY_FEATURE_CACHE_MAX_AGE.integerFrom(environmentVariables, DEFAULT_MAX_AGE_IN_DAYS)));
+    }
+
+    FeatureDefinitionStore(Path cacheDirectory, boolean enabled, String locale, String encoding, Duration maxAge) {
+        this.cacheDirectory = cacheDirectory;
+        this.enabled = enabled;
+        this.parsingSettings = FORMAT_VERSION + "|" + versionOf(FeatureDefinitionStore.class)
+                + "|" + versionOf(GherkinMessagesFeatureParser.class) + "|" + locale + "|" + encoding + "|";
+        this.maxAge = maxAge;
+    }
+
+    private static Path cacheDirectoryDefinedIn(EnvironmentVariables environmentVariables) {
+        String buildDirectory = environmentVariables.getProperty(SystemPropertiesConfiguration.PROJECT_BUILD_DIRECTORY, "target");
+        String defaultCacheDirectory = Paths.get(buildDirectory, "serenity-feature-cache").toString();
+        return Paths.get(ThucydidesSystemProperty.SERENITY_FEATURE_CACHE_DIRECTORY.from(environmentVariables, defaultCacheDirectory));
+    }
+
+    /**
+     * The version of the library a class comes from, or the location it was loaded from if the jar has no version.
+     */
+    private static String versionOf(Class<?> type) {
+        String version = type.getPackage() == null ? null : type.getPackage().getImplementationVersion();
+        if (version != null) {
+            return version;
+        }
+        CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+        return (codeSource == null || codeSource.getLocation() == null) ? "unknown" : codeSource.getLocation().toString();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * The key under which the definition of a feature file is stored, or an empty result if the file cannot be read.
+     */
+    public Optional<String> keyFor(File featureFile) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        try {
+            MessageDigest digest = DigestUtils.getSha256Digest();
+            digest.update(parsingSettings.getBytes(StandardCharsets.UTF_8));
+            digest.update(Files.readAllBytes(featureFile.toPath()));
+            return Optional.of(Hex.encodeHexString(digest.digest()));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    public Optional<RequirementDefinition> read(String key) {
+        Path entry = entryFor(key);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(entry)))) {
+            if (in.readInt() != MAGIC || in.readShort() != FORMAT_VERSION) {
+                return Optional.empty();
+            }
+            RequirementDefinition definition = readDefinition(in);
+            markAsUsed(entry);
+            return Optional.of(definition);
+        } catch (NoSuchFileException notCachedYet) {
+            return Optional.empty();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Ignoring unreadable feature cache entry {}: {}", entry, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void write(String key, RequirementDefinition definition) {
+        Path temporaryFile = null;
+        try {
+            Files.createDirectories(cacheDirectory);
+            evictOldEntries();
+            temporaryFile = Files.createTempFile(cacheDirectory, "entry", TEMPORARY_SUFFIX);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                out.writeInt(MAGIC);
+                out.writeShort(FORMAT_VERSION);
+                writeDefinition(out, definition);
+            }
+            Files.move(temporaryFile, entryFor(key), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | UnsupportedOperationException e) {
+            LOGGER.debug("Could not cache the feature definition in {}: {}", cacheDirectory, e.getMessage());
+        } finally {
+            deleteQuietly(temporaryFile);
+        }
+    }
+
+    private Path entryFor(String key) {
+        return cacheDirectory.resolve(key + ENTRY_SUFFIX);
+    }
+
+    /**
+     * The modification time of an entry records when it was last used. It is only updated once a day, so that
+     * reading an entry does not usually write to the disk.
+     */
+    private void markAsUsed(Path entry) {
+        try {
+            Instant now = Instant.now();
+            if (Files.getLastModifiedTime(entry).toInstant().isBefore(now.minus(Duration.ofDays(1)))) {
+                Files.setLastModifiedTime(entry, FileTime.from(now));
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Could not update the feature cache entry {}: {}", entry, e.getMessage());
+        }
+    }
+
+    /**
+     * Delete the entries, and the temporary files of interrupted writes, that have not been used for longer than the
+     * maximum age. This is done once per cache directory and JVM, before the first write.
+     */
+    void evictOldEntries() {
+        if (!EVICTED_DIRECTORIES.add(cacheDirectory.toAbsolutePath())) {
+            return;
+        }
+        Instant oldestKept = Instant.now().minus(maxAge);
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(cacheDirectory,
+                file -> file.toString().endsWith(ENTRY_SUFFIX) || file.toString().endsWith(TEMPORARY_SUFFIX))) {
+            for (Path entry : entries) {
+                if (Files.getLastModifiedTime(entry).toInstant().isBefore(oldestKept)) {
+                    deleteQuietly(entry);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Could not evict old entries from the feature cache in {}: {}", cacheDirectory, e.getMessage());
+        }
+    }
+
+    private void writeDefinition(DataOutputStream out, RequirementDefinition definition) throws IOException {
+        writeString(out, definition.getTitle().orElse(null));
+        writeString(out, definition.getId().orElse(null));
+        writeString(out, definition.getCardNumber().orElse(null));
+        writeStrings(out, definition.getVersionNumbers());
+        writeString(out, definition.getType());
+        writeString(out, definition.getText());
+        writeTags(out, definition.getTags());
+        writeStrings(out, definition.getScenarios());
+
+        out.writeInt(definition.getScenarioTags().size());
+        for (Map.Entry<String, Collection<TestTag>> scenarioTags : definition.getScenarioTags().entrySet()) {
+            writeString(out, scenarioTags.getKey());
+            writeTags(out, scenarioTags.getValue());
+        }
+
+        writeBackground(out, definition.background().orElse(null));
+
+        Map<String, FeatureBackgroundNarrative> ruleBackgrounds = definition.getRuleBackgrounds();
+        out.writeInt(ruleBackgrounds.size());
+        for (Map.Entry<String, FeatureBackgroundNarrative> ruleBackground : ruleBackgrounds.entrySet()) {
+            writeString(out, ruleBackground.getKey());
+            writeBackground(out, ruleBackground.getValue());
+        }
+    }
+
+    private RequirementDefinition readDefinition(DataInputStream in) throws IOException {
+        Optional<String> title = Optional.ofNullable(readString(in));
+        Optional<String> id = Optional.ofNullable(readString(in));
+        Optional<String> cardNumber = Optional.ofNullable(readString(in));
+        List<String> versionNumbers = readStrings(in);
+        String type = readString(in);
+        String text = readString(in);
+        List<TestTag> tags = readTags(in);
+        List<String> scenarios = readStrings(in);
+
+        int scenarioCount = in.readInt();
+        Map<String, Collection<TestTag>> scenarioTags = new HashMap<>();
+        for (int i = 0; i < scenarioCount; i++) {
+            String scenarioName = readString(in);
+            scenarioTags.put(scenarioName, readTags(in));
+        }
+
+        FeatureBackgroundNarrative background = readBackground(in);
+
+        int ruleCount = in.readInt();
+        Map<String, FeatureBackgroundNarrative> ruleBackgrounds = new HashMap<>();
+        for (int i = 0; i < ruleCount; i++) {
+            String ruleName = readString(in);
+            ruleBackgrounds.put(ruleName, readBackground(in));
+        }
+
+        return new RequirementDefinition(title, id, cardNumber, versionNumbers, type, text, tags, scenarios, scenarioTags)
+                .withBackground(background)
+                .withRuleBackgrounds(ruleBackgrounds);
+    }
+
+    /**
+     * Tags read from Gherkin are rebuilt from their original value, so they are identical to freshly parsed ones.
+     */
+    private void writeTags(DataOutputStream out, Collection<TestTag> tags) throws IOException {
+        out.writeInt(tags.size());
+        for (TestTag tag : tags) {
+            writeString(out, tag.getRawStringFromValueTag());
+            if (tag.getRawStringFromValueTag() == null) {
+                writeString(out, tag.getName());
+                writeString(out, tag.getType());
+                writeString(out, tag.getDisplayName());
+            }
+        }
+    }
+
+    private List<TestTag> readTags(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        List<TestTag> tags = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String rawValue = readString(in);
+            if (rawValue != null) {
+                tags.add(TestTag.withValue(rawValue));
+            } else {
+                String name = readString(in);
+                String type = readString(in);
+                String displayName = readString(in);
+                TestTag tag = TestTag.withName(name).andType(type);
+                tags.add(name.equals(displayName) ? tag : tag.withDisplayName(displayName));
+            }
+        }
+        return tags;
+    }
+
+    private void writeBackground(DataOutputStream out, FeatureBackgroundNarrative background) throws IOException {
+        out.writeBoolean(background != null);
+        if (background != null) {
+            writeString(out, background.getTitle());
+            writeString(out, background.getDescription());
+        }
+    }
+
+    private FeatureBackgroundNarrative readBackground(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return new FeatureBackgroundNarrative(readString(in), readString(in));
+    }
+
+    private void writeStrings(DataOutputStream out, List<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private List<String> readStrings(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NO_VALUE);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length == NO_VALUE) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // The temporary file is either already moved into place or will be cleaned up with the directory
+            }
+        }
+    }
+}
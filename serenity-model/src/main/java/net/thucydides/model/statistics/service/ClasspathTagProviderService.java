@@ -1,8 +1,11 @@
 package net.thucydides.model.statistics.service;
 
+import net.serenitybdd.model.index.ClasspathIndex;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -48,7 +51,7 @@ public class ClasspathTagProviderService implements TagProviderService {
     }
 
     protected Iterable<? extends TagProvider> loadTagProvidersFromPath(String testSource) {
-        Iterable<TagProviderStrategy> tagProviderStrategies = ServiceLoader.load(TagProviderStrategy.class);
+        Iterable<TagProviderStrategy> tagProviderStrategies = tagProviderStrategies();
         Iterable<? extends TagProvider> tagProvidersWithHighPriority = tagProvidersWithHighPriority(tagProviderStrategies, testSource);
         if( tagProvidersWithHighPriority != null){
             return tagProvidersWithHighPriority;
@@ -60,6 +63,32 @@ public class ClasspathTagProviderService implements TagProviderService {
         }
     }
 
+    /**
+     * Use the strategies recorded in the classpath index when one has been generated, rather than looking up
+     * the service registrations in every jar on the classpath. If any indexed strategy can no longer be loaded,
+     * the index is out of date and the ServiceLoader is used instead.
+     */
+    private Iterable<TagProviderStrategy> tagProviderStrategies() {
+        return ClasspathIndex.onTheClasspath()
+                .flatMap(ClasspathIndex::tagProviderStrategies)
+                .flatMap(this::instantiateStrategies)
+                .orElseGet(() -> ServiceLoader.load(TagProviderStrategy.class));
+    }
+
+    private Optional<Iterable<TagProviderStrategy>> instantiateStrategies(List<String> strategyClassNames) {
+        List<TagProviderStrategy> strategies = new ArrayList<>();
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        for (String strategyClassName : strategyClassNames) {
+            try {
+                Class<?> strategyClass = Class.forName(strategyClassName, true, classLoader);
+                strategies.add((TagProviderStrategy) strategyClass.getDeclaredConstructor().newInstance());
+            } catch (ReflectiveOperationException | ClassCastException | LinkageError e) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(strategies);
+    }
+
     private Iterable<? extends TagProvider> tagProvidersWithHighPriority(Iterable<TagProviderStrategy> tagProviderStrategies, String testSource) {
         for (TagProviderStrategy strategy : tagProviderStrategies) {
             if (isHighPriority(strategy) && strategy.canHandleTestSource(testSource)) {
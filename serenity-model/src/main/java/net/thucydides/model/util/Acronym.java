@@ -9,6 +9,9 @@ import java.util.Set;
 import java.util.regex.Pattern;
 
 class Acronym {
+    private static final Pattern NON_WORD_CHARACTER = Pattern.compile("\\W");
+    private static final Pattern DIGIT = Pattern.compile("\\d");
+
     private final String acronymText;
     private final int start;
     private final int end;
@@ -22,7 +25,7 @@ class Acronym {
     public static Set<Acronym> acronymsIn(String text) {
         Set<Acronym> acronyms = new HashSet();
 
-        List<String> words = Splitter.on(Pattern.compile("\\W")).omitEmptyStrings().splitToList(text);
+        List<String> words = Splitter.on(NON_WORD_CHARACTER).omitEmptyStrings().splitToList(text);
         for (String word : words) {
             if (isAnAcronym(word)) {
                 acronyms.addAll(appearencesOf(word, text));
@@ -56,12 +59,12 @@ class Acronym {
     }
 
     private static char firstLetterIn(String word) {
-        String wordWithoutDigits = word.replaceAll("\\d", "");
+        String wordWithoutDigits = DIGIT.matcher(word).replaceAll("");
         return wordWithoutDigits.length() == 0 ? word.charAt(0) : wordWithoutDigits.charAt(0);
     }
 
     private static char lastLetterIn(String word) {
-        String wordWithoutDigits = word.replaceAll("\\d", "");
+        String wordWithoutDigits = DIGIT.matcher(word).replaceAll("");
         return wordWithoutDigits.length() == 0 ? word.charAt(word.length() - 1) : wordWithoutDigits.charAt(wordWithoutDigits.length() - 1);
     }
 
@@ -3,6 +3,7 @@ package net.thucydides.model.util;
 import com.google.common.base.Splitter;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
+import net.serenitybdd.model.environment.ConfigurationSnapshot;
 
 import java.util.List;
 import java.util.Map;
@@ -95,4 +96,15 @@ public interface EnvironmentVariables {
     }
 
     Map<String, String> properties();
+
+    /**
+     * The compiled configuration for these environment variables. Implementations should keep the snapshot
+     * until {@link #invalidateConfigurationSnapshot()} is called; by default a new one is compiled on each call.
+     */
+    default ConfigurationSnapshot configurationSnapshot() {
+        return ConfigurationSnapshot.compiledFrom(this);
+    }
+
+    default void invalidateConfigurationSnapshot() {
+    }
 }
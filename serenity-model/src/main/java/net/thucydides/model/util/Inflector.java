@@ -1,9 +1,12 @@
 package net.thucydides.model.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -73,6 +76,15 @@ public class Inflector {
     private LinkedList<Rule> plurals = new LinkedList<>();
     private LinkedList<Rule> singulars = new LinkedList<>();
 
+    /**
+     * Applying the rules means trying each of their regular expressions in turn, and the same words are inflected
+     * again and again, so the results of the most frequent inflections are kept.
+     */
+    private static final int CACHED_INFLECTIONS = 4096;
+    private final Cache<String, String> pluralForms = Caffeine.newBuilder().maximumSize(CACHED_INFLECTIONS).build();
+    private final Cache<String, String> singularForms = Caffeine.newBuilder().maximumSize(CACHED_INFLECTIONS).build();
+    private final Cache<String, String> humanizedForms = Caffeine.newBuilder().maximumSize(CACHED_INFLECTIONS).build();
+
     /**
      * The lowercase words that are to be excluded and not processed. This map can be modified by the users via
      */
@@ -113,11 +125,15 @@ public class Inflector {
         String wordStr = word.toString().trim();
         if (wordStr.length() == 0) return wordStr;
         if (isUncountable(wordStr)) return wordStr;
-        for (Rule rule : this.plurals) {
-            String result = rule.apply(wordStr);
+        return pluralForms.get(wordStr, singularWord -> applyFirstMatching(this.plurals, singularWord));
+    }
+
+    private String applyFirstMatching(List<Rule> rules, String word) {
+        for (Rule rule : rules) {
+            String result = rule.apply(word);
             if (result != null) return result;
         }
-        return wordStr;
+        return word;
     }
 
     public String pluralize(Object word, long count) {
@@ -155,11 +171,7 @@ public class Inflector {
         String wordStr = word.toString().trim();
         if (wordStr.length() == 0) return wordStr;
         if (isUncountable(wordStr)) return wordStr;
-        for (Rule rule : this.singulars) {
-            String result = rule.apply(wordStr);
-            if (result != null) return result;
-        }
-        return wordStr;
+        return singularForms.get(wordStr, pluralWord -> applyFirstMatching(this.singulars, pluralWord));
     }
 
     /**
@@ -212,7 +224,7 @@ public class Inflector {
     private final String NON_BLANK_SEPARATORS = "-+_/:;&()";
 
     private boolean isNonBlankSeparator(char c) {
-        return NON_BLANK_SEPARATORS.contains(String.valueOf(c));
+        return NON_BLANK_SEPARATORS.indexOf(c) >= 0;
     }
 
     /**
@@ -234,6 +246,15 @@ public class Inflector {
     public String humanize(String lowerCaseAndUnderscoredWords,
                            String... removableTokens) {
 
+        if (lowerCaseAndUnderscoredWords != null && (removableTokens == null || removableTokens.length == 0)) {
+            return humanizedForms.get(lowerCaseAndUnderscoredWords, words -> humanizeWords(words));
+        }
+        return humanizeWords(lowerCaseAndUnderscoredWords, removableTokens);
+    }
+
+    private String humanizeWords(String lowerCaseAndUnderscoredWords,
+                                 String... removableTokens) {
+
         if (isCamelCase(lowerCaseAndUnderscoredWords)) {
             lowerCaseAndUnderscoredWords = underscore(lowerCaseAndUnderscoredWords);
         }
@@ -252,6 +273,11 @@ public class Inflector {
 
     private final static Pattern LOWER_CAMEL_CASE = Pattern.compile("[a-z]+((\\d)|([A-Z0-9][a-z0-9]+))*([A-Z])?");
     private final static Pattern UPPER_CAMEL_CASE = Pattern.compile("^[A-Z][a-zA-Z0-9]*$");
+    private final static Pattern TRAILING_ID = Pattern.compile("_id$");
+    private final static Pattern UNDERSCORES = Pattern.compile("_+");
+    private final static Pattern UPPERCASE_RUN_BEFORE_WORD = Pattern.compile("([A-Z]+)([A-Z][a-z])");
+    private final static Pattern LOWERCASE_BEFORE_UPPERCASE = Pattern.compile("([a-z\\d])([A-Z])");
+    private final static Pattern WHITESPACE = Pattern.compile("\\s");
 
     private boolean isCamelCase(String text) {
         return LOWER_CAMEL_CASE.matcher(text).matches() || UPPER_CAMEL_CASE.matcher(text).matches();
@@ -263,14 +289,14 @@ public class Inflector {
         String result = lowerCaseAndUnderscoredWords.trim();
         if (result.length() == 0) return "";
         // Remove a trailing "_id" token
-        result = result.replaceAll("_id$", "");
+        result = TRAILING_ID.matcher(result).replaceAll("");
         // Remove all of the tokens that should be removed
         if (removableTokens != null) {
             for (String removableToken : removableTokens) {
                 result = result.replaceAll(removableToken, "");
             }
         }
-        result = result.replaceAll("_+", " "); // replace all adjacent underscores with a single space
+        result = UNDERSCORES.matcher(result).replaceAll(" "); // replace all adjacent underscores with a single space
 
         return result;
     }
@@ -299,8 +325,8 @@ public class Inflector {
         if (camelCaseWord == null) return null;
         String result = camelCaseWord.trim();
         if (result.length() == 0) return "";
-        result = result.replaceAll("([A-Z]+)([A-Z][a-z])", "$1_$2");
-        result = result.replaceAll("([a-z\\d])([A-Z])", "$1_$2");
+        result = UPPERCASE_RUN_BEFORE_WORD.matcher(result).replaceAll("$1_$2");
+        result = LOWERCASE_BEFORE_UPPERCASE.matcher(result).replaceAll("$1_$2");
 //        result = result.replace('-', '_');
         if (delimiterChars != null) {
             for (char delimiterChar : delimiterChars) {
@@ -319,7 +345,7 @@ public class Inflector {
      */
     public String kebabCase(String camelCaseWord,
                             char... delimiterChars) {
-        return underscore(camelCaseWord, delimiterChars).replaceAll("_", "-");
+        return underscore(camelCaseWord, delimiterChars).replace('_', '-');
     }
 
     /**
@@ -341,7 +367,7 @@ public class Inflector {
     String titleCase(String words,
                      String... removableTokens) {
         String humanizedForm = humanize(words,removableTokens);
-        String result = stream(humanizedForm.split("\\s"))
+        String result = stream(WHITESPACE.split(humanizedForm))
                 .map(this::firstUpperCase)
                 .collect(Collectors.joining(" "));
         return result.trim();
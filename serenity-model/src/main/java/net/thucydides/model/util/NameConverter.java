@@ -1,12 +1,14 @@
 package net.thucydides.model.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.base.Splitter;
 import net.serenitybdd.model.strings.Joiner;
 import org.apache.commons.lang3.CharUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.regex.Pattern;
 
 /**
  * Utility class to convert test case and method names into human-readable form.
@@ -15,9 +17,18 @@ import java.util.stream.Collectors;
  */
 public final class NameConverter {
 
-    private static final String METHOD_NAME_WITH_PARENTHESES = ".*\\(\\w*\\)";
-    private static final String INDEXED_METHOD_NAME = ".*\\[\\d+]";
+    private static final Pattern METHOD_NAME_WITH_PARENTHESES = Pattern.compile(".*\\(\\w*\\)");
+    private static final Pattern INDEXED_METHOD_NAME = Pattern.compile(".*\\[\\d+]");
     private static final String[] abbreviations = {"CSV", "XML", "JSON"};
+    private static final Splitter ON_SPACES = Splitter.on(" ").trimResults().omitEmptyStrings();
+
+    /**
+     * The same step titles, method names and tags are converted over and over again during a test run and during
+     * reporting, so the results of the most frequent conversions are kept.
+     */
+    private static final int CACHED_CONVERSIONS = 8192;
+    private static final Cache<String, String> HUMANIZED_NAMES = Caffeine.newBuilder().maximumSize(CACHED_CONVERSIONS).build();
+    private static final Cache<String, String> FILESYSTEM_SAFE_NAMES = Caffeine.newBuilder().maximumSize(CACHED_CONVERSIONS).build();
 
     private NameConverter() {
     }
@@ -38,23 +49,26 @@ public final class NameConverter {
         } else if (thereAreParametersIn(name)) {
             return humanizeNameWithParameters(name);
         } else {
+            return HUMANIZED_NAMES.get(name, NameConverter::humanizeName);
+        }
+    }
 
-            String noUnderscores = name.replaceAll("_", " ");
-            String splitCamelCase = splitCamelCase(noUnderscores);
+    private static String humanizeName(final String name) {
+        String noUnderscores = name.replace('_', ' ');
+        String splitCamelCase = splitCamelCase(noUnderscores);
 
-            Set<Acronym> acronyms = Acronym.acronymsIn(splitCamelCase);
-            String capitalized = StringUtils.capitalize(splitCamelCase);
-            for(Acronym acronym : acronyms) {
-                capitalized = acronym.restoreIn(capitalized);
-            }
-            return restoreAbbreviations(capitalized);
+        Set<Acronym> acronyms = Acronym.acronymsIn(splitCamelCase);
+        String capitalized = StringUtils.capitalize(splitCamelCase);
+        for(Acronym acronym : acronyms) {
+            capitalized = acronym.restoreIn(capitalized);
         }
+        return restoreAbbreviations(capitalized);
     }
 
     private static String restoreAbbreviations(final String sentence){
         String processing = sentence;
         for(String abbreviation: abbreviations){
-            processing = processing.replaceAll(StringUtils.capitalize(abbreviation), abbreviation);
+            processing = StringUtils.replace(processing, StringUtils.capitalize(abbreviation), abbreviation);
         }
         return processing;
     }
@@ -80,32 +94,29 @@ public final class NameConverter {
     public static String splitCamelCase(final String name) {
         List<String> splitWords = new ArrayList<>();
 
-        List<String> phrases = Splitter.on(" ").trimResults().omitEmptyStrings().splitToList(name);
-
-        for(String phrase : phrases) {
-            splitWords.addAll(splitWordsIn(phrase));
+        for(String phrase : ON_SPACES.split(name)) {
+            addWordsIn(phrase, splitWords);
         }
 
         String splitPhrase = Joiner.on(" ").join(splitWords);
         return splitPhrase.trim();
     }
 
-    private static List<String> splitWordsIn(String phrase) {
-
-        List<String> splitWords = new ArrayList<>();
-
-        String currentWord = "";
+    private static void addWordsIn(String phrase, List<String> splitWords) {
+        int wordStart = 0;
         for (int index = 0; index < phrase.length(); index++) {
             if (onWordBoundary(phrase, index)) {
-                splitWords.add(lowercaseOrAcronym(currentWord));
-                currentWord = String.valueOf(phrase.charAt(index));
-            } else {
-                currentWord = currentWord + (phrase.charAt(index));
+                addWord(phrase.substring(wordStart, index), splitWords);
+                wordStart = index;
             }
         }
-        splitWords.add(lowercaseOrAcronym(currentWord));
+        addWord(phrase.substring(wordStart), splitWords);
+    }
 
-        return splitWords.stream().filter(word -> !word.trim().isEmpty()).collect(Collectors.toList());
+    private static void addWord(String word, List<String> splitWords) {
+        if (!word.trim().isEmpty()) {
+            splitWords.add(lowercaseOrAcronym(word));
+        }
     }
 
     private static String lowercaseOrAcronym(String word) {
@@ -170,14 +181,14 @@ public final class NameConverter {
         if (methodName == null) {
             return null;
         }
-        return (methodName.matches(INDEXED_METHOD_NAME)) ? methodName.substring(0, methodName.lastIndexOf('[')) : methodName;
+        return (INDEXED_METHOD_NAME.matcher(methodName).matches()) ? methodName.substring(0, methodName.lastIndexOf('[')) : methodName;
     }
 
     public static String stripParenthesesFrom(final String methodName) {
         if (methodName == null) {
             return null;
         }
-        return (methodName.matches(METHOD_NAME_WITH_PARENTHESES)) ? methodName.substring(0, methodName.lastIndexOf('(')) : methodName;
+        return (METHOD_NAME_WITH_PARENTHESES.matcher(methodName).matches()) ? methodName.substring(0, methodName.lastIndexOf('(')) : methodName;
     }
 
     /**
@@ -188,63 +199,84 @@ public final class NameConverter {
      */
     public static String underscore(final String name) {
         if (name != null) {
-            return name.replaceAll(" ", "_")
-                    .replaceAll("<", "_lt_")
-                    .replaceAll(">", "underscore_gt_")
-                    .replaceAll("'", "_sq_")
-                    .replaceAll("\"", "_dq_")
-                    .replaceAll(",", "_c_")
-                    .replaceAll(":", "_cl_")
-                    .replaceAll(";", "_sc_")
-                    .replaceAll("/", "_sl_")
-                    .replaceAll("=", "_eq_")
-                    .toLowerCase(Locale.getDefault()).trim();
+            return replaceCharacters(name, UNDERSCORED_CHARACTERS).toLowerCase(Locale.getDefault()).trim();
         } else {
             return "";
         }
     }
 
-    private final static Map<Character, String> EXCLUDE_FROM_FILENAMES = new HashMap();
+    private static final String[] UNDERSCORED_CHARACTERS = new String[128];
     static {
-        EXCLUDE_FROM_FILENAMES.put('$', "_");
-        EXCLUDE_FROM_FILENAMES.put('/', "_");
-        EXCLUDE_FROM_FILENAMES.put('\\', "_");
-        EXCLUDE_FROM_FILENAMES.put(':', "_");
-        EXCLUDE_FROM_FILENAMES.put(';', "_");
-        EXCLUDE_FROM_FILENAMES.put('<', "_lt_");
-        EXCLUDE_FROM_FILENAMES.put('>', "_gt_");
-        EXCLUDE_FROM_FILENAMES.put('[', "_obr_");
-        EXCLUDE_FROM_FILENAMES.put(']', "_cbr_");
-        EXCLUDE_FROM_FILENAMES.put('{', "_obrc_");
-        EXCLUDE_FROM_FILENAMES.put('}', "_cbrc_");
-        EXCLUDE_FROM_FILENAMES.put('(', "_opr");
-        EXCLUDE_FROM_FILENAMES.put(')', "_cpr_");
-        EXCLUDE_FROM_FILENAMES.put('*', "_star_");
-        EXCLUDE_FROM_FILENAMES.put('^', "_caret_");
-        EXCLUDE_FROM_FILENAMES.put('%', "_per_");
-        EXCLUDE_FROM_FILENAMES.put('"', "_quote_");
-        EXCLUDE_FROM_FILENAMES.put('?', "_question_");
-        EXCLUDE_FROM_FILENAMES.put('|', "_pipe_");
-        EXCLUDE_FROM_FILENAMES.put('&', "_amp_");
-        EXCLUDE_FROM_FILENAMES.put(',', "_comma_");
-        EXCLUDE_FROM_FILENAMES.put('=', "_equals_");
-        EXCLUDE_FROM_FILENAMES.put('\'', "_");
-        EXCLUDE_FROM_FILENAMES.put('\"', "_");
-        EXCLUDE_FROM_FILENAMES.put('@', "_at_");
-        EXCLUDE_FROM_FILENAMES.put('#', "_hash_");
-        EXCLUDE_FROM_FILENAMES.put('+', "_plus_");
-        EXCLUDE_FROM_FILENAMES.put(' ', "_");
-        EXCLUDE_FROM_FILENAMES.put('-', "_");
+        UNDERSCORED_CHARACTERS[' '] = "_";
+        UNDERSCORED_CHARACTERS['<'] = "_lt_";
+        UNDERSCORED_CHARACTERS['>'] = "underscore_gt_";
+        UNDERSCORED_CHARACTERS['\''] = "_sq_";
+        UNDERSCORED_CHARACTERS['"'] = "_dq_";
+        UNDERSCORED_CHARACTERS[','] = "_c_";
+        UNDERSCORED_CHARACTERS[':'] = "_cl_";
+        UNDERSCORED_CHARACTERS[';'] = "_sc_";
+        UNDERSCORED_CHARACTERS['/'] = "_sl_";
+        UNDERSCORED_CHARACTERS['='] = "_eq_";
+    }
+
+    /**
+     * Replace the ASCII characters that have a substitute in a single pass over the name.
+     */
+    private static String replaceCharacters(String name, String[] substitutes) {
+        StringBuilder replaced = null;
+        for (int index = 0; index < name.length(); index++) {
+            char character = name.charAt(index);
+            String substitute = (character < substitutes.length) ? substitutes[character] : null;
+            if (substitute != null && replaced == null) {
+                replaced = new StringBuilder(name.length() + 16).append(name, 0, index);
+            }
+            if (replaced != null) {
+                if (substitute != null) {
+                    replaced.append(substitute);
+                } else {
+                    replaced.append(character);
+                }
+            }
+        }
+        return (replaced == null) ? name : replaced.toString();
+    }
+
+    private final static String[] EXCLUDE_FROM_FILENAMES = new String[128];
+    static {
+        EXCLUDE_FROM_FILENAMES['$'] = "_";
+        EXCLUDE_FROM_FILENAMES['/'] = "_";
+        EXCLUDE_FROM_FILENAMES['\\'] = "_";
+        EXCLUDE_FROM_FILENAMES[':'] = "_";
+        EXCLUDE_FROM_FILENAMES[';'] = "_";
+        EXCLUDE_FROM_FILENAMES['<'] = "_lt_";
+        EXCLUDE_FROM_FILENAMES['>'] = "_gt_";
+        EXCLUDE_FROM_FILENAMES['['] = "_obr_";
+        EXCLUDE_FROM_FILENAMES[']'] = "_cbr_";
+        EXCLUDE_FROM_FILENAMES['{'] = "_obrc_";
+        EXCLUDE_FROM_FILENAMES['}'] = "_cbrc_";
+        EXCLUDE_FROM_FILENAMES['('] = "_opr";
+        EXCLUDE_FROM_FILENAMES[')'] = "_cpr_";
+        EXCLUDE_FROM_FILENAMES['*'] = "_star_";
+        EXCLUDE_FROM_FILENAMES['^'] = "_caret_";
+        EXCLUDE_FROM_FILENAMES['%'] = "_per_";
+        EXCLUDE_FROM_FILENAMES['?'] = "_question_";
+        EXCLUDE_FROM_FILENAMES['|'] = "_pipe_";
+        EXCLUDE_FROM_FILENAMES['&'] = "_amp_";
+        EXCLUDE_FROM_FILENAMES[','] = "_comma_";
+        EXCLUDE_FROM_FILENAMES['='] = "_equals_";
+        EXCLUDE_FROM_FILENAMES['\''] = "_";
+        EXCLUDE_FROM_FILENAMES['"'] = "_";
+        EXCLUDE_FROM_FILENAMES['@'] = "_at_";
+        EXCLUDE_FROM_FILENAMES['#'] = "_hash_";
+        EXCLUDE_FROM_FILENAMES['+'] = "_plus_";
+        EXCLUDE_FROM_FILENAMES[' '] = "_";
+        EXCLUDE_FROM_FILENAMES['-'] = "_";
     }
 
     public static String filesystemSafe(final String name) {
         if (name == null) { return name; }
 
-        String safeName = name.trim();
-        for(Character substitutableChar : EXCLUDE_FROM_FILENAMES.keySet()) {
-            safeName = StringUtils.replace(safeName, substitutableChar.toString(), EXCLUDE_FROM_FILENAMES.get(substitutableChar));
-        }
-        return safeName.toLowerCase();
+        return FILESYSTEM_SAFE_NAMES.get(name, unsafeName -> replaceCharacters(unsafeName.trim(), EXCLUDE_FROM_FILENAMES).toLowerCase());
     }
 
 }
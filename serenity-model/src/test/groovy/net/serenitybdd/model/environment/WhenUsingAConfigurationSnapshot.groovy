@@ -0,0 +1,81 @@
+package net.serenitybdd.model.environment
+
+import net.thucydides.model.ThucydidesSystemProperty
+import net.thucydides.model.environment.MockEnvironmentVariables
+import net.thucydides.model.util.EnvironmentVariables
+import spock.lang.Specification
+
+import java.lang.ref.WeakReference
+
+class WhenUsingAConfigurationSnapshot extends Specification {
+
+    EnvironmentVariables environmentVariables = new MockEnvironmentVariables()
+
+    def "the same configuration is shared for a given set of environment variables"() {
+        expect:
+        EnvironmentSpecificConfiguration.from(environmentVariables).is(EnvironmentSpecificConfiguration.from(environmentVariables))
+        !EnvironmentSpecificConfiguration.from(environmentVariables).is(EnvironmentSpecificConfiguration.from(new MockEnvironmentVariables()))
+    }
+
+    def "property values are resolved for the active environment"() {
+        given:
+        environmentVariables.setProperties([
+                "environment"                                           : "staging",
+                "environments.staging.webdriver.min.screenshot.interval": "#{interval}",
+                "interval"                                              : "200",
+        ])
+        expect:
+        ThucydidesSystemProperty.WEBDRIVER_MIN_SCREENSHOT_INTERVAL.integerFrom(environmentVariables, 50) == 200
+    }
+
+    def "the snapshot is rebuilt when a property changes"() {
+        given:
+        environmentVariables.setProperty("webdriver.min.screenshot.interval", "100")
+        ThucydidesSystemProperty.WEBDRIVER_MIN_SCREENSHOT_INTERVAL.integerFrom(environmentVariables, 50)
+        def initialConfiguration = EnvironmentSpecificConfiguration.from(environmentVariables)
+        when:
+        environmentVariables.setProperty("webdriver.min.screenshot.interval", "300")
+        then:
+        ThucydidesSystemProperty.WEBDRIVER_MIN_SCREENSHOT_INTERVAL.integerFrom(environmentVariables, 50) == 300
+        !EnvironmentSpecificConfiguration.from(environmentVariables).is(initialConfiguration)
+    }
+
+    def "the environment strategy is recalculated when the active environment changes"() {
+        given:
+        environmentVariables.setProperties([
+                "environments.default.webdriver.base.url": "http://localhost",
+                "environments.prod.webdriver.base.url"   : "https://example.com",
+        ])
+        ThucydidesSystemProperty.WEBDRIVER_BASE_URL.from(environmentVariables)
+        when:
+        environmentVariables.setProperty("environment", "prod")
+        then:
+        ThucydidesSystemProperty.WEBDRIVER_BASE_URL.from(environmentVariables) == "https://example.com"
+    }
+
+    def "the snapshot can be invalidated explicitly after the property map is modified directly"() {
+        given:
+        ThucydidesSystemProperty.WEBDRIVER_MIN_SCREENSHOT_INTERVAL.integerFrom(environmentVariables, 50)
+        environmentVariables.properties().put("webdriver.min.screenshot.interval", "400")
+        when:
+        ConfigurationSnapshot.invalidate(environmentVariables)
+        then:
+        ThucydidesSystemProperty.WEBDRIVER_MIN_SCREENSHOT_INTERVAL.integerFrom(environmentVariables, 50) == 400
+    }
+
+    def "a snapshot does not keep its environment variables alive"() {
+        given:
+        def droppedEnvironment = new MockEnvironmentVariables()
+        droppedEnvironment.setProperty("webdriver.min.screenshot.interval", "100")
+        ThucydidesSystemProperty.WEBDRIVER_MIN_SCREENSHOT_INTERVAL.integerFrom(droppedEnvironment, 50)
+        def environmentReference = new WeakReference(droppedEnvironment)
+        when:
+        droppedEnvironment = null
+        for (int attempt = 0; attempt < 50 && environmentReference.get() != null; attempt++) {
+            System.gc()
+            Thread.sleep(20)
+        }
+        then:
+        environmentReference.get() == null
+    }
+}
@@ -0,0 +1,79 @@
+package net.serenitybdd.model.history
+
+import net.thucydides.model.domain.TestResult
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+class WhenStoringTestOutcomeHistory extends Specification {
+
+    Path historyDirectory = Files.createTempDirectory("history")
+    TestOutcomeHistoryStore store = new TestOutcomeHistoryStore(historyDirectory)
+
+    def cleanup() {
+        historyDirectory.toFile().deleteDir()
+    }
+
+    def outcome(String id, TestResult result, String failure = null) {
+        new PreviousTestOutcome(id, "Test " + id, result, failure)
+    }
+
+    def "each run is stored as a single segment"() {
+        when:
+            store.appendRun([outcome("a", TestResult.SUCCESS), outcome("b", TestResult.FAILURE, "FAILURE;java.lang.AssertionError;oops;")])
+            store.appendRun([outcome("a", TestResult.FAILURE), outcome("b", TestResult.SUCCESS)])
+        then:
+            store.runCount == 2
+            Files.list(historyDirectory).count() == 2
+    }
+
+    def "the latest outcome of each test is indexed by test id"() {
+        given:
+            store.appendRun([outcome("a", TestResult.SUCCESS), outcome("b", TestResult.FAILURE, "FAILURE;java.lang.AssertionError;oops;")])
+            store.appendRun([outcome("a", TestResult.FAILURE)])
+        when:
+            def latest = store.latestOutcomes()
+        then:
+            latest.size() == 2
+            latest["a"].result == TestResult.FAILURE
+            latest["b"].result == TestResult.FAILURE
+            latest["b"].testFailureSummary == "FAILURE;java.lang.AssertionError;oops;"
+            latest["b"].name == "Test b"
+    }
+
+    def "the outcomes of a test over several runs can be read back in order"() {
+        given:
+            store.appendRun([outcome("a", TestResult.SUCCESS)])
+            store.appendRun([outcome("a", TestResult.FAILURE)])
+            store.appendRun([outcome("a", TestResult.ERROR)])
+        when:
+            def history = store.outcomeHistory()
+        then:
+            history["a"]*.result == [TestResult.SUCCESS, TestResult.FAILURE, TestResult.ERROR]
+    }
+
+    def "compaction keeps the latest outcome of every test"() {
+        given:
+            store.appendRun([outcome("a", TestResult.SUCCESS), outcome("b", TestResult.SUCCESS)])
+            store.appendRun([outcome("a", TestResult.FAILURE)])
+            store.appendRun([outcome("c", TestResult.SUCCESS)])
+            store.appendRun([outcome("c", TestResult.ERROR)])
+        when:
+            store.compact(2)
+        then:
+            store.runCount == 2
+            store.latestOutcomes()["a"].result == TestResult.FAILURE
+            store.latestOutcomes()["b"].result == TestResult.SUCCESS
+            store.latestOutcomes()["c"].result == TestResult.ERROR
+            store.outcomeHistory()["c"]*.result == [TestResult.SUCCESS, TestResult.ERROR]
+    }
+
+    def "corrupted segments are ignored"() {
+        given:
+            store.appendRun([outcome("a", TestResult.SUCCESS)])
+            Files.write(historyDirectory.resolve("run-999999999999999-0000-0.history"), [1, 2, 3] as byte[])
+        expect:
+            store.latestOutcomes().keySet() == ["a"] as Set
+    }
+}
@@ -0,0 +1,99 @@
+package net.serenitybdd.model.index
+
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+class WhenUsingTheClasspathIndex extends Specification {
+
+    Path classesDirectory = Files.createTempDirectory("test-classes")
+
+    def cleanup() {
+        classesDirectory.toFile().deleteDir()
+    }
+
+    def classLoaderFor(Path directory) {
+        new URLClassLoader([directory.toUri().toURL()] as URL[], (ClassLoader) null)
+    }
+
+    def addClass(String className) {
+        def classFile = classesDirectory.resolve(className.replace('.', '/') + ".class")
+        Files.createDirectories(classFile.parent)
+        classFile.toFile().bytes = [0xCA, 0xFE, 0xBA, 0xBE] as byte[]
+        classFile
+    }
+
+    def writeIndexWithFingerprintOf(String rootPackage) {
+        def fingerprint = ClassFileFingerprint.of(classLoaderFor(classesDirectory), rootPackage)
+        def indexFile = classesDirectory.resolve(ClasspathIndex.INDEX_RESOURCE)
+        Files.createDirectories(indexFile.parent)
+        indexFile.toFile().text = """
+requirement.paths.com.acme.features=com.acme.features.shopping,com.acme.features.shopping.WhenBuyingApples
+requirement.fingerprint.com.acme.features=${fingerprint}
+tag.provider.strategies=com.acme.tags.CustomTagProviderStrategy
+"""
+    }
+
+    def "requirement paths and tag provider strategies are read from the index"() {
+        given:
+        addClass("com.acme.features.shopping.WhenBuyingApples")
+        writeIndexWithFingerprintOf("com.acme.features")
+        when:
+        def index = ClasspathIndex.loadFrom(classLoaderFor(classesDirectory)).get()
+        then:
+        index.requirementPathsFor("com.acme.features").get() == ["com.acme.features.shopping", "com.acme.features.shopping.WhenBuyingApples"]
+        index.tagProviderStrategies().get() == ["com.acme.tags.CustomTagProviderStrategy"]
+    }
+
+    def "the index is not used for a package whose classes changed after it was generated"() {
+        given:
+        addClass("com.acme.features.shopping.WhenBuyingApples")
+        writeIndexWithFingerprintOf("com.acme.features")
+        and:
+        addClass("com.acme.features.shopping.WhenBuyingPears")
+        when:
+        def index = ClasspathIndex.loadFrom(classLoaderFor(classesDirectory)).get()
+        then:
+        !index.requirementPathsFor("com.acme.features").isPresent()
+        index.tagProviderStrategies().isPresent()
+    }
+
+    def "an index without a fingerprint is not used for requirement paths"() {
+        given:
+        def indexFile = classesDirectory.resolve(ClasspathIndex.INDEX_RESOURCE)
+        Files.createDirectories(indexFile.parent)
+        indexFile.toFile().text = "requirement.paths.com.acme.features=com.acme.features.shopping"
+        when:
+        def index = ClasspathIndex.loadFrom(classLoaderFor(classesDirectory)).get()
+        then:
+        !index.requirementPathsFor("com.acme.features").isPresent()
+    }
+
+    def "packages that were not indexed are not covered by the index"() {
+        given:
+        def indexFile = classesDirectory.resolve(ClasspathIndex.INDEX_RESOURCE)
+        Files.createDirectories(indexFile.parent)
+        indexFile.toFile().text = "requirement.paths.com.acme.features=com.acme.features.shopping"
+        when:
+        def index = ClasspathIndex.loadFrom(classLoaderFor(classesDirectory)).get()
+        then:
+        !index.requirementPathsFor("com.acme.other").isPresent()
+    }
+
+    def "there is no index if none was generated"() {
+        expect:
+        !ClasspathIndex.loadFrom(classLoaderFor(classesDirectory)).isPresent()
+    }
+
+    def "the generated index can be read back"() {
+        given:
+        def generator = new ClasspathIndexGenerator(getClass().classLoader)
+        when:
+        generator.generate(null, classesDirectory)
+        def index = ClasspathIndex.loadFrom(classLoaderFor(classesDirectory)).get()
+        then:
+        index.tagProviderStrategies().isPresent()
+        !index.requirementPathsFor("com.acme.features").isPresent()
+    }
+}
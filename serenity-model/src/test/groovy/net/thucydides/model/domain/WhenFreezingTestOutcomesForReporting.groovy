@@ -0,0 +1,147 @@
+package net.thucydides.model.domain
+
+import net.serenitybdd.model.environment.ConfiguredEnvironment
+import net.thucydides.model.domain.failures.FailureAnalysisConfiguration
+import net.thucydides.model.environment.MockEnvironmentVariables
+import net.thucydides.model.steps.TestFailureCause
+import spock.lang.Specification
+
+class WhenFreezingTestOutcomesForReporting extends Specification {
+
+    def "a frozen outcome should keep the values computed when it was frozen"() {
+        given:
+        def testOutcome = TestOutcome.forTestInStory("aTest", Story.called("a story"))
+        testOutcome.recordStep(TestStep.forStepCalled("step 1").withResult(TestResult.SUCCESS))
+        testOutcome.recordStep(TestStep.forStepCalled("step 2").withResult(TestResult.FAILURE))
+        testOutcome.setDuration(100)
+
+        when:
+        testOutcome.freeze()
+
+        then:
+        testOutcome.isFrozen()
+        testOutcome.result == TestResult.FAILURE
+        testOutcome.duration == 100
+        testOutcome.flattenedTestSteps.size() == 2
+        testOutcome.leafTestSteps.size() == 2
+        testOutcome.screenshots.isEmpty()
+    }
+
+    def "recording a new step should discard the frozen values"() {
+        given:
+        def testOutcome = TestOutcome.forTestInStory("aTest", Story.called("a story"))
+        testOutcome.recordStep(TestStep.forStepCalled("step 1").withResult(TestResult.SUCCESS))
+        testOutcome.freeze()
+
+        when:
+        testOutcome.recordStep(TestStep.forStepCalled("step 2").withResult(TestResult.ERROR))
+
+        then:
+        !testOutcome.isFrozen()
+        testOutcome.result == TestResult.ERROR
+        testOutcome.flattenedTestSteps.size() == 2
+    }
+
+    def "changing the result or duration should discard the frozen values"() {
+        given:
+        def testOutcome = TestOutcome.forTestInStory("aTest", Story.called("a story"))
+        testOutcome.recordStep(TestStep.forStepCalled("step 1").withResult(TestResult.SUCCESS))
+        testOutcome.freeze()
+
+        when:
+        testOutcome.setAnnotatedResult(TestResult.PENDING)
+        testOutcome.setDuration(250)
+
+        then:
+        testOutcome.result == TestResult.PENDING
+        testOutcome.duration == 250
+    }
+
+    def "the result of a failure class should be the same when it is looked up again"() {
+        given:
+        def firstOutcome = TestOutcome.forTestInStory("aTest", Story.called("a story"))
+        def secondOutcome = TestOutcome.forTestInStory("anotherTest", Story.called("a story"))
+
+        when:
+        firstOutcome.determineTestFailureCause(new AssertionError("oops"))
+        secondOutcome.determineTestFailureCause(new AssertionError("oops again"))
+
+        then:
+        firstOutcome.freeze().result == TestResult.FAILURE
+        secondOutcome.freeze().result == TestResult.FAILURE
+    }
+
+    def "appending a test failure should discard the frozen values"() {
+        given:
+        def testOutcome = TestOutcome.forTestInStory("aTest", Story.called("a story"))
+        testOutcome.recordStep(TestStep.forStepCalled("step 1").withResult(TestResult.SUCCESS))
+        testOutcome.freeze()
+
+        when:
+        testOutcome.appendTestFailure(TestFailureCause.from(new AssertionError("oops")))
+
+        then:
+        !testOutcome.isFrozen()
+        testOutcome.result == TestResult.FAILURE
+    }
+
+    def "changing the steps of a frozen outcome should discard the frozen values"() {
+        given:
+        def testOutcome = TestOutcome.forTestInStory("aTest", Story.called("a story"))
+        testOutcome.recordStep(TestStep.forStepCalled("step 1").withResult(TestResult.SUCCESS))
+        testOutcome.freeze()
+
+        when:
+        testOutcome.recordChildSteps([TestStep.forStepCalled("step 1.1").withResult(TestResult.ERROR)])
+
+        then:
+        !testOutcome.isFrozen()
+        testOutcome.flattenedTestSteps.size() == 2
+        testOutcome.result == TestResult.ERROR
+
+        when:
+        testOutcome.freeze()
+        testOutcome.setAllStepsTo(TestResult.IGNORED)
+
+        then:
+        !testOutcome.isFrozen()
+    }
+
+    def "the result of a failure class should follow the configured failure types"() {
+        given:
+        def environmentVariables = new MockEnvironmentVariables()
+        ConfiguredEnvironment.updateConfiguration(environmentVariables)
+        def outcome = TestOutcome.forTestInStory("aTest", Story.called("a story"))
+        outcome.determineTestFailureCause(new IllegalStateException("oops"))
+        outcome.clearForcedResult()
+
+        when:
+        def defaultResult = outcome.result
+        environmentVariables.setProperty("serenity.fail.on", "java.lang.IllegalStateException")
+        def configuredResult = outcome.result
+
+        then:
+        defaultResult == TestResult.ERROR
+        configuredResult == TestResult.FAILURE
+
+        cleanup:
+        ConfiguredEnvironment.reset()
+    }
+
+    def "the configured failure types should only be read again when the configuration changes"() {
+        given:
+        def environmentVariables = new MockEnvironmentVariables()
+        environmentVariables.setProperty("serenity.fail.on", "java.lang.IllegalStateException")
+
+        when:
+        def firstKey = FailureAnalysisConfiguration.configuredTypesIn(environmentVariables)
+        def secondKey = FailureAnalysisConfiguration.configuredTypesIn(environmentVariables)
+        environmentVariables.setProperty("serenity.error.on", "java.lang.IllegalArgumentException")
+        def updatedKey = FailureAnalysisConfiguration.configuredTypesIn(environmentVariables)
+
+        then:
+        secondKey.is(firstKey)
+        updatedKey != firstKey
+        updatedKey.contains("java.lang.IllegalArgumentException")
+    }
+}
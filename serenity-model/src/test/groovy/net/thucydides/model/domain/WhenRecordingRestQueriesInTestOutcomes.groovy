@@ -2,8 +2,11 @@ package net.thucydides.model.domain
 
 import net.serenitybdd.model.rest.RestMethod
 import net.serenitybdd.model.rest.RestQuery
+import net.thucydides.model.reports.json.SidecarContentStore
 import spock.lang.Specification
 
+import java.nio.file.Files
+
 class WhenRecordingRestQueriesInTestOutcomes extends Specification {
 
 
@@ -45,4 +48,56 @@ class WhenRecordingRestQueriesInTestOutcomes extends Specification {
     }
 
 
+    def "Large REST bodies can be moved to a sidecar store and read back when needed"() {
+        given:
+            def reportDirectory = Files.createTempDirectory("sidecar")
+            def store = SidecarContentStore.forReportDirectory(reportDirectory)
+            def largeBody = "{\"values\":\"" + ("x" * 1000) + "\"}"
+            def query = RestQuery.withMethod(RestMethod.POST).andPath("/somepath")
+                                 .withContent("small")
+                                 .withResponse(largeBody)
+        when:
+            def storedQuery = query.withBodiesStoredIn(store, 100)
+        then:
+            storedQuery.hasExternalBodies()
+            storedQuery.content == "small"
+            storedQuery.responseBody == largeBody
+        and:
+            Files.list(reportDirectory.resolve(SidecarContentStore.SIDECAR_DIRECTORY)).count() == 1
+    }
+
+    def "Identical bodies are only stored once"() {
+        given:
+            def reportDirectory = Files.createTempDirectory("sidecar")
+            def store = SidecarContentStore.forReportDirectory(reportDirectory)
+            def largeBody = "y" * 1000
+        when:
+            def firstReference = store.store(largeBody)
+            def secondReference = store.store(largeBody)
+        then:
+            firstReference == secondReference
+            store.read(firstReference) == largeBody
+            Files.list(reportDirectory.resolve(SidecarContentStore.SIDECAR_DIRECTORY)).count() == 1
+    }
+
+    def "Missing sidecar content is shown as unavailable rather than failing the report"() {
+        given:
+            def reportDirectory = Files.createTempDirectory("sidecar")
+            def store = SidecarContentStore.forReportDirectory(reportDirectory)
+            def query = RestQuery.withMethod(RestMethod.POST).andPath("/somepath").withResponse("z" * 1000)
+            def storedQuery = query.withBodiesStoredIn(store, 100)
+        when:
+            Files.list(reportDirectory.resolve(SidecarContentStore.SIDECAR_DIRECTORY)).each { Files.delete(it) }
+        then:
+            storedQuery.responseBody == SidecarContentStore.UNAVAILABLE_CONTENT
+            store.read("0" * 64) == SidecarContentStore.UNAVAILABLE_CONTENT
+    }
+
+    def "Small REST bodies stay inline"() {
+        given:
+            def store = SidecarContentStore.forReportDirectory(Files.createTempDirectory("sidecar"))
+            def query = RestQuery.withMethod(RestMethod.GET).andPath("/somepath").withResponse("ok")
+        expect:
+            query.withBodiesStoredIn(store, 100).is(query)
+    }
 }
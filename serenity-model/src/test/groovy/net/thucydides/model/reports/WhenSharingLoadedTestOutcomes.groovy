@@ -0,0 +1,57 @@
+package net.thucydides.model.reports
+
+import spock.lang.Specification
+
+import java.nio.file.Files
+
+class WhenSharingLoadedTestOutcomes extends Specification {
+
+    def sourceDirectory = Files.createTempDirectory("outcomes").toFile()
+
+    def cleanup() {
+        sourceDirectory.deleteDir()
+    }
+
+    def "outcomes should only be loaded when they are first needed"() {
+        when:
+        def sharedOutcomes = SharedTestOutcomes.loadedFrom(sourceDirectory)
+
+        then:
+        !sharedOutcomes.isLoaded()
+
+        when:
+        sharedOutcomes.getTestOutcomes()
+
+        then:
+        sharedOutcomes.isLoaded()
+    }
+
+    def "every caller should receive the same loaded outcomes"() {
+        given:
+        def sharedOutcomes = SharedTestOutcomes.loadedFrom(sourceDirectory)
+
+        expect:
+        sharedOutcomes.getTestOutcomes().is(sharedOutcomes.getTestOutcomes())
+    }
+
+    def "outcomes should remain available until the last reference is released"() {
+        given:
+        def sharedOutcomes = SharedTestOutcomes.loadedFrom(sourceDirectory)
+        def loadedOutcomes = sharedOutcomes.getTestOutcomes()
+
+        when:
+        sharedOutcomes.retain()
+        sharedOutcomes.close()
+
+        then:
+        sharedOutcomes.getTestOutcomes().is(loadedOutcomes)
+
+        when:
+        sharedOutcomes.close()
+        sharedOutcomes.getTestOutcomes()
+
+        then:
+        !sharedOutcomes.isLoaded()
+        thrown(IllegalStateException)
+    }
+}
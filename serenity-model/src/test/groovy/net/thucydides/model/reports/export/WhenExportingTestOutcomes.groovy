@@ -0,0 +1,86 @@
+package net.thucydides.model.reports.export
+
+import net.thucydides.model.domain.Story
+import net.thucydides.model.domain.TestOutcome
+import net.thucydides.model.reports.json.JSONTestOutcomeReporter
+import spock.lang.Specification
+
+import java.nio.file.Files
+
+class WhenExportingTestOutcomes extends Specification {
+
+    class RecordingSink implements OutcomeSink {
+        List<String> events = []
+
+        void start() { events << "start" }
+
+        void accept(TestOutcome outcome) { events << outcome.name }
+
+        void finish() { events << "finish" }
+
+        void abort() { events << "abort" }
+    }
+
+    def outcomes = [
+            TestOutcome.forTestInStory("first test", Story.called("a story")),
+            TestOutcome.forTestInStory("second test", Story.called("a story"))
+    ]
+
+    def "each outcome is passed to every sink"() {
+        given:
+            def csv = new RecordingSink()
+            def junit = new RecordingSink()
+        when:
+            OutcomeExporter.to(csv, junit).export(outcomes)
+        then:
+            csv.events == ["start", "first test", "second test", "finish"]
+            junit.events == ["start", "first test", "second test", "finish"]
+    }
+
+    def "the other sinks are aborted rather than finished if one of them fails"() {
+        given:
+            def failingSink = Mock(OutcomeSink) {
+                accept(_) >> { throw new IOException("Disk full") }
+            }
+            def otherSink = new RecordingSink()
+        when:
+            OutcomeExporter.to(failingSink, otherSink).export(outcomes)
+        then:
+            thrown(IOException)
+            otherSink.events.last() == "abort"
+            !otherSink.events.contains("finish")
+    }
+
+    def "the remaining sinks are aborted if one of them fails to finish"() {
+        given:
+            def finishedSink = new RecordingSink()
+            def failingSink = Mock(OutcomeSink) {
+                finish() >> { throw new IOException("Disk full") }
+            }
+            def remainingSink = new RecordingSink()
+        when:
+            OutcomeExporter.to(finishedSink, failingSink, remainingSink).export(outcomes)
+        then:
+            thrown(IOException)
+            finishedSink.events.last() == "finish"
+            remainingSink.events.last() == "abort"
+    }
+
+    def "outcomes can be exported directly from a directory of test results"() {
+        given:
+            def sourceDirectory = Files.createTempDirectory("results").toFile()
+            def reporter = new JSONTestOutcomeReporter()
+            reporter.setOutputDirectory(sourceDirectory)
+            outcomes.each { reporter.generateReportFor(it) }
+        and:
+            def sink = new RecordingSink()
+        when:
+            OutcomeExporter.to(sink).exportFrom(sourceDirectory)
+        then:
+            sink.events.first() == "start"
+            sink.events.last() == "finish"
+            sink.events.subList(1, 3) as Set == ["first test", "second test"] as Set
+        cleanup:
+            sourceDirectory.deleteDir()
+    }
+}
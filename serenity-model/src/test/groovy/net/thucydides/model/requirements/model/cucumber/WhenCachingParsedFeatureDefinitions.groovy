@@ -0,0 +1,109 @@
+package net.thucydides.model.requirements.model.cucumber
+
+import net.thucydides.model.environment.MockEnvironmentVariables
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.attribute.FileTime
+import java.time.Duration
+import java.time.Instant
+
+class WhenCachingParsedFeatureDefinitions extends Specification {
+
+    def featureFile = new File("src/test/resources/features/maintain_my_todo_list/filtering_todos.feature")
+
+    Path cacheDirectory = Files.createTempDirectory("feature-cache")
+    FeatureDefinitionStore store = new FeatureDefinitionStore(cacheDirectory, true, "en", "UTF-8", Duration.ofDays(7))
+    def environmentVariables = new MockEnvironmentVariables()
+
+    def setup() {
+        environmentVariables.setProperty("serenity.feature.cache.directory", cacheDirectory.toString())
+    }
+
+    def cleanup() {
+        cacheDirectory.toFile().deleteDir()
+    }
+
+    def "a stored feature definition is read back with the same narrative, scenarios and tags"() {
+        given:
+        def parsedDefinition = new CucumberParser(environmentVariables).loadFeatureDefinition(featureFile).get()
+        def key = store.keyFor(featureFile).get()
+        when:
+        store.write(key, parsedDefinition)
+        def storedDefinition = store.read(key).get()
+        then:
+        storedDefinition.title == parsedDefinition.title
+        storedDefinition.id == parsedDefinition.id
+        storedDefinition.type == parsedDefinition.type
+        storedDefinition.text == parsedDefinition.text
+        storedDefinition.tags as Set == parsedDefinition.tags as Set
+        storedDefinition.scenarios == parsedDefinition.scenarios
+        storedDefinition.scenarioTags.keySet() == parsedDefinition.scenarioTags.keySet()
+        storedDefinition.scenarioTags.every { name, tags -> tags as Set == parsedDefinition.scenarioTags[name] as Set }
+        storedDefinition.background().get().title == parsedDefinition.background().get().title
+        storedDefinition.ruleBackgrounds.keySet() == parsedDefinition.ruleBackgrounds.keySet()
+    }
+
+    def "feature definitions are keyed by the content of the feature file"() {
+        given:
+        def copy = Files.createTempFile("copy", ".feature")
+        Files.copy(featureFile.toPath(), copy, java.nio.file.StandardCopyOption.REPLACE_EXISTING)
+        expect:
+        store.keyFor(copy.toFile()) == store.keyFor(featureFile)
+        when:
+        copy.toFile().append("\n  Scenario: Another scenario\n    Given something else\n")
+        then:
+        store.keyFor(copy.toFile()) != store.keyFor(featureFile)
+        cleanup:
+        Files.deleteIfExists(copy)
+    }
+
+    def "nothing is read for a feature file that has not been stored"() {
+        expect:
+        !store.read(store.keyFor(featureFile).get()).isPresent()
+    }
+
+    def "no key is given when the cache is disabled"() {
+        expect:
+        !new FeatureDefinitionStore(cacheDirectory, false, "en", "UTF-8", Duration.ofDays(7)).keyFor(featureFile).isPresent()
+    }
+
+    def "feature definitions are keyed by the language and encoding of the feature file"() {
+        expect:
+        new FeatureDefinitionStore(cacheDirectory, true, "fr", "UTF-8", Duration.ofDays(7)).keyFor(featureFile) != store.keyFor(featureFile)
+        new FeatureDefinitionStore(cacheDirectory, true, "en", "ISO-8859-1", Duration.ofDays(7)).keyFor(featureFile) != store.keyFor(featureFile)
+    }
+
+    def "the cache is kept in the build directory by default"() {
+        given:
+        def buildEnvironment = new MockEnvironmentVariables()
+        buildEnvironment.setProperty("project.build.directory", cacheDirectory.toString())
+        def parser = new CucumberParser(buildEnvironment)
+        when:
+        parser.loadFeatureDefinition(featureFile)
+        then:
+        Files.list(cacheDirectory.resolve("serenity-feature-cache")).anyMatch { it.toString().endsWith(".definition") }
+    }
+
+    def "entries that have not been used for longer than the maximum age are deleted"() {
+        given:
+        def definition = new CucumberParser(environmentVariables).loadFeatureDefinition(featureFile).get()
+        def evictingDirectory = Files.createDirectories(cacheDirectory.resolve("evicting"))
+        def evictingStore = new FeatureDefinitionStore(evictingDirectory, true, "en", "UTF-8", Duration.ofDays(7))
+        def oldEntry = Files.createFile(evictingDirectory.resolve("old.definition"))
+        Files.setLastModifiedTime(oldEntry, FileTime.from(Instant.now().minus(Duration.ofDays(8))))
+        def recentEntry = Files.createFile(evictingDirectory.resolve("recent.definition"))
+        when:
+        evictingStore.write(evictingStore.keyFor(featureFile).get(), definition)
+        then:
+        !Files.exists(oldEntry)
+        Files.exists(recentEntry)
+        evictingStore.read(evictingStore.keyFor(featureFile).get()).isPresent()
+    }
+
+    def "a parsed feature file is shared by every parser in the JVM"() {
+        expect:
+        new CucumberParser(environmentVariables).loadFeature(featureFile).get().is(new CucumberParser(environmentVariables).loadFeature(featureFile).get())
+    }
+}
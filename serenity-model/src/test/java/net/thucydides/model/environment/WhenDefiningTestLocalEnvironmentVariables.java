@@ -2,6 +2,11 @@ package net.thucydides.model.environment;
 
 import org.junit.Test;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class WhenDefiningTestLocalEnvironmentVariables {
@@ -34,4 +39,19 @@ public class WhenDefiningTestLocalEnvironmentVariables {
     public void testLocalVariablesShouldBeClearedBetweenTests() {
         assertThat(TestLocalEnvironmentVariables.getProperty("some.variable")).isNull();
     }
+
+    @Test
+    public void tasksRunInOtherThreadsCanSeeTheTestLocalPropertiesOfTheCallingThread() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            TestLocalEnvironmentVariables.setProperty("some.variable", "red");
+            Callable<String> readVariable = () -> SystemEnvironmentVariables.currentEnvironmentVariables().getProperty("some.variable");
+
+            assertThat(executor.submit(TestLocalEnvironmentVariables.propagatedTo(readVariable)).get(10, TimeUnit.SECONDS)).isEqualTo("red");
+            assertThat(executor.submit(() -> TestLocalEnvironmentVariables.getProperty("some.variable")).get(10, TimeUnit.SECONDS)).isNull();
+        } finally {
+            TestLocalEnvironmentVariables.clear();
+            executor.shutdownNow();
+        }
+    }
 }
@@ -10,9 +10,11 @@ import net.thucydides.model.logging.ConsoleLoggingListener;
 import net.thucydides.model.util.EnvironmentVariables;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.slf4j.Logger;
+import org.slf4j.event.Level;
 
 import static org.mockito.Mockito.*;
 
@@ -192,6 +194,46 @@ public class WhenLoggingStepEvents {
         verify(logger, never()).info(contains("something broke"));
     }
 
+    @Test
+    public void should_write_the_lines_of_a_test_together_when_logging_asynchronously() {
+        environmentVariables.setProperty("serenity.console.async", "true");
+        ConsoleLoggingListener asyncLoggingListener = new ConsoleLoggingListener(environmentVariables, logger);
+        String startedMessage = consoleHeading.bannerFor(ConsoleEvent.TEST_STARTED, "Some test");
+        String pendingMessage = consoleHeading.bannerFor(ConsoleEvent.TEST_PENDING, "Some test");
+
+        asyncLoggingListener.testStarted("Some test");
+        verify(logger, never()).info(contains(startedMessage));
+
+        asyncLoggingListener.testFinished(pendingTestOutcome());
+        asyncLoggingListener.testRunFinished();
+
+        InOrder inOrder = inOrder(logger);
+        inOrder.verify(logger).info(contains(startedMessage));
+        inOrder.verify(logger).info(contains(pendingMessage));
+    }
+
+    @Test
+    public void should_write_json_lines_in_the_json_console_format() {
+        environmentVariables.setProperty("serenity.console.format", "json");
+        when(logger.isEnabledForLevel(Level.INFO)).thenReturn(true);
+        ConsoleLoggingListener jsonLoggingListener = new ConsoleLoggingListener(environmentVariables, logger);
+
+        jsonLoggingListener.testSuiteStarted(SomeTestClass.class);
+
+        verify(logger).info(contains("\"message\":\"Test Suite Started: Some test class\""));
+    }
+
+    @Test
+    public void should_fall_back_to_the_text_console_format_for_an_unknown_format() {
+        environmentVariables.setProperty("serenity.console.format", "jsno");
+        ConsoleLoggingListener textLoggingListener = new ConsoleLoggingListener(environmentVariables, logger);
+
+        textLoggingListener.testSuiteStarted(SomeTestClass.class);
+
+        verify(logger).info(contains("Test Suite Started: Some test class"));
+        verify(logger, never()).info(contains("\"message\":"));
+    }
+
     @Test
     public void should_log_message_when_test_is_ignored() {
         consoleLoggingListener.testIgnored();
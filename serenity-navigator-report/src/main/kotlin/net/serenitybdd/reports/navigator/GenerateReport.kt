@@ -3,6 +3,8 @@ package net.serenitybdd.reports.navigator
 import net.serenitybdd.model.di.ModelInfrastructure
 import net.serenitybdd.reports.io.testOutcomesIn
 import net.thucydides.core.reports.ExtendedReport
+import net.thucydides.model.reports.SharedTestOutcomes
+import net.thucydides.model.reports.TestOutcomes
 import net.thucydides.model.util.EnvironmentVariables
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream
@@ -45,10 +47,14 @@ class GenerateReport(
     this.outputDirectory = outputDirectory
   }
 
-  override fun generateReport(): Path {
+  override fun generateReport(): Path = generateReportFor(testOutcomesIn(sourceDirectory))
+
+  override fun generateReportFrom(testOutcomes: SharedTestOutcomes): Path = generateReportFor(testOutcomes.testOutcomes)
+
+  private fun generateReportFor(testOutcomes: TestOutcomes): Path {
     val tmpDir = Files.createTempDirectory("serenity")
     extractArchive(tmpDir)
-    fillTemplateAndWriteToReportDirectory(tmpDir)
+    fillTemplateAndWriteToReportDirectory(tmpDir, testOutcomes)
     copyAllOtherNavigatorResources(tmpDir)
     if (!tmpDir.toFile().deleteRecursively()) {
       logging.error("could not delete $tmpDir")
@@ -77,7 +83,7 @@ class GenerateReport(
     }
   }
 
-  private fun fillTemplateAndWriteToReportDirectory(templateDirectory: Path) {
+  private fun fillTemplateAndWriteToReportDirectory(templateDirectory: Path, testOutcomes: TestOutcomes) {
     val indexHtml = templateDirectory.resolve("index.html")
     val lines = Files.lines(indexHtml).collect(Collectors.toList())
 
@@ -94,8 +100,6 @@ class GenerateReport(
     writer.write(split[0])
     writer.write("<script type=\"text/javascript\">window.outcomes=[")
 
-    // Fetch the test outcomes
-    val testOutcomes = testOutcomesIn(sourceDirectory)
     testOutcomes.outcomes
         .map { it.toJson() }
         .joinToString(",")
@@ -26,6 +26,10 @@ import java.util.function.Function;
  * {@code playwright.headless}. For additional launch options, use {@link #withOptions(BrowserType.LaunchOptions)}.
  * For full property-driven configuration, use the Screenplay {@code BrowseTheWebWithPlaywright} ability instead.
  * </p>
+ * <p>
+ * Set {@code playwright.browser.sharing} to {@code thread} or {@code shared} to take browsers from the
+ * {@link PlaywrightBrowserPool} instead of launching one per thread; each test still gets its own context.
+ * </p>
  *
  * <h3>Usage with Cucumber:</h3>
  * <pre>
@@ -265,7 +269,10 @@ public class PlaywrightBrowserManager {
         closeCurrentContext();
 
         Browser currentBrowser = browser.get();
-        if (currentBrowser != null) {
+        if (currentBrowser != null && PlaywrightBrowserPool.instance().isPooled(currentBrowser)) {
+            // Pooled browsers are shared with other tests and closed when the JVM shuts down
+            browser.remove();
+        } else if (currentBrowser != null) {
             try {
                 currentBrowser.close();
             } catch (Exception e) {
@@ -321,6 +328,13 @@ public class PlaywrightBrowserManager {
             return existingBrowser;
         }
 
+        if (usesBrowserPool()) {
+            Browser pooledBrowser = PlaywrightBrowserPool.instance()
+                    .browserFor(browserType, resolveLaunchOptions(), environmentVariables);
+            browser.set(pooledBrowser);
+            return pooledBrowser;
+        }
+
         Playwright currentPlaywright = playwright.get();
         if (currentPlaywright == null) {
             currentPlaywright = createPlaywright();
@@ -339,6 +353,15 @@ public class PlaywrightBrowserManager {
         return newBrowser;
     }
 
+    /**
+     * Browsers are taken from the shared {@link PlaywrightBrowserPool} when {@code playwright.browser.sharing}
+     * is enabled, unless the options point to a remote browser via {@code wsEndpoint}.
+     */
+    private boolean usesBrowserPool() {
+        return PlaywrightBrowserPool.isEnabledIn(environmentVariables)
+                && (options == null || options.wsEndpoint == null || options.wsEndpoint.isEmpty());
+    }
+
     private Playwright createPlaywright() {
         if (options != null) {
             return PlaywrightOptionsResolver.createPlaywright(options);
@@ -0,0 +1,244 @@
+package net.serenitybdd.playwright;
+
+import com.microsoft.playwright.*;
+import net.thucydides.model.util.EnvironmentVariables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.ServerSocket;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * A JVM-wide pool of Playwright browsers, so that parallel test threads do not each launch their own browser process.
+ * <p>
+ * Browser sharing is configured with {@code playwright.browser.sharing}:
+ * </p>
+ * <ul>
+ *     <li>{@code none} (the default) - the pool is not used, and each manager or ability launches its own browser.</li>
+ *     <li>{@code thread} - each worker thread launches one browser and reuses it for every test it runs.</li>
+ *     <li>{@code shared} - a fixed number of Chromium processes ({@code playwright.browser.pool.size}, 1 by default)
+ *     serve every thread in the JVM. Other browser types fall back to the {@code thread} behaviour.</li>
+ * </ul>
+ * <p>
+ * Playwright objects may not be used concurrently from several threads, so in {@code shared} mode each thread keeps
+ * its own lightweight Playwright connection to one of the shared Chromium processes (over CDP).
+ * Tests stay isolated because every test still gets its own, freshly created {@link BrowserContext}:
+ * contexts are cheap, and unlike a recycled context they carry no cookies, storage or permissions over from the
+ * previous test. Pooled browsers are closed when the JVM shuts down, so callers must not close them.
+ * </p>
+ */
+public class PlaywrightBrowserPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PlaywrightBrowserPool.class);
+
+    public static final String BROWSER_SHARING = "playwright.browser.sharing";
+    public static final String BROWSER_POOL_SIZE = "playwright.browser.pool.size";
+
+    public enum SharingMode {
+        NONE, THREAD, SHARED;
+
+        static SharingMode from(EnvironmentVariables environmentVariables) {
+            return environmentVariables.optionalProperty(BROWSER_SHARING)
+                    .map(value -> SharingMode.valueOf(value.trim().toUpperCase()))
+                    .orElse(NONE);
+        }
+    }
+
+    private static final PlaywrightBrowserPool INSTANCE = new PlaywrightBrowserPool();
+
+    private static final Map<String, Function<Playwright, BrowserType>> BROWSER_TYPES = new HashMap<>();
+
+    static {
+        BROWSER_TYPES.put("chromium", Playwright::chromium);
+        BROWSER_TYPES.put("firefox", Playwright::firefox);
+        BROWSER_TYPES.put("webkit", Playwright::webkit);
+    }
+
+    /**
+     * Browsers available to the current thread, by browser key.
+     */
+    private final ThreadLocal<Map<String, Browser>> threadBrowsers = ThreadLocal.withInitial(HashMap::new);
+
+    /**
+     * Shared Chromium processes, by browser key.
+     */
+    private final Map<String, List<SharedHost>> sharedHosts = new ConcurrentHashMap<>();
+
+    private final AtomicInteger nextHost = new AtomicInteger();
+
+    /**
+     * Everything the pool has opened, so it can be closed on shutdown.
+     */
+    private final List<AutoCloseable> openResources = new CopyOnWriteArrayList<>();
+
+    private final Set<Browser> pooledBrowsers = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    private PlaywrightBrowserPool() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "playwright-browser-pool-shutdown"));
+    }
+
+    public static PlaywrightBrowserPool instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns true if browsers should come from the pool rather than being launched by the caller.
+     */
+    public static boolean isEnabledIn(EnvironmentVariables environmentVariables) {
+        return SharingMode.from(environmentVariables) != SharingMode.NONE;
+    }
+
+    /**
+     * Returns true if the given browser belongs to the pool, and must therefore not be closed by the caller.
+     */
+    public boolean isPooled(Browser browser) {
+        return browser != null && pooledBrowsers.contains(browser);
+    }
+
+    /**
+     * Returns a browser that the current thread can use to create new contexts.
+     *
+     * @param browserType   chromium, firefox or webkit
+     * @param launchOptions the resolved launch options
+     * @param environmentVariables used to read the sharing mode and pool size
+     */
+    public Browser browserFor(String browserType,
+                              BrowserType.LaunchOptions launchOptions,
+                              EnvironmentVariables environmentVariables) {
+        if (!BROWSER_TYPES.containsKey(browserType)) {
+            throw new IllegalArgumentException(
+                    "Unsupported Playwright browser type: '" + browserType
+                            + "'. Supported types: " + BROWSER_TYPES.keySet());
+        }
+        String key = browserKey(browserType, launchOptions);
+        Browser existing = threadBrowsers.get().get(key);
+        if (existing != null && existing.isConnected()) {
+            return existing;
+        }
+
+        SharingMode mode = SharingMode.from(environmentVariables);
+        Browser browser = (mode == SharingMode.SHARED && "chromium".equals(browserType))
+                ? connectToSharedHost(key, launchOptions, poolSizeFrom(environmentVariables))
+                : launchForThisThread(browserType, launchOptions);
+
+        threadBrowsers.get().put(key, browser);
+        pooledBrowsers.add(browser);
+        return browser;
+    }
+
+    private Browser launchForThisThread(String browserType, BrowserType.LaunchOptions launchOptions) {
+        Playwright playwright = Playwright.create();
+        openResources.add(playwright);
+        Browser browser = BROWSER_TYPES.get(browserType).apply(playwright).launch(launchOptions);
+        LOGGER.debug("Launched pooled {} browser for thread {}", browserType, Thread.currentThread().getName());
+        return browser;
+    }
+
+    private Browser connectToSharedHost(String key, BrowserType.LaunchOptions launchOptions, int poolSize) {
+        List<SharedHost> hosts = sharedHosts.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>());
+        SharedHost host;
+        synchronized (hosts) {
+            if (hosts.size() < poolSize) {
+                host = launchSharedHost(launchOptions);
+                hosts.add(host);
+            } else {
+                host = hosts.get(Math.floorMod(nextHost.getAndIncrement(), hosts.size()));
+            }
+        }
+        Playwright playwright = Playwright.create();
+        openResources.add(playwright);
+        return playwright.chromium().connectOverCDP(host.endpoint);
+    }
+
+    private SharedHost launchSharedHost(BrowserType.LaunchOptions launchOptions) {
+        int port = freePort();
+        Playwright playwright = Playwright.create();
+        Browser browser = playwright.chromium().launch(withExtraArgument(launchOptions, "--remote-debugging-port=" + port));
+        openResources.add(browser);
+        openResources.add(playwright);
+        LOGGER.info("Launched shared Chromium browser on debugging port {}", port);
+        return new SharedHost("http://127.0.0.1:" + port);
+    }
+
+    /**
+     * A copy of the launch options with an extra command line argument. The caller's options are left untouched,
+     * as other threads may be reading them at the same time.
+     */
+    static BrowserType.LaunchOptions withExtraArgument(BrowserType.LaunchOptions launchOptions, String argument) {
+        BrowserType.LaunchOptions copy = new BrowserType.LaunchOptions();
+        for (Field option : BrowserType.LaunchOptions.class.getFields()) {
+            if (Modifier.isStatic(option.getModifiers())) {
+                continue;
+            }
+            try {
+                option.set(copy, option.get(launchOptions));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Could not copy the Playwright launch option " + option.getName(), e);
+            }
+        }
+        List<String> args = new ArrayList<>();
+        if (launchOptions.args != null) {
+            args.addAll(launchOptions.args);
+        }
+        args.add(argument);
+        return copy.setArgs(args);
+    }
+
+    private int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not find a free port for the shared Playwright browser", e);
+        }
+    }
+
+    private int poolSizeFrom(EnvironmentVariables environmentVariables) {
+        return environmentVariables.optionalProperty(BROWSER_POOL_SIZE)
+                .map(value -> Integer.parseInt(value.trim()))
+                .map(size -> Math.max(1, size))
+                .orElse(1);
+    }
+
+    static String browserKey(String browserType, BrowserType.LaunchOptions launchOptions) {
+        return String.join("|",
+                browserType,
+                String.valueOf(launchOptions.headless),
+                String.valueOf(launchOptions.channel),
+                String.valueOf(launchOptions.executablePath),
+                String.valueOf(launchOptions.slowMo),
+                String.valueOf(launchOptions.args));
+    }
+
+    /**
+     * Close every browser and Playwright instance opened by the pool.
+     */
+    public void shutdown() {
+        List<AutoCloseable> resources = new ArrayList<>(openResources);
+        Collections.reverse(resources);
+        for (AutoCloseable resource : resources) {
+            try {
+                resource.close();
+            } catch (Exception e) {
+                LOGGER.debug("Failed to close pooled Playwright resource: {}", e.getMessage());
+            }
+        }
+        openResources.clear();
+        pooledBrowsers.clear();
+        sharedHosts.clear();
+    }
+
+    private static class SharedHost {
+        private final String endpoint;
+
+        private SharedHost(String endpoint) {
+            this.endpoint = endpoint;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package net.serenitybdd.playwright;
+
+import com.microsoft.playwright.BrowserType;
+import net.thucydides.model.environment.MockEnvironmentVariables;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PlaywrightBrowserPool} configuration.
+ * <p>
+ * These tests do not launch real browser instances.
+ * </p>
+ */
+class PlaywrightBrowserPoolTest {
+
+    @Test
+    void shouldBeDisabledByDefault() {
+        MockEnvironmentVariables env = new MockEnvironmentVariables();
+
+        assertThat(PlaywrightBrowserPool.isEnabledIn(env)).isFalse();
+    }
+
+    @Test
+    void shouldBeEnabledForThreadOrSharedBrowsers() {
+        MockEnvironmentVariables env = new MockEnvironmentVariables();
+
+        env.setProperty(PlaywrightBrowserPool.BROWSER_SHARING, "thread");
+        assertThat(PlaywrightBrowserPool.isEnabledIn(env)).isTrue();
+
+        env.setProperty(PlaywrightBrowserPool.BROWSER_SHARING, "Shared");
+        assertThat(PlaywrightBrowserPool.isEnabledIn(env)).isTrue();
+
+        env.setProperty(PlaywrightBrowserPool.BROWSER_SHARING, "none");
+        assertThat(PlaywrightBrowserPool.isEnabledIn(env)).isFalse();
+    }
+
+    @Test
+    void shouldUseTheSameBrowserKeyForEquivalentLaunchOptions() {
+        BrowserType.LaunchOptions first = new BrowserType.LaunchOptions().setHeadless(true).setArgs(Arrays.asList("--lang=en"));
+        BrowserType.LaunchOptions second = new BrowserType.LaunchOptions().setHeadless(true).setArgs(Arrays.asList("--lang=en"));
+
+        assertThat(PlaywrightBrowserPool.browserKey("chromium", first))
+                .isEqualTo(PlaywrightBrowserPool.browserKey("chromium", second));
+    }
+
+    @Test
+    void shouldUseDifferentBrowserKeysForDifferentBrowsersOrOptions() {
+        BrowserType.LaunchOptions headless = new BrowserType.LaunchOptions().setHeadless(true);
+        BrowserType.LaunchOptions headed = new BrowserType.LaunchOptions().setHeadless(false);
+
+        assertThat(PlaywrightBrowserPool.browserKey("chromium", headless))
+                .isNotEqualTo(PlaywrightBrowserPool.browserKey("firefox", headless))
+                .isNotEqualTo(PlaywrightBrowserPool.browserKey("chromium", headed));
+    }
+
+    @Test
+    void shouldLaunchSharedHostsWithACopyOfTheLaunchOptions() {
+        List<String> originalArgs = Arrays.asList("--lang=en");
+        BrowserType.LaunchOptions launchOptions = new BrowserType.LaunchOptions()
+                .setHeadless(true)
+                .setChannel("chrome")
+                .setSlowMo(50)
+                .setArgs(originalArgs);
+
+        BrowserType.LaunchOptions hostOptions = PlaywrightBrowserPool.withExtraArgument(launchOptions, "--remote-debugging-port=9222");
+
+        assertThat(hostOptions).isNotSameAs(launchOptions);
+        assertThat(hostOptions.args).containsExactly("--lang=en", "--remote-debugging-port=9222");
+        assertThat(hostOptions.headless).isTrue();
+        assertThat(hostOptions.channel).isEqualTo("chrome");
+        assertThat(hostOptions.slowMo).isEqualTo(50);
+        assertThat(launchOptions.args).isSameAs(originalArgs).containsExactly("--lang=en");
+    }
+
+    @Test
+    void shouldNotTreatUnknownBrowsersAsPooled() {
+        assertThat(PlaywrightBrowserPool.instance().isPooled(null)).isFalse();
+    }
+}
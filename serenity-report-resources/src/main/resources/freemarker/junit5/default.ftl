@@ -436,7 +436,7 @@
                                     </#if>
                                     <h4>Response Body</h4>
                                     <#if restQuery.responseHeaders?has_content>
-                                        <pre>${formatter.renderText(restQuery.responseBody)}</pre>
+                                        <pre>${formatter.renderBody(restQuery.responseBody)}</pre>
                                     </#if>
                                     <#if restQuery.responseCookies?has_content && (!(restQuery.requestCookies?has_content) || restQuery.responseCookies!=restQuery.requestCookies)>
                                         <h4>Response Cookies</h4>
@@ -537,9 +537,10 @@
                             <td width="160" class="${step.result}-text">
                                 <#if step.hasMultipleScreenshots() >
                                     <a href="${relativeLink!}${testOutcome.screenshotReportName}.html?screenshot=${screenshotCount}">
-                                        <img src="${step.earliestScreenshot.filename}"
+                                        <img src="thumbnail_${step.earliestScreenshot.filename}"
                                              href="${step.earliestScreenshot.filename}"
-                                             class="screenshot"
+                                             onerror="this.onerror=null;this.src=this.getAttribute('href');"
+                                             class="screenshot" loading="lazy"
                                              width="48" height="48"/>
                                     </a>
                                     <i class="bi bi-arrow-right"></i>
@@ -548,9 +549,10 @@
                                 <#if step.latestScreenshot?has_content>
                                     <#assign actualScreenshotCount = screenshotCount + step.actualScreenshotCount />
                                     <a href="${relativeLink!}${testOutcome.screenshotReportName}.html?screenshot=${actualScreenshotCount}">
-                                        <img src="${step.latestScreenshot.filename}"
+                                        <img src="thumbnail_${step.latestScreenshot.filename}"
                                              href="${step.latestScreenshot.filename}"
-                                             class="screenshot"
+                                             onerror="this.onerror=null;this.src=this.getAttribute('href');"
+                                             class="screenshot" loading="lazy"
                                              width="48" height="48"/>
                                     </a>
                                     <#if step.hasChildren()>
@@ -1,6 +1,12 @@
 package net.thucydides.core.reports;
 
+import net.serenitybdd.model.time.Stopwatch;
+import net.thucydides.model.ThucydidesSystemProperty;
+import net.thucydides.model.environment.SystemEnvironmentVariables;
 import net.thucydides.model.reports.NumberOfThreads;
+import net.thucydides.model.util.EnvironmentVariables;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.FilenameUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -8,22 +14,43 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Copies the screenshots and other result files that are not already in the report output directory.
+ * Screenshots, which are never rewritten once they have been taken, are hard-linked where the file system allows it
+ * (see {@link ThucydidesSystemProperty#SERENITY_REPORT_LINK_FILES}). Other files, such as the JSON outcomes, may be
+ * rewritten in place in the output directory, so they are always copied, as are screenshots that cannot be linked.
+ * Copies are made with {@link java.nio.channels.FileChannel#transferTo}, which lets the operating system move the
+ * bytes without passing them through the JVM.
+ */
 public class CopyFiles {
     private final File sourceDirectory;
+    private final boolean useHardLinks;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CopyFiles.class);
 
+    private static final Set<String> IMMUTABLE_ARTEFACT_EXTENSIONS = Set.of("png", "jpg", "jpeg", "gif", "webp", "bmp");
+
     public CopyFiles(File sourceDirectory) {
+        this(sourceDirectory, SystemEnvironmentVariables.currentEnvironmentVariables());
+    }
+
+    public CopyFiles(File sourceDirectory, EnvironmentVariables environmentVariables) {
         this.sourceDirectory = sourceDirectory;
+        this.useHardLinks = ThucydidesSystemProperty.SERENITY_REPORT_LINK_FILES.booleanFrom(environmentVariables, true);
     }
 
     public static CopyFiles from(File sourceDirectory) {
@@ -35,15 +62,17 @@ public class CopyFiles {
             return;
         }
 
+        Stopwatch stopwatch = Stopwatch.started();
         final Path sourcePath = Paths.get(sourceDirectory.toURI());
         final Path targetDirectory = Paths.get(outputDirectory.toURI());
 
         List<Path> filesToCopy = filesToCopyBetween(sourcePath, targetDirectory);
         int numberOfThreads = NumberOfThreads.forIOOperations();
         final List<Callable<Path>> partitions = new ArrayList<>();
+        final CopyStatistics statistics = new CopyStatistics(useHardLinks);
 
         for (Path fileToCopy : filesToCopy) {
-            partitions.add(new FileCopier(fileToCopy, targetDirectory));
+            partitions.add(new FileCopier(fileToCopy, targetDirectory, statistics));
         }
 
         final ExecutorService executorPool = Executors.newFixedThreadPool(numberOfThreads);
@@ -57,20 +86,28 @@ public class CopyFiles {
         } finally {
             executorPool.shutdown();
         }
+        statistics.log(targetDirectory, stopwatch.executionTimeFormatted());
     }
 
 
+    /**
+     * Only files that are never modified after they are written can safely share their contents with the source directory.
+     */
+    static boolean isImmutableArtefact(Path file) {
+        return IMMUTABLE_ARTEFACT_EXTENSIONS.contains(FilenameUtils.getExtension(file.getFileName().toString()).toLowerCase());
+    }
+
     private boolean sourceDirectoryIsTheSameAs(File outputDirectory) {
         return (outputDirectory == null) || (outputDirectory.equals(sourceDirectory));
     }
 
 
     private List<Path> filesToCopyBetween(Path sourcePath, Path targetPath) {
+        Set<Path> existingFiles = filesIn(targetPath);
         List<Path> filesToCopy = new ArrayList<>();
         try (DirectoryStream<Path> directoryContents = Files.newDirectoryStream(sourcePath)) {
             for (Path sourceFile : directoryContents) {
-                Path destinationFile = targetPath.resolve(sourceFile.getFileName());
-                if (Files.notExists(destinationFile)) {
+                if (!existingFiles.contains(sourceFile.getFileName())) {
                     filesToCopy.add(sourceFile);
                 }
             }
@@ -79,4 +116,80 @@ public class CopyFiles {
         }
         return filesToCopy;
     }
+
+    /**
+     * The names of the files already in the target directory, read in a single directory listing.
+     */
+    private Set<Path> filesIn(Path targetPath) {
+        Set<Path> fileNames = new HashSet<>();
+        try (DirectoryStream<Path> directoryContents = Files.newDirectoryStream(targetPath)) {
+            for (Path existingFile : directoryContents) {
+                fileNames.add(existingFile.getFileName());
+            }
+        } catch (NoSuchFileException noTargetDirectoryYet) {
+            // Nothing has been copied yet
+        } catch (IOException e) {
+            LOGGER.warn("Could not list the files in {}: {}", targetPath, e.getMessage());
+        }
+        return fileNames;
+    }
+
+    /**
+     * Counts the files and bytes that were hard-linked or copied during a single call to {@link #to(File)}.
+     */
+    static class CopyStatistics {
+        private final AtomicBoolean useHardLinks;
+        private final AtomicLong linkedFiles = new AtomicLong();
+        private final AtomicLong linkedBytes = new AtomicLong();
+        private final AtomicLong copiedFiles = new AtomicLong();
+        private final AtomicLong copiedBytes = new AtomicLong();
+
+        CopyStatistics(boolean useHardLinks) {
+            this.useHardLinks = new AtomicBoolean(useHardLinks);
+        }
+
+        boolean shouldTryHardLinks() {
+            return useHardLinks.get();
+        }
+
+        /**
+         * Stop trying to create hard links once the file system has refused one (for example because the
+         * directories are on different devices), rather than failing again for every file.
+         */
+        void hardLinksAreNotSupported(Path targetDirectory, String reason) {
+            if (useHardLinks.compareAndSet(true, false)) {
+                LOGGER.debug("Copying files into {} rather than hard-linking them: {}", targetDirectory, reason);
+            }
+        }
+
+        void recordLinked(long size) {
+            linkedFiles.incrementAndGet();
+            linkedBytes.addAndGet(size);
+        }
+
+        void recordCopied(long size) {
+            copiedFiles.incrementAndGet();
+            copiedBytes.addAndGet(size);
+        }
+
+        long getLinkedFiles() {
+            return linkedFiles.get();
+        }
+
+        long getCopiedFiles() {
+            return copiedFiles.get();
+        }
+
+        private void log(Path targetDirectory, String executionTime) {
+            if (linkedFiles.get() + copiedFiles.get() == 0) {
+                return;
+            }
+            LOGGER.info("Copied {} files to {} in {}: {} hard-linked ({} not duplicated), {} copied ({})",
+                    linkedFiles.get() + copiedFiles.get(),
+                    targetDirectory,
+                    executionTime,
+                    linkedFiles.get(), FileUtils.byteCountToDisplaySize(linkedBytes.get()),
+                    copiedFiles.get(), FileUtils.byteCountToDisplaySize(copiedBytes.get()));
+        }
+    }
 }
@@ -1,6 +1,10 @@
 package net.thucydides.core.reports;
 
+import net.thucydides.model.reports.SharedTestOutcomes;
+import net.thucydides.model.reports.export.OutcomeSink;
+
 import java.nio.file.Path;
+import java.util.Optional;
 
 public interface ExtendedReport {
     String getName();
@@ -8,5 +12,15 @@ public interface ExtendedReport {
     void setSourceDirectory(Path sourceDirectory);
     void setOutputDirectory(Path outputDirectory);
     Path generateReport();
+    /**
+     * Generate the report from test outcomes that have already been loaded and are shared with other reports.
+     * By default, the report loads the outcomes from its source directory itself.
+     */
+    default Path generateReportFrom(SharedTestOutcomes testOutcomes) { return generateReport(); }
     default void setProjectDirectory(String path) {};
+    /**
+     * A sink that builds this report from outcomes passed in by an {@link net.thucydides.model.reports.export.OutcomeExporter},
+     * for reports that can be produced in the same pass as the other exports.
+     */
+    default Optional<OutcomeSink> outcomeSink() { return Optional.empty(); }
 }
@@ -4,10 +4,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.concurrent.Callable;
 
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
 import static net.thucydides.core.reports.html.HtmlAggregateStoryReporter.COPY_OPTIONS;
 
 class FileCopier implements Callable<Path> {
@@ -15,21 +21,62 @@ class FileCopier implements Callable<Path> {
     private static final Logger LOGGER = LoggerFactory.getLogger(FileCopier.class);
 
     private final Path sourcePath;
-        private final Path targetDirectory;
+    private final Path targetDirectory;
+    private final CopyFiles.CopyStatistics statistics;
 
-        FileCopier(Path sourcePath, Path targetDirectory) {
-            this.sourcePath = sourcePath;
-            this.targetDirectory = targetDirectory;
-        }
+    FileCopier(Path sourcePath, Path targetDirectory, CopyFiles.CopyStatistics statistics) {
+        this.sourcePath = sourcePath;
+        this.targetDirectory = targetDirectory;
+        this.statistics = statistics;
+    }
 
-        @Override
-        public Path call() throws Exception {
-            Path destinationFile = targetDirectory.resolve(sourcePath.getFileName());
-            try {
+    @Override
+    public Path call() throws Exception {
+        Path destinationFile = targetDirectory.resolve(sourcePath.getFileName());
+        try {
+            if (Files.isDirectory(sourcePath)) {
                 return Files.copy(sourcePath, destinationFile, COPY_OPTIONS);
-            } catch (IOException e) {
-                LOGGER.error("Error during copying files to the target directory", e);
-                return null;
+            }
+            long size = Files.size(sourcePath);
+            if (statistics.shouldTryHardLinks() && CopyFiles.isImmutableArtefact(sourcePath) && linkedTo(destinationFile)) {
+                statistics.recordLinked(size);
+            } else {
+                transferTo(destinationFile, size);
+                statistics.recordCopied(size);
+            }
+            return destinationFile;
+        } catch (FileAlreadyExistsException copiedByAnotherProcess) {
+            return destinationFile;
+        } catch (IOException e) {
+            LOGGER.error("Error during copying files to the target directory", e);
+            return null;
+        }
+    }
+
+    private boolean linkedTo(Path destinationFile) throws IOException {
+        try {
+            Files.createLink(destinationFile, sourcePath);
+            return true;
+        } catch (FileAlreadyExistsException alreadyThere) {
+            throw alreadyThere;
+        } catch (FileSystemException | UnsupportedOperationException | SecurityException linksNotAllowed) {
+            statistics.hardLinksAreNotSupported(targetDirectory, linksNotAllowed.toString());
+            return false;
+        }
+    }
+
+    private void transferTo(Path destinationFile, long size) throws IOException {
+        try (FileChannel source = FileChannel.open(sourcePath, READ);
+             FileChannel destination = FileChannel.open(destinationFile, CREATE_NEW, WRITE)) {
+            long position = 0;
+            while (position < size) {
+                long transferred = source.transferTo(position, size - position, destination);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
             }
         }
-    }
\ No newline at end of file
+        Files.setLastModifiedTime(destinationFile, Files.getLastModifiedTime(sourcePath));
+    }
+}
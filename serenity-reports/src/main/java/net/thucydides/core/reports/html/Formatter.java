@@ -2,6 +2,10 @@ package net.thucydides.core.reports.html;
 
 import com.github.rjeschke.txtmark.Configuration;
 import com.google.common.base.Splitter;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 import com.vladsch.flexmark.ext.resizable.image.ResizableImageExtension;
 import com.vladsch.flexmark.ext.tables.TablesExtension;
 import com.vladsch.flexmark.html.HtmlRenderer;
@@ -149,6 +153,32 @@ public class Formatter {
                 .replaceAll(TAB, FOUR_SPACES);
     }
 
+    /**
+     * Render a recorded REST body. Bodies are stored as they were received, so JSON is pretty-printed here,
+     * only for the reports that actually display it. Anything that is not valid JSON (including truncated
+     * bodies) is rendered as is.
+     */
+    public String renderBody(String body) {
+        if (isEmpty(body)) {
+            return "";
+        }
+        return renderText(prettyPrintedJsonIfPossible(body));
+    }
+
+    private static final Gson PRETTY_PRINTER = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+
+    private String prettyPrintedJsonIfPossible(String body) {
+        String trimmedBody = body.trim();
+        if (!(trimmedBody.startsWith("{") || trimmedBody.startsWith("["))) {
+            return body;
+        }
+        try {
+            return PRETTY_PRINTER.toJson(JsonParser.parseString(trimmedBody));
+        } catch (JsonParseException notValidJson) {
+            return body;
+        }
+    }
+
     public String renderHeaders(String text) {
         if (text == null) {
             return "";
@@ -1,5 +1,7 @@
 package net.thucydides.core.reports.html;
 
+import com.google.common.base.Suppliers;
+import com.google.common.collect.MapMaker;
 import net.serenitybdd.core.reports.styling.TagStylist;
 import net.serenitybdd.model.buildinfo.BuildInfoProvider;
 import net.serenitybdd.model.buildinfo.BuildProperties;
@@ -35,6 +37,7 @@ import org.joda.time.ReadableDateTime;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -69,6 +72,7 @@ public class FreemarkerContext {
     private final List<String> customFieldValues;
     private final TagFilter tagFilter;
     private final OutcomeTagFilter outcomeFilter;
+    private final boolean hideEmptyRequirements;
 
     private static final BackgroundColor BACKGROUND_COLORS = new BackgroundColor();
 
@@ -99,7 +103,7 @@ public class FreemarkerContext {
         this.customFieldValues = customReportFields.getValues();
         this.tagFilter = new TagFilter(environmentVariables);
         this.outcomeFilter = new OutcomeTagFilter(environmentVariables);
-
+        this.hideEmptyRequirements = EnvironmentSpecificConfiguration.from(environmentVariables).getBooleanProperty(SERENITY_REPORT_HIDE_EMPTY_REQUIREMENTS, true);
     }
 
 
@@ -110,32 +114,39 @@ public class FreemarkerContext {
         this(environmentVariables, requirements, issueTracking, relativeLink, TestTag.EMPTY_TAG);
     }
 
+    /**
+     * The report sections derived from each set of test outcomes, computed when a template first asks for them.
+     * Pages built from the same set of outcomes share the same sections. The outcomes are compared by identity, as
+     * their equality is costly to work out and changes as their derived values are calculated.
+     */
+    private final Map<TestOutcomes, BuildModel> buildModels = new MapMaker().weakKeys().makeMap();
+
     public Map<String, Object> getBuildContext(TestOutcomes completeTestOutcomes,
                                                ReportNameProvider reportName,
                                                boolean useFiltering) {
-        Map<String, Object> context = new HashMap<>();
-        TestOutcomes testOutcomes = completeTestOutcomes.filteredByEnvironmentTags();
+        LazyContext context = new LazyContext();
+        BuildModel model = buildModelFor(completeTestOutcomes);
+        TestOutcomes testOutcomes = model.testOutcomes;
 
         context.put("colorScheme", ChartColorScheme.forEnvironment(environmentVariables));
         context.put("testOutcomes", testOutcomes);
 
         // Calculate Duration
         context.put("reportDurations", SERENITY_REPORT_TEST_DURATIONS.booleanFrom(environmentVariables,true));
-        context.put("durations", new DurationDistribution(environmentVariables, testOutcomes));
+        context.putLazily("durations", model.durations);
 
-        context.put("allTestOutcomes", testOutcomes.getRootOutcomes());
+        context.putLazily("allTestOutcomes", testOutcomes::getRootOutcomes);
         if (useFiltering) {
-            context.put("tagTypes", tagFilter.filteredTagTypes(testOutcomes.getTagTypes()));
+            context.putLazily("tagTypes", model.filteredTagTypes);
         } else {
-            context.put("tagTypes", testOutcomes.getTagTypes());
+            context.putLazily("tagTypes", model.tagTypes);
         }
         context.put("currentTag", TestTag.EMPTY_TAG);
         context.put("parentTag", parentTag);
         context.put("reportName", reportName);
         context.put("reportNameInContext", reportName);
 
-        ReportNameProvider absoluteReportNameProvider = new ReportNameProvider(NO_CONTEXT, ReportType.HTML, requirements);
-        context.put("absoluteReportName", absoluteReportNameProvider);
+        context.put("absoluteReportName", model.absoluteReportNameProvider);
 
         context.put("reportOptions", reportOptions);
         context.put("timestamp", timestampFrom(new DateTime()));
@@ -143,49 +154,132 @@ public class FreemarkerContext {
         context.put("leafRequirementType", last(requirementTypes));
         addFormattersToContext(context);
 
-        ZonedDateTime startTime = startTimeOf(testOutcomes.getOutcomes());
-        ZonedDateTime endTime = endTimeOf(testOutcomes.getOutcomes());
-
-        context.put("startTimestamp", readableTimestampFrom(startTime));
-        context.put("endTimestamp", readableTimestampFrom(endTime));
-        context.put("totalTestDuration", formattedDuration(totalDurationOf(testOutcomes.getOutcomes())));
-        context.put("totalClockDuration", formattedDuration(clockDurationOf(testOutcomes.getOutcomes())));
-        context.put("averageTestDuration", formattedDuration(averageDurationOf(testOutcomes.getOutcomes())));
-        context.put("maxTestDuration", formattedDuration(maxDurationOf(testOutcomes.getOutcomes())));
-        context.put("minTestDuration", formattedDuration(minDurationOf(testOutcomes.getOutcomes())));
+        context.putLazily("startTimestamp", model.startTimestamp);
+        context.putLazily("endTimestamp", model.endTimestamp);
+        context.putLazily("totalTestDuration", model.totalTestDuration);
+        context.putLazily("totalClockDuration", model.totalClockDuration);
+        context.putLazily("averageTestDuration", model.averageTestDuration);
+        context.putLazily("maxTestDuration", model.maxTestDuration);
+        context.putLazily("minTestDuration", model.minTestDuration);
 
         context.put("serenityVersionNumber", version);
         context.put("buildNumber", buildNumber);
         context.put("build", buildProperties);
 
+        context.put("testCount", testOutcomes.getOutcomes().size());
+        context.putLazily("scenarioCount", testOutcomes::getNumberOfTestScenarios);
+        context.putLazily("resultCounts", model.resultCounts);
 
-        List<ScenarioOutcome> scenarios = outcomeFilter.scenariosFilteredByTagIn(ScenarioOutcomes.from(testOutcomes, requirements));
-        List<ScenarioOutcome> executedScenarios = executedScenariosIn(scenarios);
+        context.putLazily("scenarios", model.scenarios);
+        context.putLazily("filteredScenarios", model.scenarios);
+        context.putLazily("testCases", model.executedScenarios);
+        context.putLazily("automatedTestCases", model.automatedTestCases);
+        context.putLazily("executionContexts", model.executionContexts);
+        context.putLazily("manualTestCases", model.manualTestCases);
+        context.putLazily("evidence", model.evidence);
 
-        context.put("testCount", testOutcomes.getOutcomes().size());
-        context.put("scenarioCount", testOutcomes.getNumberOfTestScenarios());
-//        context.put("resultCounts", ResultCountCache.resultCountsFor(testOutcomes));
-        context.put("resultCounts", ResultCounts.forOutcomesIn(testOutcomes));
-
-        context.put("scenarios", scenarios);
-        context.put("filteredScenarios", scenarios);
-        context.put("testCases", executedScenarios);
-        context.put("automatedTestCases", automated(executedScenarios));
-        context.put("executionContexts", executionContextsIn(executedScenarios));
-        context.put("manualTestCases", manual(executedScenarios));
-        context.put("evidence", EvidenceData.from(outcomeFilter.outcomesFilteredByTagIn(testOutcomes.getOutcomes())));
-
-        context.put("frequentFailures", FrequentFailures.from(testOutcomes).withMaxOf(5));
-        context.put("unstableFeatures", UnstableFeatures.from(testOutcomes)
-                .withRequirementsFrom(requirementsService)
-                .withMaxOf(5));
+        context.putLazily("frequentFailures", model.frequentFailures);
+        context.putLazily("unstableFeatures", model.unstableFeatures);
 
         context.put("inflection", Inflector.getInstance());
         context.put("tagInflector", new TagInflector(environmentVariables));
 
+        context.put("hideEmptyRequirements", hideEmptyRequirements);
+        context.putLazily("coverage", model.coverage);
+        context.put("backgroundColor", BACKGROUND_COLORS);
+
+        if (!testOutcomes.getOutcomes().isEmpty()) {
+            context.putLazily("filteredTags", model.filteredTags);
+        }
+
+        context.putLazily("tagResults", model.tagResults);
+        context.put("customFields", customFields);
+        context.put("customFieldValues", customFieldValues);
+
+        return context;
+    }
+
+    /**
+     * The sections of a report page that are derived from a given set of test outcomes.
+     * Each one is only computed the first time it is used.
+     */
+    BuildModel buildModelFor(TestOutcomes completeTestOutcomes) {
+        return buildModels.computeIfAbsent(completeTestOutcomes, BuildModel::new);
+    }
+
+    class BuildModel {
+        private final TestOutcomes testOutcomes;
+        private final ReportNameProvider absoluteReportNameProvider;
+
+        private final Supplier<DurationDistribution> durations;
+        private final Supplier<List<String>> tagTypes;
+        private final Supplier<List<String>> filteredTagTypes;
+        private final Supplier<String> startTimestamp;
+        private final Supplier<String> endTimestamp;
+        private final Supplier<String> totalTestDuration;
+        private final Supplier<String> totalClockDuration;
+        private final Supplier<String> averageTestDuration;
+        private final Supplier<String> maxTestDuration;
+        private final Supplier<String> minTestDuration;
+        private final Supplier<ResultCounts> resultCounts;
+        private final Supplier<List<ScenarioOutcome>> scenarios;
+        private final Supplier<List<ScenarioOutcome>> executedScenarios;
+        private final Supplier<List<ScenarioOutcome>> automatedTestCases;
+        private final Supplier<List<TestExecutionContext>> executionContexts;
+        private final Supplier<List<ScenarioOutcome>> manualTestCases;
+        private final Supplier<List<EvidenceData>> evidence;
+        private final Supplier<List<FrequentFailure>> frequentFailures;
+        private final Supplier<List<UnstableFeature>> unstableFeatures;
+        private final Supplier<List<CoverageByTagType>> coverage;
+        private final Supplier<Set<TestTag>> filteredTags;
+        private final Supplier<List<TagResultSet>> tagResults;
+
+        BuildModel(TestOutcomes completeTestOutcomes) {
+            // Only the filtered outcomes are kept, so that the model does not hold on to the outcomes it is cached against
+            TestOutcomes testOutcomes = completeTestOutcomes.filteredByEnvironmentTags();
+            this.testOutcomes = testOutcomes;
+            this.absoluteReportNameProvider = new ReportNameProvider(NO_CONTEXT, ReportType.HTML, requirements);
+
+            this.durations = memoized(() -> new DurationDistribution(environmentVariables, testOutcomes));
+            this.tagTypes = memoized(testOutcomes::getTagTypes);
+            this.filteredTagTypes = memoized(() -> tagFilter.filteredTagTypes(testOutcomes.getTagTypes()));
+
+            this.startTimestamp = memoized(() -> readableTimestampFrom(startTimeOf(testOutcomes.getOutcomes())));
+            this.endTimestamp = memoized(() -> readableTimestampFrom(endTimeOf(testOutcomes.getOutcomes())));
+            this.totalTestDuration = memoized(() -> formattedDuration(totalDurationOf(testOutcomes.getOutcomes())));
+            this.totalClockDuration = memoized(() -> formattedDuration(clockDurationOf(testOutcomes.getOutcomes())));
+            this.averageTestDuration = memoized(() -> formattedDuration(averageDurationOf(testOutcomes.getOutcomes())));
+            this.maxTestDuration = memoized(() -> formattedDuration(maxDurationOf(testOutcomes.getOutcomes())));
+            this.minTestDuration = memoized(() -> formattedDuration(minDurationOf(testOutcomes.getOutcomes())));
+            this.resultCounts = memoized(() -> ResultCounts.forOutcomesIn(testOutcomes));
+
+            this.scenarios = memoized(() -> outcomeFilter.scenariosFilteredByTagIn(ScenarioOutcomes.from(testOutcomes, requirements)));
+            this.executedScenarios = memoized(() -> executedScenariosIn(scenarios.get()));
+            this.automatedTestCases = memoized(() -> automated(executedScenarios.get()));
+            this.executionContexts = memoized(() -> executionContextsIn(executedScenarios.get()));
+            this.manualTestCases = memoized(() -> manual(executedScenarios.get()));
+            this.evidence = memoized(() -> EvidenceData.from(outcomeFilter.outcomesFilteredByTagIn(testOutcomes.getOutcomes())));
+
+            this.frequentFailures = memoized(() -> FrequentFailures.from(testOutcomes).withMaxOf(5));
+            this.unstableFeatures = memoized(() -> UnstableFeatures.from(testOutcomes)
+                    .withRequirementsFrom(requirementsService)
+                    .withMaxOf(5));
+            this.coverage = memoized(() -> coverageOf(testOutcomes, absoluteReportNameProvider));
+            this.filteredTags = memoized(() -> filteredTagsOf(lastOf(testOutcomes.getOutcomes()), null));
+            this.tagResults = memoized(() -> TagResults.from(testOutcomes)
+                    .ignoringValues("ignore", "pending", "skip", "error", "compromised", "fail")
+                    .ignoringTypes("Duration")
+                    .groupedByType());
+        }
+    }
+
+    private static <T> Supplier<T> memoized(Supplier<T> supplier) {
+        return Suppliers.memoize(supplier::get);
+    }
+
+    private List<CoverageByTagType> coverageOf(TestOutcomes testOutcomes, ReportNameProvider absoluteReportNameProvider) {
         RequirementsFilter requirementsFilter = new RequirementsFilter(environmentVariables);
 
-        List<CoverageByTagType> coverage;
         if (resultsAreFilteredByRequirementTypeBasedOn(tagTypes)) {
             // If we are filtering for a specific type of requirement, only show coverage for this type of outcome
             Collection<TestTag> coveredTags = requirementsWithTag
@@ -194,43 +288,24 @@ public class FreemarkerContext {
                     .filter(requirementsFilter::inDisplayOnlyTags)
                     .map(Requirement::asTag)
                     .collect(Collectors.toSet());
-            coverage = TagCoverage.from(testOutcomes).withReportNameProvider(absoluteReportNameProvider).showingTags(coveredTags).forTagTypes(tagTypes);
+            return TagCoverage.from(testOutcomes).withReportNameProvider(absoluteReportNameProvider).showingTags(coveredTags).forTagTypes(tagTypes);
         } else {
             // Otherwise show coverage for all requirements
-            coverage = TagCoverage.from(testOutcomes).withReportNameProvider(absoluteReportNameProvider).forTagTypes(requirements.getRequirementTypes());
+            return TagCoverage.from(testOutcomes).withReportNameProvider(absoluteReportNameProvider).forTagTypes(requirements.getRequirementTypes());
         }
-
-        boolean hideEmptyRequirements = EnvironmentSpecificConfiguration.from(environmentVariables).getBooleanProperty(SERENITY_REPORT_HIDE_EMPTY_REQUIREMENTS, true);
-
-        context.put("hideEmptyRequirements", hideEmptyRequirements);
-        context.put("coverage", coverage);
-        context.put("backgroundColor", BACKGROUND_COLORS);
-
-        testOutcomes.getOutcomes().forEach(
-                testOutcome -> addTags(testOutcome, context, null)
-        );
-
-        context.put("tagResults",
-                TagResults.from(testOutcomes)
-                        .ignoringValues("ignore", "pending", "skip", "error", "compromised", "fail")
-                        .ignoringTypes("Duration")
-                        .groupedByType()
-
-        );
-        context.put("customFields", customFields);
-        context.put("customFieldValues", customFieldValues);
-
-        return context;
     }
 
     private boolean resultsAreFilteredByRequirementTypeBasedOn(List<String> tagTypes) {
         return requirements.getRequirementTypes().containsAll(tagTypes);
     }
 
-    private void addTags(TestOutcome testOutcome, Map<String, Object> context, String parentTitle) {
+    private Set<TestTag> filteredTagsOf(TestOutcome testOutcome, String parentTitle) {
         Set<TestTag> filteredTags = (parentTitle != null) ? tagFilter.removeTagsWithName(testOutcome.getTags(), parentTitle) : testOutcome.getTags();
-        filteredTags = tagFilter.removeHiddenTagsFrom(filteredTags);
-        context.put("filteredTags", filteredTags);
+        return tagFilter.removeHiddenTagsFrom(filteredTags);
+    }
+
+    private TestOutcome lastOf(List<? extends TestOutcome> testOutcomes) {
+        return testOutcomes.get(testOutcomes.size() - 1);
     }
 
     private String last(List<String> requirementTypes) {
@@ -4,13 +4,16 @@ import net.serenitybdd.model.SerenitySystemProperties;
 import net.serenitybdd.model.di.ModelInfrastructure;
 import net.serenitybdd.model.time.Stopwatch;
 import net.serenitybdd.reports.model.DurationDistribution;
+import net.serenitybdd.reports.model.FailureIndex;
 import net.serenitybdd.reports.model.FrequentFailure;
 import net.serenitybdd.reports.model.FrequentFailures;
 import net.thucydides.core.reports.CopyFiles;
+import net.thucydides.core.reports.html.screenshots.ScreenshotThumbnails;
 import net.thucydides.model.ThucydidesSystemProperty;
 import net.thucydides.model.domain.ReportType;
 import net.thucydides.model.domain.TestOutcome;
 import net.thucydides.model.domain.TestTag;
+import net.thucydides.model.environment.TestLocalEnvironmentVariables;
 import net.thucydides.model.issues.IssueTracking;
 import net.thucydides.model.reports.*;
 import net.thucydides.model.reports.html.ReportNameProvider;
@@ -31,6 +34,9 @@ import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -125,16 +131,26 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
     }
 
     public TestOutcomes generateReportsForTestResultsFrom(final File sourceDirectory) throws IOException {
+        try (SharedTestOutcomes testOutcomes = SharedTestOutcomes.loadedFrom(sourceDirectory, getFormat())) {
+            return generateReportsFor(testOutcomes);
+        }
+    }
+
+    @Override
+    public TestOutcomes generateReportsFor(final SharedTestOutcomes testOutcomes) throws IOException {
 
         if (projectDirectory != null) {
             ModelInfrastructure.getConfiguration().setProjectDirectory(Paths.get(projectDirectory));
         }
         Stopwatch stopwatch = Stopwatch.started();
-        copyScreenshotsFrom(sourceDirectory);
+        CompletableFuture<Void> requirementsLoaded = loadRequirementsInTheBackground();
+        copyScreenshotsFrom(testOutcomes.getSourceDirectory());
 
         LOGGER.trace("Copied screenshots after {}", stopwatch.lapTimeFormatted());
 
-        TestOutcomes allTestOutcomes = loadTestOutcomesFrom(sourceDirectory);
+        TestOutcomes loadedTestOutcomes = testOutcomes.getTestOutcomes();
+        requirementsLoaded.join();
+        TestOutcomes allTestOutcomes = loadedTestOutcomes.withRequirementsTags();
 
         if (!isEmpty(tags)) {
             allTestOutcomes = allTestOutcomes.withTags(getTags());
@@ -149,6 +165,29 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
         return allTestOutcomes;
     }
 
+    /**
+     * Reading the requirements tree does not depend on the test outcomes, so it runs while the screenshots are copied
+     * and the outcomes are loaded. It is finished before the outcomes are tagged with their requirements.
+     * The requirements providers may be created in the background thread, so it is given the test-local environment
+     * variables of this one.
+     */
+    private CompletableFuture<Void> loadRequirementsInTheBackground() {
+        Callable<?> loadRequirements = TestLocalEnvironmentVariables.propagatedTo(
+                () -> requirements.getRequirementsService().getRequirements()
+        );
+        return CompletableFuture.runAsync(() -> {
+                    try {
+                        loadRequirements.call();
+                    } catch (Exception e) {
+                        throw new CompletionException(e);
+                    }
+                })
+                .exceptionally(failure -> {
+                    LOGGER.warn("Could not load the requirements in the background", failure);
+                    return null;
+                });
+    }
+
     private void copyScreenshotsFrom(File sourceDirectory) {
         CopyFiles.from(sourceDirectory).to(getOutputDirectory());
     }
@@ -222,6 +261,7 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
                                     new TextSummaryReportTask(context, environmentVariables, getOutputDirectory(), testOutcomes),
                                     new CopyResourcesTask(),
                                     new CopyTestResultsTask(),
+                                    new ScreenshotThumbnailsTask(testOutcomes),
                                     new AggregateReportingTask(context, environmentVariables, requirements.getRequirementsService(), getOutputDirectory(), testOutcomes)
                             ),
                             // CUSTOM TAG REPORTS
@@ -258,6 +298,7 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
             LOGGER.info("  ✓ Result reports");
 
             // ERROR REPORTS
+            FailureIndex failureIndex = FailureIndex.of(testOutcomes);
             List<FrequentFailure> failures = FrequentFailures.from(testOutcomes).withMaxOf(REPORT_SCOREBOARD_SIZE.integerFrom(environmentVariables, 5));
             reporter.generateReportsFor(
                     failures.stream()
@@ -266,7 +307,7 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
                                     requirements.getRequirementsService(),
                                     getOutputDirectory(),
                                     reportNameProvider,
-                                    testOutcomes.withErrorType(failure.getType()).withLabel("Tests with error: " + failure.getName()),
+                                    failureIndex.outcomesWithErrorType(failure.getType()).withLabel("Tests with error: " + failure.getName()),
                                     failure.getType()))
             );
             LOGGER.info("  ✓ Error reports");
@@ -316,10 +357,6 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
                 .collect(Collectors.toList());
     }
 
-    private TestOutcomes loadTestOutcomesFrom(File sourceDirectory) throws IOException {
-        return TestOutcomeLoader.loadTestOutcomes().inFormat(getFormat()).from(sourceDirectory).withRequirementsTags();
-    }
-
     protected SerenitySystemProperties getSystemProperties() {
         return SerenitySystemProperties.getProperties();
     }
@@ -416,6 +453,24 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
         }
     }
 
+    private class ScreenshotThumbnailsTask implements ReportingTask {
+        private final TestOutcomes testOutcomes;
+
+        ScreenshotThumbnailsTask(TestOutcomes testOutcomes) {
+            this.testOutcomes = testOutcomes;
+        }
+
+        @Override
+        public void generateReports() throws IOException {
+            new ScreenshotThumbnails(getOutputDirectory(), environmentVariables).generateFor(testOutcomes.getOutcomes());
+        }
+
+        @Override
+        public String reportName() {
+            return "ScreenshotThumbnailsTask";
+        }
+    }
+
     private class CopyTestResultsTask implements ReportingTask {
         @Override
         public void generateReports() throws IOException {
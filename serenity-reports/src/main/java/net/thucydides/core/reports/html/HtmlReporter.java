@@ -68,7 +68,7 @@ public abstract class HtmlReporter extends ThucydidesReporter {
 
     protected void copyResourcesToOutputDirectory() throws IOException {
         updateResourceDirectoryFromSystemPropertyIfDefined();
-        HtmlResourceCopier.copyHtmlResourcesFrom(getResourceDirectory()).to(getOutputDirectory());
+        HtmlResourceCopier.copyHtmlResourcesFrom(getResourceDirectory(), getEnvironmentVariables()).to(getOutputDirectory());
         copyProjectSpecificResources();
     }
 
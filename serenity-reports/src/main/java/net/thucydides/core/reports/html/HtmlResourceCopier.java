@@ -1,13 +1,17 @@
 package net.thucydides.core.reports.html;
 
+import net.thucydides.model.environment.SystemEnvironmentVariables;
 import net.thucydides.model.resources.FileResources;
 import net.thucydides.model.resources.ResourceList;
+import net.thucydides.model.util.EnvironmentVariables;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Optional;
 import java.util.regex.Pattern;
 
 /**
@@ -17,10 +21,20 @@ public class HtmlResourceCopier {
 
     private String resourceDirectory;
     private Pattern resourcePattern;
+    private final ReportResourceCache resourceCache;
 
     public HtmlResourceCopier(final String resourceDirectory) {
+        this(resourceDirectory, SystemEnvironmentVariables.currentEnvironmentVariables());
+    }
+
+    public HtmlResourceCopier(final String resourceDirectory, final EnvironmentVariables environmentVariables) {
+        this(resourceDirectory, new ReportResourceCache(environmentVariables));
+    }
+
+    HtmlResourceCopier(final String resourceDirectory, final ReportResourceCache resourceCache) {
         super();
         this.resourceDirectory = resourceDirectory;
+        this.resourceCache = resourceCache;
         resourcePattern = allFilesInDirectory(resourceDirectory);
     }
 
@@ -28,6 +42,8 @@ public class HtmlResourceCopier {
      * Resources (stylesheets, images) etc are all stored in the
      * src/main/resources/reports directory. When the jar is deployed, they will
      * end up on the classpath.
+     * They are extracted into a shared cache once per Serenity release (see {@link ReportResourceCache}),
+     * and are not copied again into a directory that already contains the resources for this release.
      */
     public void to(final File targetDirectory) throws IOException {
 
@@ -35,7 +51,16 @@ public class HtmlResourceCopier {
             return;
         }
 
+        Optional<Path> cachedResources = resourceCache.cachedResourcesFor(resourceDirectory, this::extractResourcesTo);
+        if (cachedResources.isPresent()) {
+            resourceCache.copy(cachedResources.get(), targetDirectory.toPath());
+        } else {
+            extractResourcesTo(targetDirectory);
+        }
         recordResourceMarkerIn(targetDirectory);
+    }
+
+    private void extractResourcesTo(final File targetDirectory) throws IOException {
         FileResources fileResource = FileResources.from(resourceDirectory);
 
         Collection<String> reportResources = ResourceList.forResources(resourceDirectory, resourcePattern).list();
@@ -51,11 +76,21 @@ public class HtmlResourceCopier {
 
     private void recordResourceMarkerIn(File targetDirectory) throws IOException {
         Files.createDirectories(targetDirectory.toPath());
-        resourceMarkerIn(targetDirectory).toFile().createNewFile();
+        Files.write(resourceMarkerIn(targetDirectory), resourceVersion().getBytes(StandardCharsets.UTF_8));
     }
 
     private boolean resourceFilesAreAlreadyPresentIn(File targetDirectory) {
-        return Files.exists(resourceMarkerIn(targetDirectory));
+        Path marker = resourceMarkerIn(targetDirectory);
+        try {
+            return Files.exists(marker)
+                    && new String(Files.readAllBytes(marker), StandardCharsets.UTF_8).equals(resourceVersion());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private String resourceVersion() {
+        return resourceDirectory + ":" + resourceCache.getVersion();
     }
 
     private Path resourceMarkerIn(File outputDirectory) {
@@ -97,4 +132,8 @@ public class HtmlResourceCopier {
     public static HtmlResourceCopier copyHtmlResourcesFrom(String resourceDirectory) {
         return new HtmlResourceCopier(resourceDirectory);
     }
+
+    public static HtmlResourceCopier copyHtmlResourcesFrom(String resourceDirectory, EnvironmentVariables environmentVariables) {
+        return new HtmlResourceCopier(resourceDirectory, environmentVariables);
+    }
 }
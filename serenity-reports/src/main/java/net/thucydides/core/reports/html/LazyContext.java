@@ -0,0 +1,41 @@
+package net.thucydides.core.reports.html;
+
+import com.google.common.base.Suppliers;
+
+import java.util.HashMap;
+import java.util.function.Supplier;
+
+/**
+ * A Freemarker data model in which some of the values are only computed when a template first reads them.
+ * Values added with {@link #putLazily(String, Supplier)} are resolved by {@link #get(Object)}, which is what
+ * Freemarker uses to look up top-level variables, so sections that a page never renders cost nothing.
+ */
+class LazyContext extends HashMap<String, Object> {
+
+    void putLazily(String key, Supplier<?> value) {
+        put(key, new LazyValue(value));
+    }
+
+    @Override
+    public Object get(Object key) {
+        Object value = super.get(key);
+        return (value instanceof LazyValue) ? ((LazyValue) value).get() : value;
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        return containsKey(key) ? get(key) : defaultValue;
+    }
+
+    private static class LazyValue {
+        private final Supplier<?> value;
+
+        private LazyValue(Supplier<?> value) {
+            this.value = Suppliers.memoize(value::get);
+        }
+
+        private Object get() {
+            return value.get();
+        }
+    }
+}
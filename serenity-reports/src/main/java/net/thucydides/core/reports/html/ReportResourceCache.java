@@ -0,0 +1,150 @@
+package net.thucydides.core.reports.html;
+
+import net.thucydides.model.ThucydidesSystemProperty;
+import net.thucydides.model.util.EnvironmentVariables;
+import net.thucydides.model.util.VersionProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Optional;
+
+/**
+ * A cache of report resources (stylesheets, scripts, fonts and images) extracted from the classpath, shared by every
+ * report generated on this machine with the same Serenity release.
+ * <p>
+ * Scanning the classpath and unpacking the resource jars is done once per release and resource directory; each
+ * report then only copies the extracted directory tree. Extraction happens in a temporary directory that is moved
+ * into place when it is complete, so concurrent builds never see a partially extracted cache.
+ * </p>
+ */
+class ReportResourceCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReportResourceCache.class);
+
+    private static final String COMPLETE_MARKER = ".complete";
+
+    interface ResourceExtractor {
+        void extractTo(File directory) throws IOException;
+    }
+
+    private final Path cacheRoot;
+    private final String version;
+    private final boolean enabled;
+
+    ReportResourceCache(EnvironmentVariables environmentVariables) {
+        this(cacheRootDefinedIn(environmentVariables),
+             new VersionProvider(environmentVariables).getVersion(),
+             ThucydidesSystemProperty.SERENITY_REPORT_CACHE_RESOURCES.booleanFrom(environmentVariables, true));
+    }
+
+    ReportResourceCache(Path cacheRoot, String version, boolean enabled) {
+        this.cacheRoot = cacheRoot;
+        this.version = version;
+        this.enabled = enabled && isARelease(version);
+    }
+
+    private static Path cacheRootDefinedIn(EnvironmentVariables environmentVariables) {
+        String defaultCacheRoot = Paths.get(environmentVariables.getProperty("user.home", System.getProperty("user.home")),
+                                            ".serenity", "report-resources").toString();
+        return Paths.get(ThucydidesSystemProperty.SERENITY_REPORT_RESOURCE_CACHE_DIRECTORY.from(environmentVariables, defaultCacheRoot));
+    }
+
+    /**
+     * Snapshot and local builds can change without changing their version number, so they are never cached.
+     */
+    private static boolean isARelease(String version) {
+        return version != null
+                && !version.isEmpty()
+                && !version.equals("UNKNOWN")
+                && !version.equals("localbuild")
+                && !version.contains("SNAPSHOT");
+    }
+
+    String getVersion() {
+        return version;
+    }
+
+    /**
+     * The directory holding the extracted resources for this release, extracting them first if this has not already
+     * been done. Returns an empty result if caching is disabled or the cache cannot be written, in which case the
+     * caller should extract the resources directly.
+     */
+    Optional<Path> cachedResourcesFor(String resourceDirectory, ResourceExtractor extractor) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Path cachedResources = cacheRoot.resolve(version).resolve(resourceDirectory.replaceAll("[^A-Za-z0-9._-]", "_"));
+        if (Files.exists(cachedResources.resolve(COMPLETE_MARKER))) {
+            return Optional.of(cachedResources);
+        }
+        Path extractionDirectory = null;
+        try {
+            Files.createDirectories(cachedResources.getParent());
+            extractionDirectory = Files.createTempDirectory(cachedResources.getParent(), "extracting");
+            extractor.extractTo(extractionDirectory.toFile());
+            Files.createFile(extractionDirectory.resolve(COMPLETE_MARKER));
+            Files.move(extractionDirectory, cachedResources, StandardCopyOption.ATOMIC_MOVE);
+            LOGGER.debug("Report resources for Serenity {} cached in {}", version, cachedResources);
+            return Optional.of(cachedResources);
+        } catch (FileAlreadyExistsException | DirectoryNotEmptyException extractedByAnotherBuild) {
+            return Files.exists(cachedResources.resolve(COMPLETE_MARKER)) ? Optional.of(cachedResources) : Optional.empty();
+        } catch (IOException | UnsupportedOperationException e) {
+            LOGGER.warn("Could not cache the report resources in {}: {}", cachedResources, e.getMessage());
+            return Optional.empty();
+        } finally {
+            deleteQuietly(extractionDirectory);
+        }
+    }
+
+    /**
+     * Copy a cached resource directory into a report directory, leaving any files that are already there.
+     */
+    void copy(Path cachedResources, Path targetDirectory) throws IOException {
+        Files.walkFileTree(cachedResources, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) throws IOException {
+                Files.createDirectories(targetDirectory.resolve(cachedResources.relativize(directory).toString()));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+                if (file.getFileName().toString().equals(COMPLETE_MARKER)) {
+                    return FileVisitResult.CONTINUE;
+                }
+                Path target = targetDirectory.resolve(cachedResources.relativize(file).toString());
+                if (Files.notExists(target)) {
+                    Files.copy(file, target);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private static void deleteQuietly(Path directory) {
+        if (directory == null || Files.notExists(directory)) {
+            return;
+        }
+        try {
+            Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+                    Files.delete(file);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+                    Files.delete(dir);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            LOGGER.debug("Could not delete {}: {}", directory, e.getMessage());
+        }
+    }
+}
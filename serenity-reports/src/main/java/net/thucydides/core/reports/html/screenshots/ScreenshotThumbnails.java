@@ -0,0 +1,193 @@
+package net.thucydides.core.reports.html.screenshots;
+
+import net.serenitybdd.model.time.Stopwatch;
+import net.thucydides.model.domain.TestOutcome;
+import net.thucydides.model.domain.screenshots.Screenshot;
+import net.thucydides.model.images.ResizableImage;
+import net.thucydides.model.util.EnvironmentVariables;
+import org.apache.commons.lang3.StringUtils;
+import org.imgscalr.Scalr;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static net.thucydides.model.ThucydidesSystemProperty.SERENITY_REPORT_IMAGE_MEMORY_BUDGET;
+import static net.thucydides.model.ThucydidesSystemProperty.SERENITY_REPORT_THUMBNAILS;
+
+/**
+ * Generates the small screenshot thumbnails shown next to each step in the test reports, so that report pages
+ * do not need to load every full-size screenshot just to display it at 48 pixels.
+ * <p>
+ * Screenshot file names are derived from their contents, so each distinct screenshot is only scaled once, however
+ * many tests or steps refer to it, and thumbnails left by a previous run in the same directory are reused.
+ * Images are scaled in parallel, but the decoded images in memory at any one time are kept within a budget
+ * (serenity.report.image.memory.budget, in megabytes) so that very large screenshots cannot exhaust the heap.
+ * </p>
+ */
+public class ScreenshotThumbnails {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScreenshotThumbnails.class);
+
+    public static final String THUMBNAIL_PREFIX = "thumbnail_";
+
+    /**
+     * Thumbnails are displayed at 48 pixels: twice that keeps them sharp on high density screens.
+     */
+    static final int THUMBNAIL_HEIGHT = 96;
+
+    private static final int DEFAULT_MEMORY_BUDGET_IN_MB = 256;
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private final File reportDirectory;
+    private final boolean enabled;
+    private final int memoryBudgetInKb;
+    private final int threads;
+
+    public ScreenshotThumbnails(File reportDirectory, EnvironmentVariables environmentVariables) {
+        this(reportDirectory,
+                SERENITY_REPORT_THUMBNAILS.booleanFrom(environmentVariables, true),
+                SERENITY_REPORT_IMAGE_MEMORY_BUDGET.integerFrom(environmentVariables, DEFAULT_MEMORY_BUDGET_IN_MB),
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    ScreenshotThumbnails(File reportDirectory, boolean enabled, int memoryBudgetInMb, int threads) {
+        this.reportDirectory = reportDirectory;
+        this.enabled = enabled;
+        this.memoryBudgetInKb = Math.max(1, memoryBudgetInMb) * 1024;
+        this.threads = Math.max(1, threads);
+    }
+
+    public static String thumbnailNameFor(String screenshotName) {
+        return THUMBNAIL_PREFIX + screenshotName;
+    }
+
+    /**
+     * Generate a thumbnail for every distinct screenshot referenced by these test outcomes.
+     *
+     * @return the number of thumbnails created by this call
+     */
+    public int generateFor(Collection<? extends TestOutcome> testOutcomes) throws IOException {
+        Set<String> screenshotNames = new LinkedHashSet<>();
+        for (TestOutcome testOutcome : testOutcomes) {
+            for (Screenshot screenshot : testOutcome.getScreenshots()) {
+                if (StringUtils.isNotEmpty(screenshot.getFilename())) {
+                    screenshotNames.add(screenshot.getFilename());
+                }
+            }
+        }
+        return generateFor(screenshotNames);
+    }
+
+    int generateFor(Set<String> screenshotNames) throws IOException {
+        if (!enabled || screenshotNames.isEmpty()) {
+            return 0;
+        }
+        Stopwatch stopwatch = Stopwatch.started();
+        Semaphore memoryBudget = new Semaphore(memoryBudgetInKb);
+        AtomicInteger created = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, screenshotNames.size()));
+        try {
+            List<Future<?>> thumbnails = new ArrayList<>();
+            for (String screenshotName : screenshotNames) {
+                thumbnails.add(executor.submit(() -> {
+                    try {
+                        if (createThumbnailFor(screenshotName, memoryBudget)) {
+                            created.incrementAndGet();
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        // The report falls back to the full-size screenshot
+                        LOGGER.warn("Could not create a thumbnail for {}: {}", screenshotName, e.getMessage());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> thumbnail : thumbnails) {
+                thumbnail.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while generating screenshot thumbnails", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to generate screenshot thumbnails", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        LOGGER.debug("Generated {} thumbnails for {} screenshots in {}", created.get(), screenshotNames.size(), stopwatch.executionTimeFormatted());
+        return created.get();
+    }
+
+    private boolean createThumbnailFor(String screenshotName, Semaphore memoryBudget) throws IOException, InterruptedException {
+        File screenshotFile = new File(reportDirectory, screenshotName);
+        File thumbnailFile = new File(reportDirectory, thumbnailNameFor(screenshotName));
+        if (thumbnailFile.exists() || !screenshotFile.isFile() || screenshotFile.length() == 0) {
+            return false;
+        }
+
+        // Only the image header is read here: the pixels are decoded once we have the memory to hold them
+        ResizableImage image = ResizableImage.loadFrom(screenshotFile);
+        long pixels = (long) image.getWidth() * image.getHeight();
+        if (pixels == 0) {
+            return false;
+        }
+        long decodedSizeInKb = pixels * BYTES_PER_PIXEL / 1024;
+        int permits = (int) Math.min(Math.max(decodedSizeInKb, 1), memoryBudgetInKb);
+
+        memoryBudget.acquire(permits);
+        try {
+            return writeThumbnail(screenshotFile, thumbnailFile);
+        } finally {
+            memoryBudget.release(permits);
+        }
+    }
+
+    private boolean writeThumbnail(File screenshotFile, File thumbnailFile) throws IOException {
+        BufferedImage screenshot = ImageIO.read(screenshotFile);
+        if (screenshot == null) {
+            LOGGER.debug("Could not read {} as an image: no thumbnail created", screenshotFile);
+            return false;
+        }
+        BufferedImage thumbnail = (screenshot.getHeight() <= THUMBNAIL_HEIGHT) ? screenshot
+                : Scalr.resize(screenshot, Scalr.Method.QUALITY, Scalr.Mode.FIT_TO_HEIGHT, THUMBNAIL_HEIGHT, Scalr.OP_ANTIALIAS);
+        screenshot.flush();
+
+        Path target = thumbnailFile.toPath();
+        Path temporaryFile = Files.createTempFile(reportDirectory.toPath(), thumbnailFile.getName(), ".tmp");
+        try {
+            if (!ImageIO.write(thumbnail, formatOf(screenshotFile), temporaryFile.toFile())) {
+                return false;
+            }
+            Files.move(temporaryFile, target, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (FileAlreadyExistsException writtenByAnotherReporter) {
+            // Same name means same screenshot
+            return false;
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private String formatOf(File screenshotFile) {
+        String extension = StringUtils.substringAfterLast(screenshotFile.getName(), ".");
+        return StringUtils.isEmpty(extension) ? "png" : extension.toLowerCase();
+    }
+}
@@ -15,6 +15,7 @@ import net.thucydides.model.reports.AcceptanceTestReporter
 import net.thucydides.model.reports.TestOutcomes
 import net.thucydides.model.reports.json.JSONTestOutcomeReporter
 import net.thucydides.model.reports.json.gson.GsonJSONConverter
+import net.thucydides.model.reports.json.gson.StepJournal
 import net.thucydides.model.screenshots.ScreenshotAndHtmlSource
 import net.thucydides.model.steps.TestSourceType
 import org.junit.ComparisonFailure
@@ -542,6 +543,88 @@ class WhenStoringTestOutcomesAsJSON extends Specification {
         reloadedOutcome.testSteps[0].children[0].children.size() == 1
     }
 
+    def "should stitch journalled steps back into the JSON report"() {
+        given:
+        def testOutcome = TestOutcome.forTest("a_nested_test_case", SomeNestedTestScenario.class)
+        testOutcome.setStartTime(FIRST_OF_JANUARY)
+        testOutcome.recordStep(TestStepFactory.successfulTestStepCalled("Group 1").startingAt(FIRST_OF_JANUARY))
+        testOutcome.startGroup()
+        testOutcome.recordStep(TestStepFactory.successfulTestStepCalled("Group 1.1").startingAt(FIRST_OF_JANUARY))
+        testOutcome.startGroup()
+        testOutcome.recordStep(TestStepFactory.successfulTestStepCalled("step 1").startingAt(FIRST_OF_JANUARY))
+        testOutcome.recordStep(TestStepFactory.failingTestStepCalled("step 2").startingAt(FIRST_OF_JANUARY))
+        testOutcome.endGroup()
+        testOutcome.recordStep(TestStepFactory.successfulTestStepCalled("step 3").startingAt(FIRST_OF_JANUARY))
+        testOutcome.endGroup()
+        testOutcome.recordStep(TestStepFactory.successfulTestStepCalled("step 4").startingAt(FIRST_OF_JANUARY))
+        and:
+        def journal = StepJournal.in(outputDirectory.toPath())
+        testOutcome.journalChildrenOf(testOutcome.testSteps[0].children[0], journal)
+        testOutcome.journalChildrenOf(testOutcome.testSteps[0], journal)
+        journal.close()
+        when:
+        def jsonReport = reporter.generateReportFor(testOutcome)
+        then:
+        testOutcome.testSteps[0].children.isEmpty()
+        testOutcome.testSteps[1].number == 6
+        !jsonReport.text.contains("journalledChildren")
+        new File(outputDirectory, "step-journals").list().length == 1
+        and:
+        TestOutcome reloadedOutcome = loader.loadReportFrom(jsonReport).get()
+        reloadedOutcome.testSteps.size() == 2
+        reloadedOutcome.testSteps[0].children.collect { it.description } == ["Group 1.1", "step 3"]
+        reloadedOutcome.testSteps[0].children[0].children.collect { it.description } == ["step 1", "step 2"]
+        reloadedOutcome.testSteps[0].result == TestResult.FAILURE
+        reloadedOutcome.result == TestResult.FAILURE
+    }
+
+    def "should journal finished top-level steps in batches and write them back in order"() {
+        given:
+        def testOutcome = TestOutcome.forTest("a_simple_test_case", SomeTestScenario.class)
+        testOutcome.setStartTime(FIRST_OF_JANUARY)
+        def journal = StepJournal.in(outputDirectory.toPath())
+        and:
+        (1..120).each { number ->
+            testOutcome.recordStep(TestStepFactory.successfulTestStepCalled("step " + number).startingAt(FIRST_OF_JANUARY))
+            testOutcome.journalFinishedStepsIn(journal)
+        }
+        journal.close()
+        when:
+        def jsonReport = reporter.generateReportFor(testOutcome)
+        then:
+        testOutcome.testSteps.size() < StepJournal.BATCH_SIZE + StepJournal.RECENT_STEPS_KEPT_IN_MEMORY
+        testOutcome.testSteps.last().number == 120
+        !jsonReport.text.contains("journalledSteps")
+        and:
+        TestOutcome reloadedOutcome = loader.loadReportFrom(jsonReport).get()
+        reloadedOutcome.testSteps.collect { it.description } == (1..120).collect { "step " + it }
+        reloadedOutcome.result == TestResult.SUCCESS
+    }
+
+    def "should move large content of journalled steps to sidecar files"() {
+        given:
+        def testOutcome = TestOutcome.forTest("a_nested_test_case", SomeNestedTestScenario.class)
+        testOutcome.setStartTime(FIRST_OF_JANUARY)
+        testOutcome.recordStep(TestStepFactory.successfulTestStepCalled("Group 1").startingAt(FIRST_OF_JANUARY))
+        testOutcome.startGroup()
+        def restStep = TestStepFactory.successfulTestStepCalled("call the service").startingAt(FIRST_OF_JANUARY)
+        restStep.recordRestQuery(RestQuery.withMethod(RestMethod.GET).andPath("/items").withResponse("x" * 1000))
+        testOutcome.recordStep(restStep)
+        testOutcome.endGroup()
+        and:
+        def journal = StepJournal.in(outputDirectory.toPath(), 100)
+        testOutcome.journalChildrenOf(testOutcome.testSteps[0], journal)
+        journal.close()
+        when:
+        def jsonReport = reporter.generateReportFor(testOutcome)
+        then:
+        !jsonReport.text.contains("x" * 1000)
+        new File(outputDirectory, "sidecar").list().length == 1
+        and:
+        TestOutcome reloadedOutcome = loader.loadReportFrom(jsonReport).get()
+        reloadedOutcome.testSteps[0].children[0].restQuery.responseBody == "x" * 1000
+    }
+
 
     def "should include the name of any screenshots where present"() {
         given:
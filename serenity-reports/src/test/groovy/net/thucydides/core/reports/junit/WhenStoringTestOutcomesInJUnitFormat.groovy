@@ -6,6 +6,7 @@ import net.thucydides.model.reports.TestOutcomes
 import net.thucydides.model.reports.junit.JUnitXMLOutcomeReporter
 import spock.lang.Specification
 
+import javax.xml.parsers.DocumentBuilderFactory
 import java.nio.file.Files
 import java.time.ZoneId
 import java.time.ZonedDateTime
@@ -137,4 +138,43 @@ class WhenStoringTestOutcomesInJUnitFormat extends Specification {
         then:
         junitXMLReport.contains '''<skipped/>'''
     }
+
+    def "JUnit XML report should escape special characters in failure messages"() {
+        given:
+        def testOutcome = TestOutcome.forTest("should_do_this", SomeTestScenario.class)
+        testOutcome.startTime = FIRST_OF_JANUARY
+        def failingStep = TestStepFactory.failingTestStepCalled("step 1").startingAt(FIRST_OF_JANUARY)
+        failingStep.failedWith(new AssertionError("Expected <3> & got \"4\""))
+        testOutcome.recordStep(failingStep)
+
+        when:
+        reporter.generateReportsFor(TestOutcomes.of([testOutcome]))
+        def junitXMLReport = new File(outputDirectory.getAbsolutePath(), outputDirectory.list()[0]).text
+        def failure = parsed(junitXMLReport).getElementsByTagName("failure").item(0)
+
+        then:
+        failure.getAttribute("message") == 'Expected <3> & got "4"'
+        failure.textContent == 'Expected <3> & got "4"'
+    }
+
+    def "JUnit XML report should write one report per test class"() {
+        given:
+        def testOutcome1 = TestOutcome.forTest("should_do_this", SomeTestScenario.class)
+        testOutcome1.recordStep(TestStepFactory.successfulTestStepCalled("step 1").startingAt(FIRST_OF_JANUARY))
+        def testOutcome2 = TestOutcome.forTest("should_do_that", SomeTestScenario.class)
+        testOutcome2.recordStep(TestStepFactory.successfulTestStepCalled("step 1").startingAt(FIRST_OF_JANUARY))
+        def testOutcome3 = TestOutcome.forTest("a_simple_test_case", AUserStory.class)
+        testOutcome3.recordStep(TestStepFactory.successfulTestStepCalled("step 1").startingAt(FIRST_OF_JANUARY))
+
+        when:
+        reporter.generateReportsFor(TestOutcomes.of([testOutcome1, testOutcome2, testOutcome3]))
+
+        then:
+        outputDirectory.list().length == 2
+        outputDirectory.listFiles().collect { parsed(it.text).getElementsByTagName("testcase").length }.sort() == [1, 2]
+    }
+
+    private static def parsed(String xml) {
+        DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new ByteArrayInputStream(xml.getBytes("UTF-8")))
+    }
 }
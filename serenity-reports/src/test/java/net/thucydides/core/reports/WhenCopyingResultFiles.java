@@ -0,0 +1,115 @@
+package net.thucydides.core.reports;
+
+import net.thucydides.model.environment.MockEnvironmentVariables;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class WhenCopyingResultFiles {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void should_copy_files_that_are_not_already_in_the_output_directory() throws IOException {
+        File sourceDirectory = temporaryFolder.newFolder("source");
+        File outputDirectory = temporaryFolder.newFolder("output");
+        write(sourceDirectory.toPath().resolve("screenshot.png"), "new screenshot");
+        write(sourceDirectory.toPath().resolve("outcome.json"), "new outcome");
+        write(outputDirectory.toPath().resolve("outcome.json"), "existing outcome");
+
+        CopyFiles.from(sourceDirectory).to(outputDirectory);
+
+        assertThat(read(outputDirectory.toPath().resolve("screenshot.png")), is("new screenshot"));
+        assertThat(read(outputDirectory.toPath().resolve("outcome.json")), is("existing outcome"));
+    }
+
+    @Test
+    public void should_make_independent_copies_when_hard_links_are_disabled() throws IOException {
+        File sourceDirectory = temporaryFolder.newFolder("source");
+        File outputDirectory = temporaryFolder.newFolder("output");
+        write(sourceDirectory.toPath().resolve("screenshot.png"), "screenshot");
+
+        MockEnvironmentVariables environmentVariables = new MockEnvironmentVariables();
+        environmentVariables.setProperty("serenity.report.link.files", "false");
+        new CopyFiles(sourceDirectory, environmentVariables).to(outputDirectory);
+
+        Path copy = outputDirectory.toPath().resolve("screenshot.png");
+        write(copy, "modified screenshot");
+
+        assertThat(read(sourceDirectory.toPath().resolve("screenshot.png")), is("screenshot"));
+    }
+
+    @Test
+    public void should_hard_link_screenshots_into_the_output_directory() throws IOException {
+        File sourceDirectory = temporaryFolder.newFolder("source");
+        File outputDirectory = temporaryFolder.newFolder("output");
+        Path screenshot = sourceDirectory.toPath().resolve("screenshot.png");
+        write(screenshot, "screenshot");
+
+        new CopyFiles(sourceDirectory, new MockEnvironmentVariables()).to(outputDirectory);
+
+        assertThat(Files.isSameFile(screenshot, outputDirectory.toPath().resolve("screenshot.png")), is(true));
+    }
+
+    @Test
+    public void should_copy_files_that_may_be_rewritten_in_place_even_when_hard_links_are_enabled() throws IOException {
+        File sourceDirectory = temporaryFolder.newFolder("source");
+        File outputDirectory = temporaryFolder.newFolder("output");
+        write(sourceDirectory.toPath().resolve("outcome.json"), "outcome");
+
+        new CopyFiles(sourceDirectory, new MockEnvironmentVariables()).to(outputDirectory);
+
+        Path copy = outputDirectory.toPath().resolve("outcome.json");
+        assertThat(Files.isSameFile(sourceDirectory.toPath().resolve("outcome.json"), copy), is(false));
+        write(copy, "rewritten outcome");
+        assertThat(read(sourceDirectory.toPath().resolve("outcome.json")), is("outcome"));
+    }
+
+    @Test
+    public void should_fall_back_to_copying_once_the_file_system_refuses_hard_links() throws Exception {
+        File sourceDirectory = temporaryFolder.newFolder("source");
+        Path targetDirectory = temporaryFolder.newFolder("output").toPath();
+        Path firstScreenshot = sourceDirectory.toPath().resolve("first.png");
+        Path secondScreenshot = sourceDirectory.toPath().resolve("second.png");
+        write(firstScreenshot, "first screenshot");
+        write(secondScreenshot, "second screenshot");
+
+        CopyFiles.CopyStatistics statistics = new CopyFiles.CopyStatistics(true);
+        new FileCopier(firstScreenshot, targetDirectory, statistics).call();
+        statistics.hardLinksAreNotSupported(targetDirectory, "cross-device link");
+        new FileCopier(secondScreenshot, targetDirectory, statistics).call();
+
+        assertThat(statistics.getLinkedFiles(), is(1L));
+        assertThat(statistics.getCopiedFiles(), is(1L));
+        assertThat(Files.isSameFile(secondScreenshot, targetDirectory.resolve("second.png")), is(false));
+        assertThat(read(targetDirectory.resolve("second.png")), is("second screenshot"));
+    }
+
+    @Test
+    public void should_not_copy_files_onto_themselves() throws IOException {
+        File sourceDirectory = temporaryFolder.newFolder("source");
+        write(sourceDirectory.toPath().resolve("screenshot.png"), "screenshot");
+
+        CopyFiles.from(sourceDirectory).to(sourceDirectory);
+
+        assertThat(read(sourceDirectory.toPath().resolve("screenshot.png")), is("screenshot"));
+    }
+
+    private void write(Path file, String content) throws IOException {
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String read(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+}
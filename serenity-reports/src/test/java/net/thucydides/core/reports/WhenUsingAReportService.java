@@ -1,8 +1,11 @@
 package net.thucydides.core.reports;
 
 import net.thucydides.model.domain.TestOutcome;
+import net.thucydides.model.domain.TestResult;
+import net.thucydides.model.domain.TestStep;
 import net.thucydides.model.reports.AcceptanceTestReporter;
 import net.thucydides.model.reports.ReportService;
+import net.thucydides.model.reports.json.gson.StepJournal;
 import org.hamcrest.Matcher;
 import org.junit.Before;
 import org.junit.Rule;
@@ -15,6 +18,7 @@ import org.mockito.MockitoAnnotations;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -93,6 +97,34 @@ public class WhenUsingAReportService {
         verify(reporter).setOutputDirectory(outputDirectory);
     }
 
+    @Test
+    public void step_journals_are_only_deleted_once_every_reporter_has_run() throws Exception {
+        TestOutcome outcome = TestOutcome.forTest("test", ATestCase.class);
+        outcome.recordStep(TestStep.forStepCalled("a group").withResult(TestResult.SUCCESS));
+        outcome.startGroup();
+        outcome.recordStep(TestStep.forStepCalled("a step").withResult(TestResult.SUCCESS));
+        outcome.endGroup();
+        StepJournal journal = StepJournal.in(outputDirectory.toPath());
+        outcome.journalChildrenOf(outcome.getTestSteps().get(0), journal);
+        journal.close();
+
+        File journalDirectory = new File(outputDirectory, "step-journals");
+        List<Integer> journalsSeenByReporters = new ArrayList<>();
+        doAnswer(invocation -> {
+            journalsSeenByReporters.add(journalDirectory.list().length);
+            return null;
+        }).when(reporter).generateReportFor(ArgumentMatchers.any(TestOutcome.class));
+
+        ReportService reportService = new ReportService(outputDirectory, new ArrayList<>());
+        reportService.subscribe(reporter);
+        reportService.subscribe(reporter);
+
+        reportService.generateReportsFor(Collections.singletonList(outcome));
+
+        assertThat(journalsSeenByReporters, contains(1, 1));
+        assertThat(journalDirectory.list().length, is(0));
+    }
+
     @Test
     public void default_reporters_should_include_json() {
         List reporters = ReportService.getDefaultReporters();
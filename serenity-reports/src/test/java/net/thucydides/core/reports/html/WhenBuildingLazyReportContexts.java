@@ -0,0 +1,79 @@
+package net.thucydides.core.reports.html;
+
+import net.thucydides.model.domain.Story;
+import net.thucydides.model.domain.TestOutcome;
+import net.thucydides.model.environment.MockEnvironmentVariables;
+import net.thucydides.model.issues.IssueTracking;
+import net.thucydides.model.reports.TestOutcomes;
+import net.thucydides.model.requirements.RequirementsService;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.mock;
+
+public class WhenBuildingLazyReportContexts {
+
+    @Test
+    public void lazy_values_should_not_be_computed_until_they_are_read() {
+        AtomicInteger evaluations = new AtomicInteger();
+        LazyContext context = new LazyContext();
+
+        context.putLazily("coverage", evaluations::incrementAndGet);
+
+        assertThat(evaluations.get(), is(0));
+        assertThat(context.containsKey("coverage"), is(true));
+    }
+
+    @Test
+    public void lazy_values_should_only_be_computed_once() {
+        AtomicInteger evaluations = new AtomicInteger();
+        LazyContext context = new LazyContext();
+
+        context.putLazily("coverage", evaluations::incrementAndGet);
+
+        assertThat((Integer) context.get("coverage"), is(1));
+        assertThat((Integer) context.get("coverage"), is(1));
+        assertThat(evaluations.get(), is(1));
+    }
+
+    @Test
+    public void ordinary_values_should_be_returned_as_is() {
+        LazyContext context = new LazyContext();
+
+        context.put("reportName", "Some report");
+
+        assertThat((String) context.get("reportName"), is("Some report"));
+        assertThat(context.get("unknown"), nullValue());
+        assertThat((String) context.getOrDefault("unknown", "default"), is("default"));
+    }
+
+    @Test
+    public void lazy_values_can_be_replaced_by_ordinary_values() {
+        LazyContext context = new LazyContext();
+
+        context.putLazily("currentTag", () -> "lazy");
+        context.put("currentTag", "eager");
+
+        assertThat((String) context.get("currentTag"), is("eager"));
+    }
+
+    @Test
+    public void report_sections_should_be_shared_by_pages_built_from_the_same_outcomes() {
+        FreemarkerContext context = new FreemarkerContext(new MockEnvironmentVariables(),
+                mock(RequirementsService.class),
+                mock(IssueTracking.class),
+                "");
+        TestOutcomes outcomes = TestOutcomes.of(
+                Collections.singletonList(TestOutcome.forTestInStory("a test", Story.called("a story"))));
+
+        FreemarkerContext.BuildModel firstModel = context.buildModelFor(outcomes);
+        outcomes.getFlagCounts();
+        FreemarkerContext.BuildModel secondModel = context.buildModelFor(outcomes);
+
+        assertThat(secondModel, sameInstance(firstModel));
+    }
+}
@@ -0,0 +1,69 @@
+package net.thucydides.core.reports.html;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class WhenCachingReportResources {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final AtomicInteger extractions = new AtomicInteger();
+
+    private void extractSampleResourcesTo(File directory) throws IOException {
+        extractions.incrementAndGet();
+        Path scripts = directory.toPath().resolve("scripts");
+        Files.createDirectories(scripts);
+        Files.write(scripts.resolve("report.js"), "// report".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void resources_should_only_be_extracted_once_per_release() throws IOException {
+        ReportResourceCache cache = new ReportResourceCache(temporaryFolder.newFolder("cache").toPath(), "4.2.0", true);
+
+        Optional<Path> first = cache.cachedResourcesFor("report-resources", this::extractSampleResourcesTo);
+        Optional<Path> second = cache.cachedResourcesFor("report-resources", this::extractSampleResourcesTo);
+
+        assertThat(first.isPresent(), is(true));
+        assertThat(second.get(), is(first.get()));
+        assertThat(extractions.get(), is(1));
+    }
+
+    @Test
+    public void cached_resources_should_be_copied_into_the_report_directory() throws IOException {
+        ReportResourceCache cache = new ReportResourceCache(temporaryFolder.newFolder("cache").toPath(), "4.2.0", true);
+        Path reportDirectory = temporaryFolder.newFolder("report").toPath();
+
+        Path cachedResources = cache.cachedResourcesFor("report-resources", this::extractSampleResourcesTo).get();
+        cache.copy(cachedResources, reportDirectory);
+
+        assertThat(Files.exists(reportDirectory.resolve("scripts").resolve("report.js")), is(true));
+    }
+
+    @Test
+    public void snapshot_versions_should_not_be_cached() throws IOException {
+        ReportResourceCache cache = new ReportResourceCache(temporaryFolder.newFolder("cache").toPath(), "4.2.1-SNAPSHOT", true);
+
+        assertThat(cache.cachedResourcesFor("report-resources", this::extractSampleResourcesTo).isPresent(), is(false));
+        assertThat(extractions.get(), is(0));
+    }
+
+    @Test
+    public void resources_should_not_be_cached_when_caching_is_disabled() throws IOException {
+        ReportResourceCache cache = new ReportResourceCache(temporaryFolder.newFolder("cache").toPath(), "4.2.0", false);
+
+        assertThat(cache.cachedResourcesFor("report-resources", this::extractSampleResourcesTo).isPresent(), is(false));
+    }
+}
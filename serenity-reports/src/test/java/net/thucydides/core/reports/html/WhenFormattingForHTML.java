@@ -702,4 +702,23 @@ public class WhenFormattingForHTML {
 
     }
 
+    @Test
+    public void should_pretty_print_json_response_bodies_when_rendering() {
+        Formatter formatter = new Formatter(new MockEnvironmentVariables());
+
+        String formattedValue = formatter.renderBody("{\"name\":\"Joe\",\"age\":42}");
+
+        assertThat(formattedValue, containsString("<br>"));
+        assertThat(formattedValue, containsString("&quot;name&quot;: &quot;Joe&quot;"));
+    }
+
+    @Test
+    public void should_render_truncated_or_non_json_response_bodies_as_is() {
+        Formatter formatter = new Formatter(new MockEnvironmentVariables());
+
+        assertThat(formatter.renderBody("{\"name\":\"Jo"), is("{&quot;name&quot;:&quot;Jo"));
+        assertThat(formatter.renderBody("plain text"), is("plain text"));
+        assertThat(formatter.renderBody(null), is(""));
+    }
+
 }
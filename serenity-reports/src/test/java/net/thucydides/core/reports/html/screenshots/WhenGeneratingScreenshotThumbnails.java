@@ -0,0 +1,91 @@
+package net.thucydides.core.reports.html.screenshots;
+
+import net.thucydides.core.util.ExtendedTemporaryFolder;
+import net.thucydides.model.images.ResizableImage;
+import net.thucydides.model.util.FileSystemUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class WhenGeneratingScreenshotThumbnails {
+
+    @Rule
+    public ExtendedTemporaryFolder folder = new ExtendedTemporaryFolder();
+
+    private File reportDirectory;
+
+    @Before
+    public void setupWorkingDirectory() throws IOException {
+        reportDirectory = folder.newFolder("report");
+        File screenshotsSourceDirectory = FileSystemUtils.getResourceAsFile("screenshots");
+        for (File screenshot : screenshotsSourceDirectory.listFiles()) {
+            Path file = screenshot.toPath();
+            Files.copy(file, reportDirectory.toPath().resolve(file.getFileName()));
+        }
+    }
+
+    private Set<String> screenshots(String... names) {
+        return new LinkedHashSet<>(Arrays.asList(names));
+    }
+
+    @Test
+    public void should_scale_screenshots_down_to_the_thumbnail_height() throws IOException {
+        ScreenshotThumbnails thumbnails = new ScreenshotThumbnails(reportDirectory, true, 256, 2);
+
+        int created = thumbnails.generateFor(screenshots("google_page_1.png", "wikipedia-search.png"));
+
+        assertThat(created, is(2));
+        ResizableImage thumbnail = ResizableImage.loadFrom(new File(reportDirectory, "thumbnail_google_page_1.png"));
+        assertThat(thumbnail.getHeight(), is(ScreenshotThumbnails.THUMBNAIL_HEIGHT));
+    }
+
+    @Test
+    public void should_only_generate_each_thumbnail_once() throws IOException {
+        ScreenshotThumbnails thumbnails = new ScreenshotThumbnails(reportDirectory, true, 256, 2);
+
+        thumbnails.generateFor(screenshots("google_page_1.png"));
+        int createdOnSecondRun = thumbnails.generateFor(screenshots("google_page_1.png"));
+
+        assertThat(createdOnSecondRun, is(0));
+    }
+
+    @Test
+    public void should_process_images_larger_than_the_memory_budget_one_at_a_time() throws IOException {
+        ScreenshotThumbnails thumbnails = new ScreenshotThumbnails(reportDirectory, true, 1, 4);
+
+        int created = thumbnails.generateFor(screenshots("google_page_1.png", "google_page_2.png", "google_page_3.png"));
+
+        assertThat(created, is(3));
+    }
+
+    @Test
+    public void should_skip_missing_and_empty_screenshots() throws IOException {
+        ScreenshotThumbnails thumbnails = new ScreenshotThumbnails(reportDirectory, true, 256, 2);
+
+        int created = thumbnails.generateFor(screenshots("empty.png", "does-not-exist.png"));
+
+        assertThat(created, is(0));
+        assertThat(new File(reportDirectory, "thumbnail_empty.png").exists(), is(false));
+    }
+
+    @Test
+    public void should_not_generate_thumbnails_when_disabled() throws IOException {
+        ScreenshotThumbnails thumbnails = new ScreenshotThumbnails(reportDirectory, false, 256, 2);
+
+        int created = thumbnails.generateFor(screenshots("google_page_1.png"));
+
+        assertThat(created, is(0));
+        assertThat(new File(reportDirectory, "thumbnail_google_page_1.png").exists(), is(false));
+    }
+}
@@ -3,9 +3,7 @@ package net.serenitybdd.rest.utils;
 import io.restassured.filter.Filter;
 import io.restassured.filter.log.LogDetail;
 import io.restassured.http.ContentType;
-import io.restassured.internal.support.Prettifier;
 import io.restassured.response.Response;
-import io.restassured.response.ResponseOptions;
 import net.serenitybdd.core.Serenity;
 import net.serenitybdd.model.rest.RestMethod;
 import net.serenitybdd.model.rest.RestQuery;
@@ -20,11 +18,16 @@ import net.thucydides.model.screenshots.ScreenshotAndHtmlSource;
 import net.thucydides.model.steps.ExecutedStepDescription;
 import net.thucydides.model.steps.StepFailure;
 import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static net.thucydides.core.steps.StepEventBus.getEventBus;
 import static org.apache.commons.lang3.ObjectUtils.firstNonNull;
@@ -39,6 +42,8 @@ public class RestReportingHelper {
 
     final int MAX_LOGGABLE_BODY_SIZE = 16 * 1024;
 
+    private static final Pattern CHARSET = Pattern.compile("charset=\"?([^;\"\\s]+)", Pattern.CASE_INSENSITIVE);
+
     private static boolean shouldRecordResponseBodyFor(Response result) {
         final ContentType type = ContentType.fromContentType(result.contentType());
         return type != null && (ContentType.JSON == type || ContentType.XML == type
@@ -86,6 +91,42 @@ public class RestReportingHelper {
                 contentType.startsWith("audio/");
     }
 
+    /**
+     * Decode no more than MAX_LOGGABLE_BODY_SIZE bytes of the response body, rather than converting a potentially
+     * multi-megabyte payload only to throw most of it away. The body is read through the response's own buffer,
+     * so it can still be read by the test afterwards. It is stored as it was received: the reports pretty-print
+     * it when they display it.
+     */
+    String recordedBodyOf(final Response response) {
+        byte[] body = response.asByteArray();
+        if (body == null) {
+            return "";
+        }
+        Charset charset = charsetOf(response.contentType());
+        if (body.length <= MAX_LOGGABLE_BODY_SIZE) {
+            return new String(body, charset);
+        }
+        return StringUtils.stripEnd(new String(body, 0, MAX_LOGGABLE_BODY_SIZE, charset), "\uFFFD") + truncationNotice();
+    }
+
+    private String truncationNotice() {
+        return "\n\n[Response truncated - exceeded " + MAX_LOGGABLE_BODY_SIZE + " bytes]";
+    }
+
+    private Charset charsetOf(String contentType) {
+        if (contentType != null) {
+            Matcher charset = CHARSET.matcher(contentType);
+            if (charset.find()) {
+                try {
+                    return Charset.forName(charset.group(1));
+                } catch (IllegalArgumentException unsupportedCharset) {
+                    return StandardCharsets.UTF_8;
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
     public void registerCall(final RestMethod method, final Response response,
                              final RequestSpecificationDecorated spec,
                              final String path, final Object... params) {
@@ -102,16 +143,7 @@ public class RestReportingHelper {
                 // Don't record binary response bodies - they bloat reports and aren't human-readable
                 restQuery = restQuery.withResponse("[Binary content omitted - Content-Type: " + responseContentType + "]");
             } else {
-                String renderedBody = new Prettifier().getPrettifiedBodyIfPossible(
-                        (ResponseOptions) response.getBody(), response.getBody());
-                String responseBody = renderedBody.isEmpty() ? response.asString() : renderedBody;
-
-                // Truncate large responses to prevent massive report files
-                if (responseBody.length() > MAX_LOGGABLE_BODY_SIZE) {
-                    responseBody = responseBody.substring(0, MAX_LOGGABLE_BODY_SIZE) +
-                                   "\n\n[Response truncated - exceeded " + MAX_LOGGABLE_BODY_SIZE + " bytes]";
-                }
-
+                String responseBody = recordedBodyOf(response);
                 restQuery = restQuery.withResponse(responseBody);
             }
         }
@@ -10,6 +10,7 @@ import java.io.PrintStream;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.regex.Pattern;
 
 /**
  * User: YamStranger
@@ -17,6 +18,12 @@ import java.util.*;
  * Time: 1:25 AM
  */
 public class RestResponseRecordingHelper {
+    private static final Pattern SECTION_TITLE = Pattern.compile("^(" +
+            "(Proxy:)|(Body:)|(Cookies:)|(Headers:)|(Multiparts:)|(Request path:)" +
+            ")\\s*\\n*");
+    private static final Pattern NO_VALUE = Pattern.compile("^(<none>)");
+    private static final Pattern TRAILING_NEW_LINE = Pattern.compile("\n$");
+
     private final List<LogDetail> logDetail;
     private final boolean shouldPrettyPrint;
     private Set<String> blackListedHeaders;
@@ -42,11 +49,9 @@ public class RestResponseRecordingHelper {
                     recordingStream.flush();
                     String recorded = new String(output.toByteArray(), StandardCharsets.UTF_8);
                     output.reset();
-                    recorded = recorded.replaceAll("^(" +
-                            "(Proxy:)|(Body:)|(Cookies:)|(Headers:)|(Multiparts:)|(Request path:)" +
-                            ")\\s*\\n*", "");
-                    recorded = recorded.replaceAll("^(<none>)", "");
-                    recorded = recorded.replaceAll("\n$", "");
+                    recorded = SECTION_TITLE.matcher(recorded).replaceAll("");
+                    recorded = NO_VALUE.matcher(recorded).replaceAll("");
+                    recorded = TRAILING_NEW_LINE.matcher(recorded).replaceAll("");
                     result.put(detail, recorded);
 
                 }
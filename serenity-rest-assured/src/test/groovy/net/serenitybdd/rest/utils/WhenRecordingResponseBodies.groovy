@@ -0,0 +1,66 @@
+package net.serenitybdd.rest.utils
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule
+import io.restassured.RestAssured
+import io.restassured.response.Response
+import org.junit.Rule
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*
+
+class WhenRecordingResponseBodies extends Specification {
+
+    @Rule
+    WireMockRule wire = new WireMockRule(0)
+
+    def helper = new RestReportingHelper()
+
+    def "bodies are recorded as they were received, and pretty-printed only when the report is rendered"() {
+        given:
+        def response = responseWith("application/json", '{"name":"Joe","age":42}')
+        when:
+        def recordedBody = helper.recordedBodyOf(response)
+        then:
+        recordedBody == '{"name":"Joe","age":42}'
+    }
+
+    def "large bodies should be cut at the size limit"() {
+        given:
+        def size = helper.MAX_LOGGABLE_BODY_SIZE * 4
+        def response = responseWith("text/plain", "x" * size)
+        when:
+        def recordedBody = helper.recordedBodyOf(response)
+        then:
+        recordedBody.startsWith("x" * helper.MAX_LOGGABLE_BODY_SIZE)
+        !recordedBody.startsWith("x" * (helper.MAX_LOGGABLE_BODY_SIZE + 1))
+        recordedBody.endsWith("[Response truncated - exceeded " + helper.MAX_LOGGABLE_BODY_SIZE + " bytes]")
+    }
+
+    def "the body of a real response can still be read by the test after it has been recorded"() {
+        given:
+        def body = '{"items":[' + (1..2000).collect { '{"id":' + it + '}' }.join(",") + ']}'
+        stubFor(get(urlEqualTo("/items"))
+                .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody(body)))
+        def response = RestAssured.get("http://localhost:${wire.port()}/items")
+        when:
+        def recordedBody = helper.recordedBodyOf(response)
+        then:
+        recordedBody.startsWith('{"items":[{"id":1}')
+        recordedBody.contains("[Response truncated")
+        and:
+        response.asString() == body
+        response.jsonPath().getList("items").size() == 2000
+    }
+
+    private Response responseWith(String type, String body) {
+        Stub(Response) {
+            contentType() >> type
+            asByteArray() >> body.getBytes(StandardCharsets.UTF_8)
+        }
+    }
+}
@@ -32,7 +32,13 @@ public enum PlayWrightConfigurationProperties {
      * Slows down Playwright operations by the specified amount of milliseconds.
      * Useful for debugging.
      */
-    SLOW_MO("playwright.slowmo");
+    SLOW_MO("playwright.slowmo"),
+
+    /**
+     * How long, in seconds, a cached authenticated session remains valid before the login is performed again.
+     * Defaults to 30 minutes.
+     */
+    SESSION_CACHE_TTL("playwright.session.cache.ttl");
 
     private final String property;
 
@@ -48,6 +54,10 @@ public enum PlayWrightConfigurationProperties {
         return environmentVariables.optionalProperty(property).map(Boolean::valueOf);
     }
 
+    public Optional<Long> asLongFrom(EnvironmentVariables environmentVariables) {
+        return environmentVariables.optionalProperty(property).map(value -> Long.valueOf(value.trim()));
+    }
+
     public Optional<Double> asDoubleFrom(EnvironmentVariables environmentVariables) {
         return environmentVariables.optionalProperty(property).map(Double::valueOf);
     }
@@ -1,11 +1,15 @@
 package net.serenitybdd.screenplay.playwright.abilities;
 
 import com.google.common.eventbus.Subscribe;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import com.microsoft.playwright.*;
 import com.microsoft.playwright.junit.Options;
 import com.microsoft.playwright.junit.OptionsFactory;
 import net.serenitybdd.core.eventbus.Broadcaster;
 import net.serenitybdd.model.environment.ConfiguredEnvironment;
+import net.serenitybdd.playwright.PlaywrightBrowserPool;
 import net.serenitybdd.playwright.PlaywrightSerenity;
 import net.serenitybdd.screenplay.Ability;
 import net.serenitybdd.screenplay.Actor;
@@ -34,6 +38,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -64,6 +69,7 @@ public class BrowseTheWebWithPlaywright implements Ability, RefersToActor, HasTe
     Browser.NewContextOptions contextOptions;
     private static final String TRACES_PATH = "target/playwright/traces";
     boolean tracingEnabled;
+    private int replacedContexts;
     String traceName;
 
     private final Optional<String> browserType;
@@ -71,6 +77,8 @@ public class BrowseTheWebWithPlaywright implements Ability, RefersToActor, HasTe
 
     private static final String DEFAULT_BROWSER_TYPE = "chromium";
 
+    private static final Duration DEFAULT_SESSION_CACHE_TTL = Duration.ofMinutes(30);
+
     /**
      * Tracks whether the Page is owned externally (e.g. provided by @UsePlaywright).
      * When true, tearDown() will not close the Page, Context, Browser, or Playwright
@@ -144,7 +152,7 @@ public class BrowseTheWebWithPlaywright implements Ability, RefersToActor, HasTe
     /**
      * A BrowserContext is an isolated incognito-alike session within a browser instance.
      */
-    private BrowserContext getCurrentContext() {
+    public BrowserContext getCurrentContext() {
         if (currentContext == null) {
             if (currentPage != null) {
                 currentContext = currentPage.context();
@@ -184,24 +192,7 @@ public class BrowseTheWebWithPlaywright implements Ability, RefersToActor, HasTe
             // Add tracing details to debug tests with trace viewer: https://playwright.dev/java/docs/trace-viewer
             tracingEnabled = TRACING.asBooleanFrom(environmentVariables).orElse(false);
             if (tracingEnabled) {
-                Tracing.StartOptions tracingOptions = new Tracing.StartOptions()
-                    .setScreenshots(true)
-                    .setSnapshots(true);
-
-                Optional<String> guessedTestName;
-                Optional<TestOutcome> latestOutcome = StepEventBus.getParallelEventBus().getBaseStepListener().latestTestOutcome();
-
-                guessedTestName = latestOutcome.map(
-                    testOutcome -> Optional.of(testOutcome.getStoryTitle() + " - " + testOutcome.getTitle())
-                ).orElseGet(RemoteTestName::fromCurrentTest);
-
-                guessedTestName.ifPresent(name -> {
-                    traceName = name;
-                    tracingOptions.setName(name);
-                    tracingOptions.setTitle(name);
-                });
-
-                getCurrentContext().tracing().start(tracingOptions);
+                startTracing(getCurrentContext());
             }
 
             currentPage = getCurrentContext().newPage();
@@ -212,6 +203,37 @@ public class BrowseTheWebWithPlaywright implements Ability, RefersToActor, HasTe
         return currentPage;
     }
 
+    private void startTracing(BrowserContext context) {
+        Tracing.StartOptions tracingOptions = new Tracing.StartOptions()
+            .setScreenshots(true)
+            .setSnapshots(true);
+
+        Optional<String> guessedTestName;
+        Optional<TestOutcome> latestOutcome = StepEventBus.getParallelEventBus().getBaseStepListener().latestTestOutcome();
+
+        guessedTestName = latestOutcome.map(
+            testOutcome -> Optional.of(testOutcome.getStoryTitle() + " - " + testOutcome.getTitle())
+        ).orElseGet(RemoteTestName::fromCurrentTest);
+
+        guessedTestName.ifPresent(name -> {
+            traceName = name;
+            tracingOptions.setName(name);
+            tracingOptions.setTitle(name);
+        });
+
+        context.tracing().start(tracingOptions);
+    }
+
+    private void stopTracing(BrowserContext context, String name) {
+        try {
+            context.tracing().stop(
+                new Tracing.StopOptions().setPath(Paths.get(String.format("%s/%s.zip", TRACES_PATH, name)))
+            );
+        } catch (Exception e) {
+            LOGGER.debug("Failed to stop tracing: {}", e.getMessage());
+        }
+    }
+
     private final static Map<String, Function<Playwright, BrowserType>> OPEN_BROWSER = new HashMap<>();
 
     static {
@@ -225,6 +247,12 @@ public class BrowseTheWebWithPlaywright implements Ability, RefersToActor, HasTe
      * You can define the browser in the environment variables using playwright.browsertype
      */
     private Browser initialiseBrowser() {
+        if (usesBrowserPool()) {
+            if (!OPEN_BROWSER.containsKey(configuredBrowser())) {
+                throw new InvalidPlaywrightBrowserType(configuredBrowser());
+            }
+            return PlaywrightBrowserPool.instance().browserFor(configuredBrowser(), resolveLaunchOptions(), environmentVariables);
+        }
         if (playwright == null) {
             playwright = (playwrightOptions != null)
                     ? net.serenitybdd.playwright.PlaywrightOptionsResolver.createPlaywright(playwrightOptions)
@@ -241,6 +269,15 @@ public class BrowseTheWebWithPlaywright implements Ability, RefersToActor, HasTe
         return bt.launch(resolved);
     }
 
+    /**
+     * When {@code playwright.browser.sharing} is enabled, the browser comes from the shared
+     * {@link PlaywrightBrowserPool} and only the context and pages belong to this ability.
+     */
+    private boolean usesBrowserPool() {
+        return PlaywrightBrowserPool.isEnabledIn(environmentVariables)
+                && (playwrightOptions == null || playwrightOptions.wsEndpoint == null || playwrightOptions.wsEndpoint.isEmpty());
+    }
+
     private String configuredBrowser() {
         return browserType.orElse(DEFAULT_BROWSER_TYPE);
     }
@@ -368,7 +405,8 @@ public class BrowseTheWebWithPlaywright implements Ability, RefersToActor, HasTe
     public void testFinishes(TestLifecycleEvents.TestFinished testFinished) {
         // Take screenshot and capture evidence for failed test
         boolean hasPage = currentPage != null && !currentPage.isClosed();
-        boolean hasPlaywrightOrExternal = playwright != null || externallyManaged;
+        boolean hasPlaywrightOrExternal = playwright != null || externallyManaged
+                || PlaywrightBrowserPool.instance().isPooled(browser);
         if (hasPlaywrightOrExternal && hasPage) {
             BaseStepListener baseStepListener = StepEventBus.getParallelEventBus().getBaseStepListener();
 
@@ -417,13 +455,7 @@ public class BrowseTheWebWithPlaywright implements Ability, RefersToActor, HasTe
 
         // Stop tracing before browser is closed
         if (currentContext != null && tracingEnabled) {
-            try {
-                currentContext.tracing().stop(
-                    new Tracing.StopOptions().setPath(Paths.get(String.format("%s/%s.zip", TRACES_PATH, traceName)))
-                );
-            } catch (Exception e) {
-                LOGGER.debug("Failed to stop tracing: {}", e.getMessage());
-            }
+            stopTracing(currentContext, traceName);
         }
 
         // Unregister and close all pages in the context
@@ -451,6 +483,11 @@ public class BrowseTheWebWithPlaywright implements Ability, RefersToActor, HasTe
             currentContext = null;
         }
 
+        // Pooled browsers outlive the test, and are closed when the JVM shuts down
+        if (PlaywrightBrowserPool.instance().isPooled(browser)) {
+            browser = null;
+        }
+
         // Close the browser
         if (browser != null) {
             try {
@@ -659,6 +696,115 @@ public class BrowseTheWebWithPlaywright implements Ability, RefersToActor, HasTe
         this.currentPage = page;
     }
 
+    /**
+     * Replace the current browser context with a new one that starts from the given storage state
+     * (as produced by {@link BrowserContext#storageState()}).
+     */
+    public void restoreStorageState(String storageState) {
+        Browser.NewContextOptions options = Optional.ofNullable(resolveContextOptions()).orElseGet(Browser.NewContextOptions::new);
+        String originalStorageState = options.storageState;
+        try {
+            replaceCurrentContext(options.setStorageState(storageState));
+        } finally {
+            options.storageState = originalStorageState;
+        }
+    }
+
+    /**
+     * Replace the current browser context with a new one that starts from the storage state saved in the given file.
+     */
+    public void restoreStorageState(Path storageStatePath) {
+        Browser.NewContextOptions options = Optional.ofNullable(resolveContextOptions()).orElseGet(Browser.NewContextOptions::new);
+        Path originalStorageStatePath = options.storageStatePath;
+        try {
+            replaceCurrentContext(options.setStorageStatePath(storageStatePath));
+        } finally {
+            options.storageStatePath = originalStorageStatePath;
+        }
+    }
+
+    /**
+     * When tracing, the trace of the replaced context is saved under a name of its own, and the new context is traced
+     * in the same way as the original one, so that the trace saved at teardown covers the rest of the test.
+     */
+    private void replaceCurrentContext(Browser.NewContextOptions options) {
+        if (currentContext != null) {
+            if (tracingEnabled) {
+                stopTracing(currentContext, traceName + " - before session restore " + (++replacedContexts));
+            }
+            for (Page page : currentContext.pages()) {
+                PlaywrightSerenity.unregisterPage(page);
+            }
+            try {
+                currentContext.close();
+            } catch (Exception e) {
+                LOGGER.debug("Failed to close browser context: {}", e.getMessage());
+            }
+        }
+        currentContext = getBrowser().newContext(options);
+        if (tracingEnabled) {
+            startTracing(currentContext);
+        }
+        currentPage = currentContext.newPage();
+        PlaywrightSerenity.registerPage(currentPage);
+    }
+
+    /**
+     * Start the session for the given user or role from the shared {@link StorageStateCache}.
+     * <p>
+     * The first actor to ask for a role (for the configured base URL) performs the login and records the resulting
+     * storage state. Later actors, in this or any other thread, start from a new context that is already
+     * authenticated, until the cached state is older than {@code playwright.session.cache.ttl} seconds.
+     * The state is only cached if the login left no failed step behind and recorded some cookies or local storage;
+     * otherwise the next actor logs in again.
+     * </p>
+     *
+     * @param role  the user or role the session belongs to
+     * @param login performs the login in the current context
+     */
+    public void useCachedSession(String role, Runnable login) {
+        Browser.NewContextOptions options = resolveContextOptions();
+        String key = StorageStateCache.keyFor(role, (options != null) ? options.baseURL : null);
+
+        StorageStateCache.CacheResult session = StorageStateCache.instance().stateFor(key, sessionCacheTimeToLive(), () -> {
+            login.run();
+            String storageState = getCurrentContext().storageState();
+            if (StepEventBus.getParallelEventBus().aStepInTheCurrentTestHasFailed() || !holdsASession(storageState)) {
+                LOGGER.debug("The login for {} did not record a usable session, so it will not be cached", key);
+                return null;
+            }
+            return storageState;
+        });
+        if (!session.isFreshLogin()) {
+            restoreStorageState(session.getStorageState());
+        }
+    }
+
+    /**
+     * Whether the storage state holds any cookies or local storage, as a failed login usually leaves none.
+     */
+    static boolean holdsASession(String storageState) {
+        if (storageState == null || storageState.isBlank()) {
+            return false;
+        }
+        try {
+            JsonObject state = JsonParser.parseString(storageState).getAsJsonObject();
+            return isNonEmptyArray(state.get("cookies")) || isNonEmptyArray(state.get("origins"));
+        } catch (RuntimeException unexpectedFormat) {
+            return true;
+        }
+    }
+
+    private static boolean isNonEmptyArray(JsonElement element) {
+        return element != null && element.isJsonArray() && element.getAsJsonArray().size() > 0;
+    }
+
+    private Duration sessionCacheTimeToLive() {
+        return SESSION_CACHE_TTL.asLongFrom(environmentVariables)
+                .map(Duration::ofSeconds)
+                .orElse(DEFAULT_SESSION_CACHE_TTL);
+    }
+
     /**
      * Get the APIRequestContext for making API calls within the browser session.
      * This allows API testing with the same cookies and authentication as the browser.
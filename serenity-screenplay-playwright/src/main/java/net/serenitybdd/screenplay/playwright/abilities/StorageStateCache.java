@@ -0,0 +1,136 @@
+package net.serenitybdd.screenplay.playwright.abilities;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * A JVM-wide cache of authenticated Playwright storage states, keyed by user or role and base URL.
+ * A storage state only holds cookies and localStorage: sessions kept in sessionStorage are not cached,
+ * and must be logged into again in each new browser context.
+ * <p>
+ * The first thread to ask for a missing or expired entry performs the login and records the resulting state;
+ * other threads asking for the same key at the same time wait for that login rather than logging in themselves.
+ * If the login fails, or does not produce a session worth keeping, the entry is discarded so that the next caller
+ * can try again.
+ * </p>
+ */
+public class StorageStateCache {
+
+    private static final StorageStateCache INSTANCE = new StorageStateCache(Clock.systemUTC());
+
+    private final Map<String, CompletableFuture<CachedState>> states = new ConcurrentHashMap<>();
+    private final Clock clock;
+
+    StorageStateCache(Clock clock) {
+        this.clock = clock;
+    }
+
+    public static StorageStateCache instance() {
+        return INSTANCE;
+    }
+
+    public static String keyFor(String role, String baseUrl) {
+        return role + "@" + Optional.ofNullable(baseUrl).orElse("");
+    }
+
+    /**
+     * Returns the cached storage state for the given key, if one exists and is younger than the time to live.
+     * If there is none, {@code login} is invoked to produce it, unless another thread is already doing so,
+     * in which case this call waits for the other thread's result. If {@code login} returns null, nothing is cached,
+     * and threads waiting for this login log in for themselves.
+     *
+     * @return the storage state, and whether it was produced by this call (in which case the caller is
+     * already logged in and does not need to restore it)
+     */
+    public CacheResult stateFor(String key, Duration timeToLive, Supplier<String> login) {
+        while (true) {
+            CompletableFuture<CachedState> cached = states.get(key);
+            if (cached != null) {
+                Optional<CachedState> state = awaitQuietly(cached);
+                if (state.isPresent() && !state.get().hasExpired(clock.instant(), timeToLive)) {
+                    return new CacheResult(state.get().storageState, false);
+                }
+                // Expired or failed: let one thread replace it
+                states.remove(key, cached);
+                continue;
+            }
+
+            CompletableFuture<CachedState> ours = new CompletableFuture<>();
+            if (states.putIfAbsent(key, ours) != null) {
+                continue;
+            }
+            try {
+                String storageState = login.get();
+                if (storageState == null) {
+                    states.remove(key, ours);
+                    ours.completeExceptionally(new IllegalStateException("No session was recorded for " + key));
+                    return new CacheResult(null, true);
+                }
+                ours.complete(new CachedState(storageState, clock.instant()));
+                return new CacheResult(storageState, true);
+            } catch (RuntimeException | Error loginFailed) {
+                states.remove(key, ours);
+                ours.completeExceptionally(loginFailed);
+                throw loginFailed;
+            }
+        }
+    }
+
+    private Optional<CachedState> awaitQuietly(CompletableFuture<CachedState> cached) {
+        try {
+            return Optional.of(cached.join());
+        } catch (CompletionException loginFailedInAnotherThread) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Forget the cached state for a key, for example after the application has logged the user out.
+     */
+    public void invalidate(String key) {
+        states.remove(key);
+    }
+
+    public void clear() {
+        states.clear();
+    }
+
+    public static class CacheResult {
+        private final String storageState;
+        private final boolean freshLogin;
+
+        CacheResult(String storageState, boolean freshLogin) {
+            this.storageState = storageState;
+            this.freshLogin = freshLogin;
+        }
+
+        public String getStorageState() {
+            return storageState;
+        }
+
+        public boolean isFreshLogin() {
+            return freshLogin;
+        }
+    }
+
+    private static class CachedState {
+        private final String storageState;
+        private final Instant recordedAt;
+
+        private CachedState(String storageState, Instant recordedAt) {
+            this.storageState = storageState;
+            this.recordedAt = recordedAt;
+        }
+
+        private boolean hasExpired(Instant now, Duration timeToLive) {
+            return recordedAt.plus(timeToLive).isBefore(now);
+        }
+    }
+}
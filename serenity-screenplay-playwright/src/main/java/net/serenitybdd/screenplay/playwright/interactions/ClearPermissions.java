@@ -35,7 +35,7 @@ public class ClearPermissions implements Performable {
         BrowseTheWebWithPlaywright ability = BrowseTheWebWithPlaywright.as(actor);
         // Ensure page exists to get context
         ability.getCurrentPage();
-        BrowserContext context = ability.getBrowser().contexts().get(0);
+        BrowserContext context = ability.getCurrentContext();
         context.clearPermissions();
     }
 }
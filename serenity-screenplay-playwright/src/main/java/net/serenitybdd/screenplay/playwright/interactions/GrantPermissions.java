@@ -117,7 +117,7 @@ public class GrantPermissions implements Performable {
         BrowseTheWebWithPlaywright ability = BrowseTheWebWithPlaywright.as(actor);
         // Ensure page exists to get context
         ability.getCurrentPage();
-        BrowserContext context = ability.getBrowser().contexts().get(0);
+        BrowserContext context = ability.getCurrentContext();
 
         BrowserContext.GrantPermissionsOptions options = new BrowserContext.GrantPermissionsOptions();
         if (origin != null) {
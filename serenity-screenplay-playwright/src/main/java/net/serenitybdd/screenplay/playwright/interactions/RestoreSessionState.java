@@ -1,10 +1,6 @@
 package net.serenitybdd.screenplay.playwright.interactions;
 
-import com.microsoft.playwright.Browser;
-import com.microsoft.playwright.BrowserContext;
-import com.microsoft.playwright.Page;
 import net.serenitybdd.annotations.Step;
-import net.serenitybdd.playwright.PlaywrightSerenity;
 import net.serenitybdd.screenplay.Actor;
 import net.serenitybdd.screenplay.Performable;
 import net.serenitybdd.screenplay.playwright.abilities.BrowseTheWebWithPlaywright;
@@ -43,7 +39,7 @@ import java.nio.file.Paths;
  * </pre>
  *
  * <p><strong>Important:</strong> This interaction creates a new browser context with the saved state.
- * Any existing pages will be closed. Call this early in your test setup.</p>
+ * Any existing pages in the actor's current context will be closed. Call this early in your test setup.</p>
  *
  * @see SaveSessionState
  * @see <a href="https://playwright.dev/java/docs/auth">Playwright Authentication</a>
@@ -95,32 +91,7 @@ public class RestoreSessionState implements Performable {
             );
         }
 
-        BrowseTheWebWithPlaywright ability = BrowseTheWebWithPlaywright.as(actor);
-        Browser browser = ability.getBrowser();
-
-        // Close existing context and pages if any
-        if (!browser.contexts().isEmpty()) {
-            for (BrowserContext existingContext : browser.contexts()) {
-                for (Page page : existingContext.pages()) {
-                    PlaywrightSerenity.unregisterPage(page);
-                }
-                existingContext.close();
-            }
-        }
-
-        // Create new context with the saved storage state
-        Browser.NewContextOptions contextOptions = new Browser.NewContextOptions()
-            .setStorageStatePath(inputPath);
-
-        BrowserContext newContext = browser.newContext(contextOptions);
-
-        // Create a new page in the restored context
-        Page newPage = newContext.newPage();
-        PlaywrightSerenity.registerPage(newPage);
-
-        // Update the ability to use the new context and page
-        // Note: This requires accessing internal state, so we use reflection or a helper method
-        ability.setRestoredContext(newContext, newPage);
+        BrowseTheWebWithPlaywright.as(actor).restoreStorageState(inputPath);
     }
 
     /**
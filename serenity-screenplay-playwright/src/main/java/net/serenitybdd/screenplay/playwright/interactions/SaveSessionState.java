@@ -86,7 +86,7 @@ public class SaveSessionState implements Performable {
         ability.getCurrentPage();
 
         // Get the browser context
-        BrowserContext context = ability.getBrowser().contexts().get(0);
+        BrowserContext context = ability.getCurrentContext();
 
         // Ensure directory exists
         if (outputPath.getParent() != null) {
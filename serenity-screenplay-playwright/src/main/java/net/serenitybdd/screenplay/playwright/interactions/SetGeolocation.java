@@ -122,7 +122,7 @@ public class SetGeolocation implements Performable {
         BrowseTheWebWithPlaywright ability = BrowseTheWebWithPlaywright.as(actor);
         // Ensure page exists to get context
         ability.getCurrentPage();
-        BrowserContext context = ability.getBrowser().contexts().get(0);
+        BrowserContext context = ability.getCurrentContext();
 
         if (clear) {
             context.setGeolocation(null);
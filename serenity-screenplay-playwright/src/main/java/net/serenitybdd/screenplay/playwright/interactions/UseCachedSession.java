@@ -0,0 +1,68 @@
+package net.serenitybdd.screenplay.playwright.interactions;
+
+import net.serenitybdd.annotations.Step;
+import net.serenitybdd.screenplay.Actor;
+import net.serenitybdd.screenplay.Performable;
+import net.serenitybdd.screenplay.playwright.abilities.BrowseTheWebWithPlaywright;
+import net.serenitybdd.screenplay.playwright.abilities.StorageStateCache;
+
+/**
+ * Start the actor's browser session from a cached, already authenticated storage state.
+ * <p>
+ * Unlike {@link SaveSessionState} and {@link RestoreSessionState}, no files need to be managed: the first actor to
+ * use a given role performs the login task and the resulting state is cached in memory, keyed by role and base URL.
+ * Every later actor using the same role starts from a new, pre-authenticated browser context.
+ * Concurrent actors wait for the first login rather than logging in at the same time.
+ * </p>
+ *
+ * <p>Sample usage:</p>
+ * <pre>
+ *     actor.attemptsTo(
+ *         UseCachedSession.as("admin").loggingInWith(
+ *             Navigate.to(loginPage),
+ *             Enter.theValue("admin@example.com").into("#email"),
+ *             Enter.theValue("password").into("#password"),
+ *             Click.on("#login-btn")
+ *         )
+ *     );
+ * </pre>
+ *
+ * <p>Cached sessions expire after {@code playwright.session.cache.ttl} seconds (30 minutes by default).</p>
+ *
+ * @see StorageStateCache
+ */
+public class UseCachedSession implements Performable {
+
+    private final String role;
+    private final Performable[] login;
+
+    private UseCachedSession(String role, Performable[] login) {
+        this.role = role;
+        this.login = login;
+    }
+
+    public static UseCachedSessionBuilder as(String role) {
+        return new UseCachedSessionBuilder(role);
+    }
+
+    @Override
+    @Step("{0} starts a cached session as #role")
+    public <T extends Actor> void performAs(T actor) {
+        BrowseTheWebWithPlaywright.as(actor).useCachedSession(role, () -> actor.attemptsTo(login));
+    }
+
+    public static class UseCachedSessionBuilder {
+        private final String role;
+
+        UseCachedSessionBuilder(String role) {
+            this.role = role;
+        }
+
+        /**
+         * The tasks that log the actor in, performed only when there is no valid cached session for this role.
+         */
+        public UseCachedSession loggingInWith(Performable... login) {
+            return new UseCachedSession(role, login);
+        }
+    }
+}
@@ -103,7 +103,7 @@ public class StartTracing implements Performable {
         BrowseTheWebWithPlaywright ability = BrowseTheWebWithPlaywright.as(actor);
         // Ensure page exists to get the context
         ability.getCurrentPage();
-        BrowserContext context = ability.getBrowser().contexts().get(0);
+        BrowserContext context = ability.getCurrentContext();
 
         Tracing.StartOptions options = new Tracing.StartOptions()
             .setScreenshots(screenshots)
@@ -68,7 +68,7 @@ public class StopTracing implements Performable {
     @Step("{0} stops tracing and saves to #outputPath")
     public <T extends Actor> void performAs(T actor) {
         BrowseTheWebWithPlaywright ability = BrowseTheWebWithPlaywright.as(actor);
-        BrowserContext context = ability.getBrowser().contexts().get(0);
+        BrowserContext context = ability.getCurrentContext();
 
         // Ensure directory exists
         outputPath.getParent().toFile().mkdirs();
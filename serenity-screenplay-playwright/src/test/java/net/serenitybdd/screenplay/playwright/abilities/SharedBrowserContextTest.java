@@ -0,0 +1,109 @@
+package net.serenitybdd.screenplay.playwright.abilities;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import net.serenitybdd.junit5.SerenityJUnit5Extension;
+import net.serenitybdd.playwright.PlaywrightBrowserPool;
+import net.serenitybdd.screenplay.Actor;
+import net.serenitybdd.screenplay.playwright.interactions.Open;
+import net.serenitybdd.screenplay.playwright.interactions.tracing.StartTracing;
+import net.serenitybdd.screenplay.playwright.interactions.tracing.StopTracing;
+import net.thucydides.model.environment.MockEnvironmentVariables;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the browser contexts of actors sharing a pooled browser.
+ * <p>
+ * Actors that share a browser must each work in their own context, and only their own context must be closed
+ * when they are done.
+ * </p>
+ */
+@ExtendWith(SerenityJUnit5Extension.class)
+@DisplayName("Browser contexts of actors sharing a pooled browser")
+public class SharedBrowserContextTest {
+
+    Actor alice;
+    Actor bob;
+
+    private void castActorsSharingBrowsers(String sharingMode) {
+        MockEnvironmentVariables environmentVariables = new MockEnvironmentVariables();
+        environmentVariables.setProperty(PlaywrightBrowserPool.BROWSER_SHARING, sharingMode);
+
+        alice = Actor.named("Alice").whoCan(new BrowseTheWebWithPlaywright(environmentVariables));
+        bob = Actor.named("Bob").whoCan(new BrowseTheWebWithPlaywright(environmentVariables));
+        alice.attemptsTo(Open.url("about:blank"));
+        bob.attemptsTo(Open.url("about:blank"));
+    }
+
+    @AfterEach
+    void wrapUp() {
+        if (alice != null) {
+            alice.wrapUp();
+        }
+        if (bob != null) {
+            bob.wrapUp();
+        }
+    }
+
+    @Test
+    void actors_get_their_own_context_in_a_browser_shared_by_the_thread() {
+        castActorsSharingBrowsers("thread");
+
+        shouldUseSeparateContextsInTheSameBrowser();
+    }
+
+    @Test
+    void actors_get_their_own_context_in_a_browser_shared_over_cdp() {
+        castActorsSharingBrowsers("shared");
+
+        shouldUseSeparateContextsInTheSameBrowser();
+    }
+
+    private void shouldUseSeparateContextsInTheSameBrowser() {
+        BrowseTheWebWithPlaywright aliceBrowsing = BrowseTheWebWithPlaywright.as(alice);
+        BrowseTheWebWithPlaywright bobBrowsing = BrowseTheWebWithPlaywright.as(bob);
+
+        assertThat(bobBrowsing.getBrowser()).isSameAs(aliceBrowsing.getBrowser());
+        assertThat(bobBrowsing.getCurrentContext()).isNotSameAs(aliceBrowsing.getCurrentContext());
+        assertThat(bobBrowsing.getCurrentPage().context()).isSameAs(bobBrowsing.getCurrentContext());
+    }
+
+    @Test
+    void tracing_applies_to_the_context_of_the_actor_rather_than_the_first_context_in_the_browser(@TempDir Path traceDirectory) {
+        castActorsSharingBrowsers("shared");
+        Path trace = traceDirectory.resolve("bob-trace.zip");
+
+        bob.attemptsTo(
+                StartTracing.withName("Bob's trace"),
+                Open.url("about:blank"),
+                StopTracing.andSaveTo(trace)
+        );
+
+        assertThat(trace).exists();
+    }
+
+    @Test
+    void tearing_down_one_actor_leaves_the_other_actors_context_and_the_pooled_browser_open() {
+        castActorsSharingBrowsers("shared");
+
+        BrowserContext bobsContext = BrowseTheWebWithPlaywright.as(bob).getCurrentContext();
+        Page alicesPage = BrowseTheWebWithPlaywright.as(alice).getCurrentPage();
+        Page bobsPage = BrowseTheWebWithPlaywright.as(bob).getCurrentPage();
+
+        alice.wrapUp();
+        alice = null;
+
+        assertThat(alicesPage.isClosed()).isTrue();
+        assertThat(bobsPage.isClosed()).isFalse();
+        assertThat(bobsContext.browser().isConnected()).isTrue();
+        assertThat(bobsContext.browser().contexts()).contains(bobsContext);
+    }
+}
@@ -0,0 +1,145 @@
+package net.serenitybdd.screenplay.playwright.abilities;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the in-memory authenticated session cache. These tests do not launch a browser.
+ */
+public class StorageStateCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    private final MutableClock clock = new MutableClock();
+    private final StorageStateCache cache = new StorageStateCache(clock);
+
+    @Test
+    void first_request_performs_the_login() {
+        StorageStateCache.CacheResult result = cache.stateFor("admin@", TTL, () -> "{\"cookies\":[]}");
+
+        assertThat(result.isFreshLogin()).isTrue();
+        assertThat(result.getStorageState()).isEqualTo("{\"cookies\":[]}");
+    }
+
+    @Test
+    void later_requests_reuse_the_cached_state() {
+        AtomicInteger logins = new AtomicInteger();
+
+        cache.stateFor("admin@", TTL, () -> "state-" + logins.incrementAndGet());
+        StorageStateCache.CacheResult result = cache.stateFor("admin@", TTL, () -> "state-" + logins.incrementAndGet());
+
+        assertThat(result.isFreshLogin()).isFalse();
+        assertThat(result.getStorageState()).isEqualTo("state-1");
+        assertThat(logins).hasValue(1);
+    }
+
+    @Test
+    void sessions_are_cached_per_key() {
+        assertThat(StorageStateCache.keyFor("admin", "https://a.example.com"))
+                .isNotEqualTo(StorageStateCache.keyFor("admin", "https://b.example.com"))
+                .isNotEqualTo(StorageStateCache.keyFor("user", "https://a.example.com"));
+    }
+
+    @Test
+    void expired_sessions_are_refreshed() {
+        AtomicInteger logins = new AtomicInteger();
+
+        cache.stateFor("admin@", TTL, () -> "state-" + logins.incrementAndGet());
+        clock.advanceBy(TTL.plusSeconds(1));
+        StorageStateCache.CacheResult result = cache.stateFor("admin@", TTL, () -> "state-" + logins.incrementAndGet());
+
+        assertThat(result.isFreshLogin()).isTrue();
+        assertThat(result.getStorageState()).isEqualTo("state-2");
+    }
+
+    @Test
+    void a_failed_login_is_not_cached() {
+        assertThatThrownBy(() -> cache.stateFor("admin@", TTL, () -> {
+            throw new AssertionError("Login failed");
+        })).isInstanceOf(AssertionError.class);
+
+        StorageStateCache.CacheResult result = cache.stateFor("admin@", TTL, () -> "state");
+
+        assertThat(result.isFreshLogin()).isTrue();
+    }
+
+    @Test
+    void a_login_that_records_no_session_is_not_cached() {
+        StorageStateCache.CacheResult failedLogin = cache.stateFor("admin@", TTL, () -> null);
+
+        StorageStateCache.CacheResult result = cache.stateFor("admin@", TTL, () -> "state");
+
+        assertThat(failedLogin.isFreshLogin()).isTrue();
+        assertThat(result.isFreshLogin()).isTrue();
+        assertThat(result.getStorageState()).isEqualTo("state");
+    }
+
+    @Test
+    void only_storage_states_with_cookies_or_local_storage_are_worth_caching() {
+        assertThat(BrowseTheWebWithPlaywright.holdsASession("{\"cookies\":[],\"origins\":[]}")).isFalse();
+        assertThat(BrowseTheWebWithPlaywright.holdsASession("")).isFalse();
+        assertThat(BrowseTheWebWithPlaywright.holdsASession("{\"cookies\":[{\"name\":\"session\",\"value\":\"abc\"}],\"origins\":[]}")).isTrue();
+        assertThat(BrowseTheWebWithPlaywright.holdsASession("{\"cookies\":[],\"origins\":[{\"origin\":\"https://example.com\",\"localStorage\":[]}]}")).isTrue();
+    }
+
+    @Test
+    void concurrent_requests_only_log_in_once() throws Exception {
+        AtomicInteger logins = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<StorageStateCache.CacheResult>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.stateFor("admin@", TTL, () -> {
+                        logins.incrementAndGet();
+                        return "state";
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<StorageStateCache.CacheResult> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS).getStorageState()).isEqualTo("state");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(logins).hasValue(1);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advanceBy(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
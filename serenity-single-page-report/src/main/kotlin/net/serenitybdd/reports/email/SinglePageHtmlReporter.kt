@@ -5,6 +5,7 @@ import net.serenitybdd.reports.email.templates.ThymeleafTemplateEngine
 import net.serenitybdd.reports.io.testOutcomesIn
 import net.serenitybdd.reports.model.*
 import net.thucydides.core.reports.ExtendedReport
+import net.thucydides.model.reports.SharedTestOutcomes
 import net.thucydides.model.reports.TestOutcomes
 import net.thucydides.model.util.EnvironmentVariables
 import org.slf4j.LoggerFactory
@@ -40,9 +41,20 @@ class SinglePageHtmlReporter(
     override fun generateReport(): Path {
 
         logger.debug("Generating single page HTML report from {}", sourceDirectory.toAbsolutePath().toString())
+        return generateReportFor(testOutcomesIn(sourceDirectory))
+    }
+
+    override fun generateReportFrom(testOutcomes: SharedTestOutcomes): Path {
+
+        logger.debug("Generating single page HTML report from the outcomes loaded from {}", testOutcomes.sourceDirectory)
+        return generateReportFor(testOutcomes.testOutcomes)
+    }
+
+    private fun generateReportFor(loadedOutcomes: TestOutcomes): Path {
+
         logger.debug("Output will be generated in {}", outputDirectory.toAbsolutePath().toString())
-        // Fetch the test outcomes
-        val testOutcomes = testOutcomesIn(sourceDirectory).filteredByEnvironmentTags()
+        // Filter the test outcomes
+        val testOutcomes = loadedOutcomes.filteredByEnvironmentTags()
 
         logger.debug("Found {} test outcomes", testOutcomes.total);
 
@@ -0,0 +1,132 @@
+package net.serenitybdd.reports.model
+
+import com.google.common.collect.MapMaker
+import net.thucydides.model.domain.TestOutcome
+import net.thucydides.model.domain.TestResult
+import net.thucydides.model.reports.TestOutcomes
+import org.apache.commons.lang3.StringUtils
+import java.util.*
+
+/**
+ * An index of the failures in a set of test outcomes, built in a single pass and shared by every report page
+ * generated from the same outcomes.
+ *
+ * Each unsuccessful outcome is summarised once, and its failures are grouped by a [FailureSignature] rather than
+ * by the raw error message, so that failures that only differ by ids, numbers or timestamps are counted together.
+ * Pages showing a subset of the outcomes (tag, requirement or result pages) look their outcomes up in the index
+ * built for the root outcomes rather than summarising them again.
+ */
+class FailureIndex private constructor(root: TestOutcomes) {
+
+    companion object {
+        private val INDEXES: MutableMap<TestOutcomes, FailureIndex> = MapMaker().weakKeys().makeMap()
+
+        /**
+         * The failure index for the root outcomes of this set, built the first time it is needed.
+         */
+        @JvmStatic
+        fun of(testOutcomes: TestOutcomes): FailureIndex =
+            INDEXES.computeIfAbsent(testOutcomes.rootOutcomes) { root -> FailureIndex(root) }
+
+        private fun failuresIn(outcome: TestOutcome): List<IndexedFailure> =
+            ScenarioSummary.ofFailingScenariosIn(outcome).results
+                .filter { StringUtils.isNotEmpty(it.testFailureErrorType) || StringUtils.isNotEmpty(it.errorMessage) }
+                .map { IndexedFailure(it, signatureOf(it)) }
+
+        /**
+         * Group failures by the signature of their error message if available, otherwise by error type.
+         * This ensures that failures with the same root cause are grouped together.
+         */
+        private fun signatureOf(result: ScenarioSummaryResult): String =
+            if (StringUtils.isNotEmpty(result.errorMessage)) {
+                FailureSignature.of(result.errorMessage)
+            } else {
+                result.testFailureErrorType
+            }
+
+        private fun errorTypesOf(outcome: TestOutcome): Set<String> =
+            if (!outcome.isDataDriven) {
+                if (outcome.result.isAtLeast(TestResult.FAILURE)) setOf(outcome.testFailureErrorType) else emptySet()
+            } else {
+                outcome.testSteps
+                    .filter { it.result.isAtLeast(TestResult.FAILURE) && it.exception != null }
+                    .map { it.exception.errorType }
+                    .toSet()
+            }
+    }
+
+    private val failuresByOutcome = IdentityHashMap<TestOutcome, List<IndexedFailure>>()
+    private val outcomesByErrorType = HashMap<String, MutableList<TestOutcome>>()
+
+    init {
+        root.unsuccessfulTests.outcomes.forEach { outcome ->
+            failuresByOutcome[outcome] = failuresIn(outcome)
+        }
+        root.outcomes.forEach { outcome ->
+            errorTypesOf(outcome).forEach { errorType ->
+                outcomesByErrorType.getOrPut(errorType) { mutableListOf() }.add(outcome)
+            }
+        }
+    }
+
+    /**
+     * The failures recorded for an outcome, read from the index when the outcome is one of the indexed outcomes.
+     */
+    fun failuresOf(outcome: TestOutcome): List<IndexedFailure> =
+        failuresByOutcome[outcome] ?: failuresIn(outcome)
+
+    /**
+     * The outcomes that failed with a given error type, equivalent to [TestOutcomes.withErrorType] on the root outcomes.
+     */
+    fun outcomesWithErrorType(errorType: String): TestOutcomes =
+        TestOutcomes.of(outcomesByErrorType[errorType].orEmpty()).withLabel("")
+
+    /**
+     * The most frequent failures among the unsuccessful outcomes of this set, grouped by failure signature.
+     */
+    fun mostFrequentFailuresIn(testOutcomes: TestOutcomes, maxEntries: Int): List<FrequentFailure> =
+        testOutcomes.unsuccessfulTests.outcomes
+            .flatMap { failuresOf(it) }
+            .groupBy { it.signature }
+            .map { (_, failures) ->
+                val first = failures.first().result
+                FrequentFailure(
+                    type = first.testFailureErrorType,
+                    message = first.errorMessage,
+                    count = failures.size,
+                    result = TestResult.valueOf(first.result.uppercase(Locale.getDefault()))
+                )
+            }
+            .sortedByDescending { it.count }
+            .take(maxEntries)
+}
+
+class IndexedFailure(val result: ScenarioSummaryResult, val signature: String)
+
+/**
+ * Reduces an error message to the part that identifies the failure, by replacing the values that usually change
+ * from one run or one test to the next (ids, hash codes, timestamps and long numbers) with placeholders.
+ * Numbers of up to three digits are kept, as they are usually part of what went wrong ("expected 3 items but found 2").
+ */
+object FailureSignature {
+
+    private val UUIDS = Regex("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}")
+    private val TIMESTAMPS = Regex("\\d{4}-\\d{2}-\\d{2}([T ]\\d{1,2}:\\d{2}(:\\d{2})?([.,]\\d+)?(Z|[+-]\\d{2}:?\\d{2})?)?")
+    private val TIMES = Regex("\\b\\d{1,2}:\\d{2}(:\\d{2})?([.,]\\d+)?\\b")
+    private val HASH_CODES = Regex("@[0-9a-fA-F]+\\b")
+    private val HEX_IDS = Regex("\\b(0x)?(?=[0-9a-fA-F]*\\d)(?=[0-9a-fA-F]*[a-fA-F])[0-9a-fA-F]{8,}\\b")
+    private val LONG_NUMBERS = Regex("\\b\\d{4,}([.,]\\d+)*\\b")
+    private val WHITESPACE = Regex("\\s+")
+
+    @JvmStatic
+    fun of(message: String): String =
+        message
+            .replace(UUIDS, "<id>")
+            .replace(TIMESTAMPS, "<timestamp>")
+            .replace(TIMES, "<time>")
+            .replace(HASH_CODES, "@<id>")
+            .replace(HEX_IDS, "<id>")
+            .replace(LONG_NUMBERS, "<n>")
+            .replace(WHITESPACE, " ")
+            .trim()
+}
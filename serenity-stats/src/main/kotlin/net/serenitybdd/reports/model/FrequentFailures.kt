@@ -6,7 +6,6 @@ import net.thucydides.model.reports.html.ReportNameProvider
 import net.thucydides.model.reports.html.ResultIconFormatter
 import net.thucydides.model.util.NameConverter.humanize
 import org.apache.commons.lang3.StringUtils
-import java.util.*
 
 class FrequentFailures {
     companion object {
@@ -22,37 +21,7 @@ class FrequentFailuresBuilder(val testOutcomes: TestOutcomes) {
     }
 
     fun withMaxOf(maxEntries: Int): List<FrequentFailure> =
-            testOutcomes.unsuccessfulTests.outcomes
-                    .map { outcome -> ScenarioSummary.ofFailingScenariosIn(outcome).results.toList() }
-                    .flatten()
-                    .filter { StringUtils.isNotEmpty(it.testFailureErrorType) || StringUtils.isNotEmpty(it.errorMessage) }
-                    .groupBy { groupingKeyFor(it) }
-                    .map { (_, outcomes) ->
-                        val first = outcomes.first()
-                        FrequentFailure(
-                            type = first.testFailureErrorType,
-                            message = first.errorMessage,
-                            count = outcomes.size,
-                            result = testResultOf(outcomes)
-                        )
-                    }
-                    .sortedByDescending { it.count }
-                    .take(maxEntries)
-
-    /**
-     * Group failures by error message if available, otherwise by error type.
-     * This ensures that failures with the same root cause are grouped together.
-     */
-    private fun groupingKeyFor(result: ScenarioSummaryResult): String {
-        return if (StringUtils.isNotEmpty(result.errorMessage)) {
-            result.errorMessage
-        } else {
-            result.testFailureErrorType
-        }
-    }
-
-    private fun testResultOf(outcomes: List<ScenarioSummaryResult>) =
-            TestResult.valueOf(outcomes.first().result.uppercase(Locale.getDefault()))
+            FailureIndex.of(testOutcomes).mostFrequentFailuresIn(testOutcomes, maxEntries)
 }
 
 class FrequentFailure(val type: String, val message: String, val count: Int, val result: TestResult) {
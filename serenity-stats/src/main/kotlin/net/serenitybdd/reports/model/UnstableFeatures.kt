@@ -24,12 +24,13 @@ class UnstableFeaturesBuilder(val testOutcomes: TestOutcomes) {
     }
 
     fun withMaxOf(maxEntries: Int): List<UnstableFeature> {
+        val outcomesByStory = testOutcomes.outcomes.groupBy { outcome -> outcome.userStory?.displayName }
         return testOutcomes.unsuccessfulTests.outcomes
                 .groupBy { outcome -> defaultStoryNameOr(outcome.userStory.displayName) }
                 .map { (userStoryName, outcomes) ->
                     UnstableFeature(userStoryName,
                             outcomes.size,
-                            percentageFailures(outcomes.size, userStoryName, testOutcomes),
+                            percentageFailures(outcomes.size, outcomesByStory[userStoryName].orEmpty()),
                             featureReport(outcomes[0]))
                 }
                 .sortedWith(compareByDescending<UnstableFeature> { it.failurePercentage }
@@ -39,10 +40,8 @@ class UnstableFeaturesBuilder(val testOutcomes: TestOutcomes) {
 
     private fun defaultStoryNameOr(displayName: String?): String = displayName ?: "Undefined Story"
 
-    private fun percentageFailures(failingScenarios: Int, userStoryName: String, testOutcomes: TestOutcomes): Int {
-        val totalScenarios = TestOutcomes.of(testOutcomes.outcomes.filter {
-                                                outcome -> userStoryName == outcome.userStory?.displayName }
-                                            ).total
+    private fun percentageFailures(failingScenarios: Int, storyOutcomes: List<TestOutcome>): Int {
+        val totalScenarios = TestOutcomes.of(storyOutcomes).total
         return if (totalScenarios == 0) 0 else failingScenarios * 100 / totalScenarios
     }
 
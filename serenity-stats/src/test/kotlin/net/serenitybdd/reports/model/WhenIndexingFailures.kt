@@ -0,0 +1,84 @@
+package net.serenitybdd.reports.model
+
+import net.thucydides.model.domain.Story
+import net.thucydides.model.domain.TestOutcome
+import net.thucydides.model.reports.TestOutcomes
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.Test
+
+class WhenIndexingFailures {
+
+    private fun failingTest(name: String, error: Throwable): TestOutcome {
+        val outcome = TestOutcome.forTestInStory(name, Story.called("a story"))
+        outcome.determineTestFailureCause(error)
+        return outcome
+    }
+
+    private fun passingTest(name: String): TestOutcome = TestOutcome.forTestInStory(name, Story.called("a story"))
+
+    @Test
+    fun `failure signatures ignore ids, numbers and timestamps`() {
+        assertThat(FailureSignature.of("Order 1234 not found at 2024-03-01T10:15:30Z"))
+            .isEqualTo(FailureSignature.of("Order 98765 not found at 2024-05-17T08:01:02Z"))
+        assertThat(FailureSignature.of("No session 3f2504e0-4f89-11d3-9a0c-0305e82c3301"))
+            .isEqualTo(FailureSignature.of("No session 6ba7b810-9dad-11d1-80b4-00c04fd430c8"))
+        assertThat(FailureSignature.of("Element com.acme.Button@1a2b3c is stale"))
+            .isEqualTo(FailureSignature.of("Element com.acme.Button@ff00aa is stale"))
+    }
+
+    @Test
+    fun `failure signatures keep the text that identifies the failure`() {
+        assertThat(FailureSignature.of("Order 1234 not found"))
+            .isNotEqualTo(FailureSignature.of("Customer 1234 not found"))
+    }
+
+    @Test
+    fun `failure signatures keep small numbers`() {
+        assertThat(FailureSignature.of("Expected 3 items but found 2"))
+            .isNotEqualTo(FailureSignature.of("Expected 5 items but found 4"))
+        assertThat(FailureSignature.of("Expected status 404 but was 500"))
+            .isNotEqualTo(FailureSignature.of("Expected status 200 but was 401"))
+    }
+
+    @Test
+    fun `failures with the same signature are counted together`() {
+        val testOutcomes = TestOutcomes.of(listOf(
+            failingTest("first", AssertionError("Order 1234 not found")),
+            failingTest("second", AssertionError("Order 5678 not found")),
+            failingTest("third", AssertionError("Expected 3 items but found 2")),
+            passingTest("fourth")
+        ))
+
+        val failures = FrequentFailures.from(testOutcomes).withMaxOf(5)
+
+        assertThat(failures.map { it.count }).containsExactly(2, 1)
+        assertThat(failures[0].message).isEqualTo("Order 1234 not found")
+    }
+
+    @Test
+    fun `the index is shared by subsets of the same outcomes`() {
+        val testOutcomes = TestOutcomes.of(listOf(
+            failingTest("first", AssertionError("Expected 3 items but found 2")),
+            failingTest("second", IllegalStateException("Bad state"))
+        ))
+
+        assertThat(FailureIndex.of(testOutcomes.unsuccessfulTests)).isSameAs(FailureIndex.of(testOutcomes))
+    }
+
+    @Test
+    fun `outcomes can be looked up by error type`() {
+        val testOutcomes = TestOutcomes.of(listOf(
+            failingTest("first", AssertionError("Expected 3 items but found 2")),
+            failingTest("second", AssertionError("Expected 5 items but found 4")),
+            failingTest("third", IllegalStateException("Bad state"))
+        ))
+
+        val index = FailureIndex.of(testOutcomes)
+
+        assertThat(index.outcomesWithErrorType("java.lang.AssertionError").outcomes.map { it.name })
+            .containsExactly("first", "second")
+        assertThat(index.outcomesWithErrorType("java.lang.AssertionError").total)
+            .isEqualTo(testOutcomes.withErrorType("java.lang.AssertionError").total)
+        assertThat(index.outcomesWithErrorType("java.io.IOException").outcomes).isEmpty()
+    }
+}